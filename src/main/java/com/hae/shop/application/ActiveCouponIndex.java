@@ -0,0 +1,245 @@
+package com.hae.shop.application;
+
+import com.hae.shop.domain.coupon.model.Coupon;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 만료되지 않은 쿠폰(시작 전 포함)을 메모리에 두고, 유효 기간 경계 시각의 최소 힙으로 활성 목록을 관리합니다.
+ * 조회 시각이 다음 경계(validFrom 또는 validUntil 직후)보다 이르면 만들어 둔 목록을 그대로 돌려주고,
+ * 경계를 지났을 때만 목록을 다시 만듭니다. 따라서 쿠폰은 DB 재조회 없이 정확히 validFrom에 나타나고
+ * validUntil이 지나면 사라지며, 목록이 바뀌지 않는 동안에는 같은 List 인스턴스가 유지됩니다.
+ * Coupon은 가변 객체이므로 인덱스는 넘겨받은 쿠폰의 사본만 보관하고 보관본을 고치지 않으며(변경 시 새 사본으로 교체),
+ * 호출자에게는 목록을 다시 만들 때마다 새로 복사한 불변 스냅샷을 돌려줍니다.
+ * 따라서 호출자가 받은 쿠폰을 고쳐도 인덱스가 바뀌지 않고, 인덱스가 바뀌어도 이미 넘긴 쿠폰은 그대로입니다.
+ * 변경은 모두 하나의 잠금 안에서 일어나며, 전체 적재는 DB 조회까지 잠금 안에서 실행하므로 조회 도중 반영된 변경을
+ * 조회 이전의 결과로 덮어쓰지 않습니다. 가상 스레드가 DB 조회 동안 캐리어 스레드를 붙잡지 않도록 synchronized 대신
+ * ReentrantLock을 씁니다.
+ */
+final class ActiveCouponIndex {
+
+    private static final Comparator<Coupon> EXPIRY_ORDER = Comparator
+        .comparing(Coupon::getValidUntil)
+        .thenComparing(Coupon::getId);
+
+    private record Boundary(Instant at, Long couponId) {
+    }
+
+    private final Map<Long, Coupon> coupons = new HashMap<>();
+    private final PriorityQueue<Boundary> boundaries = new PriorityQueue<>(Comparator.comparing(Boundary::at));
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile boolean loaded;
+    private volatile List<Coupon> active = List.of();
+    private volatile Instant nextBoundary = Instant.MAX;
+
+    List<Coupon> activeAt(Instant now) {
+        if (now.isBefore(nextBoundary)) {
+            return active;
+        }
+        lock.lock();
+        try {
+            if (!now.isBefore(nextBoundary)) {
+                rebuild(now);
+            }
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 아직 적재되지 않았으면 loader로 한 번만 적재합니다.
+     */
+    void loadIfAbsent(Supplier<? extends Collection<Coupon>> loader, Instant now) {
+        if (loaded) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (!loaded) {
+                replace(loader.get(), now);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * loader의 결과로 인덱스 전체를 바꿉니다. 조회도 잠금 안에서 하므로 그사이의 put과 decrementRemaining은
+     * 조회가 끝난 뒤 새 내용 위에 반영됩니다.
+     */
+    void load(Supplier<? extends Collection<Coupon>> loader, Instant now) {
+        lock.lock();
+        try {
+            replace(loader.get(), now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void load(Collection<Coupon> unexpired, Instant now) {
+        load(() -> unexpired, now);
+    }
+
+    private void replace(Collection<Coupon> unexpired, Instant now) {
+        coupons.clear();
+        boundaries.clear();
+        for (Coupon coupon : unexpired) {
+            track(coupon);
+        }
+        loaded = true;
+        rebuild(now);
+    }
+
+    /**
+     * 생성되거나 바뀐 쿠폰을 반영합니다. 비활성 상태면 목록에서 뺍니다.
+     */
+    void put(Coupon coupon, Instant now) {
+        lock.lock();
+        try {
+            if (coupon.getStatus() == Coupon.CouponStatus.ACTIVE) {
+                track(coupon);
+            } else {
+                coupons.remove(coupon.getId());
+            }
+            rebuild(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * couponIds의 쿠폰을 current(DB에서 다시 읽은 내용)로 바꿉니다. current에 없는 쿠폰은 목록에서 빠집니다.
+     * 아직 적재 전이면 첫 적재가 DB 전체를 읽으므로 아무것도 하지 않습니다.
+     */
+    void refresh(Collection<Long> couponIds, Collection<Coupon> current, Instant now) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            // 먼저 지우면 track이 이전 유효 기간과 비교하지 못해 경계를 다시 쌓으므로, 남길 쿠폰부터 교체
+            Set<Long> kept = new HashSet<>();
+            for (Coupon coupon : current) {
+                if (coupon.getStatus() == Coupon.CouponStatus.ACTIVE) {
+                    track(coupon);
+                    kept.add(coupon.getId());
+                }
+            }
+            for (Long couponId : couponIds) {
+                if (!kept.contains(couponId)) {
+                    coupons.remove(couponId);
+                }
+            }
+            rebuild(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용된 수량만큼 잔여 수량을 줄입니다. 0이 되면 목록에서 빠집니다.
+     */
+    void decrementRemaining(Map<Long, Integer> usedCounts, Instant now) {
+        lock.lock();
+        try {
+            boolean changed = false;
+            for (Map.Entry<Long, Integer> entry : usedCounts.entrySet()) {
+                Coupon coupon = coupons.get(entry.getKey());
+                if (coupon != null && coupon.getRemainingQuantity() != null) {
+                    Coupon updated = copyOf(coupon);
+                    updated.setRemainingQuantity(Math.max(coupon.getRemainingQuantity() - entry.getValue(), 0));
+                    coupons.put(updated.getId(), updated);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                rebuild(now);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 유효 기간이 그대로인 쿠폰(사용 수량 변경 알림 등)은 이미 넣어 둔 경계를 그대로 씁니다.
+     * 그렇지 않으면 자주 사용되는 쿠폰이 갱신될 때마다 경계가 쌓입니다. 기간이 바뀌어 남은 이전 경계는
+     * rebuild가 쿠폰의 현재 validUntil로 다시 판단하므로 지나갈 때 버려집니다.
+     */
+    private void track(Coupon coupon) {
+        Coupon previous = coupons.put(coupon.getId(), copyOf(coupon));
+        if (previous != null
+            && previous.getValidFrom().equals(coupon.getValidFrom())
+            && previous.getValidUntil().equals(coupon.getValidUntil())) {
+            return;
+        }
+        boundaries.add(new Boundary(coupon.getValidFrom(), coupon.getId()));
+        // isValid는 validUntil 시각까지 포함하므로 그 직후에 만료
+        boundaries.add(new Boundary(coupon.getValidUntil().plusNanos(1), coupon.getId()));
+    }
+
+    int boundaryCount() {
+        lock.lock();
+        try {
+            return boundaries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rebuild(Instant now) {
+        while (!boundaries.isEmpty() && !now.isBefore(boundaries.peek().at())) {
+            Boundary passed = boundaries.poll();
+            Coupon coupon = coupons.get(passed.couponId());
+            if (coupon != null && now.isAfter(coupon.getValidUntil())) {
+                coupons.remove(passed.couponId());
+            }
+        }
+
+        active = coupons.values().stream()
+            .filter(coupon -> isActive(coupon, now))
+            .sorted(EXPIRY_ORDER)
+            .map(ActiveCouponIndex::copyOf)
+            .toList();
+        nextBoundary = boundaries.isEmpty() ? Instant.MAX : boundaries.peek().at();
+    }
+
+    private static Coupon copyOf(Coupon coupon) {
+        Coupon copy = new Coupon();
+        copy.setId(coupon.getId());
+        copy.setCode(coupon.getCode());
+        copy.setName(coupon.getName());
+        copy.setDiscountType(coupon.getDiscountType());
+        copy.setDiscountValue(coupon.getDiscountValue());
+        copy.setMinPurchaseAmount(coupon.getMinPurchaseAmount());
+        copy.setMaxDiscountAmount(coupon.getMaxDiscountAmount());
+        copy.setValidFrom(coupon.getValidFrom());
+        copy.setValidUntil(coupon.getValidUntil());
+        copy.setTotalQuantity(coupon.getTotalQuantity());
+        copy.setRemainingQuantity(coupon.getRemainingQuantity());
+        copy.setStatus(coupon.getStatus());
+        copy.setCreatedAt(coupon.getCreatedAt());
+        copy.setUpdatedAt(coupon.getUpdatedAt());
+        return copy;
+    }
+
+    /**
+     * Coupon.isValid()와 같은 조건을 주어진 시각으로 판단합니다.
+     */
+    private static boolean isActive(Coupon coupon, Instant now) {
+        boolean withinPeriod = !now.isBefore(coupon.getValidFrom()) && !now.isAfter(coupon.getValidUntil());
+        boolean hasRemaining = coupon.getRemainingQuantity() == null || coupon.getRemainingQuantity() > 0;
+        return withinPeriod && hasRemaining;
+    }
+}
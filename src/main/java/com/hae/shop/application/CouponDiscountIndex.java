@@ -0,0 +1,110 @@
+package com.hae.shop.application;
+
+import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.model.CouponRecommendation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 활성 쿠폰 목록을 할인 상한(주문 금액과 무관하게 받을 수 있는 최대 할인) 내림차순으로 정렬해 둔 불변 스냅샷.
+ * 최대 할인 금액이 없는 정률 쿠폰은 상한이 주문 금액에 비례하므로 따로 할인율 내림차순으로 둡니다.
+ * 상위 limit개가 채워진 뒤에는 상한이 현재 limit번째 할인보다 작은 쿠폰부터 계산하지 않고 건너뜁니다.
+ * 제외할 쿠폰(회원이 이미 사용한 쿠폰)은 후보에서만 빠지므로 이 조기 중단은 그대로 성립합니다.
+ */
+final class CouponDiscountIndex {
+
+    static final Comparator<CouponRecommendation> RANKING = Comparator
+        .comparing(CouponRecommendation::discountAmount).reversed()
+        .thenComparing(CouponRecommendation::couponId);
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final List<Coupon> source;
+    private final Coupon[] uncapped;
+    private final Coupon[] capped;
+    private final BigDecimal[] ceilings;
+
+    private CouponDiscountIndex(List<Coupon> source, List<Coupon> uncapped, List<Coupon> capped) {
+        this.source = source;
+        this.uncapped = uncapped.toArray(Coupon[]::new);
+        this.capped = capped.toArray(Coupon[]::new);
+        this.ceilings = capped.stream().map(CouponDiscountIndex::ceiling).toArray(BigDecimal[]::new);
+    }
+
+    static CouponDiscountIndex of(List<Coupon> coupons) {
+        List<Coupon> uncapped = new ArrayList<>();
+        List<Coupon> capped = new ArrayList<>();
+        for (Coupon coupon : coupons) {
+            if (coupon.getDiscountType() == Coupon.DiscountType.PERCENTAGE && coupon.getMaxDiscountAmount() == null) {
+                uncapped.add(coupon);
+            } else {
+                capped.add(coupon);
+            }
+        }
+        uncapped.sort(Comparator.comparing(Coupon::getDiscountValue).reversed());
+        capped.sort(Comparator.comparing(CouponDiscountIndex::ceiling).reversed());
+        return new CouponDiscountIndex(coupons, uncapped, capped);
+    }
+
+    boolean isBuiltFrom(List<Coupon> coupons) {
+        return source == coupons;
+    }
+
+    List<CouponRecommendation> rank(BigDecimal orderAmount, int limit, Set<Long> excludedCouponIds) {
+        // 머리에 현재 limit번째(가장 불리한) 추천이 오는 힙
+        PriorityQueue<CouponRecommendation> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+
+        for (Coupon coupon : uncapped) {
+            BigDecimal bound = orderAmount.multiply(coupon.getDiscountValue()).divide(HUNDRED);
+            if (isPruned(top, limit, bound)) {
+                break;
+            }
+            if (!excludedCouponIds.contains(coupon.getId())) {
+                offer(top, limit, coupon, orderAmount);
+            }
+        }
+        for (int i = 0; i < capped.length; i++) {
+            if (isPruned(top, limit, ceilings[i])) {
+                break;
+            }
+            if (!excludedCouponIds.contains(capped[i].getId())) {
+                offer(top, limit, capped[i], orderAmount);
+            }
+        }
+
+        List<CouponRecommendation> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    private static boolean isPruned(PriorityQueue<CouponRecommendation> top, int limit, BigDecimal bound) {
+        return top.size() == limit && bound.compareTo(top.peek().discountAmount()) < 0;
+    }
+
+    private static void offer(PriorityQueue<CouponRecommendation> top, int limit, Coupon coupon, BigDecimal orderAmount) {
+        if (!coupon.isValid()) {
+            return;
+        }
+        BigDecimal discount = coupon.calculateDiscount(orderAmount).min(orderAmount);
+        if (discount.signum() <= 0) {
+            return;
+        }
+        top.offer(CouponRecommendation.of(coupon, discount));
+        if (top.size() > limit) {
+            top.poll();
+        }
+    }
+
+    private static BigDecimal ceiling(Coupon coupon) {
+        BigDecimal max = coupon.getMaxDiscountAmount();
+        if (coupon.getDiscountType() == Coupon.DiscountType.PERCENTAGE) {
+            return max;
+        }
+        return max != null ? coupon.getDiscountValue().min(max) : coupon.getDiscountValue();
+    }
+}
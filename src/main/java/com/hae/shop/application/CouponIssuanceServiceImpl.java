@@ -0,0 +1,102 @@
+package com.hae.shop.application;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob;
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob.IssuanceStatus;
+import com.hae.shop.domain.coupon.port.in.CouponIssuanceService;
+import com.hae.shop.domain.coupon.port.out.CouponIssuancePort;
+import com.hae.shop.domain.coupon.port.out.CouponRepositoryPort;
+import com.hae.shop.domain.member.model.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 쿠폰 일괄 발급 유스케이스.
+ * 청크마다 발급과 체크포인트 이동을 한 트랜잭션으로 커밋하므로(CouponIssuancePort.issue),
+ * 어느 시점에 중단되어도 체크포인트부터 다시 진행하면 중복이나 누락 없이 이어집니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponIssuanceServiceImpl implements CouponIssuanceService {
+
+    private static final Set<IssuanceStatus> PAUSABLE = EnumSet.of(IssuanceStatus.PENDING, IssuanceStatus.RUNNING);
+    private static final Set<IssuanceStatus> RESUMABLE = EnumSet.of(IssuanceStatus.PAUSED, IssuanceStatus.FAILED);
+    private static final Set<IssuanceStatus> RUNNABLE = EnumSet.of(IssuanceStatus.PENDING, IssuanceStatus.RUNNING);
+    private static final int MAX_FAILURE_REASON_LENGTH = 500;
+
+    private final CouponIssuancePort couponIssuancePort;
+    private final CouponRepositoryPort couponRepository;
+
+    @Override
+    public CouponIssuanceJob startIssuance(Long couponId, Member.MemberRole targetRole,
+                                           Instant joinedFrom, Instant joinedBefore) {
+        Coupon coupon = couponRepository.findById(couponId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+        if (coupon.getStatus() != Coupon.CouponStatus.ACTIVE || !coupon.getValidUntil().isAfter(Instant.now())) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_AVAILABLE);
+        }
+        if (joinedFrom != null && joinedBefore != null && !joinedFrom.isBefore(joinedBefore)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "joinedFrom must be before joinedBefore");
+        }
+
+        return couponIssuancePort.save(CouponIssuanceJob.pending(couponId, targetRole, joinedFrom, joinedBefore));
+    }
+
+    @Override
+    public CouponIssuanceJob getIssuance(Long jobId) {
+        return couponIssuancePort.findById(jobId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_ISSUANCE_NOT_FOUND));
+    }
+
+    @Override
+    public CouponIssuanceJob pauseIssuance(Long jobId) {
+        return transition(jobId, PAUSABLE, IssuanceStatus.PAUSED);
+    }
+
+    @Override
+    public CouponIssuanceJob resumeIssuance(Long jobId) {
+        return transition(jobId, RESUMABLE, IssuanceStatus.PENDING);
+    }
+
+    @Override
+    public Optional<CouponIssuanceJob> issueNextChunk(int chunkSize) {
+        Optional<CouponIssuanceJob> next = couponIssuancePort.findNextRunnable();
+        if (next.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CouponIssuanceJob job = next.get();
+        try {
+            List<Long> memberIds = couponIssuancePort.findNextMemberIds(job, chunkSize);
+            return Optional.of(couponIssuancePort.issue(job, memberIds, memberIds.size() < chunkSize));
+        } catch (IllegalStateException e) {
+            // 다른 실행이 같은 체크포인트에서 먼저 발급했으므로 이번 청크는 롤백되었습니다.
+            return couponIssuancePort.findById(job.id());
+        } catch (RuntimeException e) {
+            // 이미 커밋된 청크는 유지되며, resumeIssuance로 체크포인트부터 다시 진행할 수 있습니다.
+            return couponIssuancePort.updateStatus(job.id(), RUNNABLE, IssuanceStatus.FAILED, truncate(e.getMessage()))
+                .or(() -> couponIssuancePort.findById(job.id()));
+        }
+    }
+
+    private CouponIssuanceJob transition(Long jobId, Set<IssuanceStatus> from, IssuanceStatus to) {
+        CouponIssuanceJob job = getIssuance(jobId);
+        return couponIssuancePort.updateStatus(job.id(), from, to, null)
+            .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_ISSUANCE_INVALID_STATUS));
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_FAILURE_REASON_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_FAILURE_REASON_LENGTH);
+    }
+}
@@ -0,0 +1,54 @@
+package com.hae.shop.application;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.model.CouponRecommendation;
+import com.hae.shop.domain.coupon.port.in.CouponRecommendationService;
+import com.hae.shop.domain.coupon.port.in.CouponService;
+import com.hae.shop.domain.coupon.port.out.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 쿠폰 추천 유스케이스. 순위는 메모리의 활성 쿠폰 스냅샷으로 계산하고, 회원이 이미 사용한 쿠폰만
+ * member_coupons에서 한 번 조회해 후보에서 뺍니다 (사용 엔진이 어차피 COUPON_ALREADY_USED로 거절하는 쿠폰).
+ * 사용 내역은 redemption flush 주기마다 DB에 반영되므로 방금 사용한 쿠폰은 그 사이 잠깐 추천될 수 있습니다.
+ * 스냅샷은 활성 쿠폰 목록이 바뀐 경우(getActiveCoupons가 다른 인스턴스를 반환한 경우)에만 다시 정렬합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponRecommendationServiceImpl implements CouponRecommendationService {
+
+    static final int MAX_RECOMMENDATIONS = 50;
+
+    private final CouponService couponService;
+    private final CouponRepositoryPort couponRepository;
+
+    private volatile CouponDiscountIndex index = CouponDiscountIndex.of(List.of());
+
+    @Override
+    public List<CouponRecommendation> recommend(Long memberId, BigDecimal orderAmount, int limit) {
+        if (limit < 1 || limit > MAX_RECOMMENDATIONS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                "limit must be between 1 and " + MAX_RECOMMENDATIONS);
+        }
+        if (orderAmount == null || orderAmount.signum() <= 0) {
+            return List.of();
+        }
+        return currentIndex().rank(orderAmount, limit, couponRepository.findUsedCouponIds(memberId));
+    }
+
+    private CouponDiscountIndex currentIndex() {
+        List<Coupon> activeCoupons = couponService.getActiveCoupons();
+        CouponDiscountIndex current = index;
+        if (!current.isBuiltFrom(activeCoupons)) {
+            current = CouponDiscountIndex.of(activeCoupons);
+            index = current;
+        }
+        return current;
+    }
+}
@@ -3,30 +3,57 @@ package com.hae.shop.application;
 import com.hae.shop.common.BusinessException;
 import com.hae.shop.common.ErrorCode;
 import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.model.CouponRedemption;
 import com.hae.shop.domain.coupon.port.in.CouponService;
+import com.hae.shop.domain.coupon.port.out.CouponChangePort;
+import com.hae.shop.domain.coupon.port.out.CouponCodeFilterPort;
+import com.hae.shop.domain.coupon.port.out.CouponRedemptionPort;
+import com.hae.shop.domain.coupon.port.out.CouponRedemptionWriterPort;
 import com.hae.shop.domain.coupon.port.out.CouponRepositoryPort;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CouponServiceImpl implements CouponService {
 
     private static final String CACHE_NAME = "coupons";
-    private static final String ACTIVE_COUPONS_KEY = "active";
 
     private final CouponRepositoryPort couponRepository;
+    private final CouponRedemptionPort couponRedemptionPort;
+    private final CouponRedemptionWriterPort couponRedemptionWriter;
+    private final CouponCodeFilterPort couponCodeFilter;
+    private final CouponChangePort couponChangePort;
+    private final CacheManager cacheManager;
+    private final ActiveCouponIndex activeCouponIndex = new ActiveCouponIndex();
 
+    /**
+     * 코드 필터와 활성 쿠폰 인덱스 반영, 다른 노드로의 알림은 커밋된 뒤에만 합니다.
+     * 롤백된 쿠폰이 추천 목록이나 다른 노드의 필터에 나타나지 않고, 알림 실패가 쿠폰 생성을 롤백시키지도 않습니다.
+     */
     @Override
     @Transactional
     public Coupon createCoupon(Coupon coupon) {
-        return couponRepository.save(coupon);
+        Coupon saved = couponRepository.save(coupon);
+        afterCommit(() -> {
+            couponCodeFilter.add(saved.getCode());
+            activeCouponIndex.put(saved, Instant.now());
+            couponChangePort.publishChanged(List.of(saved.getId()));
+        });
+        return saved;
     }
 
     @Override
@@ -37,11 +64,43 @@ public class CouponServiceImpl implements CouponService {
             .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
     }
 
+    /**
+     * 코드 필터에 없는 코드(오타, 무작위 대입)는 DB를 조회하지 않고 바로 거절합니다.
+     */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = CACHE_NAME, key = "'" + ACTIVE_COUPONS_KEY + "'")
+    public Coupon getCouponByCode(String code) {
+        if (!couponCodeFilter.mightExist(code)) {
+            throw new BusinessException(ErrorCode.COUPON_NOT_FOUND);
+        }
+        return couponRepository.findByCode(code)
+            .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+    }
+
+    /**
+     * 최초 호출 때만 DB에서 적재하고, 이후에는 메모리 인덱스가 유효 기간 경계마다 목록을 갱신합니다.
+     */
+    @Override
     public List<Coupon> getActiveCoupons() {
-        return couponRepository.findActiveCoupons();
+        Instant now = Instant.now();
+        activeCouponIndex.loadIfAbsent(couponRepository::findUnexpiredCoupons, now);
+        return activeCouponIndex.activeAt(now);
+    }
+
+    /**
+     * 조회를 인덱스 잠금 안에서 실행하므로, 조회 도중 반영된 생성이나 사용 수량을 조회 이전의 결과로 지우지 않습니다.
+     */
+    @Override
+    public void reloadActiveCoupons() {
+        activeCouponIndex.load(couponRepository::findUnexpiredCoupons, Instant.now());
+    }
+
+    @Override
+    public void refreshActiveCoupons(Collection<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return;
+        }
+        activeCouponIndex.refresh(couponIds, couponRepository.findByIds(couponIds), Instant.now());
     }
 
     @Override
@@ -56,17 +115,65 @@ public class CouponServiceImpl implements CouponService {
         return coupon.calculateDiscount(orderAmount);
     }
 
+    /**
+     * 수량 확인과 차감, 회원별 중복 사용 확인을 Redis에서 원자적으로 처리하므로 DB 트랜잭션이나 잠금이 없습니다.
+     * 쿠폰별 최초 사용 시에만 DB에서 잔여 수량과 사용 회원을 읽어 엔진을 초기화합니다 (캐시된 값은 쓰지 않음).
+     */
     @Override
-    @Transactional
-    @CacheEvict(value = CACHE_NAME, allEntries = true)
     public void useCoupon(Long couponId, Long memberId) {
-        Coupon coupon = getCoupon(couponId);
-        
-        if (coupon.getRemainingQuantity() == null || coupon.getRemainingQuantity() <= 0) {
-            throw new BusinessException(ErrorCode.COUPON_QUOTA_EXCEEDED);
+        CouponRedemptionPort.Result result = couponRedemptionPort.redeem(couponId, memberId);
+        if (result == CouponRedemptionPort.Result.NOT_INITIALIZED) {
+            Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+            couponRedemptionPort.initialize(couponId, coupon.getRemainingQuantity(),
+                couponRepository.findUsedMemberIds(couponId));
+            result = couponRedemptionPort.redeem(couponId, memberId);
         }
-        
-        coupon.setRemainingQuantity(coupon.getRemainingQuantity() - 1);
-        couponRepository.save(coupon);
+
+        switch (result) {
+            case REDEEMED -> { }
+            case SOLD_OUT -> throw new BusinessException(ErrorCode.COUPON_QUOTA_EXCEEDED);
+            case ALREADY_USED -> throw new BusinessException(ErrorCode.COUPON_ALREADY_USED);
+            case NOT_INITIALIZED -> throw new IllegalStateException("Coupon redemption not initialized: " + couponId);
+        }
+    }
+
+    /**
+     * 커밋된 뒤에만 대기열에서 acknowledge합니다. 반영이 실패하거나 그 전에 노드가 죽으면 내역은 대기열에 보류된 채 남아
+     * 이후 flush에서 다시 반영되며(쓰기는 멱등), 반영 후에는 바뀐 쿠폰의 캐시 항목만 지우고
+     * 다른 노드가 활성 쿠폰 인덱스의 잔여 수량을 DB 기준으로 갱신하도록 알립니다.
+     */
+    @Override
+    public int flushRedemptions(int batchSize) {
+        List<CouponRedemption> redemptions = couponRedemptionPort.pollRedemptions(batchSize);
+        if (redemptions.isEmpty()) {
+            return 0;
+        }
+
+        couponRedemptionWriter.writeRedemptions(redemptions);
+        couponRedemptionPort.acknowledge(redemptions);
+
+        Map<Long, Integer> usedCounts = redemptions.stream()
+            .collect(Collectors.toMap(CouponRedemption::couponId, redemption -> 1, Integer::sum));
+        activeCouponIndex.decrementRemaining(usedCounts, Instant.now());
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            usedCounts.keySet().forEach(cache::evict);
+        }
+        couponChangePort.publishChanged(usedCounts.keySet());
+        return redemptions.size();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
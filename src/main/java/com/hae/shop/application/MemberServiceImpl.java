@@ -48,4 +48,24 @@ public class MemberServiceImpl implements MemberService {
         return memberRepository.findById(id)
             .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
     }
+
+    /**
+     * 토큰의 역할 클레임은 발급 시점 값이므로 호출자는 커밋 후 회원의 기존 토큰을 폐기해야 합니다.
+     */
+    @Override
+    @Transactional
+    public Member changeRole(Long id, Member.MemberRole role) {
+        Member member = findById(id);
+        member.setRole(role);
+        return memberRepository.save(member);
+    }
+
+    /**
+     * 호출자는 커밋 후 회원의 기존 토큰을 폐기해야 합니다.
+     */
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        memberRepository.delete(findById(id));
+    }
 }
@@ -0,0 +1,43 @@
+package com.hae.shop.application;
+
+import com.hae.shop.domain.order.model.OrderCancelledEvent;
+import com.hae.shop.domain.order.model.OrderSummary;
+import com.hae.shop.domain.order.port.in.OrderExpiryService;
+import com.hae.shop.domain.order.port.out.PendingOrderExpiryPort;
+import com.hae.shop.domain.port.out.OutboxPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * PENDING 주문 만료 유스케이스.
+ * 배치 단위 취소(UPDATE 한 문장)와 취소 이벤트 일괄 기록을 한 트랜잭션으로 묶습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExpiryServiceImpl implements OrderExpiryService {
+
+    static final String EXPIRY_REASON = "결제 대기 시간 초과";
+
+    private final PendingOrderExpiryPort pendingOrderExpiryPort;
+    private final OutboxPort outboxPort;
+
+    @Override
+    @Transactional
+    public int expirePendingOrders(Instant createdBefore, int batchSize) {
+        List<OrderSummary> expired = pendingOrderExpiryPort.cancelExpired(createdBefore, batchSize);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        Instant cancelledAt = Instant.now();
+        outboxPort.saveOrderCancelledEvents(expired.stream()
+            .map(order -> new OrderCancelledEvent(
+                order.id(), order.orderNumber(), order.memberId(), EXPIRY_REASON, cancelledAt))
+            .toList());
+        return expired.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.hae.shop.application;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.port.in.OrderReadModelService;
+import com.hae.shop.domain.order.port.out.OrderReadModelPort;
+import com.hae.shop.domain.order.port.out.OrderRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 주문 조회 모델(CQRS) 유스케이스.
+ * Outbox 이벤트가 오면 이벤트 본문 대신 쓰기 모델의 최신 상태로 스냅샷을 다시 만들기 때문에
+ * 이벤트가 중복되거나 순서가 바뀌어도 결과가 같습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderReadModelServiceImpl implements OrderReadModelService {
+
+    private final OrderRepositoryPort orderRepository;
+    private final OrderReadModelPort orderReadModelPort;
+
+    /**
+     * 별도 트랜잭션에서 실행해, 투영 실패가 Outbox 배치 전체를 롤백시키지 않도록 합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void project(Long orderId) {
+        orderRepository.findById(orderId).ifPresent(orderReadModelPort::save);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Order getOrder(Long orderId, Long minVersion) {
+        Optional<Order> snapshot = orderReadModelPort.findById(orderId);
+        if (snapshot.isPresent() && isFreshEnough(snapshot.get(), minVersion)) {
+            return snapshot.get();
+        }
+
+        // 아직 투영되지 않았거나 요청한 버전보다 뒤처진 경우 쓰기 모델에서 조회
+        return orderRepository.findById(orderId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+    }
+
+    private boolean isFreshEnough(Order snapshot, Long minVersion) {
+        return minVersion == null || (snapshot.getVersion() != null && snapshot.getVersion() >= minVersion);
+    }
+}
@@ -2,36 +2,57 @@ package com.hae.shop.application;
 
 import com.hae.shop.common.BusinessException;
 import com.hae.shop.common.ErrorCode;
+import com.hae.shop.common.SnowflakeIdGenerator;
+import com.hae.shop.domain.order.model.CheckoutItem;
 import com.hae.shop.domain.order.model.Order;
 import com.hae.shop.domain.order.model.OrderCreatedEvent;
+import com.hae.shop.domain.order.model.OrderHistoryCursor;
+import com.hae.shop.domain.order.model.OrderHistoryPage;
+import com.hae.shop.domain.order.model.OrderSummary;
+import com.hae.shop.domain.order.model.OrderUpdatedEvent;
 import com.hae.shop.domain.order.model.OrderItem;
 import com.hae.shop.domain.order.model.PaymentCompletedEvent;
 import com.hae.shop.domain.order.model.OrderCancelledEvent;
 import com.hae.shop.domain.order.port.in.OrderService;
+import com.hae.shop.domain.order.port.in.PaymentCancellationService;
 import com.hae.shop.domain.order.port.out.OrderRepositoryPort;
 import com.hae.shop.domain.port.out.OutboxPort;
 import com.hae.shop.domain.product.model.Product;
 import com.hae.shop.domain.product.port.in.ProductService;
+import com.hae.shop.domain.coupon.model.CouponRecommendation;
+import com.hae.shop.domain.coupon.port.in.CouponRecommendationService;
 import com.hae.shop.domain.coupon.port.in.CouponService;
 import com.hae.shop.domain.order.port.out.PaymentGatewayPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
+    static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final OrderRepositoryPort orderRepository;
     private final ProductService productService;
     private final CouponService couponService;
+    private final CouponRecommendationService couponRecommendationService;
     private final PaymentGatewayPort paymentGatewayPort;
+    private final PaymentCancellationService paymentCancellationService;
     private final OutboxPort outboxPort;
+    private final SnowflakeIdGenerator idGenerator;
+    private final TransactionOperations transactionOperations;
 
     @Override
     @Transactional
@@ -45,7 +66,7 @@ public class OrderServiceImpl implements OrderService {
 
         Order order = new Order();
         order.setMemberId(memberId);
-        order.setOrderNumber("ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase());
+        order.setOrderNumber(idGenerator.nextOrderNumber());
         order.setTotalAmount(BigDecimal.ZERO);
         order.setDiscountAmount(BigDecimal.ZERO);
         order.setPaymentAmount(BigDecimal.ZERO);
@@ -60,6 +81,79 @@ public class OrderServiceImpl implements OrderService {
         return savedOrder;
     }
 
+    /**
+     * 주문 생성, 항목 추가, 쿠폰 적용을 한 트랜잭션에서 처리합니다.
+     * 상품은 한 번에 조회하고 합계는 한 번만 계산하며, 주문과 항목 전체를 한 번에 저장한 뒤
+     * 항목이 포함된 OrderCreatedEvent 하나만 발행합니다.
+     */
+    @Override
+    @Transactional
+    public Order checkout(Long memberId, List<CheckoutItem> items, Long couponId, String idempotencyKey) {
+        if (idempotencyKey != null && !idempotencyKey.isEmpty()) {
+            var existingOrder = orderRepository.findByIdempotencyKey(idempotencyKey);
+            if (existingOrder.isPresent()) {
+                // 같은 회원의 재시도라면 이미 생성된 주문을 그대로 반환
+                if (existingOrder.get().getMemberId().equals(memberId)) {
+                    return existingOrder.get();
+                }
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_CONFLICT);
+            }
+        }
+
+        // 같은 상품은 수량을 합치고, 상품 ID 순으로 재고 락을 잡아 교착을 피합니다.
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (CheckoutItem item : items) {
+            if (item.productId() == null || item.quantity() <= 0) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+            quantities.merge(item.productId(), item.quantity(), Integer::sum);
+        }
+        if (quantities.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        Map<Long, Product> products = productService.getProductsByIds(new ArrayList<>(quantities.keySet())).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        if (products.size() != quantities.size()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        Order order = new Order();
+        order.setMemberId(memberId);
+        order.setOrderNumber(idGenerator.nextOrderNumber());
+        order.setDiscountAmount(BigDecimal.ZERO);
+        order.setStatus(Order.OrderStatus.PENDING);
+        order.setIdempotencyKey(idempotencyKey);
+        order.setItems(new ArrayList<>(quantities.size()));
+
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Product product = products.get(entry.getKey());
+            int quantity = entry.getValue();
+
+            productService.decrementStock(product.getId(), quantity);
+
+            OrderItem item = new OrderItem();
+            item.setProductId(product.getId());
+            item.setProductName(product.getName());
+            item.setProductPrice(product.getPrice());
+            item.setQuantity(quantity);
+            item.setSubtotal(product.getPrice().multiply(BigDecimal.valueOf(quantity)));
+            order.addItem(item);
+        }
+
+        recalculateTotals(order);
+        if (couponId != null) {
+            order.setDiscountAmount(couponService.applyDiscount(couponId, order.getTotalAmount()));
+            recalculateTotals(order);
+        }
+
+        Order savedOrder = orderRepository.save(order);
+
+        outboxPort.saveOrderCreatedEvent(OrderCreatedEvent.from(savedOrder));
+
+        return savedOrder;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Order getOrder(Long orderId) {
@@ -67,17 +161,47 @@ public class OrderServiceImpl implements OrderService {
             .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public OrderHistoryPage<Order> getMemberOrders(Long memberId, OrderHistoryCursor cursor, int size) {
+        validatePageSize(size);
+        List<Order> orders = orderRepository.findByMemberId(memberId, cursor, size + 1);
+        return toPage(orders, size, order -> new OrderHistoryCursor(order.getCreatedAt(), order.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderHistoryPage<OrderSummary> getMemberOrderSummaries(Long memberId, OrderHistoryCursor cursor, int size) {
+        validatePageSize(size);
+        List<OrderSummary> orders = orderRepository.findSummariesByMemberId(memberId, cursor, size + 1);
+        return toPage(orders, size, summary -> new OrderHistoryCursor(summary.createdAt(), summary.id()));
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                "페이지 크기는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * size + 1건을 조회해 다음 페이지 존재 여부를 판단하고, 마지막 주문의 위치를 다음 커서로 사용합니다.
+     */
+    private <T> OrderHistoryPage<T> toPage(List<T> fetched, int size, Function<T, OrderHistoryCursor> cursorOf) {
+        if (fetched.size() <= size) {
+            return new OrderHistoryPage<>(fetched, null);
+        }
+        List<T> page = fetched.subList(0, size);
+        return new OrderHistoryPage<>(List.copyOf(page), cursorOf.apply(page.get(size - 1)));
+    }
+
     @Override
     @Transactional
     public void completePayment(Long orderId) {
         Order order = getOrder(orderId);
-        
-        if (order.getStatus() != Order.OrderStatus.PENDING) {
-            throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS);
-        }
-        
-        order.setStatus(Order.OrderStatus.PAID);
-        orderRepository.save(order);
+        transition(order, Order.OrderStatus.PAID);
+
+        outboxPort.saveOrderUpdatedEvent(OrderUpdatedEvent.from(order));
     }
 
     @Override
@@ -107,7 +231,11 @@ public class OrderServiceImpl implements OrderService {
         
         recalculateTotals(order);
         
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+
+        outboxPort.saveOrderUpdatedEvent(OrderUpdatedEvent.from(savedOrder));
+
+        return savedOrder;
     }
 
     @Override
@@ -125,12 +253,106 @@ public class OrderServiceImpl implements OrderService {
         
         recalculateTotals(order);
         
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+
+        outboxPort.saveOrderUpdatedEvent(OrderUpdatedEvent.from(savedOrder));
+
+        return savedOrder;
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public List<CouponRecommendation> recommendCoupons(Long orderId, Long memberId, int limit) {
+        Order order = getOrder(orderId);
+
+        if (!order.getMemberId().equals(memberId)) {
+            throw new BusinessException(ErrorCode.ORDER_NOT_FOUND);
+        }
+        if (order.getStatus() != Order.OrderStatus.PENDING) {
+            throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS);
+        }
+
+        return couponRecommendationService.recommend(memberId, order.getTotalAmount(), limit);
+    }
+
+    /**
+     * 결제는 세 단계로 나뉘며, 외부 결제 호출 동안에는 DB 커넥션을 잡지 않습니다.
+     * <ol>
+     *   <li>짧은 트랜잭션: 멱등성 확인 후 새 결제 시도 ID를 발급하며 PAYMENT_IN_PROGRESS로 전이</li>
+     *   <li>트랜잭션 없이 결제 승인 요청 (결과가 불확실하면 결제 조회로 확인)</li>
+     *   <li>짧은 트랜잭션: PAID 전이와 PaymentCompletedEvent 기록, 또는 거절 시 PENDING 복귀</li>
+     * </ol>
+     * 결과를 확정하지 못한 주문은 PAYMENT_IN_PROGRESS로 남고 recoverStuckPayments가 정리합니다.
+     * 승인 요청, 결제 조회, 복구는 모두 주문에 저장된 같은 결제 시도 ID를 PG 멱등성 키로 사용하며,
+     * 거절 후 다시 결제하면 새 시도 ID로 요청하므로 PG가 이전 거절을 재전송하지 않습니다.
+     */
+    @Override
     public Order payOrder(Long orderId, String paymentToken, String idempotencyKey) {
+        Order order = transactionOperations.execute(status -> startPayment(orderId, idempotencyKey));
+        if (order.getStatus() == Order.OrderStatus.PAID) {
+            return order;
+        }
+
+        PaymentGatewayPort.PaymentResult result;
+        try {
+            result = requestPayment(order);
+        } catch (BusinessException e) {
+            // 동시 호출 상한으로 PG에 요청조차 보내지 않음: 결제 전 상태로 되돌리고 바로 거절
+            revertPayment(order);
+            throw e;
+        }
+        if (result == null) {
+            throw new BusinessException(ErrorCode.PAYMENT_GATEWAY_ERROR);
+        }
+        if (!result.success()) {
+            revertPayment(order);
+            throw new BusinessException(ErrorCode.PAYMENT_FAILED);
+        }
+
+        try {
+            return confirmPayment(order, result.transactionId());
+        } catch (BusinessException e) {
+            // 복구 작업이 먼저 PAID로 확정했다면 그 결과를 돌려주고, 아니면 방금 승인된 결제를 되돌립니다.
+            Order current = transactionOperations.execute(status -> getOrder(orderId));
+            if (current.getStatus() == Order.OrderStatus.PAID) {
+                return current;
+            }
+            // 취소가 거절되거나 실패하면 재시도 대기열에 남아 나중에 다시 취소됩니다.
+            paymentCancellationService.cancelOrRetryLater(orderId, result.transactionId());
+            throw e;
+        }
+    }
+
+    /**
+     * 결제 도중 멈춘(PAYMENT_IN_PROGRESS 상태로 startedBefore 이전부터 머문) 주문을 결제 조회 결과로 확정합니다.
+     * 승인된 결제는 PAID로, 승인 내역이 없으면 PENDING으로 되돌립니다. 조회에 실패한 주문은 다음 실행에서 다시 시도합니다.
+     */
+    @Override
+    public int recoverStuckPayments(Instant startedBefore, int limit) {
+        List<Order> stuck = transactionOperations.execute(status ->
+            orderRepository.findByStatusUpdatedBefore(Order.OrderStatus.PAYMENT_IN_PROGRESS, startedBefore, limit));
+
+        int recovered = 0;
+        for (Order order : stuck) {
+            PaymentGatewayPort.PaymentResult result = inquirePayment(order);
+            if (result == null) {
+                continue;
+            }
+            try {
+                if (result.success()) {
+                    confirmPayment(order, result.transactionId());
+                } else {
+                    revertPayment(order);
+                }
+                recovered++;
+            } catch (BusinessException e) {
+                // 그사이 결제 요청 스레드나 다른 노드가 먼저 확정함
+            }
+        }
+        return recovered;
+    }
+
+    private Order startPayment(Long orderId, String idempotencyKey) {
         // Idempotency check: if key provided, see if already processed
         if (idempotencyKey != null && !idempotencyKey.isEmpty()) {
             var existingOrder = orderRepository.findByIdempotencyKey(idempotencyKey);
@@ -153,49 +375,110 @@ public class OrderServiceImpl implements OrderService {
         if (order.getStatus() == Order.OrderStatus.PAID) {
             return order;
         }
-        if (order.getStatus() != Order.OrderStatus.PENDING) {
-            throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS);
-        }
-        var paymentResult = paymentGatewayPort.processPayment(
-            orderId,
-            order.getPaymentAmount()
-        );
-        if (!paymentResult.success()) {
-            throw new BusinessException(ErrorCode.PAYMENT_FAILED);
+        if (order.getStatus() == Order.OrderStatus.PAYMENT_IN_PROGRESS) {
+            throw new BusinessException(ErrorCode.PAYMENT_IN_PROGRESS);
         }
-        
-        order.setStatus(Order.OrderStatus.PAID);
-        
+
         // Set idempotencyKey if provided and not already set
         if (idempotencyKey != null && !idempotencyKey.isEmpty() && order.getIdempotencyKey() == null) {
             order.setIdempotencyKey(idempotencyKey);
         }
-        
-        Order savedOrder = orderRepository.save(order);
-        outboxPort.savePaymentCompletedEvent(
-            PaymentCompletedEvent.from(savedOrder, "CARD", "receipt-" + paymentResult.transactionId())
-        );
-        return savedOrder;
+        order.setPaymentAttemptId("payment-" + order.getId() + "-" + idGenerator.nextId());
+        transition(order, Order.OrderStatus.PAYMENT_IN_PROGRESS);
+        outboxPort.saveOrderUpdatedEvent(OrderUpdatedEvent.from(order));
+        return order;
+    }
+
+    /**
+     * 결제 승인을 요청합니다. 거절 응답이나 예외처럼 결과가 불확실하면 결제 조회로 실제 승인 여부를 확인하며,
+     * 그마저 실패하면 null을 반환합니다. 동시 호출 상한으로 거절되면 PAYMENT_GATEWAY_BUSY를 그대로 던집니다.
+     */
+    private PaymentGatewayPort.PaymentResult requestPayment(Order order) {
+        try {
+            PaymentGatewayPort.PaymentResult result =
+                paymentGatewayPort.processPayment(order.getId(), order.getPaymentAttemptId(), order.getPaymentAmount()).join();
+            if (result.success()) {
+                return result;
+            }
+        } catch (RuntimeException e) {
+            if (e instanceof CompletionException && e.getCause() instanceof BusinessException rejected) {
+                throw rejected;
+            }
+            // 타임아웃 등: PG에서는 승인되었을 수 있으므로 조회로 확인
+        }
+        return inquirePayment(order);
+    }
+
+    private PaymentGatewayPort.PaymentResult inquirePayment(Order order) {
+        try {
+            return paymentGatewayPort.inquirePayment(order.getId(), order.getPaymentAttemptId());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private Order confirmPayment(Order order, String transactionId) {
+        return transactionOperations.execute(status -> {
+            order.setPaymentTransactionId(transactionId);
+            transition(order, Order.OrderStatus.PAID);
+            outboxPort.savePaymentCompletedEvent(
+                PaymentCompletedEvent.from(order, "CARD", "receipt-" + transactionId)
+            );
+            return order;
+        });
     }
 
+    private void revertPayment(Order order) {
+        transactionOperations.executeWithoutResult(status -> {
+            transition(order, Order.OrderStatus.PENDING);
+            outboxPort.saveOrderUpdatedEvent(OrderUpdatedEvent.from(order));
+        });
+    }
+
+    /**
+     * 주문을 취소합니다. 결제된 주문이면 PG 취소가 필요하다는 표시(REQUESTED)와 함께 먼저 CANCELLED로 커밋한 뒤,
+     * 트랜잭션 밖에서 PG 승인을 취소하고 취소 번호를 주문에 기록합니다.
+     * PG 취소가 실패하면 주문은 REQUESTED로 남고 재시도 대기열에서 다시 취소되며, 결제 대사는 이 값으로 환불 누락과 대기 중인 취소를 구분합니다.
+     */
     @Override
-    @Transactional
     public Order cancelOrder(Long orderId, String reason) {
-        Order order = getOrder(orderId);
-        
-        if (order.getStatus() != Order.OrderStatus.PENDING && 
-            order.getStatus() != Order.OrderStatus.PAID) {
+        Order order = transactionOperations.execute(status -> {
+            Order found = getOrder(orderId);
+            if (found.getStatus() == Order.OrderStatus.PAID && found.getPaymentTransactionId() != null) {
+                found.setPaymentCancelStatus(Order.PaymentCancelStatus.REQUESTED);
+            }
+            transition(found, Order.OrderStatus.CANCELLED);
+
+            outboxPort.saveOrderCancelledEvent(
+                OrderCancelledEvent.from(found, reason)
+            );
+            return found;
+        });
+
+        if (order.getPaymentCancelStatus() == Order.PaymentCancelStatus.REQUESTED) {
+            paymentCancellationService.cancelOrRetryLater(order.getId(), order.getPaymentTransactionId())
+                .ifPresent(cancelTransactionId -> {
+                    order.setPaymentCancelStatus(Order.PaymentCancelStatus.CANCELLED);
+                    order.setPaymentCancelTransactionId(cancelTransactionId);
+                });
+        }
+        return order;
+    }
+
+    /**
+     * 상태 전이 규칙을 확인한 뒤, 읽은 시점의 상태와 버전을 조건으로 한 UPDATE 한 문장으로 전이합니다.
+     * 그사이 다른 요청이 주문을 바꿨다면 덮어쓰지 않고 ORDER_CONCURRENT_MODIFICATION으로 실패합니다.
+     */
+    private void transition(Order order, Order.OrderStatus target) {
+        Order.OrderStatus current = order.getStatus();
+        if (!current.canTransitionTo(target)) {
             throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS);
         }
-        
-        order.setStatus(Order.OrderStatus.CANCELLED);
-        Order savedOrder = orderRepository.save(order);
-        
-        outboxPort.saveOrderCancelledEvent(
-            OrderCancelledEvent.from(savedOrder, reason)
-        );
-        
-        return savedOrder;
+        order.setStatus(target);
+        if (!orderRepository.transitionStatus(order, current)) {
+            order.setStatus(current);
+            throw new BusinessException(ErrorCode.ORDER_CONCURRENT_MODIFICATION);
+        }
     }
     
     private void recalculateTotals(Order order) {
@@ -0,0 +1,86 @@
+package com.hae.shop.application;
+
+import com.hae.shop.domain.order.model.PendingPaymentCancellation;
+import com.hae.shop.domain.order.port.in.PaymentCancellationService;
+import com.hae.shop.domain.order.port.out.OrderRepositoryPort;
+import com.hae.shop.domain.order.port.out.PaymentCancellationPort;
+import com.hae.shop.domain.order.port.out.PaymentGatewayPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PG 승인 취소 유스케이스.
+ * 취소는 결제 승인과 별도의 벌크헤드를 쓰지만, 그마저 포화되거나 PG가 실패하면 대기열에 남기고
+ * 1분부터 두 배씩(최대 1시간) 늘어나는 간격으로 다시 시도합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentCancellationServiceImpl implements PaymentCancellationService {
+
+    static final Duration INITIAL_BACKOFF = Duration.ofMinutes(1);
+    static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    /** 선점한 건을 처리하다 노드가 죽어도 이 시간이 지나면 다른 노드가 다시 가져갑니다. */
+    static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+
+    private final PaymentGatewayPort paymentGatewayPort;
+    private final PaymentCancellationPort paymentCancellationPort;
+    private final OrderRepositoryPort orderRepository;
+
+    @Override
+    public Optional<String> cancelOrRetryLater(Long orderId, String transactionId) {
+        PaymentGatewayPort.PaymentResult result = cancel(transactionId);
+        if (result.success()) {
+            orderRepository.recordPaymentCancellation(orderId, transactionId, result.transactionId());
+            return Optional.ofNullable(result.transactionId());
+        }
+        paymentCancellationPort.enqueue(orderId, transactionId, result.errorMessage(), Instant.now().plus(INITIAL_BACKOFF));
+        return Optional.empty();
+    }
+
+    @Override
+    public int retryFailedCancellations(int limit) {
+        Instant now = Instant.now();
+        List<PendingPaymentCancellation> due = paymentCancellationPort.claimDue(now, now.plus(CLAIM_LEASE), limit);
+
+        int cancelled = 0;
+        for (PendingPaymentCancellation pending : due) {
+            PaymentGatewayPort.PaymentResult result = cancel(pending.transactionId());
+            if (result.success()) {
+                orderRepository.recordPaymentCancellation(pending.orderId(), pending.transactionId(), result.transactionId());
+                paymentCancellationPort.remove(pending.transactionId());
+                cancelled++;
+            } else {
+                paymentCancellationPort.reschedule(pending.transactionId(), result.errorMessage(),
+                    Instant.now().plus(backoff(pending.attempts() + 1)));
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * 취소를 요청합니다. 예외나 빈 응답도 실패 사유가 담긴 success=false 결과로 바꿔 돌려줍니다.
+     */
+    private PaymentGatewayPort.PaymentResult cancel(String transactionId) {
+        try {
+            PaymentGatewayPort.PaymentResult result = paymentGatewayPort.cancelPayment(transactionId);
+            if (result == null || (!result.success() && result.errorMessage() == null)) {
+                return new PaymentGatewayPort.PaymentResult(false, null, "cancellation not confirmed");
+            }
+            return result;
+        } catch (RuntimeException e) {
+            return new PaymentGatewayPort.PaymentResult(false, null,
+                e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    static Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 6);
+        Duration delay = INITIAL_BACKOFF.multipliedBy(1L << shift);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
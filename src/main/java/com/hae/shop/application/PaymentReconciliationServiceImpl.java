@@ -0,0 +1,87 @@
+package com.hae.shop.application;
+
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.PaymentDiscrepancy;
+import com.hae.shop.domain.order.model.ReconciliationReport;
+import com.hae.shop.domain.order.model.SettledPayment;
+import com.hae.shop.domain.order.port.in.PaymentReconciliationService;
+import com.hae.shop.domain.order.port.out.PaymentGatewayPort;
+import com.hae.shop.domain.order.port.out.PaymentReconciliationPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 대사 유스케이스.
+ * 주문을 커서로 BATCH_SIZE건씩 읽어 PG에 일괄 조회하고, 배치마다 불일치 건을 한 번에 기록합니다.
+ * 주문 테이블을 읽기만 하며 주문 상태는 고치지 않습니다 (판단은 운영자가 불일치 기록을 보고 내립니다).
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationServiceImpl implements PaymentReconciliationService {
+
+    static final int BATCH_SIZE = 200;
+
+    private final PaymentReconciliationPort paymentReconciliationPort;
+    private final PaymentGatewayPort paymentGatewayPort;
+
+    @Override
+    public ReconciliationReport reconcile(Instant from, Instant to) {
+        AtomicLong unverified = new AtomicLong();
+        AtomicLong discrepancies = new AtomicLong();
+
+        long checked = paymentReconciliationPort.streamSettledPayments(from, to, BATCH_SIZE, batch -> {
+            Map<Long, PaymentGatewayPort.PaymentResult> results =
+                paymentGatewayPort.inquirePayments(batch.stream().map(SettledPayment::orderId).toList());
+
+            Instant detectedAt = Instant.now();
+            List<PaymentDiscrepancy> found = new ArrayList<>();
+            for (SettledPayment payment : batch) {
+                PaymentGatewayPort.PaymentResult result = results.get(payment.orderId());
+                if (result == null) {
+                    unverified.incrementAndGet();
+                    continue;
+                }
+                PaymentDiscrepancy.Type type = compare(payment, result);
+                if (type != null) {
+                    found.add(new PaymentDiscrepancy(payment.orderId(), payment.status(), payment.transactionId(),
+                        result.transactionId(), type, detectedAt));
+                }
+            }
+
+            if (!found.isEmpty()) {
+                discrepancies.addAndGet(paymentReconciliationPort.saveDiscrepancies(found));
+            }
+        });
+
+        return new ReconciliationReport(from, to, checked, unverified.get(), discrepancies.get());
+    }
+
+    /**
+     * @return 불일치 유형, 일치하면 null
+     */
+    private PaymentDiscrepancy.Type compare(SettledPayment payment, PaymentGatewayPort.PaymentResult result) {
+        if (payment.status() == Order.OrderStatus.CANCELLED) {
+            if (!result.success()) {
+                return null;
+            }
+            // 주문에 기록된 취소 상태로 재시도 중인 취소와 취소 요청 자체가 빠진 환불 누락을 구분합니다.
+            return payment.cancelStatus() == Order.PaymentCancelStatus.REQUESTED
+                ? PaymentDiscrepancy.Type.CANCELLATION_PENDING
+                : PaymentDiscrepancy.Type.UNCANCELLED_APPROVAL;
+        }
+        if (!result.success()) {
+            return PaymentDiscrepancy.Type.MISSING_APPROVAL;
+        }
+        // 승인 번호를 기록하기 전에 결제된 주문은 승인 여부만 확인합니다.
+        if (payment.transactionId() != null && !payment.transactionId().equals(result.transactionId())) {
+            return PaymentDiscrepancy.Type.TRANSACTION_MISMATCH;
+        }
+        return null;
+    }
+}
@@ -1,13 +1,17 @@
 package com.hae.shop.application;
 
+import com.hae.shop.common.BusinessException;
 import com.hae.shop.domain.order.port.in.PaymentService;
 import com.hae.shop.domain.order.port.out.PaymentGatewayPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletionException;
 
+/**
+ * DB를 사용하지 않으므로 트랜잭션을 열지 않습니다. PG가 느려져도 호출 동안 커넥션을 점유하지 않습니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
@@ -15,14 +19,18 @@ public class PaymentServiceImpl implements PaymentService {
     private final PaymentGatewayPort paymentGatewayPort;
 
     @Override
-    @Transactional
-    public boolean processPayment(Long orderId, BigDecimal amount) {
-        PaymentGatewayPort.PaymentResult result = paymentGatewayPort.processPayment(orderId, amount);
-        return result.success();
+    public boolean processPayment(Long orderId, String attemptId, BigDecimal amount) {
+        try {
+            return paymentGatewayPort.processPayment(orderId, attemptId, amount).join().success();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException rejected) {
+                throw rejected;
+            }
+            throw e;
+        }
     }
 
     @Override
-    @Transactional
     public boolean cancelPayment(String transactionId) {
         PaymentGatewayPort.PaymentResult result = paymentGatewayPort.cancelPayment(transactionId);
         return result.success();
@@ -0,0 +1,182 @@
+package com.hae.shop.application;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.domain.product.model.Product;
+import com.hae.shop.domain.product.model.ProductImportFormat;
+import com.hae.shop.domain.product.model.ProductImportProgress;
+import com.hae.shop.domain.product.model.ProductImportProgress.ImportStatus;
+import com.hae.shop.domain.product.model.ProductImportRow;
+import com.hae.shop.domain.product.port.in.ProductImportService;
+import com.hae.shop.domain.product.port.out.ProductBulkWriterPort;
+import com.hae.shop.domain.product.port.out.ProductImportReaderPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 상품 일괄 등록 유스케이스.
+ * 청크마다 별도 트랜잭션으로 커밋하므로(ProductBulkWriterPort) 전체 작업을 하나의 트랜잭션으로 묶지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductImportServiceImpl implements ProductImportService {
+
+    static final String IMPORT_CACHE_NAME = "productImports";
+    private static final List<String> PRODUCT_CACHE_NAMES = List.of("products", "categories");
+    private static final int CHUNK_SIZE = 5_000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_CATEGORY_LENGTH = 100;
+    private static final int MAX_PRICE_INTEGER_DIGITS = 17;
+
+    private final ProductImportReaderPort productImportReader;
+    private final ProductBulkWriterPort productBulkWriter;
+    private final CacheManager cacheManager;
+
+    @Override
+    public ProductImportProgress importProducts(String jobId, InputStream inputStream, ProductImportFormat format) {
+        Instant startedAt = Instant.now();
+        List<Product> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<String> errors = new ArrayList<>();
+        long processed = 0;
+        long imported = 0;
+        long rejected = 0;
+
+        publish(new ProductImportProgress(jobId, ImportStatus.RUNNING, 0, 0, 0, List.of(), null, startedAt, null));
+
+        try (Stream<ProductImportRow> rows = productImportReader.read(inputStream, format)) {
+            Iterator<ProductImportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ProductImportRow row = iterator.next();
+                processed++;
+
+                String error = validate(row);
+                if (error != null) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add("line " + row.lineNumber() + ": " + error);
+                    }
+                    continue;
+                }
+
+                chunk.add(toProduct(row));
+                if (chunk.size() == CHUNK_SIZE) {
+                    imported += productBulkWriter.insertAll(chunk);
+                    chunk.clear();
+                    publish(new ProductImportProgress(jobId, ImportStatus.RUNNING, processed, imported, rejected,
+                        List.copyOf(errors), null, startedAt, null));
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                imported += productBulkWriter.insertAll(chunk);
+            }
+
+            ProductImportProgress completed = new ProductImportProgress(jobId, ImportStatus.COMPLETED, processed,
+                imported, rejected, List.copyOf(errors), null, startedAt, Instant.now());
+            publish(completed);
+            return completed;
+        } catch (RuntimeException e) {
+            // 이미 커밋된 청크는 유지되며, 실패 시점까지의 진행 상황을 그대로 보고합니다.
+            // 예외 메시지에는 SQL이나 드라이버 정보가 섞일 수 있으므로 조회 API에는 일반 메시지만 노출합니다
+            // (원인은 읽기/쓰기 어댑터가 로그로 남김).
+            ProductImportProgress failed = new ProductImportProgress(jobId, ImportStatus.FAILED, processed,
+                imported, rejected, List.copyOf(errors), ErrorCode.PRODUCT_IMPORT_FAILED.getMessage(),
+                startedAt, Instant.now());
+            publish(failed);
+            return failed;
+        } finally {
+            evictProductCaches();
+        }
+    }
+
+    @Override
+    public ProductImportProgress getImportProgress(String jobId) {
+        Cache cache = cacheManager.getCache(IMPORT_CACHE_NAME);
+        ProductImportProgress progress = cache != null ? cache.get(jobId, ProductImportProgress.class) : null;
+        if (progress == null) {
+            throw new BusinessException(ErrorCode.PRODUCT_IMPORT_NOT_FOUND);
+        }
+        return progress;
+    }
+
+    private String validate(ProductImportRow row) {
+        if (row.isMalformed()) {
+            return row.parseError();
+        }
+        if (row.name() == null || row.name().isBlank()) {
+            return "name is required";
+        }
+        if (row.name().length() > MAX_NAME_LENGTH) {
+            return "name must be at most " + MAX_NAME_LENGTH + " characters";
+        }
+        if (row.category() != null && row.category().length() > MAX_CATEGORY_LENGTH) {
+            return "category must be at most " + MAX_CATEGORY_LENGTH + " characters";
+        }
+
+        BigDecimal price;
+        try {
+            price = row.price() == null ? null : new BigDecimal(row.price().trim());
+        } catch (NumberFormatException e) {
+            return "price is not a number: " + row.price();
+        }
+        if (price == null) {
+            return "price is required";
+        }
+        if (price.signum() < 0 || price.scale() > 2 || price.precision() - price.scale() > MAX_PRICE_INTEGER_DIGITS) {
+            return "price is out of range: " + row.price();
+        }
+
+        if (row.stockQuantity() != null && !row.stockQuantity().isBlank()) {
+            try {
+                if (Integer.parseInt(row.stockQuantity().trim()) < 0) {
+                    return "stockQuantity must not be negative";
+                }
+            } catch (NumberFormatException e) {
+                return "stockQuantity is not an integer: " + row.stockQuantity();
+            }
+        }
+        return null;
+    }
+
+    private Product toProduct(ProductImportRow row) {
+        int stockQuantity = row.stockQuantity() == null || row.stockQuantity().isBlank()
+            ? 0
+            : Integer.parseInt(row.stockQuantity().trim());
+
+        Product product = new Product();
+        product.setName(row.name().trim());
+        product.setDescription(row.description());
+        product.setPrice(new BigDecimal(row.price().trim()));
+        product.setStockQuantity(stockQuantity);
+        product.setCategory(row.category() == null || row.category().isBlank() ? null : row.category().trim());
+        product.setStatus(Product.ProductStatus.ACTIVE);
+        return product;
+    }
+
+    private void publish(ProductImportProgress progress) {
+        Cache cache = cacheManager.getCache(IMPORT_CACHE_NAME);
+        if (cache != null) {
+            cache.put(progress.jobId(), progress);
+        }
+    }
+
+    private void evictProductCaches() {
+        for (String cacheName : PRODUCT_CACHE_NAMES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
@@ -7,11 +7,18 @@ import com.hae.shop.domain.product.model.Product;
 import com.hae.shop.domain.product.port.in.ProductService;
 import com.hae.shop.domain.product.port.out.ProductRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -21,9 +28,12 @@ public class ProductServiceImpl implements ProductService {
     private static final String LOCK_PREFIX = "stock:lock:";
     private static final long LOCK_WAIT_TIME = 3L;
     private static final long LOCK_LEASE_TIME = 10L;
+    private static final String PRODUCT_CACHE_NAME = "products";
+    static final int MAX_BATCH_IDS = 100;
 
     private final ProductRepositoryPort productRepository;
     private final DistributedLock distributedLock;
+    private final CacheManager cacheManager;
 
     @Override
     @Transactional
@@ -56,6 +66,51 @@ public class ProductServiceImpl implements ProductService {
         return productRepository.findAll();
     }
 
+    /**
+     * 상품 다건 조회: "products" 캐시에서 먼저 찾고, 없는 ID만 한 번의 IN 쿼리로 조회해 캐시에 채웁니다.
+     * 요청 순서를 유지하며 존재하지 않는 ID는 결과에서 제외합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> getProductsByIds(List<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        uniqueIds.remove(null);
+        if (uniqueIds.size() > MAX_BATCH_IDS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                "한 번에 조회할 수 있는 상품은 최대 " + MAX_BATCH_IDS + "개입니다.");
+        }
+
+        Cache cache = cacheManager.getCache(PRODUCT_CACHE_NAME);
+        Map<Long, Product> found = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            Product cached = cache != null ? cache.get(id, Product.class) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            for (Product product : productRepository.findAllById(missingIds)) {
+                found.put(product.getId(), product);
+                if (cache != null) {
+                    cache.put(product.getId(), product);
+                }
+            }
+        }
+
+        List<Product> result = new ArrayList<>(found.size());
+        for (Long id : uniqueIds) {
+            Product product = found.get(id);
+            if (product != null) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
     @Override
     @Transactional
     public void decrementStock(Long productId, int quantity) {
@@ -12,10 +12,13 @@ public enum ErrorCode {
     MEMBER_ALREADY_EXISTS("M002", "이미 가입된 이메일입니다."),
     INVALID_PASSWORD("M003", "비밀번호가 일치하지 않습니다."),
     INVALID_CREDENTIALS("M004", "아이디 또는 비밀번호가 올바르지 않습니다."),
+    MEMBER_IN_USE("M005", "주문 또는 쿠폰 내역이 있는 회원은 삭제할 수 없습니다."),
 
     PRODUCT_NOT_FOUND("P001", "상품을 찾을 수 없습니다."),
     INSUFFICIENT_STOCK("P002", "재고가 부족합니다."),
     PRODUCT_NOT_ACTIVE("P003", "판매 중인 상품이 아닙니다."),
+    PRODUCT_IMPORT_NOT_FOUND("P004", "상품 일괄 등록 작업을 찾을 수 없습니다."),
+    PRODUCT_IMPORT_FAILED("P005", "상품 일괄 등록 중 오류가 발생했습니다. 실패 전에 등록된 상품은 유지됩니다."),
 
     ORDER_NOT_FOUND("O001", "주문을 찾을 수 없습니다."),
     ORDER_ALREADY_EXISTS("O002", "이미 처리된 주문입니다."),
@@ -23,6 +26,10 @@ public enum ErrorCode {
     INVALID_ORDER_STATUS("O004", "주문 상태가 올바르지 않습니다."),
     IDEMPOTENCY_KEY_CONFLICT("O005", "중복 요청입니다."),
     PAYMENT_CANCEL_FAILED("O006", "결제 취소에 실패했습니다."),
+    IDEMPOTENCY_KEY_REUSED("O007", "같은 멱등성 키로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("O008", "같은 멱등성 키의 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요."),
+    ORDER_CONCURRENT_MODIFICATION("O009", "다른 요청이 주문을 먼저 변경했습니다. 주문을 다시 조회한 뒤 시도해 주세요."),
+    PAYMENT_IN_PROGRESS("O010", "결제가 진행 중인 주문입니다. 잠시 후 주문 상태를 확인해 주세요."),
 
     COUPON_NOT_FOUND("CP001", "쿠폰을 찾을 수 없습니다."),
     COUPON_EXPIRED("CP002", "만료된 쿠폰입니다."),
@@ -30,8 +37,11 @@ public enum ErrorCode {
     COUPON_ALREADY_USED("CP004", "이미 사용된 쿠폰입니다."),
     COUPON_QUOTA_EXCEEDED("CP005", "쿠폰 수량이 소진되었습니다."),
     MIN_PURCHASE_NOT_MET("CP006", "최소 구매 금액을 충족하지 않았습니다."),
+    COUPON_ISSUANCE_NOT_FOUND("CP007", "쿠폰 일괄 발급 작업을 찾을 수 없습니다."),
+    COUPON_ISSUANCE_INVALID_STATUS("CP008", "현재 상태에서는 할 수 없는 발급 작업 요청입니다."),
     PAYMENT_GATEWAY_ERROR("PG001", "결제 gateway 오류가 발생했습니다."),
-    PAYMENT_TIMEOUT("PG002", "결제 시간이 초과되었습니다.");
+    PAYMENT_TIMEOUT("PG002", "결제 시간이 초과되었습니다."),
+    PAYMENT_GATEWAY_BUSY("PG003", "결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
     private final String code;
     private final String message;
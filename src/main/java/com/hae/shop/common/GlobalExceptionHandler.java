@@ -1,5 +1,6 @@
 package com.hae.shop.common;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -17,13 +18,27 @@ public class GlobalExceptionHandler {
         HttpStatus status = switch (errorCode) {
             case UNAUTHORIZED -> HttpStatus.UNAUTHORIZED;
             case FORBIDDEN -> HttpStatus.FORBIDDEN;
-            case NOT_FOUND, MEMBER_NOT_FOUND, PRODUCT_NOT_FOUND, ORDER_NOT_FOUND, COUPON_NOT_FOUND -> HttpStatus.NOT_FOUND;
-            case DUPLICATE_RESOURCE, MEMBER_ALREADY_EXISTS, IDEMPOTENCY_KEY_CONFLICT -> HttpStatus.CONFLICT;
+            case NOT_FOUND, MEMBER_NOT_FOUND, PRODUCT_NOT_FOUND, PRODUCT_IMPORT_NOT_FOUND, ORDER_NOT_FOUND, COUPON_NOT_FOUND,
+                 COUPON_ISSUANCE_NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case DUPLICATE_RESOURCE, MEMBER_ALREADY_EXISTS, MEMBER_IN_USE, IDEMPOTENCY_KEY_CONFLICT,
+                 IDEMPOTENCY_REQUEST_IN_PROGRESS, ORDER_CONCURRENT_MODIFICATION, PAYMENT_IN_PROGRESS,
+                 COUPON_ISSUANCE_INVALID_STATUS -> HttpStatus.CONFLICT;
+            case IDEMPOTENCY_KEY_REUSED -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case PAYMENT_GATEWAY_BUSY -> HttpStatus.SERVICE_UNAVAILABLE;
             default -> HttpStatus.BAD_REQUEST;
         };
         return ResponseEntity.status(status).body(ErrorResponse.of(errorCode, e.getMessage()));
     }
 
+    /**
+     * addItem 등 엔티티 저장 경로에서 @Version 검사에 실패한 경우.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ErrorResponse.of(ErrorCode.ORDER_CONCURRENT_MODIFICATION));
+    }
+
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ErrorResponse> handleAuthenticationException(AuthenticationException e) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -0,0 +1,79 @@
+package com.hae.shop.common;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식의 64비트 시간 순서 ID 생성기 (락 없음).
+ * <pre>
+ * | 1 bit 부호(0) | 41 bits 커스텀 epoch 이후 밀리초 | 10 bits 노드 ID | 12 bits 시퀀스 |
+ * </pre>
+ * 타임스탬프와 시퀀스를 하나의 AtomicLong에 담아 CAS로 갱신합니다.
+ * 같은 밀리초에 시퀀스가 넘치거나 시계가 뒤로 가면 다음 밀리초를 미리 사용하므로 ID는 항상 단조 증가합니다.
+ */
+public class SnowflakeIdGenerator {
+
+    /** 2024-01-01T00:00:00Z */
+    public static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    public static final int NODE_ID_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
+    private static final String ORDER_NUMBER_PREFIX = "ORD-";
+    private static final int ORDER_NUMBER_LENGTH = 13; // Long.MAX_VALUE의 36진수 자릿수
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    /** (epoch 이후 밀리초 << SEQUENCE_BITS) | 시퀀스 */
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            // 새 밀리초면 시퀀스 0부터, 아니면 +1 (시퀀스 overflow는 타임스탬프 비트로 올라가 다음 밀리초가 됨)
+            long next = now > (current >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : current + 1;
+            if (state.compareAndSet(current, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    /**
+     * 사람이 읽을 수 있는 주문 번호 (예: ORD-00C9X3KQ1Z4G0).
+     * 고정 길이 36진수이므로 문자열 정렬 순서가 생성 순서와 같습니다.
+     */
+    public String nextOrderNumber() {
+        return toOrderNumber(nextId());
+    }
+
+    public static String toOrderNumber(long id) {
+        String base36 = Long.toString(id, 36).toUpperCase(Locale.ROOT);
+        return ORDER_NUMBER_PREFIX + "0".repeat(ORDER_NUMBER_LENGTH - base36.length()) + base36;
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
@@ -15,7 +15,7 @@ public class CacheConfig {
 
     @Bean
     public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("coupons", "categories", "products");
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("coupons", "categories", "products", "productImports");
         cacheManager.setCaffeine(caffeineCacheBuilder());
         return cacheManager;
     }
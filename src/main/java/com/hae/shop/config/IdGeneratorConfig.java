@@ -0,0 +1,25 @@
+package com.hae.shop.config;
+
+import com.hae.shop.common.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Snowflake ID 생성기 설정.
+ * 인스턴스마다 서로 다른 node-id(0~1023)를 지정해야 ID가 충돌하지 않으므로,
+ * 기본값 없이 id-generator.node-id(NODE_ID)가 없으면 기동에 실패합니다.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${id-generator.node-id:#{null}}") Long nodeId) {
+        if (nodeId == null) {
+            throw new IllegalStateException(
+                "id-generator.node-id (NODE_ID) must be set to a node id unique to this instance (0-"
+                    + SnowflakeIdGenerator.MAX_NODE_ID + ")");
+        }
+        return new SnowflakeIdGenerator(nodeId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.hae.shop.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 결제 게이트웨이 호출 전용 실행기.
+ * 호출마다 가상 스레드를 하나씩 사용하므로 느린 PG 응답이 요청 스레드나 공용 풀을 점유하지 않으며,
+ * TimeLimiter가 시간 초과로 취소하면 해당 가상 스레드가 인터럽트됩니다.
+ */
+@Configuration
+public class PaymentGatewayConfig {
+
+    public static final String PAYMENT_GATEWAY_EXECUTOR = "paymentGatewayExecutor";
+
+    @Bean(name = PAYMENT_GATEWAY_EXECUTOR, destroyMethod = "close")
+    public ExecutorService paymentGatewayExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-gateway-", 0).factory());
+    }
+}
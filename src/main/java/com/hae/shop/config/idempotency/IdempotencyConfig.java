@@ -0,0 +1,20 @@
+package com.hae.shop.config.idempotency;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * IdempotencyFilter는 SecurityFilterChain 안(JWT 필터 뒤)에서만 실행되어야 하므로
+ * 서블릿 컨테이너 자동 등록을 끕니다. 그렇지 않으면 인증 전에 한 번 더 실행됩니다.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter idempotencyFilter) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(idempotencyFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
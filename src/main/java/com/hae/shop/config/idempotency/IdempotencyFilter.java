@@ -0,0 +1,435 @@
+package com.hae.shop.config.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.common.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 변경 요청(POST/PUT/PATCH/DELETE /api/v1/**)의 Idempotency-Key 처리 필터.
+ * <ul>
+ *   <li>처음 보는 키: 요청을 처리하고 요청 지문과 응답을 Redis에 TTL과 함께 저장. 최종 결과(2xx, 결정적인 4xx)만 저장하고
+ *       5xx와 재시도하면 결과가 달라지는 응답(409, 429 등과 결제 진행 중 같은 일시적 오류)은 저장하지 않아 같은 키로 재시도할 수 있음</li>
+ *   <li>같은 키 + 같은 지문: 유스케이스나 DB를 거치지 않고 저장된 응답을 그대로 재전송</li>
+ *   <li>같은 키 + 다른 지문: 422로 거부</li>
+ * </ul>
+ * 같은 키의 요청이 동시에 들어오면 첫 요청만 실행하고(single-flight), 나머지는 그 결과를 기다려 같은 응답을 받습니다.
+ * 같은 노드에서는 in-flight 맵으로, 다른 노드와는 Redis 처리 중 마커로 조율하며, 대기 시간을 넘기면 409로 재시도를 안내합니다.
+ * 처리 중 마커의 TTL(in-flight-ttl)은 노드 장애 시 자동 해제를 위한 값일 뿐이며, 처리가 살아 있는 동안에는
+ * 워치독({@link #renewInFlightMarkers()})이 주기적으로 연장하므로 결제처럼 오래 걸리는 요청도 중복 실행되지 않습니다.
+ * Redis 장애 시에는 멱등성 처리 없이 요청을 통과시킵니다(fail-open). 서비스 계층의 멱등성 검사가 최후 방어선입니다.
+ * SecurityConfig에서 JWT 필터 뒤에 등록되며, 키는 인증 주체별로 분리됩니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String API_PREFIX = "/api/v1/";
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final Set<String> NON_REPLAYABLE_HEADERS = Set.of(
+        HttpHeaders.CONTENT_TYPE.toLowerCase(Locale.ROOT),
+        HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT),
+        HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT),
+        HttpHeaders.DATE.toLowerCase(Locale.ROOT),
+        HttpHeaders.SET_COOKIE.toLowerCase(Locale.ROOT)
+    );
+    /** 같은 요청을 다시 보내면 결과가 달라질 수 있는 상태 코드. 저장하면 TTL 동안 같은 키로는 작업을 끝낼 수 없습니다. */
+    private static final Set<Integer> TRANSIENT_CLIENT_ERROR_STATUSES = Set.of(
+        HttpStatus.REQUEST_TIMEOUT.value(),
+        HttpStatus.CONFLICT.value(),
+        HttpStatus.LOCKED.value(),
+        HttpStatus.TOO_EARLY.value(),
+        HttpStatus.TOO_MANY_REQUESTS.value()
+    );
+    /** 4xx로 응답하지만 잠시 후 재시도하면 성공할 수 있는 오류 */
+    private static final Set<String> RETRYABLE_ERROR_CODES = Set.of(
+        ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getCode(),
+        ErrorCode.ORDER_CONCURRENT_MODIFICATION.getCode(),
+        ErrorCode.PAYMENT_IN_PROGRESS.getCode(),
+        ErrorCode.PAYMENT_TIMEOUT.getCode(),
+        ErrorCode.PAYMENT_GATEWAY_ERROR.getCode(),
+        ErrorCode.PAYMENT_GATEWAY_BUSY.getCode()
+    );
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long REMOTE_POLL_INTERVAL_MILLIS = 50;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final int maxBodyBytes;
+    private final Duration inFlightTtl;
+    private final Duration waitTimeout;
+    private final ConcurrentMap<String, CompletableFuture<IdempotencyRecord>> inFlightRequests = new ConcurrentHashMap<>();
+    /** 이 노드가 선점해 처리 중인 마커 (storeKey -> token). 워치독이 TTL을 연장합니다. */
+    private final ConcurrentMap<String, String> heldMarkers = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore,
+                             ObjectMapper objectMapper,
+                             @Value("${idempotency.ttl:24h}") Duration ttl,
+                             @Value("${idempotency.max-body-bytes:1048576}") int maxBodyBytes,
+                             @Value("${idempotency.in-flight-ttl:30s}") Duration inFlightTtl,
+                             @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.maxBodyBytes = maxBodyBytes;
+        this.inFlightTtl = inFlightTtl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !MUTATING_METHODS.contains(request.getMethod())
+            || !request.getRequestURI().startsWith(API_PREFIX)
+            || !StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY_HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_INPUT,
+                IDEMPOTENCY_KEY_HEADER + " 헤더는 최대 " + MAX_KEY_LENGTH + "자입니다.");
+            return;
+        }
+
+        // 대용량 스트리밍 업로드(상품 일괄 등록 등)는 본문을 메모리에 올리지 않고 그대로 통과
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        byte[] body = readBody(request);
+        if (body == null) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, ErrorCode.INVALID_INPUT,
+                "멱등성 키를 사용하는 요청 본문은 최대 " + maxBodyBytes + "바이트입니다.");
+            return;
+        }
+
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request, body);
+        String storeKey = storeKey(idempotencyKey);
+        String fingerprint = fingerprint(request, body);
+
+        Optional<IdempotencyRecord> existing = findRecord(storeKey);
+        if (existing.isPresent()) {
+            respondWith(existing.get(), fingerprint, response);
+            return;
+        }
+
+        CompletableFuture<IdempotencyRecord> inFlight = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> leader = inFlightRequests.putIfAbsent(storeKey, inFlight);
+        if (leader != null) {
+            awaitLocalLeader(leader, fingerprint, response);
+            return;
+        }
+
+        try {
+            inFlight.complete(executeOnce(storeKey, fingerprint, cachedRequest, response, filterChain));
+        } finally {
+            inFlightRequests.remove(storeKey, inFlight);
+            // 예외로 끝난 경우 대기 중인 중복 요청은 결과 없이 깨어나 재시도 안내를 받습니다.
+            inFlight.complete(null);
+        }
+    }
+
+    /**
+     * 이 노드에서 키의 첫 요청으로 실행됩니다. 다른 노드가 이미 처리 중이면 그 결과를 기다립니다.
+     * 대기 중인 같은 노드의 중복 요청에 넘겨줄 레코드를 반환하며, 결과가 없으면 null입니다.
+     */
+    private IdempotencyRecord executeOnce(String storeKey, String fingerprint, HttpServletRequest request,
+                                          HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = UUID.randomUUID().toString();
+        if (!markInFlight(storeKey, token)) {
+            Optional<IdempotencyRecord> remote = awaitRemoteLeader(storeKey);
+            if (remote.isPresent()) {
+                respondWith(remote.get(), fingerprint, response);
+                return remote.get();
+            }
+            writeInProgress(response);
+            return null;
+        }
+        heldMarkers.put(storeKey, token);
+
+        // 첫 조회와 선점 사이에 앞선 요청이 끝났을 수 있으므로 다시 확인합니다.
+        Optional<IdempotencyRecord> completed = findRecord(storeKey);
+        if (completed.isPresent()) {
+            clearInFlight(storeKey, token);
+            respondWith(completed.get(), fingerprint, response);
+            return completed.get();
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, cachingResponse);
+            // 최종 결과가 아니면 저장하지 않지만, 동시에 대기 중인 중복 요청에는 그대로 전달합니다.
+            IdempotencyRecord record = toRecord(fingerprint, cachingResponse);
+            if (isFinalOutcome(record)) {
+                saveRecord(storeKey, record);
+            }
+            return record;
+        } finally {
+            clearInFlight(storeKey, token);
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 2xx와, 같은 요청을 다시 보내도 결과가 같은 4xx(검증 실패, 404 등)만 최종 결과로 봅니다.
+     */
+    private boolean isFinalOutcome(IdempotencyRecord record) {
+        int status = record.status();
+        if (status >= HttpStatus.INTERNAL_SERVER_ERROR.value() || TRANSIENT_CLIENT_ERROR_STATUSES.contains(status)) {
+            return false;
+        }
+        if (status < HttpStatus.BAD_REQUEST.value()) {
+            return true;
+        }
+        return !RETRYABLE_ERROR_CODES.contains(errorCodeOf(record));
+    }
+
+    private String errorCodeOf(IdempotencyRecord record) {
+        if (record.contentType() == null || !record.contentType().contains("json") || record.body().length == 0) {
+            return null;
+        }
+        try {
+            JsonNode errorCode = objectMapper.readTree(record.body()).get("errorCode");
+            return errorCode != null ? errorCode.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void awaitLocalLeader(CompletableFuture<IdempotencyRecord> leader, String fingerprint,
+                                  HttpServletResponse response) throws IOException {
+        IdempotencyRecord record;
+        try {
+            record = leader.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            record = null;
+        } catch (ExecutionException | TimeoutException e) {
+            record = null;
+        }
+
+        if (record == null) {
+            writeInProgress(response);
+            return;
+        }
+        respondWith(record, fingerprint, response);
+    }
+
+    /**
+     * 다른 노드의 처리 결과가 저장되거나 처리 중 마커가 사라질 때까지 짧은 간격으로 조회합니다.
+     */
+    private Optional<IdempotencyRecord> awaitRemoteLeader(String storeKey) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(REMOTE_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            try {
+                Optional<IdempotencyRecord> record = idempotencyStore.find(storeKey);
+                if (record.isPresent() || !idempotencyStore.isInFlight(storeKey)) {
+                    return record;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Idempotency store polling failed: key={}, error={}", storeKey, e.getMessage());
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void respondWith(IdempotencyRecord record, String fingerprint, HttpServletResponse response)
+            throws IOException {
+        if (!record.fingerprint().equals(fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, ErrorCode.IDEMPOTENCY_KEY_REUSED,
+                ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+            return;
+        }
+        replay(record, response);
+    }
+
+    private void writeInProgress(HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        writeError(response, HttpStatus.CONFLICT, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS,
+            ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS.getMessage());
+    }
+
+    /**
+     * Redis 장애 시에는 선점한 것으로 간주하고 실행합니다(fail-open).
+     */
+    private boolean markInFlight(String storeKey, String token) {
+        try {
+            return idempotencyStore.markInFlight(storeKey, token, inFlightTtl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to mark idempotency key in flight: key={}, error={}", storeKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void clearInFlight(String storeKey, String token) {
+        heldMarkers.remove(storeKey, token);
+        try {
+            idempotencyStore.clearInFlight(storeKey, token);
+        } catch (RuntimeException e) {
+            log.warn("Failed to clear idempotency in-flight marker: key={}, error={}", storeKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 중인 요청의 마커 TTL을 연장하는 워치독. 주기(in-flight-renew-interval)는 in-flight-ttl보다 충분히 짧아야 합니다.
+     * 연장에 실패하면(Redis 장애 등으로 마커가 이미 만료) 다른 노드가 같은 키를 실행할 수 있으므로 경고를 남깁니다.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.in-flight-renew-interval:10000}")
+    public void renewInFlightMarkers() {
+        heldMarkers.forEach((storeKey, token) -> {
+            try {
+                if (!idempotencyStore.renewInFlight(storeKey, token, inFlightTtl)) {
+                    log.warn("Idempotency in-flight marker expired before the request finished: key={}", storeKey);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to renew idempotency in-flight marker: key={}, error={}", storeKey, e.getMessage());
+            }
+        });
+    }
+
+    private Optional<IdempotencyRecord> findRecord(String storeKey) {
+        try {
+            return idempotencyStore.find(storeKey);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency store lookup failed, proceeding without replay: key={}, error={}", storeKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void saveRecord(String storeKey, IdempotencyRecord record) {
+        try {
+            idempotencyStore.save(storeKey, record, ttl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store idempotency record: key={}, error={}", storeKey, e.getMessage());
+        }
+    }
+
+    private IdempotencyRecord toRecord(String fingerprint, ContentCachingResponseWrapper response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!NON_REPLAYABLE_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, response.getHeader(name));
+            }
+        }
+        return new IdempotencyRecord(
+            fingerprint,
+            response.getStatus(),
+            response.getContentType(),
+            headers,
+            response.getContentAsByteArray(),
+            Instant.now()
+        );
+    }
+
+    private void replay(IdempotencyRecord record, HttpServletResponse response) throws IOException {
+        response.setStatus(record.status());
+        if (record.headers() != null) {
+            record.headers().forEach(response::setHeader);
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        response.setContentLength(record.body().length);
+        response.getOutputStream().write(record.body());
+    }
+
+    private String storeKey(String idempotencyKey) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication != null
+            && authentication.isAuthenticated()
+            && !(authentication instanceof AnonymousAuthenticationToken)
+            ? authentication.getName()
+            : "anonymous";
+        return principal + ":" + idempotencyKey;
+    }
+
+    /**
+     * 허용 크기 이내면 본문 전체를, 초과하면 null을 반환합니다 (Content-Length가 없는 chunked 요청 대비).
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        try (InputStream input = request.getInputStream()) {
+            byte[] body = input.readNBytes(maxBodyBytes + 1);
+            return body.length > maxBodyBytes ? null : body;
+        }
+    }
+
+    static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, ErrorCode errorCode, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(errorCode, message));
+    }
+}
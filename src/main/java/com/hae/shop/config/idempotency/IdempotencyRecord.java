@@ -0,0 +1,17 @@
+package com.hae.shop.config.idempotency;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 멱등성 키로 저장되는 처리 결과: 요청 지문과 재전송할 응답(상태, 헤더, 본문).
+ */
+public record IdempotencyRecord(
+    String fingerprint,
+    int status,
+    String contentType,
+    Map<String, String> headers,
+    byte[] body,
+    Instant createdAt
+) {
+}
@@ -0,0 +1,91 @@
+package com.hae.shop.config.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 기반 멱등성 저장소. 레코드는 JSON 문자열로 TTL과 함께 저장됩니다.
+ * 처리 중 마커는 노드 간 중복 실행을 막기 위한 짧은 TTL의 SET NX 키이며,
+ * 처리가 TTL보다 길어지면 선점한 요청이 TTL을 연장합니다(워치독).
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_FLIGHT_PREFIX = "idempotency:in-flight:";
+    private static final String RENEW_SCRIPT = """
+        if redis.call('get', KEYS[1]) == ARGV[1] then
+            return redis.call('pexpire', KEYS[1], ARGV[2])
+        end
+        return 0
+        """;
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    public Optional<IdempotencyRecord> find(String key) {
+        String json = bucket(key).get();
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, IdempotencyRecord.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted idempotency record: " + key, e);
+        }
+    }
+
+    public void save(String key, IdempotencyRecord record, Duration ttl) {
+        try {
+            bucket(key).set(objectMapper.writeValueAsString(record), ttl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize idempotency record: " + key, e);
+        }
+    }
+
+    /**
+     * 처리 중 마커를 선점합니다. 이미 다른 요청이 처리 중이면 false.
+     */
+    public boolean markInFlight(String key, String token, Duration ttl) {
+        return inFlightBucket(key).setIfAbsent(token, ttl);
+    }
+
+    /**
+     * 자신이 선점한 마커의 TTL을 다시 ttl로 연장합니다. 마커가 이미 만료되었거나 다른 요청의 것이면 false.
+     */
+    public boolean renewInFlight(String key, String token, Duration ttl) {
+        Boolean renewed = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RENEW_SCRIPT,
+            RScript.ReturnType.BOOLEAN, List.<Object>of(IN_FLIGHT_PREFIX + key), token, String.valueOf(ttl.toMillis()));
+        return Boolean.TRUE.equals(renewed);
+    }
+
+    public boolean isInFlight(String key) {
+        return inFlightBucket(key).isExists();
+    }
+
+    /**
+     * 자신이 선점한 마커만 지웁니다. TTL 만료 후 다른 요청이 다시 선점한 마커는 건드리지 않습니다.
+     */
+    public void clearInFlight(String key, String token) {
+        inFlightBucket(key).compareAndSet(token, null);
+    }
+
+    private RBucket<String> bucket(String key) {
+        return redissonClient.getBucket(KEY_PREFIX + key, StringCodec.INSTANCE);
+    }
+
+    private RBucket<String> inFlightBucket(String key) {
+        return redissonClient.getBucket(IN_FLIGHT_PREFIX + key, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,17 @@
+package com.hae.shop.config.security;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * 서명이 검증된 토큰 클레임만으로 만든 인증 주체. 요청마다 회원을 조회하지 않습니다.
+ * getName()은 이메일을 돌려주므로 Authentication.getName()을 쓰는 코드(멱등성 키 등)는 그대로 동작합니다.
+ * 리프레시 토큰에서 만든 경우 role은 null입니다.
+ */
+public record AuthenticatedMember(Long memberId, String email, String role, Instant issuedAt) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
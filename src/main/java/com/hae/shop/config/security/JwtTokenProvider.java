@@ -1,22 +1,42 @@
 package com.hae.shop.config.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
-
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * JWT 발급과 검증. 파서는 기동 시 한 번 만들어 재사용하고(스레드 안전),
+ * 검증에 성공한 토큰은 SHA-256 해시를 키로 만료 시각까지 캐시해 같은 토큰의 반복 요청은 HMAC 검증을 건너뜁니다.
+ * 캐시는 서명·만료 검증 결과만 기억하므로 폐기 여부는 호출자가 매번 TokenDenyList로 확인해야 합니다.
+ */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String CLAIM_MEMBER_ID = "memberId";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_TYPE = "type";
+    /** 표준 iat는 초 단위라 같은 초의 로그아웃과 재로그인을 구분하지 못하므로 발급 시각을 밀리초로 따로 담습니다. */
+    private static final String CLAIM_ISSUED_AT_MILLIS = "iatMs";
+    private static final String TYPE_ACCESS = "access";
+    private static final String TYPE_REFRESH = "refresh";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -26,57 +46,109 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    @Value("${jwt.verified-token-cache.max-size:10000}")
+    private long verifiedTokenCacheSize;
+
     private SecretKey secretKey;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+            .verifyWith(secretKey)
+            .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(verifiedTokenCacheSize)
+            .expireAfter(new UntilTokenExpiry())
+            .build();
     }
 
-    public String generateAccessToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateToken(userDetails.getUsername(), accessTokenExpiration);
-    }
-
-    public String generateAccessToken(String email) {
-        return generateToken(email, accessTokenExpiration);
+    /**
+     * 필터가 회원을 조회하지 않고 인증 주체를 만들 수 있도록 회원 ID와 역할을 클레임에 담습니다.
+     */
+    public String generateAccessToken(Long memberId, String email, String role) {
+        return generateToken(email, memberId, TYPE_ACCESS, role, accessTokenExpiration);
     }
 
-    public String generateRefreshToken(String email) {
-        return generateToken(email, refreshTokenExpiration);
+    public String generateRefreshToken(Long memberId, String email) {
+        return generateToken(email, memberId, TYPE_REFRESH, null, refreshTokenExpiration);
     }
 
-    private String generateToken(String subject, long expiration) {
+    private String generateToken(String subject, Long memberId, String type, String role, long expiration) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
             .subject(subject)
+            .claim(CLAIM_MEMBER_ID, memberId)
+            .claim(CLAIM_TYPE, type)
+            .claim(CLAIM_ISSUED_AT_MILLIS, now.getTime())
             .issuedAt(now)
-            .expiration(expiryDate)
-            .signWith(secretKey)
-            .compact();
+            .expiration(expiryDate);
+        if (role != null) {
+            builder.claim(CLAIM_ROLE, role);
+        }
+        return builder.signWith(secretKey).compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-        return claims.getSubject();
+    /**
+     * 서명과 만료를 검증하고 액세스 토큰 클레임을 꺼냅니다. 리프레시 토큰이나 클레임이 빠진 토큰은 거부합니다.
+     */
+    public Optional<AuthenticatedMember> parseAccessToken(String token) {
+        return parse(token, TYPE_ACCESS).filter(member -> member.role() != null);
+    }
+
+    public Optional<AuthenticatedMember> parseRefreshToken(String token) {
+        return parse(token, TYPE_REFRESH);
     }
 
-    public boolean validateToken(String token) {
+    private Optional<AuthenticatedMember> parse(String token, String expectedType) {
+        String key = hash(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(key);
+        if (verified == null) {
+            verified = verify(token);
+            if (verified == null) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(key, verified);
+        }
+        return expectedType.equals(verified.type()) ? Optional.of(verified.member()) : Optional.empty();
+    }
+
+    /**
+     * 서명·만료 검증과 클레임 추출을 한 번의 파싱으로 처리합니다. 필요한 클레임이 없으면 null.
+     */
+    private VerifiedToken verify(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Long memberId = claims.get(CLAIM_MEMBER_ID, Long.class);
+            String type = claims.get(CLAIM_TYPE, String.class);
+            if (memberId == null || type == null || claims.getIssuedAt() == null || claims.getExpiration() == null) {
+                return null;
+            }
+            // 밀리초 클레임이 없는 이전 토큰은 초 단위 iat로 비교 (초의 시작으로 보므로 폐기 판정은 더 엄격해짐)
+            Long issuedAtMillis = claims.get(CLAIM_ISSUED_AT_MILLIS, Long.class);
+            Instant issuedAt = issuedAtMillis != null
+                ? Instant.ofEpochMilli(issuedAtMillis)
+                : claims.getIssuedAt().toInstant();
+            AuthenticatedMember member = new AuthenticatedMember(memberId, claims.getSubject(),
+                claims.get(CLAIM_ROLE, String.class), issuedAt);
+            return new VerifiedToken(member, type, claims.getExpiration().toInstant());
         } catch (JwtException | IllegalArgumentException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            // 만료되거나 위조된 토큰은 클라이언트 입력 문제이므로 ERROR로 남기지 않음
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
@@ -87,4 +159,28 @@ public class JwtTokenProvider {
     public long getRefreshTokenExpiration() {
         return refreshTokenExpiration;
     }
+
+    private record VerifiedToken(AuthenticatedMember member, String type, Instant expiresAt) {
+    }
+
+    /**
+     * 캐시 항목은 토큰의 exp 시각에 사라지므로 만료된 토큰이 캐시로 통과하는 일은 없습니다.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
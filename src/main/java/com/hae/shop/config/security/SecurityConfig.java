@@ -1,8 +1,12 @@
 package com.hae.shop.config.security;
 
+import com.hae.shop.config.idempotency.IdempotencyFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -14,9 +18,15 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 /**
  * Spring Security 설정 - JWT 기반 stateless 인증, RBAC 권한 관리.
+ * 공개 조회 경로는 JWT 필터가 없는 별도 체인에서 처리합니다.
  */
 @Configuration
 @EnableWebSecurity
@@ -26,9 +36,40 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final IdempotencyFilter idempotencyFilter;
     private final MemberUserDetailsService memberUserDetailsService;
 
+    /**
+     * 토큰이 필요 없는 공개 조회 경로. 인증 체인보다 먼저 매칭되어 JWT 파싱, 폐기 확인, 멱등성 처리를 모두 건너뜁니다.
+     * 상품 일괄 등록 조회(/import/**)는 관리자 권한이 필요하므로 제외합니다.
+     */
+    private static final RequestMatcher PUBLIC_READ_ENDPOINTS = new OrRequestMatcher(
+        new AndRequestMatcher(
+            PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, "/api/v1/products/**"),
+            new NegatedRequestMatcher(PathPatternRequestMatcher.withDefaults().matcher("/api/v1/products/import/**"))
+        ),
+        PathPatternRequestMatcher.withDefaults().matcher("/swagger-ui/**"),
+        PathPatternRequestMatcher.withDefaults().matcher("/api-docs/**"),
+        PathPatternRequestMatcher.withDefaults().matcher("/actuator/**")
+    );
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(PUBLIC_READ_ENDPOINTS)
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .requestCache(AbstractHttpConfigurer::disable)
+            .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable) // Stateless API - CSRF 불필요
@@ -46,11 +87,25 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
             )
             .authenticationManager(authenticationManager(http))
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // 인증 주체별로 멱등성 키를 분리하기 위해 JWT 필터 뒤에서 실행
+            .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * JwtAuthenticationFilter는 인증 체인 안에서만 실행되어야 하므로 서블릿 컨테이너 자동 등록을 끕니다.
+     * 그렇지 않으면 공개 체인으로 가는 요청에서도 모든 URL에 대해 토큰을 파싱합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtAuthenticationFilter filter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
         return http.getSharedObject(AuthenticationConfiguration.class)
@@ -0,0 +1,92 @@
+package com.hae.shop.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 단위 토큰 폐기 목록. 회원 ID별로 "이 시각(밀리초) 이전에 발급된 토큰은 무효"라는 기준만 저장하므로
+ * 토큰 수와 무관하게 폐기한 회원 수만큼만 커지고, 항목은 가장 긴 토큰 수명(리프레시 토큰)이 지나면 사라집니다.
+ * <p>
+ * Redis(RMapCache)가 원본이고, 각 노드는 전체 목록을 메모리에 들고 있어 요청마다의 확인은 Redis를 거치지 않습니다.
+ * 폐기는 pub/sub으로 다른 노드에 즉시 전파되며, 놓친 메시지는 주기적인 재동기화로 보정합니다.
+ * 발급 시각은 JwtTokenProvider가 넣는 밀리초 클레임으로 비교하므로, 로그아웃 직후 같은 초에 다시 로그인해 받은 토큰은
+ * 유효하고 폐기 시각보다 먼저 발급된 토큰만 무효가 됩니다.
+ */
+@Slf4j
+@Component
+public class TokenDenyList {
+
+    // 초 단위 기준을 저장하던 이전 키와 섞이지 않도록 밀리초 기준은 별도 키에 둠
+    private static final String MAP_KEY = "auth:revoked-members:ms";
+    private static final String TOPIC = "auth:revoked-members:ms";
+
+    private final RMapCache<String, String> revocations;
+    private final RTopic topic;
+    private final long retentionMillis;
+    private final ConcurrentMap<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public TokenDenyList(RedissonClient redissonClient,
+                         @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+        this.revocations = redissonClient.getMapCache(MAP_KEY, StringCodec.INSTANCE);
+        this.topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+        this.retentionMillis = refreshTokenExpiration;
+        topic.addListener(String.class, (channel, message) -> apply(message));
+    }
+
+    /**
+     * 회원이 지금까지 발급받은 모든 토큰(액세스, 리프레시)을 무효화합니다.
+     */
+    public void revokeAll(Long memberId) {
+        long cutoff = System.currentTimeMillis();
+        revokedBefore.merge(memberId, cutoff, Math::max);
+        revocations.put(memberId.toString(), Long.toString(cutoff), retentionMillis, TimeUnit.MILLISECONDS);
+        topic.publish(memberId + ":" + cutoff);
+    }
+
+    public boolean isRevoked(Long memberId, Instant issuedAt) {
+        Long cutoff = revokedBefore.get(memberId);
+        return cutoff != null && issuedAt.toEpochMilli() < cutoff;
+    }
+
+    /**
+     * 기동 직후 한 번, 이후 주기적으로 Redis 목록을 다시 읽고 기한이 지난 로컬 항목을 지웁니다.
+     * Redis 장애 시에는 마지막으로 알던 목록을 그대로 씁니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.deny-list.resync-interval:60000}")
+    public void resync() {
+        try {
+            for (Map.Entry<String, String> entry : revocations.readAllMap().entrySet()) {
+                revokedBefore.merge(Long.valueOf(entry.getKey()), Long.valueOf(entry.getValue()), Math::max);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to resync token deny-list: {}", e.getMessage());
+        }
+        long expiredBefore = System.currentTimeMillis() - retentionMillis;
+        revokedBefore.values().removeIf(cutoff -> cutoff < expiredBefore);
+    }
+
+    private void apply(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            revokedBefore.merge(Long.valueOf(message.substring(0, separator)),
+                Long.valueOf(message.substring(separator + 1)), Math::max);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token revocation message: {}", message);
+        }
+    }
+}
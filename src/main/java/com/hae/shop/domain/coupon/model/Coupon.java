@@ -29,7 +29,7 @@ public class Coupon {
     }
 
     public BigDecimal calculateDiscount(BigDecimal orderAmount) {
-        if (orderAmount.compareTo(minPurchaseAmount) < 0) {
+        if (minPurchaseAmount != null && orderAmount.compareTo(minPurchaseAmount) < 0) {
             return BigDecimal.ZERO;
         }
 
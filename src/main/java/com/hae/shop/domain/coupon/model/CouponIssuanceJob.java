@@ -0,0 +1,34 @@
+package com.hae.shop.domain.coupon.model;
+
+import com.hae.shop.domain.member.model.Member;
+
+import java.time.Instant;
+
+/**
+ * 회원 세그먼트 대상 쿠폰 일괄 발급 작업.
+ * lastMemberId까지 발급이 끝났다는 체크포인트이므로, 중단된 작업은 그 다음 회원부터 이어서 발급합니다.
+ * 세그먼트 조건이 null이면 해당 조건으로 거르지 않습니다.
+ */
+public record CouponIssuanceJob(
+    Long id,
+    Long couponId,
+    Member.MemberRole targetRole,
+    Instant joinedFrom,
+    Instant joinedBefore,
+    IssuanceStatus status,
+    long lastMemberId,
+    long issuedCount,
+    String failureReason,
+    Instant createdAt,
+    Instant updatedAt
+) {
+    public enum IssuanceStatus {
+        PENDING, RUNNING, PAUSED, COMPLETED, FAILED
+    }
+
+    public static CouponIssuanceJob pending(Long couponId, Member.MemberRole targetRole,
+                                            Instant joinedFrom, Instant joinedBefore) {
+        return new CouponIssuanceJob(null, couponId, targetRole, joinedFrom, joinedBefore,
+            IssuanceStatus.PENDING, 0, 0, null, null, null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.hae.shop.domain.coupon.model;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 금액에 쿠폰을 적용했을 때의 할인 금액 (주문 금액을 넘지 않음).
+ */
+public record CouponRecommendation(
+    Long couponId,
+    String code,
+    String name,
+    Coupon.DiscountType discountType,
+    BigDecimal discountAmount
+) {
+    public static CouponRecommendation of(Coupon coupon, BigDecimal discountAmount) {
+        return new CouponRecommendation(
+            coupon.getId(), coupon.getCode(), coupon.getName(), coupon.getDiscountType(), discountAmount);
+    }
+}
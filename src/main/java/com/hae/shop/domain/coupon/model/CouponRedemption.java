@@ -0,0 +1,15 @@
+package com.hae.shop.domain.coupon.model;
+
+import java.time.Instant;
+
+/**
+ * Redis에서 확정된 쿠폰 사용 1건. DB(coupons, member_coupons)에는 배치로 반영됩니다.
+ * deliveryId는 대기열 항목 식별자로, DB 반영 후 acknowledge할 때 사용합니다.
+ */
+public record CouponRedemption(
+    Long couponId,
+    Long memberId,
+    Instant redeemedAt,
+    String deliveryId
+) {
+}
@@ -0,0 +1,31 @@
+package com.hae.shop.domain.coupon.port.in;
+
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob;
+import com.hae.shop.domain.member.model.Member;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface CouponIssuanceService {
+
+    /**
+     * 세그먼트(역할, 가입 기간)에 속한 회원 전체에게 쿠폰을 발급하는 작업을 등록합니다.
+     * 실제 발급은 issueNextChunk가 청크 단위로 진행합니다.
+     */
+    CouponIssuanceJob startIssuance(Long couponId, Member.MemberRole targetRole,
+                                    Instant joinedFrom, Instant joinedBefore);
+
+    CouponIssuanceJob getIssuance(Long jobId);
+
+    CouponIssuanceJob pauseIssuance(Long jobId);
+
+    /**
+     * 일시 중지되었거나 실패한 작업을 마지막 체크포인트부터 다시 진행하도록 되돌립니다.
+     */
+    CouponIssuanceJob resumeIssuance(Long jobId);
+
+    /**
+     * 진행할 작업이 있으면 다음 회원 최대 chunkSize명에게 발급하고 갱신된 작업을 반환합니다.
+     */
+    Optional<CouponIssuanceJob> issueNextChunk(int chunkSize);
+}
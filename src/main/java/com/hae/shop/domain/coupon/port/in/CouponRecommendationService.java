@@ -0,0 +1,15 @@
+package com.hae.shop.domain.coupon.port.in;
+
+import com.hae.shop.domain.coupon.model.CouponRecommendation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface CouponRecommendationService {
+
+    /**
+     * 지금 사용할 수 있는 쿠폰 중 orderAmount에 대한 할인이 큰 순서로 최대 limit개를 반환합니다.
+     * 할인이 0인 쿠폰(최소 구매 금액 미달 등)과 회원이 이미 사용한 쿠폰은 제외합니다.
+     */
+    List<CouponRecommendation> recommend(Long memberId, BigDecimal orderAmount, int limit);
+}
@@ -3,6 +3,7 @@ package com.hae.shop.domain.coupon.port.in;
 import com.hae.shop.domain.coupon.model.Coupon;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 public interface CouponService {
@@ -11,9 +12,33 @@ public interface CouponService {
 
     Coupon getCoupon(Long id);
 
+    Coupon getCouponByCode(String code);
+
+    /**
+     * 지금 사용할 수 있는 쿠폰 (마감 임박 순). 목록이 바뀌지 않은 동안에는 같은 인스턴스를 반환합니다.
+     */
     List<Coupon> getActiveCoupons();
 
+    /**
+     * 활성 쿠폰 인덱스를 DB 기준으로 다시 적재합니다 (놓친 변경 알림을 메우는 용도).
+     */
+    void reloadActiveCoupons();
+
+    /**
+     * 다른 노드가 알린 쿠폰들을 DB에서 다시 읽어 활성 쿠폰 인덱스에 반영합니다. 없어진 쿠폰은 인덱스에서 뺍니다.
+     */
+    void refreshActiveCoupons(Collection<Long> couponIds);
+
     BigDecimal applyDiscount(Long couponId, BigDecimal orderAmount);
 
+    /**
+     * 선착순으로 쿠폰 1장을 사용합니다. 수량 차감과 회원별 중복 사용 확인은 원자적으로 처리되며,
+     * DB에는 flushRedemptions가 배치로 반영합니다.
+     */
     void useCoupon(Long couponId, Long memberId);
+
+    /**
+     * 대기 중인 쿠폰 사용 내역을 최대 batchSize건 DB에 반영하고, 반영한 건수를 반환합니다.
+     */
+    int flushRedemptions(int batchSize);
 }
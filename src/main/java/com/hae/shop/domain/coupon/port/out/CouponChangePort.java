@@ -0,0 +1,16 @@
+package com.hae.shop.domain.coupon.port.out;
+
+import java.util.Collection;
+
+/**
+ * 쿠폰 변경(생성, 사용 수량 반영)을 다른 노드에 알립니다.
+ * 받는 쪽은 알림의 쿠폰을 DB에서 다시 읽어 활성 쿠폰 인덱스에 반영합니다. 전달은 최대 한 번이므로
+ * 놓친 알림은 주기적인 전체 재적재가 메웁니다.
+ */
+public interface CouponChangePort {
+
+    /**
+     * 커밋된 변경만 알려야 합니다. 받는 노드가 DB에서 바로 읽습니다.
+     */
+    void publishChanged(Collection<Long> couponIds);
+}
@@ -0,0 +1,11 @@
+package com.hae.shop.domain.coupon.port.out;
+
+public interface CouponCodeFilterPort {
+
+    /**
+     * false면 그 코드의 쿠폰은 확실히 없습니다. true는 있을 수도 있다는 뜻이므로 DB에서 확인해야 합니다.
+     */
+    boolean mightExist(String code);
+
+    void add(String code);
+}
@@ -0,0 +1,37 @@
+package com.hae.shop.domain.coupon.port.out;
+
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob;
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob.IssuanceStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface CouponIssuancePort {
+
+    CouponIssuanceJob save(CouponIssuanceJob job);
+
+    Optional<CouponIssuanceJob> findById(Long jobId);
+
+    /**
+     * 가장 먼저 등록된 PENDING 또는 RUNNING 작업 (RUNNING은 노드 장애로 중단된 작업).
+     */
+    Optional<CouponIssuanceJob> findNextRunnable();
+
+    /**
+     * 체크포인트 다음부터 세그먼트에 속하고 아직 이 쿠폰을 받지 않은 회원 ID를 오름차순으로 최대 limit개 반환합니다.
+     */
+    List<Long> findNextMemberIds(CouponIssuanceJob job, int limit);
+
+    /**
+     * 회원들에게 쿠폰을 발급하고 체크포인트를 옮기는 작업을 하나의 트랜잭션으로 실행합니다.
+     * 그 사이 다른 실행이 체크포인트를 옮겼다면 발급을 롤백하고 IllegalStateException을 던집니다.
+     */
+    CouponIssuanceJob issue(CouponIssuanceJob job, List<Long> memberIds, boolean completed);
+
+    /**
+     * 현재 상태가 from 중 하나일 때만 to로 바꾸고, 바뀐 작업을 반환합니다.
+     */
+    Optional<CouponIssuanceJob> updateStatus(Long jobId, Set<IssuanceStatus> from, IssuanceStatus to,
+                                             String failureReason);
+}
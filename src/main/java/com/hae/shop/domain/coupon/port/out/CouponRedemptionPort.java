@@ -0,0 +1,41 @@
+package com.hae.shop.domain.coupon.port.out;
+
+import com.hae.shop.domain.coupon.model.CouponRedemption;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 사용 엔진. 쿠폰별 잔여 수량과 사용한 회원 집합을 한 번의 원자적 연산으로 갱신하며,
+ * 확정된 사용 내역은 같은 연산 안에서 DB 반영 대기열에 쌓입니다.
+ */
+public interface CouponRedemptionPort {
+
+    enum Result {
+        REDEEMED,
+        SOLD_OUT,
+        ALREADY_USED,
+        /** 엔진에 쿠폰 상태가 아직 없음: initialize 후 다시 시도 */
+        NOT_INITIALIZED
+    }
+
+    Result redeem(Long couponId, Long memberId);
+
+    /**
+     * DB 기준 잔여 수량(null이면 무제한)과 이미 사용한 회원으로 쿠폰 상태를 만듭니다.
+     * 이미 만들어져 있으면 아무것도 하지 않습니다 (여러 노드가 동시에 호출해도 안전).
+     */
+    void initialize(Long couponId, Integer remainingQuantity, Collection<Long> usedMemberIds);
+
+    /**
+     * DB 반영 대기열에서 최대 limit건을 꺼냅니다. 꺼낸 건은 acknowledge 전까지 대기열에 보류 상태로 남으며,
+     * 일정 시간 안에 acknowledge되지 않은 건(반영 실패, 노드 장애)은 이후 호출에서 다시 반환됩니다.
+     * 따라서 같은 건이 두 번 이상 반환될 수 있습니다 (at-least-once).
+     */
+    List<CouponRedemption> pollRedemptions(int limit);
+
+    /**
+     * DB 반영이 커밋된 건을 대기열에서 제거합니다.
+     */
+    void acknowledge(List<CouponRedemption> redemptions);
+}
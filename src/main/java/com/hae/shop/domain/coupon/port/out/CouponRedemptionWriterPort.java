@@ -0,0 +1,14 @@
+package com.hae.shop.domain.coupon.port.out;
+
+import com.hae.shop.domain.coupon.model.CouponRedemption;
+
+import java.util.List;
+
+public interface CouponRedemptionWriterPort {
+
+    /**
+     * 쿠폰 사용 내역을 한 트랜잭션으로 반영합니다: 쿠폰별 잔여 수량 일괄 차감과 member_coupons 사용 처리.
+     * 멱등: 이미 반영된 건(같은 회원, 같은 쿠폰)을 다시 넘겨도 잔여 수량을 두 번 차감하지 않습니다.
+     */
+    void writeRedemptions(List<CouponRedemption> redemptions);
+}
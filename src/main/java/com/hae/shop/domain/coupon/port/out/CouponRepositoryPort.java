@@ -2,8 +2,11 @@ package com.hae.shop.domain.coupon.port.out;
 
 import com.hae.shop.domain.coupon.model.Coupon;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface CouponRepositoryPort {
 
@@ -11,9 +14,32 @@ public interface CouponRepositoryPort {
 
     Optional<Coupon> findById(Long id);
 
+    /**
+     * ids 중 존재하는 쿠폰만 반환합니다 (순서 보장 없음).
+     */
+    List<Coupon> findByIds(Collection<Long> ids);
+
     Optional<Coupon> findByCode(String code);
 
-    List<Coupon> findActiveCoupons();
+    /**
+     * 활성 상태이고 아직 만료되지 않은 쿠폰 (시작 전 쿠폰 포함, 마감 임박 순).
+     */
+    List<Coupon> findUnexpiredCoupons();
 
     List<Coupon> findByMemberId(Long memberId);
+
+    /**
+     * 모든 쿠폰 코드를 목록으로 모으지 않고 하나씩 넘겨줍니다.
+     */
+    void forEachCode(Consumer<String> consumer);
+
+    /**
+     * 쿠폰을 이미 사용한 회원 ID 목록 (member_coupons의 USED 행).
+     */
+    List<Long> findUsedMemberIds(Long couponId);
+
+    /**
+     * 회원이 이미 사용한 쿠폰 ID (member_coupons의 USED 행).
+     */
+    Set<Long> findUsedCouponIds(Long memberId);
 }
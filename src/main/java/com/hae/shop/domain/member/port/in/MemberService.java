@@ -6,4 +6,6 @@ public interface MemberService {
     Member register(String email, String password, String nickname);
     Member findByEmail(String email);
     Member findById(Long id);
+    Member changeRole(Long id, Member.MemberRole role);
+    void delete(Long id);
 }
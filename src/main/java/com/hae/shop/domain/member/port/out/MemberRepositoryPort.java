@@ -8,4 +8,9 @@ public interface MemberRepositoryPort {
     Optional<Member> findById(Long id);
     Member save(Member member);
     boolean existsByEmail(String email);
+
+    /**
+     * 주문이나 쿠폰 내역이 남아 있어 지울 수 없으면 MEMBER_IN_USE.
+     */
+    void delete(Member member);
 }
@@ -0,0 +1,10 @@
+package com.hae.shop.domain.order.model;
+
+/**
+ * 체크아웃 요청의 주문 항목 (상품 ID와 수량).
+ */
+public record CheckoutItem(
+    Long productId,
+    int quantity
+) {
+}
@@ -15,12 +15,41 @@ public class Order {
     private BigDecimal paymentAmount;
     private OrderStatus status = OrderStatus.PENDING;
     private String idempotencyKey;
+    private String paymentTransactionId;
+    /** 결제 시도 ID. PAYMENT_IN_PROGRESS로 전이할 때마다 새로 발급되며 PG 멱등성 키로 쓰입니다. */
+    private String paymentAttemptId;
+    /** 결제된 주문을 취소할 때의 PG 취소 진행 상태. 결제 없이 취소된 주문은 null입니다. */
+    private PaymentCancelStatus paymentCancelStatus;
+    /** PG 취소 번호. 취소가 확인된 뒤 기록됩니다. */
+    private String paymentCancelTransactionId;
     private List<OrderItem> items = new ArrayList<>();
+    private Long version;
     private Instant createdAt;
     private Instant updatedAt;
 
     public enum OrderStatus {
-        PENDING, PAID, SHIPPED, DELIVERED, CANCELLED
+        PENDING, PAYMENT_IN_PROGRESS, PAID, SHIPPED, DELIVERED, CANCELLED;
+
+        /**
+         * 주문 상태 전이 규칙: PENDING → PAYMENT_IN_PROGRESS/PAID/CANCELLED, PAYMENT_IN_PROGRESS → PAID/PENDING,
+         * PAID → SHIPPED/CANCELLED, SHIPPED → DELIVERED.
+         */
+        public boolean canTransitionTo(OrderStatus target) {
+            return switch (this) {
+                case PENDING -> target == PAYMENT_IN_PROGRESS || target == PAID || target == CANCELLED;
+                case PAYMENT_IN_PROGRESS -> target == PAID || target == PENDING;
+                case PAID -> target == SHIPPED || target == CANCELLED;
+                case SHIPPED -> target == DELIVERED;
+                case DELIVERED, CANCELLED -> false;
+            };
+        }
+    }
+
+    public enum PaymentCancelStatus {
+        /** 주문은 취소되었고 PG 취소는 재시도 대기 중 */
+        REQUESTED,
+        /** PG 취소 완료 */
+        CANCELLED
     }
 
     public void addItem(OrderItem item) {
@@ -35,7 +64,12 @@ public class Order {
     public BigDecimal getPaymentAmount() { return paymentAmount; }
     public OrderStatus getStatus() { return status; }
     public String getIdempotencyKey() { return idempotencyKey; }
+    public String getPaymentTransactionId() { return paymentTransactionId; }
+    public String getPaymentAttemptId() { return paymentAttemptId; }
+    public PaymentCancelStatus getPaymentCancelStatus() { return paymentCancelStatus; }
+    public String getPaymentCancelTransactionId() { return paymentCancelTransactionId; }
     public List<OrderItem> getItems() { return items; }
+    public Long getVersion() { return version; }
     public Instant getCreatedAt() { return createdAt; }
     public Instant getUpdatedAt() { return updatedAt; }
 
@@ -47,7 +81,12 @@ public class Order {
     public void setPaymentAmount(BigDecimal paymentAmount) { this.paymentAmount = paymentAmount; }
     public void setStatus(OrderStatus status) { this.status = status; }
     public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+    public void setPaymentTransactionId(String paymentTransactionId) { this.paymentTransactionId = paymentTransactionId; }
+    public void setPaymentAttemptId(String paymentAttemptId) { this.paymentAttemptId = paymentAttemptId; }
+    public void setPaymentCancelStatus(PaymentCancelStatus paymentCancelStatus) { this.paymentCancelStatus = paymentCancelStatus; }
+    public void setPaymentCancelTransactionId(String paymentCancelTransactionId) { this.paymentCancelTransactionId = paymentCancelTransactionId; }
     public void setItems(List<OrderItem> items) { this.items = items; }
+    public void setVersion(Long version) { this.version = version; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
     public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
 }
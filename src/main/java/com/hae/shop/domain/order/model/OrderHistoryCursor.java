@@ -0,0 +1,12 @@
+package com.hae.shop.domain.order.model;
+
+import java.time.Instant;
+
+/**
+ * 회원 주문 이력의 keyset 위치. (created_at DESC, id DESC) 정렬에서 이 주문 다음부터 조회합니다.
+ */
+public record OrderHistoryCursor(
+    Instant createdAt,
+    Long id
+) {
+}
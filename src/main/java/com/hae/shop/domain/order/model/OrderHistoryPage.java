@@ -0,0 +1,15 @@
+package com.hae.shop.domain.order.model;
+
+import java.util.List;
+
+/**
+ * 회원 주문 이력 한 페이지. nextCursor가 null이면 마지막 페이지입니다.
+ */
+public record OrderHistoryPage<T>(
+    List<T> orders,
+    OrderHistoryCursor nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
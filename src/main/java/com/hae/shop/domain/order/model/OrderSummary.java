@@ -0,0 +1,19 @@
+package com.hae.shop.domain.order.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 주문 목록용 요약 projection (항목 제외).
+ */
+public record OrderSummary(
+    Long id,
+    String orderNumber,
+    Long memberId,
+    BigDecimal totalAmount,
+    BigDecimal discountAmount,
+    BigDecimal paymentAmount,
+    Order.OrderStatus status,
+    Instant createdAt
+) {
+}
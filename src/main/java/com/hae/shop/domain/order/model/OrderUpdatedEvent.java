@@ -0,0 +1,33 @@
+package com.hae.shop.domain.order.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 주문 내용(항목, 할인, 상태)이 변경되었을 때 발생하는 도메인 이벤트.
+ * 주문 조회 모델 갱신 등에 사용됩니다.
+ */
+public record OrderUpdatedEvent(
+    Long orderId,
+    Long version,
+    String status,
+    BigDecimal totalAmount,
+    BigDecimal discountAmount,
+    BigDecimal paymentAmount,
+    Instant updatedAt
+) {
+    /**
+     * Order entity에서 OrderUpdatedEvent를 생성합니다.
+     */
+    public static OrderUpdatedEvent from(Order order) {
+        return new OrderUpdatedEvent(
+            order.getId(),
+            order.getVersion(),
+            order.getStatus().name(),
+            order.getTotalAmount(),
+            order.getDiscountAmount(),
+            order.getPaymentAmount(),
+            order.getUpdatedAt()
+        );
+    }
+}
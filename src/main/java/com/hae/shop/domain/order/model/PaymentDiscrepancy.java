@@ -0,0 +1,27 @@
+package com.hae.shop.domain.order.model;
+
+import java.time.Instant;
+
+/**
+ * 주문 상태와 PG 승인 내역이 어긋난 건.
+ */
+public record PaymentDiscrepancy(
+    Long orderId,
+    Order.OrderStatus orderStatus,
+    String orderTransactionId,
+    String gatewayTransactionId,
+    Type type,
+    Instant detectedAt
+) {
+
+    public enum Type {
+        /** PAID 주문인데 PG에 승인 내역이 없음 */
+        MISSING_APPROVAL,
+        /** PAID 주문의 승인 번호와 PG 승인 번호가 다름 */
+        TRANSACTION_MISMATCH,
+        /** CANCELLED 주문인데 PG 승인이 취소되지 않았고 취소 요청 기록도 없음 (환불 누락) */
+        UNCANCELLED_APPROVAL,
+        /** CANCELLED 주문의 PG 취소가 아직 재시도 대기 중이라 승인이 남아 있음 */
+        CANCELLATION_PENDING
+    }
+}
@@ -0,0 +1,11 @@
+package com.hae.shop.domain.order.model;
+
+/**
+ * PG 취소에 실패해 재시도를 기다리는 승인 건. attempts는 지금까지 실패한 취소 시도 횟수입니다.
+ */
+public record PendingPaymentCancellation(
+    Long orderId,
+    String transactionId,
+    int attempts
+) {
+}
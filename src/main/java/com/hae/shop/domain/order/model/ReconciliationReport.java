@@ -0,0 +1,15 @@
+package com.hae.shop.domain.order.model;
+
+import java.time.Instant;
+
+/**
+ * 결제 대사 실행 결과. unverified는 PG 조회에 실패해 판단하지 못한 주문 수입니다.
+ */
+public record ReconciliationReport(
+    Instant from,
+    Instant to,
+    long checked,
+    long unverified,
+    long discrepancies
+) {
+}
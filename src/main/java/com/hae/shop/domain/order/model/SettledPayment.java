@@ -0,0 +1,13 @@
+package com.hae.shop.domain.order.model;
+
+/**
+ * 결제 대사 대상 주문 (PAID 또는 CANCELLED). transactionId는 승인 번호를 기록하기 전의 주문이면 null이고,
+ * cancelStatus는 결제된 뒤 취소된 주문의 PG 취소 상태입니다 (결제 없이 취소되었거나 PAID면 null).
+ */
+public record SettledPayment(
+    Long orderId,
+    Order.OrderStatus status,
+    String transactionId,
+    Order.PaymentCancelStatus cancelStatus
+) {
+}
@@ -0,0 +1,15 @@
+package com.hae.shop.domain.order.port.in;
+
+import java.time.Instant;
+
+/**
+ * 결제되지 않고 방치된 PENDING 주문 만료 유스케이스.
+ */
+public interface OrderExpiryService {
+
+    /**
+     * createdBefore 이전에 생성된 PENDING 주문을 최대 batchSize건 취소하고, 취소된 건수를 반환합니다.
+     * 한 번의 호출이 한 트랜잭션이며, 다른 노드가 처리 중인 주문은 건너뜁니다.
+     */
+    int expirePendingOrders(Instant createdBefore, int batchSize);
+}
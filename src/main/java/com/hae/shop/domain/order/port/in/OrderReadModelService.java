@@ -0,0 +1,17 @@
+package com.hae.shop.domain.order.port.in;
+
+import com.hae.shop.domain.order.model.Order;
+
+public interface OrderReadModelService {
+
+    /**
+     * 쓰기 모델의 현재 상태로 주문 조회 모델을 갱신합니다.
+     */
+    void project(Long orderId);
+
+    /**
+     * 조회 모델에서 주문을 읽습니다. minVersion이 주어졌는데 조회 모델이 아직 그 버전에 도달하지 못했으면
+     * 쓰기 모델에서 읽어 read-after-write 일관성을 보장합니다.
+     */
+    Order getOrder(Long orderId, Long minVersion);
+}
@@ -1,13 +1,30 @@
 package com.hae.shop.domain.order.port.in;
 
+import com.hae.shop.domain.coupon.model.CouponRecommendation;
+import com.hae.shop.domain.order.model.CheckoutItem;
 import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.OrderHistoryCursor;
+import com.hae.shop.domain.order.model.OrderHistoryPage;
+import com.hae.shop.domain.order.model.OrderSummary;
+
+import java.time.Instant;
+import java.util.List;
 
 public interface OrderService {
     Order createOrder(Long memberId, String idempotencyKey);
+    Order checkout(Long memberId, List<CheckoutItem> items, Long couponId, String idempotencyKey);
     Order getOrder(Long orderId);
+    OrderHistoryPage<Order> getMemberOrders(Long memberId, OrderHistoryCursor cursor, int size);
+    OrderHistoryPage<OrderSummary> getMemberOrderSummaries(Long memberId, OrderHistoryCursor cursor, int size);
     void completePayment(Long orderId);
     Order addItem(Long orderId, Long productId, int quantity);
     Order applyCoupon(Long orderId, Long couponId);
+
+    /**
+     * 회원의 PENDING 주문에 적용할 수 있는 쿠폰을 할인이 큰 순서로 최대 limit개 반환합니다 (첫 번째가 최선).
+     */
+    List<CouponRecommendation> recommendCoupons(Long orderId, Long memberId, int limit);
     Order payOrder(Long orderId, String paymentToken, String idempotencyKey);
+    int recoverStuckPayments(Instant startedBefore, int limit);
     Order cancelOrder(Long orderId, String reason);
 }
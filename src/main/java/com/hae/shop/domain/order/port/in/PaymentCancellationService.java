@@ -0,0 +1,21 @@
+package com.hae.shop.domain.order.port.in;
+
+import java.util.Optional;
+
+/**
+ * PG 승인 취소 유스케이스. 취소가 거절되거나 실패하면 버리지 않고 대기열에 남겨 다시 시도합니다.
+ * 취소한 승인이 주문에 기록된 승인이면 주문에 PG 취소 완료와 취소 번호를 기록합니다.
+ */
+public interface PaymentCancellationService {
+
+    /**
+     * 승인을 취소하고 PG 취소 번호를 반환합니다. 실패하면(동시 호출 상한 포함) 재시도 대기열에 기록하고
+     * 빈 값을 반환하며 예외를 던지지 않습니다.
+     */
+    Optional<String> cancelOrRetryLater(Long orderId, String transactionId);
+
+    /**
+     * 재시도 시각이 된 취소 실패 건을 최대 limit건 다시 취소하고, 취소에 성공한 건수를 반환합니다.
+     */
+    int retryFailedCancellations(int limit);
+}
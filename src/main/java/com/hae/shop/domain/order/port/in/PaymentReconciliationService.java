@@ -0,0 +1,16 @@
+package com.hae.shop.domain.order.port.in;
+
+import com.hae.shop.domain.order.model.ReconciliationReport;
+
+import java.time.Instant;
+
+/**
+ * 주문 결제 상태와 PG 승인 내역의 대사(reconciliation) 유스케이스.
+ */
+public interface PaymentReconciliationService {
+
+    /**
+     * [from, to) 구간에 PAID 또는 CANCELLED가 된 주문을 PG 승인 내역과 비교하고, 어긋난 건을 기록합니다.
+     */
+    ReconciliationReport reconcile(Instant from, Instant to);
+}
@@ -4,7 +4,10 @@ import java.math.BigDecimal;
 
 public interface PaymentService {
 
-    boolean processPayment(Long orderId, BigDecimal amount);
+    /**
+     * attemptId는 PG 멱등성 키입니다. 같은 시도를 재전송하면 처음 결과를 돌려받으며, 거절 후 재결제는 새 attemptId로 요청합니다.
+     */
+    boolean processPayment(Long orderId, String attemptId, BigDecimal amount);
 
     boolean cancelPayment(String transactionId);
 }
@@ -0,0 +1,21 @@
+package com.hae.shop.domain.order.port.out;
+
+import com.hae.shop.domain.order.model.Order;
+
+import java.util.Optional;
+
+/**
+ * 주문 조회 모델(비정규화 스냅샷) 저장소 포트.
+ */
+public interface OrderReadModelPort {
+
+    /**
+     * 주문 ID 기본키 조회 한 번으로 스냅샷을 반환합니다.
+     */
+    Optional<Order> findById(Long orderId);
+
+    /**
+     * 스냅샷을 저장합니다. 저장된 버전보다 새 버전일 때만 덮어쓰므로 이벤트 순서가 뒤바뀌어도 안전합니다.
+     */
+    void save(Order order);
+}
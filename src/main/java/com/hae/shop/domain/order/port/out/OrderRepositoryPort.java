@@ -1,10 +1,40 @@
 package com.hae.shop.domain.order.port.out;
 
 import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.OrderHistoryCursor;
+import com.hae.shop.domain.order.model.OrderSummary;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepositoryPort {
     Optional<Order> findById(Long id);
     Optional<Order> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * status 상태로 updatedBefore 이전부터 변경이 없는 주문을 오래된 순으로 최대 limit건 조회합니다.
+     */
+    List<Order> findByStatusUpdatedBefore(Order.OrderStatus status, Instant updatedBefore, int limit);
     Order save(Order order);
+
+    /**
+     * order.status로의 상태 전이를 compare-and-set UPDATE 한 문장으로 반영합니다 (idempotencyKey, paymentTransactionId, paymentAttemptId, paymentCancelStatus 포함).
+     * 현재 상태가 expectedStatus이고 version이 order.version과 같을 때만 갱신하며(잠금 없음),
+     * 성공하면 order의 version과 updatedAt을 갱신하고 true, 그사이 다른 쓰기가 있었으면 false를 반환합니다.
+     */
+    boolean transitionStatus(Order order, Order.OrderStatus expectedStatus);
+
+    /**
+     * 주문의 승인 번호가 paymentTransactionId와 같을 때만 PG 취소 완료와 취소 번호를 기록하고, 기록했으면 true를 반환합니다.
+     * 주문에 기록되지 않은 승인(결제 확정 실패 후의 보상 취소)이면 아무것도 바꾸지 않습니다.
+     */
+    boolean recordPaymentCancellation(Long orderId, String paymentTransactionId, String cancelTransactionId);
+
+    /**
+     * 회원 주문을 (createdAt DESC, id DESC) 순으로 after 이후부터 최대 limit건 조회합니다. after가 null이면 처음부터.
+     * 항목은 페이지 전체에 대해 한 번의 쿼리로 함께 조회합니다.
+     */
+    List<Order> findByMemberId(Long memberId, OrderHistoryCursor after, int limit);
+
+    List<OrderSummary> findSummariesByMemberId(Long memberId, OrderHistoryCursor after, int limit);
 }
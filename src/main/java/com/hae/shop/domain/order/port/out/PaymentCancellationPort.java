@@ -0,0 +1,33 @@
+package com.hae.shop.domain.order.port.out;
+
+import com.hae.shop.domain.order.model.PendingPaymentCancellation;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 취소하지 못한 PG 승인 건의 재시도 대기열. 승인 번호(transactionId)당 한 건만 유지합니다.
+ */
+public interface PaymentCancellationPort {
+
+    /**
+     * 취소 실패 건을 nextAttemptAt에 다시 시도하도록 기록합니다. 이미 대기 중인 승인 번호면 기존 건을 유지합니다.
+     */
+    void enqueue(Long orderId, String transactionId, String error, Instant nextAttemptAt);
+
+    /**
+     * 재시도 시각이 now 이전인 건을 오래된 순으로 최대 limit건 선점해 반환합니다.
+     * 선점한 건은 leaseUntil까지 다른 노드에 다시 반환되지 않습니다.
+     */
+    List<PendingPaymentCancellation> claimDue(Instant now, Instant leaseUntil, int limit);
+
+    /**
+     * 취소가 끝난 건을 대기열에서 지웁니다.
+     */
+    void remove(String transactionId);
+
+    /**
+     * 다시 실패한 건의 시도 횟수를 늘리고 nextAttemptAt에 다시 시도하도록 미룹니다.
+     */
+    void reschedule(String transactionId, String error, Instant nextAttemptAt);
+}
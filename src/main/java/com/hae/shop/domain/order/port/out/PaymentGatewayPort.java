@@ -1,20 +1,58 @@
 package com.hae.shop.domain.order.port.out;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface PaymentGatewayPort {
 
+    /**
+     * 결제 승인을 PG 전용 실행기에서 요청하고 future로 결과를 돌려줍니다.
+     * future로 반환하는 이유는 시간 제한 때문입니다: 제한을 넘기면 future는 TimeoutException으로 끝나고
+     * 진행 중인 호출은 취소됩니다. 현재 호출자(주문 결제, PaymentService)는 승인 결과가 있어야 다음 단계로 갈 수 있어
+     * 곧바로 join()하며, 가상 스레드에서 실행되므로 대기 비용은 크지 않습니다.
+     * 동시 호출 상한에 걸리면 PG에 요청하지 않고 BusinessException(PAYMENT_GATEWAY_BUSY)으로 끝납니다.
+     * attemptId는 PG 멱등성 키입니다: 같은 시도의 재전송은 거절을 포함해 처음 결과를 그대로 돌려받고,
+     * 거절 후 다시 결제하려면 새 attemptId로 요청해야 합니다.
+     */
     @CircuitBreaker(name = "paymentGateway")
     @Retry(name = "paymentGateway")
-    PaymentResult processPayment(Long orderId, BigDecimal amount);
+    @TimeLimiter(name = "paymentGateway")
+    @Bulkhead(name = "paymentGateway")
+    CompletableFuture<PaymentResult> processPayment(Long orderId, String attemptId, BigDecimal amount);
 
+    /**
+     * 승인을 취소합니다. 결제 승인이 몰려도 보상 취소가 밀리지 않도록 별도의 벌크헤드(paymentGatewayCancel)를 씁니다.
+     * 그 상한에 걸리면 BusinessException(PAYMENT_GATEWAY_BUSY)을, PG 호출이 실패하면 success=false를 반환하므로
+     * 호출자는 결과를 확인하고 실패한 취소를 다시 시도해야 합니다.
+     */
     @CircuitBreaker(name = "paymentGateway")
     @Retry(name = "paymentGateway")
+    @Bulkhead(name = "paymentGatewayCancel")
     PaymentResult cancelPayment(String transactionId);
 
+    /**
+     * 결제 시도(attemptId)의 승인 여부를 PG에 조회합니다. 승인 내역이 있으면 success와 transactionId를,
+     * 없으면(거절되었거나 도달하지 않음) success=false를 반환합니다. 조회 자체가 실패하면 예외를 던집니다 (결과 미확정).
+     */
+    @CircuitBreaker(name = "paymentGateway")
+    @Retry(name = "paymentGateway")
+    @Bulkhead(name = "paymentGateway")
+    PaymentResult inquirePayment(Long orderId, String attemptId);
+
+    /**
+     * 결제 대사용 일괄 조회. 별도의 속도 제한과 병렬도 상한 안에서 주문별로 조회하며,
+     * 응답이 늦은 조회는 한 번 더 보내(hedging) 먼저 도착한 응답을 사용합니다.
+     * 조회에 실패한 주문은 결과에 포함되지 않습니다.
+     */
+    Map<Long, PaymentResult> inquirePayments(List<Long> orderIds);
+
     record PaymentResult(boolean success, String transactionId, String errorMessage) {
     }
 }
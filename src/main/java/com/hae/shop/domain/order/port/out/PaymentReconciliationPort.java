@@ -0,0 +1,25 @@
+package com.hae.shop.domain.order.port.out;
+
+import com.hae.shop.domain.order.model.PaymentDiscrepancy;
+import com.hae.shop.domain.order.model.SettledPayment;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 결제 대사용 저장소. 주문 처리 경로와 커넥션 풀을 공유하지 않습니다.
+ */
+public interface PaymentReconciliationPort {
+
+    /**
+     * [from, to) 구간에 마지막으로 변경된 PAID/CANCELLED 주문을 커서로 읽어 batchSize건씩 batchConsumer에 넘기고,
+     * 읽은 주문 수를 반환합니다. 전체 결과를 메모리에 올리지 않습니다.
+     */
+    long streamSettledPayments(Instant from, Instant to, int batchSize, Consumer<List<SettledPayment>> batchConsumer);
+
+    /**
+     * 불일치 건을 한 번에 기록하고 기록한 건수를 반환합니다.
+     */
+    int saveDiscrepancies(List<PaymentDiscrepancy> discrepancies);
+}
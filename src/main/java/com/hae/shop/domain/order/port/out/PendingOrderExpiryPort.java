@@ -0,0 +1,15 @@
+package com.hae.shop.domain.order.port.out;
+
+import com.hae.shop.domain.order.model.OrderSummary;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PendingOrderExpiryPort {
+
+    /**
+     * createdBefore 이전의 PENDING 주문을 오래된 순으로 최대 limit건 선점해 CANCELLED로 바꾸고, 취소된 주문을 반환합니다.
+     * 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛰므로 여러 노드가 동시에 호출해도 서로 겹치지 않습니다.
+     */
+    List<OrderSummary> cancelExpired(Instant createdBefore, int limit);
+}
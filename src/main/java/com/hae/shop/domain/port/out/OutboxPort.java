@@ -0,0 +1,29 @@
+package com.hae.shop.domain.port.out;
+
+import com.hae.shop.domain.order.model.OrderCancelledEvent;
+import com.hae.shop.domain.order.model.OrderCreatedEvent;
+import com.hae.shop.domain.order.model.OrderUpdatedEvent;
+import com.hae.shop.domain.order.model.PaymentCompletedEvent;
+
+import java.util.List;
+
+/**
+ * Transactional Outbox 포트: 도메인 이벤트를 비즈니스 변경과 같은 트랜잭션에 기록합니다.
+ */
+public interface OutboxPort {
+
+    void saveOrderCreatedEvent(OrderCreatedEvent event);
+
+    void saveOrderUpdatedEvent(OrderUpdatedEvent event);
+
+    void savePaymentCompletedEvent(PaymentCompletedEvent event);
+
+    void saveOrderCancelledEvent(OrderCancelledEvent event);
+
+    /**
+     * 만료 배치처럼 여러 주문이 한꺼번에 취소된 경우 이벤트를 배치 INSERT로 기록합니다.
+     */
+    void saveOrderCancelledEvents(List<OrderCancelledEvent> events);
+
+    void saveEvent(String aggregateType, String aggregateId, String eventType, String payload);
+}
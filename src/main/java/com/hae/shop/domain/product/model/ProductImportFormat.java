@@ -0,0 +1,8 @@
+package com.hae.shop.domain.product.model;
+
+/**
+ * 상품 일괄 등록 입력 포맷.
+ */
+public enum ProductImportFormat {
+    CSV, NDJSON
+}
@@ -0,0 +1,23 @@
+package com.hae.shop.domain.product.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 작업의 진행 상황 스냅샷.
+ */
+public record ProductImportProgress(
+    String jobId,
+    ImportStatus status,
+    long processedRows,
+    long importedRows,
+    long rejectedRows,
+    List<String> errors,
+    String failureReason,
+    Instant startedAt,
+    Instant finishedAt
+) {
+    public enum ImportStatus {
+        RUNNING, COMPLETED, FAILED
+    }
+}
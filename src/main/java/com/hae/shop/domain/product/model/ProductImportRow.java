@@ -0,0 +1,26 @@
+package com.hae.shop.domain.product.model;
+
+/**
+ * 상품 일괄 등록 입력의 한 행.
+ * 값은 파싱 전 원문 그대로 보관하며, 검증은 애플리케이션 계층에서 수행합니다.
+ */
+public record ProductImportRow(
+    long lineNumber,
+    String name,
+    String description,
+    String price,
+    String stockQuantity,
+    String category,
+    String parseError
+) {
+    /**
+     * 포맷 자체가 잘못되어 필드를 읽을 수 없는 행을 생성합니다.
+     */
+    public static ProductImportRow malformed(long lineNumber, String parseError) {
+        return new ProductImportRow(lineNumber, null, null, null, null, null, parseError);
+    }
+
+    public boolean isMalformed() {
+        return parseError != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.hae.shop.domain.product.port.in;
+
+import com.hae.shop.domain.product.model.ProductImportFormat;
+import com.hae.shop.domain.product.model.ProductImportProgress;
+
+import java.io.InputStream;
+
+public interface ProductImportService {
+
+    /**
+     * CSV/NDJSON 스트림을 읽어 상품을 청크 단위로 일괄 등록합니다.
+     * 잘못된 행은 건너뛰고 오류 목록에 기록하며, 상품/카테고리 캐시는 작업 종료 시 한 번만 무효화합니다.
+     */
+    ProductImportProgress importProducts(String jobId, InputStream inputStream, ProductImportFormat format);
+
+    ProductImportProgress getImportProgress(String jobId);
+}
@@ -7,5 +7,6 @@ public interface ProductService {
     Product createProduct(String name, String description, java.math.BigDecimal price, int stockQuantity, String category);
     Product getProduct(Long id);
     List<Product> getProducts(String category);
+    List<Product> getProductsByIds(List<Long> ids);
     void decrementStock(Long productId, int quantity);
 }
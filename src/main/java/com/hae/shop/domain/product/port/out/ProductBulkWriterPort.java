@@ -0,0 +1,13 @@
+package com.hae.shop.domain.product.port.out;
+
+import com.hae.shop.domain.product.model.Product;
+
+import java.util.List;
+
+public interface ProductBulkWriterPort {
+
+    /**
+     * 상품 목록을 하나의 트랜잭션으로 일괄 저장하고 저장된 행 수를 반환합니다.
+     */
+    long insertAll(List<Product> products);
+}
@@ -0,0 +1,15 @@
+package com.hae.shop.domain.product.port.out;
+
+import com.hae.shop.domain.product.model.ProductImportFormat;
+import com.hae.shop.domain.product.model.ProductImportRow;
+
+import java.io.InputStream;
+import java.util.stream.Stream;
+
+public interface ProductImportReaderPort {
+
+    /**
+     * 입력 스트림을 한 행씩 지연 파싱합니다. 반환된 Stream은 호출자가 닫아야 합니다.
+     */
+    Stream<ProductImportRow> read(InputStream inputStream, ProductImportFormat format);
+}
@@ -8,4 +8,5 @@ public interface ProductRepositoryPort {
     Product save(Product product);
     java.util.List<Product> findByCategory(String category);
     java.util.List<Product> findAll();
+    java.util.List<Product> findAllById(java.util.Collection<Long> ids);
 }
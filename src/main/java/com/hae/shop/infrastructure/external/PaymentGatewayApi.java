@@ -0,0 +1,30 @@
+package com.hae.shop.infrastructure.external;
+
+import java.math.BigDecimal;
+
+/**
+ * 외부 PG HTTP API 계약. 게이트웨이 클라이언트와 로컬 스텁 서버가 함께 사용합니다.
+ * <ul>
+ *   <li>POST /v1/payments: 승인 요청. 200 승인, 402 거절. Idempotency-Key(결제 시도 ID)가 같은 재요청은 첫 결과(거절 포함)를 재전송</li>
+ *   <li>GET /v1/payments?orderId=[&amp;idempotencyKey=]: 주문(또는 그 결제 시도)의 승인 내역 조회. 200 승인 내역, 404 없음</li>
+ *   <li>POST /v1/payments/{transactionId}/cancel: 승인 취소. 200 취소, 404 없음</li>
+ * </ul>
+ */
+public final class PaymentGatewayApi {
+
+    public static final String PAYMENTS_PATH = "/v1/payments";
+    public static final String CANCEL_SUFFIX = "/cancel";
+    public static final String ORDER_ID_PARAM = "orderId";
+    public static final String IDEMPOTENCY_KEY_PARAM = "idempotencyKey";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String JSON = "application/json";
+
+    public record PaymentRequest(Long orderId, BigDecimal amount) {
+    }
+
+    public record PaymentResponse(boolean approved, String transactionId, String message) {
+    }
+
+    private PaymentGatewayApi() {
+    }
+}
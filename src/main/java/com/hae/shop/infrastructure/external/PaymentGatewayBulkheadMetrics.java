@@ -0,0 +1,36 @@
+package com.hae.shop.infrastructure.external;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * paymentGateway 벌크헤드 지표.
+ * <ul>
+ *   <li>payment.gateway.bulkhead.in.flight: 현재 진행 중인 PG 호출 수 (포화도)</li>
+ *   <li>payment.gateway.bulkhead.rejected: 상한에 걸려 즉시 거절된 호출 수</li>
+ * </ul>
+ * 상한값과 남은 허용량은 resilience4j.bulkhead.* 지표로도 노출됩니다.
+ */
+@Component
+public class PaymentGatewayBulkheadMetrics {
+
+    static final String BULKHEAD_NAME = "paymentGateway";
+
+    public PaymentGatewayBulkheadMetrics(BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(BULKHEAD_NAME);
+
+        Gauge.builder("payment.gateway.bulkhead.in.flight", bulkhead,
+                b -> b.getMetrics().getMaxAllowedConcurrentCalls() - b.getMetrics().getAvailableConcurrentCalls())
+            .description("In-flight payment gateway calls")
+            .register(meterRegistry);
+
+        Counter rejected = Counter.builder("payment.gateway.bulkhead.rejected")
+            .description("Payment gateway calls rejected because the bulkhead was full")
+            .register(meterRegistry);
+        bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+    }
+}
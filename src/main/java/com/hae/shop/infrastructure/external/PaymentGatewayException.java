@@ -0,0 +1,16 @@
+package com.hae.shop.infrastructure.external;
+
+/**
+ * PG 호출이 승인/거절 응답 없이 실패한 경우 (5xx, 연결 실패, 동시 호출 한도 초과 등).
+ * Retry와 CircuitBreaker는 이 예외를 실패로 집계합니다.
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,54 +1,304 @@
 package com.hae.shop.infrastructure.external;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.config.PaymentGatewayConfig;
 import com.hae.shop.domain.order.port.out.PaymentGatewayPort;
+import com.hae.shop.infrastructure.external.PaymentGatewayApi.PaymentRequest;
+import com.hae.shop.infrastructure.external.PaymentGatewayApi.PaymentResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * JDK HttpClient 기반 PG 클라이언트.
+ * <ul>
+ *   <li>HttpClient 하나를 공유해 커넥션을 재사용하며, HTTPS PG와는 ALPN으로 HTTP/2를 협상합니다
+ *       (h2c를 지원하지 않는 서버와는 HTTP/1.1 keep-alive로 동작)</li>
+ *   <li>동시 호출 수는 paymentGateway 벌크헤드로 제한하며, 포화되면 대기 없이 PAYMENT_GATEWAY_BUSY로 거절해
+ *       PG 장애 시 호출이 쌓여 나머지 API까지 느려지지 않게 합니다</li>
+ *   <li>요청 본문은 Jackson이 만든 byte[]를 그대로 보내고, 응답은 InputStream에서 바로 역직렬화해
+ *       중간 String 복사를 만들지 않습니다</li>
+ * </ul>
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PaymentGatewayImpl implements PaymentGatewayPort {
 
-    private final RestTemplate restTemplate;
+    private static final int APPROVED = 200;
+    private static final int DECLINED = 402;
+    private static final int NOT_FOUND = 404;
+    private static final String RECONCILIATION_RATE_LIMITER = "paymentReconciliation";
+
+    private final ObjectMapper objectMapper;
+    private final ExecutorService paymentGatewayExecutor;
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final RateLimiter reconciliationRateLimiter;
+    private final Semaphore reconciliationPermits;
+    private final Duration hedgeAfter;
+
+    public PaymentGatewayImpl(ObjectMapper objectMapper,
+                              @Qualifier(PaymentGatewayConfig.PAYMENT_GATEWAY_EXECUTOR) ExecutorService paymentGatewayExecutor,
+                              @Value("${payment.gateway.base-url:http://localhost:18080}") URI baseUri,
+                              @Value("${payment.gateway.connect-timeout:2s}") Duration connectTimeout,
+                              @Value("${payment.gateway.request-timeout:5s}") Duration requestTimeout,
+                              RateLimiterRegistry rateLimiterRegistry,
+                              @Value("${payment.reconciliation.parallelism:8}") int reconciliationParallelism,
+                              @Value("${payment.reconciliation.hedge-after:300ms}") Duration hedgeAfter) {
+        this.objectMapper = objectMapper;
+        this.paymentGatewayExecutor = paymentGatewayExecutor;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .executor(paymentGatewayExecutor)
+            .build();
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+        this.reconciliationRateLimiter = rateLimiterRegistry.rateLimiter(RECONCILIATION_RATE_LIMITER);
+        this.reconciliationPermits = new Semaphore(reconciliationParallelism);
+        this.hedgeAfter = hedgeAfter;
+    }
 
     @Override
     @CircuitBreaker(name = "paymentGateway", fallbackMethod = "fallbackProcessPayment")
     @Retry(name = "paymentGateway")
     @TimeLimiter(name = "paymentGateway")
-    public PaymentResult processPayment(Long orderId, BigDecimal amount) {
-        log.info("Processing payment for orderId={}, amount={}", orderId, amount);
-        
-        // Mock implementation - in production, call external PG API
-        // Example: restTemplate.postForObject(pgUrl, request, PaymentResponse.class);
-        
-        String transactionId = "TXN-" + System.currentTimeMillis();
-        log.info("Payment successful: orderId={}, transactionId={}", orderId, transactionId);
-        
-        return new PaymentResult(true, transactionId, null);
+    @Bulkhead(name = "paymentGateway")
+    public CompletableFuture<PaymentResult> processPayment(Long orderId, String attemptId, BigDecimal amount) {
+        return supplyInterruptibly(() -> {
+            log.info("Processing payment for orderId={}, attemptId={}, amount={}", orderId, attemptId, amount);
+            byte[] body = objectMapper.writeValueAsBytes(new PaymentRequest(orderId, amount));
+            HttpRequest request = request(PaymentGatewayApi.PAYMENTS_PATH)
+                // PG 측 멱등성 키: 같은 시도의 재시도는 이중 승인되지 않고, 거절 후의 새 시도는 새로 심사됩니다.
+                .header(PaymentGatewayApi.IDEMPOTENCY_KEY_HEADER, attemptId)
+                .header("Content-Type", PaymentGatewayApi.JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+            PaymentResult result = exchange(request, DECLINED);
+            if (result.success()) {
+                log.info("Payment successful: orderId={}, transactionId={}", orderId, result.transactionId());
+            } else {
+                log.info("Payment declined: orderId={}, reason={}", orderId, result.errorMessage());
+            }
+            return result;
+        });
     }
 
     @Override
     @CircuitBreaker(name = "paymentGateway", fallbackMethod = "fallbackCancelPayment")
     @Retry(name = "paymentGateway")
+    @Bulkhead(name = "paymentGatewayCancel")
     public PaymentResult cancelPayment(String transactionId) {
         log.info("Cancelling payment: transactionId={}", transactionId);
-        
-        // Mock implementation
-        String newTransactionId = "TXN-CANCEL-" + System.currentTimeMillis();
-        
-        return new PaymentResult(true, newTransactionId, null);
+        HttpRequest request = request(PaymentGatewayApi.PAYMENTS_PATH + "/"
+                + URLEncoder.encode(transactionId, StandardCharsets.UTF_8) + PaymentGatewayApi.CANCEL_SUFFIX)
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+        return call(() -> exchange(request, NOT_FOUND));
+    }
+
+    /**
+     * 결제 복구용 조회. 실패 시 결과를 단정할 수 없으므로 fallback 없이 예외를 그대로 전달합니다.
+     */
+    @Override
+    @CircuitBreaker(name = "paymentGateway")
+    @Retry(name = "paymentGateway")
+    @Bulkhead(name = "paymentGateway")
+    public PaymentResult inquirePayment(Long orderId, String attemptId) {
+        log.info("Inquiring payment for orderId={}, attemptId={}", orderId, attemptId);
+        HttpRequest request = request(PaymentGatewayApi.PAYMENTS_PATH + "?" + PaymentGatewayApi.ORDER_ID_PARAM + "=" + orderId
+                + "&" + PaymentGatewayApi.IDEMPOTENCY_KEY_PARAM + "=" + URLEncoder.encode(attemptId, StandardCharsets.UTF_8))
+            .GET()
+            .build();
+        return call(() -> exchange(request, NOT_FOUND));
+    }
+
+    /**
+     * 주문 처리용 벌크헤드와 별개로, reconciliation.parallelism개까지 동시에 paymentReconciliation 속도 제한 안에서 조회합니다.
+     */
+    @Override
+    public Map<Long, PaymentResult> inquirePayments(List<Long> orderIds) {
+        Map<Long, PaymentResult> results = new ConcurrentHashMap<>();
+        List<Callable<Void>> tasks = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            tasks.add(() -> {
+                reconciliationPermits.acquire();
+                try {
+                    results.put(orderId, inquireHedged(orderId));
+                } catch (Exception e) {
+                    log.debug("Reconciliation inquiry failed for orderId={}: {}", orderId, e.getMessage());
+                } finally {
+                    reconciliationPermits.release();
+                }
+                return null;
+            });
+        }
+        try {
+            paymentGatewayExecutor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return results;
+    }
+
+    /**
+     * hedgeAfter 안에 응답이 없으면 같은 조회(GET, 멱등)를 한 번 더 보내고 먼저 성공한 응답을 사용해 꼬리 지연을 줄입니다.
+     */
+    private PaymentResult inquireHedged(Long orderId) throws Exception {
+        HttpRequest request = inquiryRequest(orderId);
+        Callable<PaymentResult> attempt = () -> {
+            if (!reconciliationRateLimiter.acquirePermission()) {
+                throw new PaymentGatewayException("Reconciliation rate limit exceeded");
+            }
+            return exchange(request, NOT_FOUND);
+        };
+
+        CompletionService<PaymentResult> race = new ExecutorCompletionService<>(paymentGatewayExecutor);
+        List<Future<PaymentResult>> attempts = new ArrayList<>(2);
+        attempts.add(race.submit(attempt));
+        try {
+            Future<PaymentResult> first = race.poll(hedgeAfter.toMillis(), TimeUnit.MILLISECONDS);
+            if (first == null) {
+                attempts.add(race.submit(attempt));
+                first = race.take();
+            }
+            try {
+                return first.get();
+            } catch (ExecutionException e) {
+                if (attempts.size() == 1) {
+                    throw e;
+                }
+                return race.take().get();
+            }
+        } finally {
+            attempts.forEach(running -> running.cancel(true));
+        }
     }
 
-    private PaymentResult fallbackProcessPayment(Long orderId, BigDecimal amount, Exception e) {
+    private HttpRequest inquiryRequest(Long orderId) {
+        return request(PaymentGatewayApi.PAYMENTS_PATH + "?" + PaymentGatewayApi.ORDER_ID_PARAM + "=" + orderId)
+            .GET()
+            .build();
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery) {
+        return HttpRequest.newBuilder(baseUri.resolve(pathAndQuery))
+            .timeout(requestTimeout)
+            .header("Accept", PaymentGatewayApi.JSON);
+    }
+
+    /**
+     * 200은 승인(또는 취소/조회 성공), negativeStatus는 확정된 부정 응답(거절/내역 없음)으로 해석하고,
+     * 그 밖의 상태 코드는 결과 미확정으로 보고 예외를 던집니다.
+     */
+    private PaymentResult exchange(HttpRequest request, int negativeStatus) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            int status = response.statusCode();
+            if (status == APPROVED || status == negativeStatus) {
+                PaymentResponse payload = objectMapper.readValue(body, PaymentResponse.class);
+                return status == APPROVED
+                    ? new PaymentResult(true, payload.transactionId(), null)
+                    : new PaymentResult(false, null, payload.message());
+            }
+            throw new PaymentGatewayException("Unexpected payment gateway status " + status
+                + " for " + request.method() + " " + request.uri().getPath());
+        }
+    }
+
+    /**
+     * 동기 메서드용: 호출 스레드에서 바로 실행하고 검사 예외를 PaymentGatewayException으로 바꿉니다.
+     */
+    private PaymentResult call(Callable<PaymentResult> call) {
+        try {
+            return call.call();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException("Interrupted while calling payment gateway", e);
+        } catch (PaymentGatewayException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new PaymentGatewayException("Payment gateway call failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전용 가상 스레드에서 호출을 실행합니다. CompletableFuture.cancel은 실행 중인 스레드를 멈추지 않으므로,
+     * TimeLimiter가 future를 취소하면 작업 스레드를 직접 인터럽트해 블로킹 I/O를 끊습니다.
+     */
+    private CompletableFuture<PaymentResult> supplyInterruptibly(Callable<PaymentResult> call) {
+        CompletableFuture<PaymentResult> result = new CompletableFuture<>();
+        Future<?> running = paymentGatewayExecutor.submit(() -> {
+            try {
+                result.complete(call(call));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                running.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<PaymentResult> fallbackProcessPayment(Long orderId, String attemptId, BigDecimal amount,
+                                                                    Exception e) {
         log.error("Payment failed for orderId={}: {}", orderId, e.getMessage());
-        return new PaymentResult(false, null, "Payment service unavailable: " + e.getMessage());
+        return CompletableFuture.completedFuture(
+            new PaymentResult(false, null, "Payment service unavailable: " + e.getMessage()));
+    }
+
+    /**
+     * 벌크헤드 포화로 PG에 요청을 보내지 않은 경우. 결과가 확정(미승인)이므로 거절 결과 대신 BUSY로 알려
+     * 호출자가 주문을 결제 전 상태로 되돌리고 바로 503을 응답할 수 있게 합니다.
+     */
+    private CompletableFuture<PaymentResult> fallbackProcessPayment(Long orderId, String attemptId, BigDecimal amount,
+                                                                    BulkheadFullException e) {
+        log.warn("Payment rejected by bulkhead for orderId={}", orderId);
+        return CompletableFuture.failedFuture(new BusinessException(ErrorCode.PAYMENT_GATEWAY_BUSY));
+    }
+
+    private PaymentResult fallbackCancelPayment(String transactionId, BulkheadFullException e) {
+        log.warn("Payment cancellation rejected by bulkhead for transactionId={}", transactionId);
+        throw new BusinessException(ErrorCode.PAYMENT_GATEWAY_BUSY);
     }
 
     private PaymentResult fallbackCancelPayment(String transactionId, Exception e) {
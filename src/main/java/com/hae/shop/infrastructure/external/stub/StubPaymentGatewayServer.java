@@ -0,0 +1,280 @@
+package com.hae.shop.infrastructure.external.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hae.shop.infrastructure.external.PaymentGatewayApi;
+import com.hae.shop.infrastructure.external.PaymentGatewayApi.PaymentRequest;
+import com.hae.shop.infrastructure.external.PaymentGatewayApi.PaymentResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 부하 테스트용 인프로세스 PG 스텁 서버 (PaymentGatewayApi 계약 구현).
+ * 네트워크 없이 노트북에서 결제 처리량을 측정할 수 있도록 루프백 주소에만 바인딩하며,
+ * 응답 지연과 실패/거절/무응답 비율을 설정으로 조절합니다. 승인 내역은 메모리에만 보관합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "payment.gateway.stub", name = "enabled", havingValue = "true")
+public class StubPaymentGatewayServer implements SmartLifecycle {
+
+    private static final int BACKLOG = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final Duration latency;
+    private final Duration latencyJitter;
+    private final double failureRate;
+    private volatile double declineRate;
+    private final double timeoutRate;
+
+    /** Idempotency-Key → 첫 응답. 같은 결제 시도의 재요청에는 승인이든 거절이든 처음 결과를 그대로 돌려줍니다. */
+    private final Map<String, Outcome> attempts = new ConcurrentHashMap<>();
+    /** orderId → 승인된(취소되지 않은) transactionId. */
+    private final Map<Long, String> approvals = new ConcurrentHashMap<>();
+    private final Map<String, Long> transactions = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StubPaymentGatewayServer(ObjectMapper objectMapper,
+                                    @Value("${payment.gateway.stub.port:18080}") int port,
+                                    @Value("${payment.gateway.stub.latency:50ms}") Duration latency,
+                                    @Value("${payment.gateway.stub.latency-jitter:0ms}") Duration latencyJitter,
+                                    @Value("${payment.gateway.stub.failure-rate:0}") double failureRate,
+                                    @Value("${payment.gateway.stub.decline-rate:0}") double declineRate,
+                                    @Value("${payment.gateway.stub.timeout-rate:0}") double timeoutRate) {
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.latency = latency;
+        this.latencyJitter = latencyJitter;
+        this.failureRate = failureRate;
+        this.declineRate = declineRate;
+        this.timeoutRate = timeoutRate;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start stub payment gateway on port " + port, e);
+        }
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("stub-pg-", 0).factory());
+        server.setExecutor(executor);
+        server.createContext(PaymentGatewayApi.PAYMENTS_PATH, this::handle);
+        server.start();
+        log.info("Stub payment gateway listening on port {} (latency={}, jitter={}, failureRate={}, declineRate={}, timeoutRate={})",
+            getPort(), latency, latencyJitter, failureRate, declineRate, timeoutRate);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.close();
+        server = null;
+        executor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * 실행 중에 거절 비율을 바꿉니다 (이미 처리된 결제 시도의 결과는 바뀌지 않음).
+     */
+    public void setDeclineRate(double declineRate) {
+        this.declineRate = declineRate;
+    }
+
+    /**
+     * 실제 바인딩된 포트 (설정 포트가 0이면 OS가 할당한 포트).
+     */
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!simulateLatency()) {
+                return;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < timeoutRate) {
+                // 응답하지 않고 클라이언트 타임아웃까지 붙잡아 둡니다.
+                Thread.sleep(Long.MAX_VALUE);
+            }
+            if (random.nextDouble() < failureRate) {
+                respond(exchange, 503, new PaymentResponse(false, null, "stub failure"));
+                return;
+            }
+
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals(PaymentGatewayApi.PAYMENTS_PATH)) {
+                switch (method) {
+                    case "POST" -> approve(exchange);
+                    case "GET" -> inquire(exchange);
+                    default -> respond(exchange, 405, new PaymentResponse(false, null, "method not allowed"));
+                }
+            } else if ("POST".equals(method) && path.endsWith(PaymentGatewayApi.CANCEL_SUFFIX)) {
+                String transactionId = path.substring(PaymentGatewayApi.PAYMENTS_PATH.length() + 1,
+                    path.length() - PaymentGatewayApi.CANCEL_SUFFIX.length());
+                cancel(exchange, transactionId);
+            } else {
+                respond(exchange, 404, new PaymentResponse(false, null, "not found"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void approve(HttpExchange exchange) throws IOException {
+        PaymentRequest request = objectMapper.readValue(exchange.getRequestBody(), PaymentRequest.class);
+        if (request.orderId() == null || request.amount() == null || request.amount().signum() < 0) {
+            respond(exchange, 400, new PaymentResponse(false, null, "invalid request"));
+            return;
+        }
+        String idempotencyKey = exchange.getRequestHeaders().getFirst(PaymentGatewayApi.IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            respond(exchange, 400, new PaymentResponse(false, null, "missing idempotency key"));
+            return;
+        }
+        Outcome outcome = attempts.computeIfAbsent(idempotencyKey, key -> decide(request.orderId()));
+        respond(exchange, outcome.status(), outcome.response());
+    }
+
+    /**
+     * 새 결제 시도의 결과를 정합니다. 주문에 이미 승인된 결제가 있으면 그 승인 번호를 돌려줍니다 (이중 승인 방지).
+     */
+    private Outcome decide(Long orderId) {
+        String existing = approvals.get(orderId);
+        if (existing == null && ThreadLocalRandom.current().nextDouble() < declineRate) {
+            return new Outcome(402, new PaymentResponse(false, null, "declined by stub"));
+        }
+        String transactionId = approvals.computeIfAbsent(orderId, id -> {
+            String newId = "STUB-" + UUID.randomUUID();
+            transactions.put(newId, id);
+            return newId;
+        });
+        return new Outcome(200, new PaymentResponse(true, transactionId, null));
+    }
+
+    private void inquire(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        Long orderId = orderIdParam(query);
+        String idempotencyKey = queryParam(query, PaymentGatewayApi.IDEMPOTENCY_KEY_PARAM);
+        String transactionId;
+        if (idempotencyKey != null) {
+            // 시도 단위 조회: 그 시도가 승인되었고 아직 취소되지 않았을 때만 승인 내역으로 봅니다.
+            Outcome outcome = attempts.get(idempotencyKey);
+            transactionId = outcome != null && outcome.response().approved()
+                && transactions.containsKey(outcome.response().transactionId())
+                ? outcome.response().transactionId()
+                : null;
+        } else {
+            transactionId = orderId != null ? approvals.get(orderId) : null;
+        }
+        if (transactionId == null) {
+            respond(exchange, 404, new PaymentResponse(false, null, "no approved payment"));
+            return;
+        }
+        respond(exchange, 200, new PaymentResponse(true, transactionId, null));
+    }
+
+    private void cancel(HttpExchange exchange, String transactionId) throws IOException {
+        Long orderId = transactions.remove(transactionId);
+        if (orderId == null) {
+            respond(exchange, 404, new PaymentResponse(false, null, "unknown transaction"));
+            return;
+        }
+        approvals.remove(orderId, transactionId);
+        respond(exchange, 200, new PaymentResponse(true, "CANCEL-" + transactionId, null));
+    }
+
+    private static Long orderIdParam(String query) {
+        String value = queryParam(query, PaymentGatewayApi.ORDER_ID_PARAM);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String queryParam(String query, String name) {
+        if (query == null) {
+            return null;
+        }
+        String prefix = name + "=";
+        for (String param : query.split("&")) {
+            if (param.startsWith(prefix)) {
+                return URLDecoder.decode(param.substring(prefix.length()), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return 인터럽트(서버 종료) 없이 지연을 마쳤으면 true
+     */
+    private boolean simulateLatency() {
+        long millis = latency.toMillis();
+        long jitter = latencyJitter.toMillis();
+        if (jitter > 0) {
+            millis += ThreadLocalRandom.current().nextLong(jitter + 1);
+        }
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, PaymentResponse body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", PaymentGatewayApi.JSON);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private record Outcome(int status, PaymentResponse response) {
+    }
+}
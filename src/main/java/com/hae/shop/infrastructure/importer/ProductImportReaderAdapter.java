@@ -0,0 +1,221 @@
+package com.hae.shop.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hae.shop.domain.product.model.ProductImportFormat;
+import com.hae.shop.domain.product.model.ProductImportRow;
+import com.hae.shop.domain.product.port.out.ProductImportReaderPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * ProductImportReaderPort 구현: CSV/NDJSON 입력을 한 줄씩 스트리밍 파싱합니다.
+ * 전체 입력을 메모리에 올리지 않으므로 수십만 행도 일정한 메모리로 처리됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductImportReaderAdapter implements ProductImportReaderPort {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Stream<ProductImportRow> read(InputStream inputStream, ProductImportFormat format) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        Function<String, ProductImportRow> parser = switch (format) {
+            case CSV -> new CsvRowParser();
+            case NDJSON -> new NdjsonRowParser();
+        };
+        return StreamSupport.stream(new LineSpliterator(reader), false)
+            .map(parser)
+            .filter(Objects::nonNull)
+            .onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close product import reader: {}", e.getMessage());
+                }
+            });
+    }
+
+    /**
+     * BufferedReader.lines()와 같지만, 입력 스트림 오류(연결 끊김 등)를 로그로 남긴 뒤 던집니다.
+     * 일괄 등록 작업은 원인 없이 일반 메시지만 보고하므로 원인은 여기서 남깁니다.
+     */
+    private static final class LineSpliterator extends Spliterators.AbstractSpliterator<String> {
+
+        private final BufferedReader reader;
+
+        LineSpliterator(BufferedReader reader) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            String line;
+            try {
+                line = reader.readLine();
+            } catch (IOException e) {
+                log.error("Failed to read product import input", e);
+                throw new UncheckedIOException(e);
+            }
+            if (line == null) {
+                return false;
+            }
+            action.accept(line);
+            return true;
+        }
+    }
+
+    /**
+     * 헤더 행으로 컬럼 위치를 결정하는 CSV 파서 (RFC 4180 따옴표 규칙, 단일 행 레코드).
+     * 순차 스트림에서만 사용되므로 상태를 가집니다.
+     */
+    private static final class CsvRowParser implements Function<String, ProductImportRow> {
+
+        private long lineNumber;
+        private Map<String, Integer> columns;
+
+        @Override
+        public ProductImportRow apply(String line) {
+            lineNumber++;
+            if (line.isBlank()) {
+                return null;
+            }
+
+            List<String> fields;
+            try {
+                fields = split(line);
+            } catch (IllegalArgumentException e) {
+                return ProductImportRow.malformed(lineNumber, e.getMessage());
+            }
+
+            if (columns == null) {
+                columns = new HashMap<>();
+                for (int i = 0; i < fields.size(); i++) {
+                    columns.put(normalize(fields.get(i)), i);
+                }
+                return null;
+            }
+
+            return new ProductImportRow(
+                lineNumber,
+                field(fields, "name"),
+                field(fields, "description"),
+                field(fields, "price"),
+                field(fields, "stockquantity"),
+                field(fields, "category"),
+                null
+            );
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        private static String normalize(String header) {
+            return header.trim().replace("_", "").toLowerCase(Locale.ROOT);
+        }
+
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            current.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+
+            if (quoted) {
+                throw new IllegalArgumentException("unterminated quoted field");
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+
+    private final class NdjsonRowParser implements Function<String, ProductImportRow> {
+
+        private long lineNumber;
+
+        @Override
+        public ProductImportRow apply(String line) {
+            lineNumber++;
+            if (line.isBlank()) {
+                return null;
+            }
+
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.isObject()) {
+                    return ProductImportRow.malformed(lineNumber, "expected a JSON object");
+                }
+                return new ProductImportRow(
+                    lineNumber,
+                    text(node, "name"),
+                    text(node, "description"),
+                    text(node, "price"),
+                    text(node, "stockQuantity"),
+                    text(node, "category"),
+                    null
+                );
+            } catch (JsonProcessingException e) {
+                return ProductImportRow.malformed(lineNumber, "invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        private String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            if (value == null || value.isNull()) {
+                return null;
+            }
+            return value.isNumber() ? value.decimalValue().toPlainString() : value.asText();
+        }
+    }
+}
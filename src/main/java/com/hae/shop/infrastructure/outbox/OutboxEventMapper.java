@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hae.shop.domain.order.model.OrderCancelledEvent;
 import com.hae.shop.domain.order.model.OrderCreatedEvent;
+import com.hae.shop.domain.order.model.OrderUpdatedEvent;
 import com.hae.shop.domain.order.model.PaymentCompletedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +38,24 @@ public class OutboxEventMapper {
         }
     }
 
+    public OutboxEvent toOutboxEvent(OrderUpdatedEvent event) {
+        try {
+            OutboxEvent outboxEvent = new OutboxEvent();
+            outboxEvent.setAggregateType("Order");
+            outboxEvent.setAggregateId(event.orderId().toString());
+            outboxEvent.setEventType("OrderUpdated");
+            outboxEvent.setPayload(objectMapper.writeValueAsString(event));
+            // createdAt: 자동 설정 (@PrePersist)
+            outboxEvent.setProcessedAt(null);
+            outboxEvent.setRetryCount(0);
+            outboxEvent.setLastError(null);
+            return outboxEvent;
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize OrderUpdatedEvent: {}", event, e);
+            throw new IllegalArgumentException("Failed to serialize event", e);
+        }
+    }
+
     public OutboxEvent toOutboxEvent(PaymentCompletedEvent event) {
         try {
             OutboxEvent outboxEvent = new OutboxEvent();
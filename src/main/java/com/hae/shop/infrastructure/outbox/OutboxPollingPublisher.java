@@ -4,12 +4,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hae.shop.domain.order.model.OrderCancelledEvent;
 import com.hae.shop.domain.order.model.OrderCreatedEvent;
+import com.hae.shop.domain.order.model.OrderUpdatedEvent;
 import com.hae.shop.domain.order.model.PaymentCompletedEvent;
+import com.hae.shop.domain.order.port.in.OrderReadModelService;
 import com.hae.shop.infrastructure.persistence.outbox.OutboxEventEntity;
 import com.hae.shop.infrastructure.persistence.outbox.OutboxJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +32,7 @@ public class OutboxPollingPublisher {
 
     private final OutboxJpaRepository outboxJpaRepository;
     private final ObjectMapper objectMapper;
+    private final OrderReadModelService orderReadModelService;
 
     @Value("${outbox.polling.batch-size:100}")
     private int batchSize;
@@ -36,7 +40,7 @@ public class OutboxPollingPublisher {
     @Scheduled(fixedDelayString = "${outbox.polling.interval:3000}")
     @Transactional
     public void publishEvents() {
-        List<OutboxEventEntity> events = outboxJpaRepository.findByProcessedAtIsNullOrderByCreatedAtAsc(batchSize);
+        List<OutboxEventEntity> events = outboxJpaRepository.findByProcessedAtIsNullOrderByCreatedAtAsc(Limit.of(batchSize));
 
         if (events.isEmpty()) {
             return;
@@ -67,18 +71,27 @@ public class OutboxPollingPublisher {
         String eventType = eventEntity.getEventType();
         String payload = eventEntity.getPayload();
 
+        // OutboxEventMapper는 "OrderCreated" 형식으로 기록하며, 이전 형식("OrderCreatedEvent")도 함께 처리합니다.
         switch (eventType) {
-            case "OrderCreatedEvent" -> {
+            case "OrderCreated", "OrderCreatedEvent" -> {
                 OrderCreatedEvent event = objectMapper.readValue(payload, OrderCreatedEvent.class);
                 log.info("Publishing OrderCreatedEvent: orderId={}, memberId={}", event.orderId(), event.memberId());
+                orderReadModelService.project(event.orderId());
             }
-            case "PaymentCompletedEvent" -> {
+            case "OrderUpdated", "OrderUpdatedEvent" -> {
+                OrderUpdatedEvent event = objectMapper.readValue(payload, OrderUpdatedEvent.class);
+                log.info("Publishing OrderUpdatedEvent: orderId={}, version={}", event.orderId(), event.version());
+                orderReadModelService.project(event.orderId());
+            }
+            case "PaymentCompleted", "PaymentCompletedEvent" -> {
                 PaymentCompletedEvent event = objectMapper.readValue(payload, PaymentCompletedEvent.class);
                 log.info("Publishing PaymentCompletedEvent: orderId={}, transactionId={}", event.orderId(), event.receiptUrl());
+                orderReadModelService.project(event.orderId());
             }
-            case "OrderCancelledEvent" -> {
+            case "OrderCancelled", "OrderCancelledEvent" -> {
                 OrderCancelledEvent event = objectMapper.readValue(payload, OrderCancelledEvent.class);
                 log.info("Publishing OrderCancelledEvent: orderId={}, reason={}", event.orderId(), event.reason());
+                orderReadModelService.project(event.orderId());
             }
             default -> log.warn("Unknown event type: {}", eventType);
         }
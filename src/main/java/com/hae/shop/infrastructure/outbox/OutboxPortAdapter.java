@@ -2,13 +2,19 @@ package com.hae.shop.infrastructure.outbox;
 
 import com.hae.shop.domain.order.model.OrderCancelledEvent;
 import com.hae.shop.domain.order.model.OrderCreatedEvent;
+import com.hae.shop.domain.order.model.OrderUpdatedEvent;
 import com.hae.shop.domain.order.model.PaymentCompletedEvent;
 import com.hae.shop.domain.port.out.OutboxPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
 /**
  * OutboxPort 구현: 도메인 이벤트를 OutboxEvent 테이블에 저장합니다.
  * 동일 트랜잭션 내에서 저장되므로, 비즈니스 로직과 원자적으로 반영됩니다.
@@ -18,8 +24,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class OutboxPortAdapter implements OutboxPort {
 
+    private static final String INSERT_SQL =
+        "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at, retry_count) "
+            + "VALUES (?, ?, ?, ?, ?, 0)";
+    private static final int JDBC_BATCH_SIZE = 500;
+
     private final OutboxEventMapper outboxEventMapper;
     private final OutboxRepository outboxRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
@@ -29,6 +41,14 @@ public class OutboxPortAdapter implements OutboxPort {
         log.debug("Saved OrderCreatedEvent to outbox: orderId={}", event.orderId());
     }
 
+    @Override
+    @Transactional
+    public void saveOrderUpdatedEvent(OrderUpdatedEvent event) {
+        OutboxEvent outboxEvent = outboxEventMapper.toOutboxEvent(event);
+        outboxRepository.save(outboxEvent);
+        log.debug("Saved OrderUpdatedEvent to outbox: orderId={}, version={}", event.orderId(), event.version());
+    }
+
     @Override
     @Transactional
     public void savePaymentCompletedEvent(PaymentCompletedEvent event) {
@@ -45,6 +65,27 @@ public class OutboxPortAdapter implements OutboxPort {
         log.debug("Saved OrderCancelledEvent to outbox: orderId={}", event.orderId());
     }
 
+    /**
+     * OutboxEvent는 IDENTITY 키라 JPA로는 배치 INSERT가 되지 않으므로 JDBC 배치로 기록합니다.
+     */
+    @Override
+    @Transactional
+    public void saveOrderCancelledEvents(List<OrderCancelledEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> outboxEvents = events.stream().map(outboxEventMapper::toOutboxEvent).toList();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, outboxEvents, JDBC_BATCH_SIZE, (ps, outboxEvent) -> {
+            ps.setString(1, outboxEvent.getAggregateType());
+            ps.setString(2, outboxEvent.getAggregateId());
+            ps.setString(3, outboxEvent.getEventType());
+            ps.setString(4, outboxEvent.getPayload());
+            ps.setTimestamp(5, now);
+        });
+        log.debug("Saved {} OrderCancelledEvents to outbox", events.size());
+    }
+
     @Override
     @Transactional
     public void saveEvent(String aggregateType, String aggregateId, String eventType, String payload) {
@@ -0,0 +1,18 @@
+package com.hae.shop.infrastructure.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식별자를 INSERT 전에 Snowflake ID로 할당합니다.
+ * IDENTITY와 달리 INSERT마다 키를 돌려받을 필요가 없어 JDBC 배치가 동작합니다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
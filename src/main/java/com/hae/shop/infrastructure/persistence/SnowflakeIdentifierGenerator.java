@@ -0,0 +1,41 @@
+package com.hae.shop.infrastructure.persistence;
+
+import com.hae.shop.common.SnowflakeIdGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * {@link SnowflakeId}의 Hibernate 생성기. 이미 ID가 지정된 엔티티는 그 값을 유지합니다.
+ * hibernate.cdi.extensions=true이면 Hibernate가 SpringBeanContainer로 생성하므로
+ * 애플리케이션과 같은 {@link SnowflakeIdGenerator} 빈(같은 node-id)을 생성자로 주입받습니다.
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    private final SnowflakeIdGenerator idGenerator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        if (currentValue != null) {
+            return currentValue;
+        }
+        return idGenerator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import com.hae.shop.domain.coupon.model.Coupon;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 활성 쿠폰 조회용 projection. 영속성 컨텍스트에 올리지 않으므로 dirty checking 비용이 없습니다.
+ */
+public record ActiveCouponView(
+    Long id,
+    String code,
+    String name,
+    Coupon.DiscountType discountType,
+    BigDecimal discountValue,
+    BigDecimal minPurchaseAmount,
+    BigDecimal maxDiscountAmount,
+    Instant validFrom,
+    Instant validUntil,
+    Integer totalQuantity,
+    Integer remainingQuantity
+) {
+
+    public Coupon toDomain() {
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        coupon.setCode(code);
+        coupon.setName(name);
+        coupon.setDiscountType(discountType);
+        coupon.setDiscountValue(discountValue);
+        coupon.setMinPurchaseAmount(minPurchaseAmount);
+        coupon.setMaxDiscountAmount(maxDiscountAmount);
+        coupon.setValidFrom(validFrom);
+        coupon.setValidUntil(validUntil);
+        coupon.setTotalQuantity(totalQuantity);
+        coupon.setRemainingQuantity(remainingQuantity);
+        coupon.setStatus(Coupon.CouponStatus.ACTIVE);
+        return coupon;
+    }
+}
@@ -0,0 +1,113 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import com.hae.shop.domain.coupon.model.Coupon;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * JPA 엔티티: Coupon 도메인 객체의 영구 저장 표현.
+ */
+@Entity
+@Table(name = "coupons")
+@Getter
+@Setter
+public class CouponEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String code;
+
+    @Column(nullable = false, length = 255)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "discount_type", nullable = false, length = 20)
+    private Coupon.DiscountType discountType;
+
+    @Column(name = "discount_value", nullable = false, precision = 19, scale = 2)
+    private BigDecimal discountValue;
+
+    @Column(name = "min_purchase_amount", precision = 19, scale = 2)
+    private BigDecimal minPurchaseAmount;
+
+    @Column(name = "max_discount_amount", precision = 19, scale = 2)
+    private BigDecimal maxDiscountAmount;
+
+    @Column(name = "valid_from", nullable = false)
+    private Instant validFrom;
+
+    @Column(name = "valid_until", nullable = false)
+    private Instant validUntil;
+
+    @Column(name = "total_quantity")
+    private Integer totalQuantity;
+
+    @Column(name = "remaining_quantity")
+    private Integer remainingQuantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Coupon.CouponStatus status = Coupon.CouponStatus.ACTIVE;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+        updatedAt = Instant.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    public static CouponEntity fromDomain(Coupon coupon) {
+        CouponEntity entity = new CouponEntity();
+        entity.id = coupon.getId();
+        entity.code = coupon.getCode();
+        entity.name = coupon.getName();
+        entity.discountType = coupon.getDiscountType();
+        entity.discountValue = coupon.getDiscountValue();
+        entity.minPurchaseAmount = coupon.getMinPurchaseAmount();
+        entity.maxDiscountAmount = coupon.getMaxDiscountAmount();
+        entity.validFrom = coupon.getValidFrom();
+        entity.validUntil = coupon.getValidUntil();
+        entity.totalQuantity = coupon.getTotalQuantity();
+        entity.remainingQuantity = coupon.getRemainingQuantity();
+        entity.status = coupon.getStatus();
+        entity.createdAt = coupon.getCreatedAt();
+        entity.updatedAt = coupon.getUpdatedAt();
+        return entity;
+    }
+
+    public Coupon toDomain() {
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        coupon.setCode(code);
+        coupon.setName(name);
+        coupon.setDiscountType(discountType);
+        coupon.setDiscountValue(discountValue);
+        coupon.setMinPurchaseAmount(minPurchaseAmount);
+        coupon.setMaxDiscountAmount(maxDiscountAmount);
+        coupon.setValidFrom(validFrom);
+        coupon.setValidUntil(validUntil);
+        coupon.setTotalQuantity(totalQuantity);
+        coupon.setRemainingQuantity(remainingQuantity);
+        coupon.setStatus(status);
+        coupon.setCreatedAt(createdAt);
+        coupon.setUpdatedAt(updatedAt);
+        return coupon;
+    }
+}
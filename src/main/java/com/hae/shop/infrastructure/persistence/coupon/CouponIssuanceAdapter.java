@@ -0,0 +1,233 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob;
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob.IssuanceStatus;
+import com.hae.shop.domain.coupon.port.out.CouponIssuancePort;
+import com.hae.shop.domain.member.model.Member;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * CouponIssuancePort 구현.
+ * 대상 회원은 체크포인트(last_member_id) 기준 키셋 커서로 청크씩 읽으므로, 수백만 명이어도
+ * 긴 트랜잭션이나 OFFSET 스캔 없이 PK 인덱스 범위만 읽습니다.
+ * member_coupons는 PostgreSQL에서는 회원 ID를 임시 스테이징 테이블에 COPY FROM STDIN으로 적재한 뒤
+ * INSERT ... ON CONFLICT DO NOTHING으로 옮기고, 그 외 드라이버에서는 같은 INSERT를 JDBC 배치로 실행합니다.
+ * (coupon_id, member_id) 유니크 인덱스가 최종 방어선이므로 동시 실행이나 체크포인트 실패 후 청크를 다시 실행해도
+ * 중복 발급되지 않으며, issued_count에는 실제로 추가된 행 수만 더합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssuanceAdapter implements CouponIssuancePort {
+
+    private static final String COLUMNS = """
+        id, coupon_id, target_role, joined_from, joined_before, status,
+        last_member_id, issued_count, failure_reason, created_at, updated_at
+        """;
+    private static final String INSERT_SQL = """
+        INSERT INTO coupon_issuance_jobs (coupon_id, target_role, joined_from, joined_before, status, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        RETURNING\s""" + COLUMNS;
+    private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM coupon_issuance_jobs WHERE id = ?";
+    private static final String FIND_NEXT_RUNNABLE_SQL = "SELECT " + COLUMNS + """
+        FROM coupon_issuance_jobs
+        WHERE status IN ('PENDING', 'RUNNING')
+        ORDER BY id
+        LIMIT 1
+        """;
+    // 일시 중지 요청이 청크 발급 도중에 들어와도 PAUSED를 덮어쓰지 않습니다.
+    private static final String CHECKPOINT_SQL = """
+        UPDATE coupon_issuance_jobs
+        SET last_member_id = ?, issued_count = issued_count + ?, updated_at = ?,
+            status = CASE WHEN ? THEN 'COMPLETED' WHEN status = 'PAUSED' THEN 'PAUSED' ELSE 'RUNNING' END
+        WHERE id = ? AND last_member_id = ? AND status IN ('PENDING', 'RUNNING', 'PAUSED')
+        RETURNING\s""" + COLUMNS;
+    // 커넥션(세션)마다 한 번 만들어지고, 커밋 시 비워집니다.
+    private static final String CREATE_STAGING_SQL = """
+        CREATE TEMP TABLE IF NOT EXISTS member_coupon_issuance_staging (member_id BIGINT NOT NULL)
+        ON COMMIT DELETE ROWS
+        """;
+    private static final String TRUNCATE_STAGING_SQL = "TRUNCATE member_coupon_issuance_staging";
+    private static final String COPY_SQL = "COPY member_coupon_issuance_staging (member_id) FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_FROM_STAGING_SQL = """
+        INSERT INTO member_coupons (member_id, coupon_id, status, created_at)
+        SELECT member_id, ?, 'AVAILABLE', ? FROM member_coupon_issuance_staging
+        ON CONFLICT (coupon_id, member_id) DO NOTHING
+        """;
+    private static final String INSERT_MEMBER_COUPON_SQL = """
+        INSERT INTO member_coupons (member_id, coupon_id, status, created_at)
+        VALUES (?, ?, 'AVAILABLE', ?)
+        ON CONFLICT (coupon_id, member_id) DO NOTHING
+        """;
+    private static final RowMapper<CouponIssuanceJob> JOB_MAPPER = (rs, rowNum) -> new CouponIssuanceJob(
+        rs.getLong("id"),
+        rs.getLong("coupon_id"),
+        rs.getString("target_role") != null ? Member.MemberRole.valueOf(rs.getString("target_role")) : null,
+        toInstant(rs.getTimestamp("joined_from")),
+        toInstant(rs.getTimestamp("joined_before")),
+        IssuanceStatus.valueOf(rs.getString("status")),
+        rs.getLong("last_member_id"),
+        rs.getLong("issued_count"),
+        rs.getString("failure_reason"),
+        toInstant(rs.getTimestamp("created_at")),
+        toInstant(rs.getTimestamp("updated_at"))
+    );
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public CouponIssuanceJob save(CouponIssuanceJob job) {
+        Timestamp now = Timestamp.from(Instant.now());
+        return jdbcTemplate.queryForObject(INSERT_SQL, JOB_MAPPER,
+            job.couponId(),
+            job.targetRole() != null ? job.targetRole().name() : null,
+            toTimestamp(job.joinedFrom()),
+            toTimestamp(job.joinedBefore()),
+            job.status().name(),
+            now,
+            now);
+    }
+
+    @Override
+    public Optional<CouponIssuanceJob> findById(Long jobId) {
+        return jdbcTemplate.query(FIND_BY_ID_SQL, JOB_MAPPER, jobId).stream().findFirst();
+    }
+
+    @Override
+    public Optional<CouponIssuanceJob> findNextRunnable() {
+        return jdbcTemplate.query(FIND_NEXT_RUNNABLE_SQL, JOB_MAPPER).stream().findFirst();
+    }
+
+    @Override
+    public List<Long> findNextMemberIds(CouponIssuanceJob job, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT m.id FROM members m WHERE m.id > ?");
+        List<Object> args = new ArrayList<>();
+        args.add(job.lastMemberId());
+        if (job.targetRole() != null) {
+            sql.append(" AND m.role = ?");
+            args.add(job.targetRole().name());
+        }
+        if (job.joinedFrom() != null) {
+            sql.append(" AND m.created_at >= ?");
+            args.add(Timestamp.from(job.joinedFrom()));
+        }
+        if (job.joinedBefore() != null) {
+            sql.append(" AND m.created_at < ?");
+            args.add(Timestamp.from(job.joinedBefore()));
+        }
+        // 이전 작업 등으로 이미 이 쿠폰을 가진 회원은 건너뜁니다.
+        sql.append(" AND NOT EXISTS (SELECT 1 FROM member_coupons mc WHERE mc.member_id = m.id AND mc.coupon_id = ?)");
+        args.add(job.couponId());
+        sql.append(" ORDER BY m.id LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    @Override
+    @Transactional
+    public CouponIssuanceJob issue(CouponIssuanceJob job, List<Long> memberIds, boolean completed) {
+        Timestamp now = Timestamp.from(Instant.now());
+        long inserted = memberIds.isEmpty() ? 0 : insertMemberCoupons(job.couponId(), memberIds, now);
+
+        long checkpoint = memberIds.isEmpty() ? job.lastMemberId() : memberIds.get(memberIds.size() - 1);
+        List<CouponIssuanceJob> updated = jdbcTemplate.query(CHECKPOINT_SQL, JOB_MAPPER,
+            checkpoint, inserted, now, completed, job.id(), job.lastMemberId());
+        if (updated.isEmpty()) {
+            throw new IllegalStateException("Coupon issuance checkpoint moved: jobId=" + job.id());
+        }
+        return updated.get(0);
+    }
+
+    @Override
+    public Optional<CouponIssuanceJob> updateStatus(Long jobId, Set<IssuanceStatus> from, IssuanceStatus to,
+                                                    String failureReason) {
+        String placeholders = from.stream().map(status -> "?").collect(Collectors.joining(", "));
+        String sql = "UPDATE coupon_issuance_jobs SET status = ?, failure_reason = ?, updated_at = ?"
+            + " WHERE id = ? AND status IN (" + placeholders + ") RETURNING " + COLUMNS;
+
+        List<Object> args = new ArrayList<>();
+        args.add(to.name());
+        args.add(failureReason);
+        args.add(Timestamp.from(Instant.now()));
+        args.add(jobId);
+        from.forEach(status -> args.add(status.name()));
+        return jdbcTemplate.query(sql, JOB_MAPPER, args.toArray()).stream().findFirst();
+    }
+
+    /**
+     * 이미 같은 쿠폰을 가진 회원은 건너뛰고, 실제로 추가된 행 수를 반환합니다.
+     */
+    private long insertMemberCoupons(Long couponId, List<Long> memberIds, Timestamp now) {
+        Boolean staged = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return false;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+                statement.execute(TRUNCATE_STAGING_SQL);
+            }
+            try {
+                connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(toCsv(memberIds)));
+                return true;
+            } catch (IOException e) {
+                throw new SQLException("COPY into member_coupon_issuance_staging failed", e);
+            }
+        });
+
+        if (Boolean.TRUE.equals(staged)) {
+            return jdbcTemplate.update(INSERT_FROM_STAGING_SQL, couponId, now);
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_MEMBER_COUPON_SQL, memberIds, JDBC_BATCH_SIZE,
+            (ps, memberId) -> {
+                ps.setLong(1, memberId);
+                ps.setLong(2, couponId);
+                ps.setTimestamp(3, now);
+            });
+        long inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 추가된 것으로 셉니다.
+                inserted += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+
+    private static String toCsv(List<Long> memberIds) {
+        StringBuilder csv = new StringBuilder(memberIds.size() * 12);
+        for (Long memberId : memberIds) {
+            csv.append(memberId).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
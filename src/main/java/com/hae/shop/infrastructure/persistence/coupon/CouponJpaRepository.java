@@ -0,0 +1,55 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import com.hae.shop.domain.coupon.model.Coupon;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface CouponJpaRepository extends JpaRepository<CouponEntity, Long> {
+
+    Optional<CouponEntity> findByCode(String code);
+
+    /**
+     * fetch size를 지정해 트랜잭션 안에서 서버 측 커서로 나눠 읽습니다.
+     */
+    @Query("select c.code from CouponEntity c")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllCodes();
+
+    /**
+     * 만료되지 않은 활성 쿠폰 (시작 전 포함). 상태 조건은 idx_coupons_status로 거르며,
+     * 엔티티 대신 할인 계산에 필요한 컬럼만 projection으로 읽습니다.
+     */
+    @Query("""
+        select new com.hae.shop.infrastructure.persistence.coupon.ActiveCouponView(
+            c.id, c.code, c.name, c.discountType, c.discountValue, c.minPurchaseAmount, c.maxDiscountAmount,
+            c.validFrom, c.validUntil, c.totalQuantity, c.remainingQuantity)
+        from CouponEntity c
+        where c.status = :status
+          and c.validUntil >= :now
+          and (c.remainingQuantity is null or c.remainingQuantity > 0)
+        order by c.validUntil asc, c.id asc
+        """)
+    List<ActiveCouponView> findUnexpiredCoupons(@Param("status") Coupon.CouponStatus status,
+                                                @Param("now") Instant now);
+
+    /**
+     * member_coupons와 조인해 회원에게 발급된 쿠폰을 한 번의 쿼리로 조회합니다.
+     */
+    @Query("""
+        select distinct c from CouponEntity c
+        join MemberCouponEntity mc on mc.couponId = c.id
+        where mc.memberId = :memberId
+        """)
+    List<CouponEntity> findByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,84 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import com.hae.shop.domain.coupon.model.CouponRedemption;
+import com.hae.shop.domain.coupon.port.out.CouponRedemptionWriterPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * CouponRedemptionWriterPort 구현.
+ * 배치 전체를 배열 파라미터로 넘겨 문장 하나로 처리합니다: member_coupons를 (coupon_id, member_id) 유니크 인덱스 기준으로
+ * USED로 만들고(없으면 새로 추가), 이번에 실제로 USED가 된 행 수만큼만 쿠폰별 잔여 수량을 차감합니다.
+ * 이미 USED인 행은 건드리지 않으므로 대기열이 같은 건을 다시 전달해도 두 번 차감하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponRedemptionWriterAdapter implements CouponRedemptionWriterPort {
+
+    // 쿠폰 ID 순으로 먼저 잠가 동시에 실행되는 다른 배치와 교착되지 않게 합니다.
+    private static final String LOCK_COUPONS_SQL = """
+        SELECT id FROM coupons WHERE id = ANY (?) ORDER BY id FOR UPDATE
+        """;
+    private static final String WRITE_SQL = """
+        WITH input AS (
+            SELECT DISTINCT ON (coupon_id, member_id) coupon_id, member_id, used_at
+            FROM unnest(?::bigint[], ?::bigint[], ?::timestamp[]) AS t (coupon_id, member_id, used_at)
+            ORDER BY coupon_id, member_id, used_at
+        ), used AS (
+            INSERT INTO member_coupons (member_id, coupon_id, used_at, status, created_at)
+            SELECT member_id, coupon_id, used_at, 'USED', ? FROM input
+            ON CONFLICT (coupon_id, member_id) DO UPDATE
+            SET status = 'USED', used_at = EXCLUDED.used_at
+            WHERE member_coupons.status <> 'USED'
+            RETURNING coupon_id
+        )
+        UPDATE coupons c
+        SET remaining_quantity = GREATEST(c.remaining_quantity - u.used_count, 0), updated_at = ?
+        FROM (SELECT coupon_id, count(*) AS used_count FROM used GROUP BY coupon_id) u
+        WHERE c.id = u.coupon_id AND c.remaining_quantity IS NOT NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void writeRedemptions(List<CouponRedemption> redemptions) {
+        if (redemptions.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        Long[] couponIds = new Long[redemptions.size()];
+        Long[] memberIds = new Long[redemptions.size()];
+        Timestamp[] usedAts = new Timestamp[redemptions.size()];
+        for (int i = 0; i < redemptions.size(); i++) {
+            CouponRedemption redemption = redemptions.get(i);
+            couponIds[i] = redemption.couponId();
+            memberIds[i] = redemption.memberId();
+            usedAts[i] = Timestamp.from(redemption.redeemedAt());
+        }
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(LOCK_COUPONS_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", couponIds));
+            return ps;
+        }, (RowCallbackHandler) rs -> { });
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(WRITE_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", couponIds));
+            ps.setArray(2, connection.createArrayOf("bigint", memberIds));
+            ps.setArray(3, connection.createArrayOf("timestamp", usedAts));
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            return ps;
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.port.out.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponRepositoryAdapter implements CouponRepositoryPort {
+
+    private final CouponJpaRepository couponJpaRepository;
+    private final MemberCouponJpaRepository memberCouponJpaRepository;
+
+    @Override
+    public Coupon save(Coupon coupon) {
+        return couponJpaRepository.save(CouponEntity.fromDomain(coupon)).toDomain();
+    }
+
+    @Override
+    public Optional<Coupon> findById(Long id) {
+        return couponJpaRepository.findById(id).map(CouponEntity::toDomain);
+    }
+
+    @Override
+    public List<Coupon> findByIds(Collection<Long> ids) {
+        return couponJpaRepository.findAllById(ids).stream()
+            .map(CouponEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public Optional<Coupon> findByCode(String code) {
+        return couponJpaRepository.findByCode(code).map(CouponEntity::toDomain);
+    }
+
+    @Override
+    public List<Coupon> findUnexpiredCoupons() {
+        return couponJpaRepository
+            .findUnexpiredCoupons(Coupon.CouponStatus.ACTIVE, Instant.now())
+            .stream()
+            .map(ActiveCouponView::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<Coupon> findByMemberId(Long memberId) {
+        return couponJpaRepository.findByMemberId(memberId).stream()
+            .map(CouponEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachCode(Consumer<String> consumer) {
+        try (Stream<String> codes = couponJpaRepository.streamAllCodes()) {
+            codes.forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<Long> findUsedMemberIds(Long couponId) {
+        return memberCouponJpaRepository.findMemberIdsByCouponIdAndStatus(
+            couponId, MemberCouponEntity.MemberCouponStatus.USED);
+    }
+
+    @Override
+    public Set<Long> findUsedCouponIds(Long memberId) {
+        return new HashSet<>(memberCouponJpaRepository.findCouponIdsByMemberIdAndStatus(
+            memberId, MemberCouponEntity.MemberCouponStatus.USED));
+    }
+}
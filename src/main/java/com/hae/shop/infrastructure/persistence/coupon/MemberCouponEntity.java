@@ -0,0 +1,48 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * JPA 엔티티: 회원에게 발급된 쿠폰 (member_coupons).
+ * 쿠폰은 연관 관계 대신 ID로만 참조해 조회 시 불필요한 로딩이 없도록 합니다.
+ */
+@Entity
+@Table(name = "member_coupons", uniqueConstraints = @UniqueConstraint(
+    name = "uk_member_coupons_coupon_member", columnNames = {"coupon_id", "member_id"}))
+@Getter
+@Setter
+public class MemberCouponEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "used_at")
+    private Instant usedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MemberCouponStatus status = MemberCouponStatus.AVAILABLE;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public enum MemberCouponStatus {
+        AVAILABLE, USED, EXPIRED
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+}
@@ -0,0 +1,28 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MemberCouponJpaRepository extends JpaRepository<MemberCouponEntity, Long> {
+
+    @Query("""
+        select mc.memberId from MemberCouponEntity mc
+        where mc.couponId = :couponId
+          and mc.status = :status
+        """)
+    List<Long> findMemberIdsByCouponIdAndStatus(@Param("couponId") Long couponId,
+                                                @Param("status") MemberCouponEntity.MemberCouponStatus status);
+
+    @Query("""
+        select mc.couponId from MemberCouponEntity mc
+        where mc.memberId = :memberId
+          and mc.status = :status
+        """)
+    List<Long> findCouponIdsByMemberIdAndStatus(@Param("memberId") Long memberId,
+                                                @Param("status") MemberCouponEntity.MemberCouponStatus status);
+}
@@ -1,8 +1,11 @@
 package com.hae.shop.infrastructure.persistence.member;
 
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
 import com.hae.shop.domain.member.model.Member;
 import com.hae.shop.domain.member.port.out.MemberRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -32,4 +35,17 @@ public class MemberRepositoryAdapter implements MemberRepositoryPort {
     public boolean existsByEmail(String email) {
         return memberJpaRepository.existsByEmail(email);
     }
+
+    /**
+     * 외래 키 위반을 커밋 시점이 아닌 여기서 드러내도록 바로 flush합니다.
+     */
+    @Override
+    public void delete(Member member) {
+        try {
+            memberJpaRepository.delete(member);
+            memberJpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.MEMBER_IN_USE);
+        }
+    }
 }
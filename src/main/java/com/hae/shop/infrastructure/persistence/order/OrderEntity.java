@@ -2,13 +2,19 @@ package com.hae.shop.infrastructure.persistence.order;
 
 import com.hae.shop.domain.order.model.Order;
 import com.hae.shop.domain.order.model.OrderItem;
+import com.hae.shop.infrastructure.persistence.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * JPA 엔티티: Order 도메인 객체의 영구 저장 표현.
@@ -21,7 +27,7 @@ import java.util.List;
 public class OrderEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(name = "member_id", nullable = false)
@@ -42,10 +48,39 @@ public class OrderEntity {
     @Column(name = "idempotency_key", unique = true, length = 100)
     private String idempotencyKey;
 
+    /**
+     * PG 승인 번호. 결제 확정 시 기록되며 결제 대사(reconciliation)의 기준이 됩니다.
+     */
+    @Column(name = "payment_transaction_id", length = 100)
+    private String paymentTransactionId;
+
+    /**
+     * 결제 시도 ID (PG 멱등성 키). 결제 승인 요청, 결제 조회, 결제 복구가 같은 값을 사용합니다.
+     */
+    @Column(name = "payment_attempt_id", length = 100)
+    private String paymentAttemptId;
+
+    /**
+     * 결제된 주문을 취소할 때의 PG 취소 상태와 PG 취소 번호. 결제 대사가 취소 여부를 이 값으로 판단합니다.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_cancel_status", length = 20)
+    private Order.PaymentCancelStatus paymentCancelStatus;
+
+    @Column(name = "payment_cancel_transaction_id", length = 100)
+    private String paymentCancelTransactionId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private Order.OrderStatus status = Order.OrderStatus.PENDING;
 
+    /**
+     * 쓰기마다 증가하는 버전. 조회 모델의 최신성 판단(read-after-write 토큰)에 사용됩니다.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<OrderItemEntity> items = new ArrayList<>();
 
@@ -78,6 +113,10 @@ public class OrderEntity {
         entity.discountAmount = order.getDiscountAmount();
         entity.paymentAmount = order.getPaymentAmount();
         entity.idempotencyKey = order.getIdempotencyKey();
+        entity.paymentTransactionId = order.getPaymentTransactionId();
+        entity.paymentAttemptId = order.getPaymentAttemptId();
+        entity.paymentCancelStatus = order.getPaymentCancelStatus();
+        entity.paymentCancelTransactionId = order.getPaymentCancelTransactionId();
         entity.status = order.getStatus();
         entity.createdAt = order.getCreatedAt();
         entity.updatedAt = order.getUpdatedAt();
@@ -96,10 +135,70 @@ public class OrderEntity {
         return entity;
     }
 
+    /**
+     * 영속 상태의 엔티티에 도메인 Order의 변경 사항만 반영합니다.
+     * 기존 항목은 ID로 매칭해 그대로 두고(변경 시에만 dirty), ID가 없는 항목만 새로 추가하며,
+     * 도메인에서 빠진 항목은 orphanRemoval로 삭제됩니다.
+     */
+    public void applyChanges(Order order) {
+        this.memberId = order.getMemberId();
+        this.orderNumber = order.getOrderNumber();
+        this.totalAmount = order.getTotalAmount();
+        this.discountAmount = order.getDiscountAmount();
+        this.paymentAmount = order.getPaymentAmount();
+        this.idempotencyKey = order.getIdempotencyKey();
+        this.paymentTransactionId = order.getPaymentTransactionId();
+        this.paymentAttemptId = order.getPaymentAttemptId();
+        this.paymentCancelStatus = order.getPaymentCancelStatus();
+        this.paymentCancelTransactionId = order.getPaymentCancelTransactionId();
+        this.status = order.getStatus();
+
+        List<OrderItem> domainItems = order.getItems() != null ? order.getItems() : List.of();
+        Map<Long, OrderItemEntity> existing = new HashMap<>();
+        for (OrderItemEntity itemEntity : this.items) {
+            existing.put(itemEntity.getId(), itemEntity);
+        }
+
+        Set<Long> retainedIds = new HashSet<>();
+        List<OrderItemEntity> added = new ArrayList<>();
+        for (OrderItem item : domainItems) {
+            OrderItemEntity itemEntity = item.getId() != null ? existing.get(item.getId()) : null;
+            if (itemEntity != null) {
+                itemEntity.applyChanges(item);
+                retainedIds.add(item.getId());
+            } else {
+                OrderItemEntity newItem = OrderItemEntity.fromDomain(item);
+                newItem.setId(null);
+                newItem.setOrder(this);
+                added.add(newItem);
+            }
+        }
+
+        this.items.removeIf(itemEntity -> !retainedIds.contains(itemEntity.getId()));
+        // 중간 항목이 삭제되면 size()가 남은 항목의 순번과 겹치므로, 남은 항목의 최대 순번 다음부터 부여합니다.
+        int nextItemOrder = this.items.stream()
+            .map(OrderItemEntity::getItemOrder)
+            .filter(Objects::nonNull)
+            .mapToInt(Integer::intValue)
+            .max()
+            .orElse(-1) + 1;
+        for (OrderItemEntity newItem : added) {
+            newItem.setItemOrder(nextItemOrder++);
+            this.items.add(newItem);
+        }
+    }
+
     /**
      * OrderEntity를 도메인 Order로 변환.
      */
     public Order toDomain() {
+        return toDomain(this.items);
+    }
+
+    /**
+     * 별도로 조회한 항목 목록으로 도메인 Order를 만듭니다. LAZY 컬렉션을 초기화하지 않습니다.
+     */
+    public Order toDomain(List<OrderItemEntity> itemEntities) {
         Order order = new Order();
         order.setId(this.id);
         order.setMemberId(this.memberId);
@@ -108,14 +207,19 @@ public class OrderEntity {
         order.setDiscountAmount(this.discountAmount);
         order.setPaymentAmount(this.paymentAmount);
         order.setIdempotencyKey(this.idempotencyKey);
+        order.setPaymentTransactionId(this.paymentTransactionId);
+        order.setPaymentAttemptId(this.paymentAttemptId);
+        order.setPaymentCancelStatus(this.paymentCancelStatus);
+        order.setPaymentCancelTransactionId(this.paymentCancelTransactionId);
         order.setStatus(this.status);
+        order.setVersion(this.version);
         order.setCreatedAt(this.createdAt);
         order.setUpdatedAt(this.updatedAt);
 
         // Items
-        if (this.items != null) {
+        if (itemEntities != null) {
             List<OrderItem> domainItems = new ArrayList<>();
-            for (OrderItemEntity itemEntity : this.items) {
+            for (OrderItemEntity itemEntity : itemEntities) {
                 domainItems.add(itemEntity.toDomain());
             }
             order.setItems(domainItems);
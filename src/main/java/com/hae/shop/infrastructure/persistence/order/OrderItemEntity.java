@@ -1,6 +1,7 @@
 package com.hae.shop.infrastructure.persistence.order;
 
 import com.hae.shop.domain.order.model.OrderItem;
+import com.hae.shop.infrastructure.persistence.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,7 +18,7 @@ import java.math.BigDecimal;
 public class OrderItemEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -59,6 +60,17 @@ public class OrderItemEntity {
         return entity;
     }
 
+    /**
+     * 영속 상태의 항목에 도메인 OrderItem의 값을 반영합니다. 값이 같으면 UPDATE가 발생하지 않습니다.
+     */
+    public void applyChanges(OrderItem item) {
+        this.productId = item.getProductId();
+        this.productName = item.getProductName();
+        this.productPrice = item.getProductPrice();
+        this.quantity = item.getQuantity();
+        this.subtotal = item.getSubtotal();
+    }
+
     /**
      * OrderItemEntity를 도메인 OrderItem로 변환.
      */
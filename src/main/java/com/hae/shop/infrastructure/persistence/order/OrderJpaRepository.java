@@ -1,12 +1,119 @@
 package com.hae.shop.infrastructure.persistence.order;
 
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.OrderSummary;
 import com.hae.shop.infrastructure.persistence.order.OrderEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
     Optional<OrderEntity> findByIdempotencyKey(String idempotencyKey);
+
+    List<OrderEntity> findByStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(Order.OrderStatus status, Instant updatedAt, Limit limit);
+
+    /**
+     * 상태와 버전을 조건으로 하는 compare-and-set 전이. 갱신된 행 수(0 또는 1)를 반환합니다.
+     * 영속성 컨텍스트의 엔티티는 갱신되지 않으므로 실행 후 비웁니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update OrderEntity o
+        set o.status = :target,
+            o.idempotencyKey = :idempotencyKey,
+            o.paymentTransactionId = :paymentTransactionId,
+            o.paymentAttemptId = :paymentAttemptId,
+            o.paymentCancelStatus = :paymentCancelStatus,
+            o.version = o.version + 1,
+            o.updatedAt = :updatedAt
+        where o.id = :id
+          and o.status = :expected
+          and o.version = :version
+        """)
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expected") Order.OrderStatus expected,
+                         @Param("target") Order.OrderStatus target,
+                         @Param("version") Long version,
+                         @Param("idempotencyKey") String idempotencyKey,
+                         @Param("paymentTransactionId") String paymentTransactionId,
+                         @Param("paymentAttemptId") String paymentAttemptId,
+                         @Param("paymentCancelStatus") Order.PaymentCancelStatus paymentCancelStatus,
+                         @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 승인 번호가 paymentTransactionId인 주문에 PG 취소 상태(cancelStatus)와 취소 번호를 기록합니다. 상태 전이가 아니므로 버전은 올리지 않고,
+     * 결제 대사가 다시 확인하도록 updatedAt만 갱신합니다. 갱신된 행 수를 반환합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update OrderEntity o
+        set o.paymentCancelStatus = :cancelStatus,
+            o.paymentCancelTransactionId = :cancelTransactionId,
+            o.updatedAt = :updatedAt
+        where o.id = :id
+          and o.paymentTransactionId = :paymentTransactionId
+        """)
+    int recordPaymentCancellation(@Param("id") Long id,
+                                  @Param("paymentTransactionId") String paymentTransactionId,
+                                  @Param("cancelStatus") Order.PaymentCancelStatus cancelStatus,
+                                  @Param("cancelTransactionId") String cancelTransactionId,
+                                  @Param("updatedAt") Instant updatedAt);
+
+    // 회원 주문 이력 keyset 페이지: idx_orders_member_created (member_id, created_at DESC, id DESC)를 그대로 탑니다.
+
+    @Query("""
+        select o from OrderEntity o
+        where o.memberId = :memberId
+        order by o.createdAt desc, o.id desc
+        """)
+    List<OrderEntity> findFirstPageByMemberId(@Param("memberId") Long memberId, Limit limit);
+
+    @Query("""
+        select o from OrderEntity o
+        where o.memberId = :memberId
+          and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))
+        order by o.createdAt desc, o.id desc
+        """)
+    List<OrderEntity> findPageByMemberIdAfter(@Param("memberId") Long memberId,
+                                              @Param("createdAt") Instant createdAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
+    @Query("""
+        select new com.hae.shop.domain.order.model.OrderSummary(
+            o.id, o.orderNumber, o.memberId, o.totalAmount, o.discountAmount, o.paymentAmount, o.status, o.createdAt)
+        from OrderEntity o
+        where o.memberId = :memberId
+        order by o.createdAt desc, o.id desc
+        """)
+    List<OrderSummary> findFirstSummaryPageByMemberId(@Param("memberId") Long memberId, Limit limit);
+
+    @Query("""
+        select new com.hae.shop.domain.order.model.OrderSummary(
+            o.id, o.orderNumber, o.memberId, o.totalAmount, o.discountAmount, o.paymentAmount, o.status, o.createdAt)
+        from OrderEntity o
+        where o.memberId = :memberId
+          and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))
+        order by o.createdAt desc, o.id desc
+        """)
+    List<OrderSummary> findSummaryPageByMemberIdAfter(@Param("memberId") Long memberId,
+                                                      @Param("createdAt") Instant createdAt,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
+
+    @Query("""
+        select i from OrderItemEntity i
+        where i.order.id in :orderIds
+        order by i.order.id, i.itemOrder, i.id
+        """)
+    List<OrderItemEntity> findItemsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,59 @@
+package com.hae.shop.infrastructure.persistence.order;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.port.out.OrderReadModelPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * OrderReadModelPort 구현: 주문 스냅샷을 JSON 문서로 order_read_models 테이블에 저장합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OrderReadModelAdapter implements OrderReadModelPort {
+
+    private final OrderReadModelJpaRepository orderReadModelJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Optional<Order> findById(Long orderId) {
+        return orderReadModelJpaRepository.findById(orderId).map(this::toDomain);
+    }
+
+    @Override
+    public void save(Order order) {
+        int updated = orderReadModelJpaRepository.upsertIfNewer(
+            order.getId(),
+            order.getMemberId(),
+            order.getVersion(),
+            toDocument(order),
+            Instant.now()
+        );
+        if (updated == 0) {
+            log.debug("Skipped stale order read model: orderId={}, version={}", order.getId(), order.getVersion());
+        }
+    }
+
+    private String toDocument(Order order) {
+        try {
+            return objectMapper.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize order read model: orderId=" + order.getId(), e);
+        }
+    }
+
+    private Order toDomain(OrderReadModelEntity entity) {
+        try {
+            return objectMapper.readValue(entity.getDocument(), Order.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted order read model: orderId=" + entity.getOrderId(), e);
+        }
+    }
+}
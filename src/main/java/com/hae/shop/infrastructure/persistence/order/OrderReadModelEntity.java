@@ -0,0 +1,33 @@
+package com.hae.shop.infrastructure.persistence.order;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * JPA 엔티티: 주문 조회 모델. 주문 하나당 JSON 문서 한 행으로, 기본키 조회 한 번에 읽힙니다.
+ */
+@Entity
+@Table(name = "order_read_models")
+@Getter
+@NoArgsConstructor
+public class OrderReadModelEntity {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "document", nullable = false, columnDefinition = "TEXT")
+    private String document;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
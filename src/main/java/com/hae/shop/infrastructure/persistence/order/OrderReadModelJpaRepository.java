@@ -0,0 +1,35 @@
+package com.hae.shop.infrastructure.persistence.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface OrderReadModelJpaRepository extends JpaRepository<OrderReadModelEntity, Long> {
+
+    /**
+     * 저장된 버전보다 새 버전일 때만 스냅샷을 덮어씁니다.
+     *
+     * @return 반영된 행 수 (이미 같은/새 버전이 있으면 0)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO order_read_models (order_id, member_id, version, document, updated_at)
+        VALUES (:orderId, :memberId, :version, :document, :updatedAt)
+        ON CONFLICT (order_id) DO UPDATE
+        SET member_id = EXCLUDED.member_id,
+            version = EXCLUDED.version,
+            document = EXCLUDED.document,
+            updated_at = EXCLUDED.updated_at
+        WHERE order_read_models.version < EXCLUDED.version
+        """, nativeQuery = true)
+    int upsertIfNewer(@Param("orderId") Long orderId,
+                      @Param("memberId") Long memberId,
+                      @Param("version") Long version,
+                      @Param("document") String document,
+                      @Param("updatedAt") Instant updatedAt);
+}
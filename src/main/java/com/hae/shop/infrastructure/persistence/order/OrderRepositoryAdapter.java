@@ -1,17 +1,27 @@
 package com.hae.shop.infrastructure.persistence.order;
 
 import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.OrderHistoryCursor;
+import com.hae.shop.domain.order.model.OrderSummary;
 import com.hae.shop.domain.order.port.out.OrderRepositoryPort;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderRepositoryAdapter implements OrderRepositoryPort {
 
     private final OrderJpaRepository orderJpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<Order> findById(Long id) {
@@ -24,9 +34,85 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
     }
 
     @Override
+    public List<Order> findByStatusUpdatedBefore(Order.OrderStatus status, Instant updatedBefore, int limit) {
+        return orderJpaRepository.findByStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(status, updatedBefore, Limit.of(limit))
+            .stream()
+            .map(OrderEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public boolean transitionStatus(Order order, Order.OrderStatus expectedStatus) {
+        Instant now = Instant.now();
+        int updated = orderJpaRepository.transitionStatus(
+            order.getId(), expectedStatus, order.getStatus(), order.getVersion(), order.getIdempotencyKey(),
+            order.getPaymentTransactionId(), order.getPaymentAttemptId(), order.getPaymentCancelStatus(), now);
+        if (updated == 0) {
+            return false;
+        }
+        order.setVersion(order.getVersion() + 1);
+        order.setUpdatedAt(now);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean recordPaymentCancellation(Long orderId, String paymentTransactionId, String cancelTransactionId) {
+        return orderJpaRepository.recordPaymentCancellation(orderId, paymentTransactionId,
+            Order.PaymentCancelStatus.CANCELLED, cancelTransactionId, Instant.now()) > 0;
+    }
+
+    @Override
+    public List<Order> findByMemberId(Long memberId, OrderHistoryCursor after, int limit) {
+        List<OrderEntity> orders = after == null
+            ? orderJpaRepository.findFirstPageByMemberId(memberId, Limit.of(limit))
+            : orderJpaRepository.findPageByMemberIdAfter(memberId, after.createdAt(), after.id(), Limit.of(limit));
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        // 페이지 전체 항목을 IN 쿼리 한 번으로 조회 (주문별 LAZY 로딩 N+1 방지)
+        Map<Long, List<OrderItemEntity>> itemsByOrderId = orderJpaRepository
+            .findItemsByOrderIds(orders.stream().map(OrderEntity::getId).toList())
+            .stream()
+            .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+
+        return orders.stream()
+            .map(order -> order.toDomain(itemsByOrderId.getOrDefault(order.getId(), List.of())))
+            .toList();
+    }
+
+    @Override
+    public List<OrderSummary> findSummariesByMemberId(Long memberId, OrderHistoryCursor after, int limit) {
+        return after == null
+            ? orderJpaRepository.findFirstSummaryPageByMemberId(memberId, Limit.of(limit))
+            : orderJpaRepository.findSummaryPageByMemberIdAfter(memberId, after.createdAt(), after.id(), Limit.of(limit));
+    }
+
+    /**
+     * 새 주문은 persist하고, 기존 주문은 같은 트랜잭션의 영속 엔티티에 변경분만 반영합니다.
+     * merge로 집합 전체를 다시 쓰지 않으므로 addItem은 항목 INSERT 1회와 주문 UPDATE 1회만 발생합니다.
+     * 조회한 엔티티가 변경 반영과 flush까지 같은 영속성 컨텍스트에 있어야 하므로 트랜잭션 안에서 실행합니다.
+     */
+    @Override
+    @Transactional
     public Order save(Order order) {
-        OrderEntity entity = OrderEntity.fromDomain(order);
-        OrderEntity saved = orderJpaRepository.save(entity);
-        return saved.toDomain();
+        if (order.getId() == null) {
+            OrderEntity entity = OrderEntity.fromDomain(order);
+            entityManager.persist(entity);
+            entityManager.flush();
+            return entity.toDomain();
+        }
+
+        OrderEntity entity = orderJpaRepository.findById(order.getId()).orElse(null);
+        if (entity == null) {
+            // ID가 지정된 새 주문
+            entity = OrderEntity.fromDomain(order);
+            entityManager.persist(entity);
+        } else {
+            entity.applyChanges(order);
+        }
+        entityManager.flush();
+        return entity.toDomain();
     }
 }
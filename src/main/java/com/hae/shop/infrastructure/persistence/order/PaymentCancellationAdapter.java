@@ -0,0 +1,86 @@
+package com.hae.shop.infrastructure.persistence.order;
+
+import com.hae.shop.domain.order.model.PendingPaymentCancellation;
+import com.hae.shop.domain.order.port.out.PaymentCancellationPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * PaymentCancellationPort 구현.
+ * 재시도 대상 선점은 SELECT ... FOR UPDATE SKIP LOCKED와 재시도 시각 연장(임대)을 CTE 한 문장으로 실행하므로,
+ * 여러 노드의 스케줄러가 같은 건을 동시에 취소하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentCancellationAdapter implements PaymentCancellationPort {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String ENQUEUE_SQL = """
+        INSERT INTO payment_cancellations (transaction_id, order_id, attempts, last_error, next_attempt_at, created_at)
+        VALUES (?, ?, 1, ?, ?, ?)
+        ON CONFLICT (transaction_id) DO NOTHING
+        """;
+    private static final String CLAIM_DUE_SQL = """
+        WITH due AS (
+            SELECT transaction_id FROM payment_cancellations
+            WHERE next_attempt_at <= ?
+            ORDER BY next_attempt_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE payment_cancellations c
+        SET next_attempt_at = ?
+        FROM due
+        WHERE c.transaction_id = due.transaction_id
+        RETURNING c.order_id, c.transaction_id, c.attempts
+        """;
+    private static final String REMOVE_SQL = "DELETE FROM payment_cancellations WHERE transaction_id = ?";
+    private static final String RESCHEDULE_SQL = """
+        UPDATE payment_cancellations
+        SET attempts = attempts + 1, last_error = ?, next_attempt_at = ?
+        WHERE transaction_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void enqueue(Long orderId, String transactionId, String error, Instant nextAttemptAt) {
+        jdbcTemplate.update(ENQUEUE_SQL, transactionId, orderId, truncate(error),
+            Timestamp.from(nextAttemptAt), Timestamp.from(Instant.now()));
+    }
+
+    @Override
+    @Transactional
+    public List<PendingPaymentCancellation> claimDue(Instant now, Instant leaseUntil, int limit) {
+        return jdbcTemplate.query(CLAIM_DUE_SQL, (rs, rowNum) -> new PendingPaymentCancellation(
+                rs.getLong("order_id"),
+                rs.getString("transaction_id"),
+                rs.getInt("attempts")
+            ),
+            Timestamp.from(now), limit, Timestamp.from(leaseUntil));
+    }
+
+    @Override
+    @Transactional
+    public void remove(String transactionId) {
+        jdbcTemplate.update(REMOVE_SQL, transactionId);
+    }
+
+    @Override
+    @Transactional
+    public void reschedule(String transactionId, String error, Instant nextAttemptAt) {
+        jdbcTemplate.update(RESCHEDULE_SQL, truncate(error), Timestamp.from(nextAttemptAt), transactionId);
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,129 @@
+package com.hae.shop.infrastructure.persistence.order;
+
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.PaymentDiscrepancy;
+import com.hae.shop.domain.order.model.SettledPayment;
+import com.hae.shop.domain.order.port.out.PaymentReconciliationPort;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * PaymentReconciliationPort 구현.
+ * 주문 처리 경로의 풀과 분리된 작은 전용 커넥션 풀(기본 2개: 커서 1 + 기록 1)을 사용하므로,
+ * 대사 작업이 오래 걸리거나 PG가 느려도 주문 API의 커넥션을 빼앗지 않습니다.
+ * 풀은 Spring 빈으로 노출하지 않아 기본 DataSource/JdbcTemplate 자동 구성에 영향을 주지 않습니다.
+ */
+@Repository
+public class PaymentReconciliationAdapter implements PaymentReconciliationPort, DisposableBean {
+
+    private static final String SETTLED_PAYMENTS_SQL = """
+        SELECT id, status, payment_transaction_id, payment_cancel_status FROM orders
+        WHERE status IN ('PAID', 'CANCELLED') AND updated_at >= ? AND updated_at < ?
+        ORDER BY updated_at
+        """;
+    private static final String INSERT_SQL = """
+        INSERT INTO payment_discrepancies
+            (order_id, order_status, order_transaction_id, gateway_transaction_id, discrepancy_type, detected_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+    private static final RowMapper<SettledPayment> SETTLED_PAYMENT_MAPPER = (rs, rowNum) -> new SettledPayment(
+        rs.getLong("id"),
+        Order.OrderStatus.valueOf(rs.getString("status")),
+        rs.getString("payment_transaction_id"),
+        rs.getString("payment_cancel_status") != null
+            ? Order.PaymentCancelStatus.valueOf(rs.getString("payment_cancel_status"))
+            : null
+    );
+    private static final int FETCH_SIZE = 1_000;
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    public PaymentReconciliationAdapter(DataSourceProperties dataSourceProperties,
+                                        @Value("${payment.reconciliation.pool-size:2}") int poolSize) {
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("HaeShopReconciliationPool");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // PostgreSQL 드라이버는 트랜잭션 안에서 fetchSize가 지정되면 서버 측 커서로 나눠 읽습니다.
+        jdbcTemplate.setFetchSize(FETCH_SIZE);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public long streamSettledPayments(Instant from, Instant to, int batchSize,
+                                      Consumer<List<SettledPayment>> batchConsumer) {
+        Long read = readTransaction.execute(status -> {
+            long count = 0;
+            List<SettledPayment> batch = new ArrayList<>(batchSize);
+            try (Stream<SettledPayment> rows = jdbcTemplate.queryForStream(SETTLED_PAYMENTS_SQL,
+                    SETTLED_PAYMENT_MAPPER, Timestamp.from(from), Timestamp.from(to))) {
+                Iterator<SettledPayment> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    batch.add(iterator.next());
+                    count++;
+                    if (batch.size() == batchSize) {
+                        batchConsumer.accept(List.copyOf(batch));
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(List.copyOf(batch));
+            }
+            return count;
+        });
+        return read != null ? read : 0;
+    }
+
+    /**
+     * 커서 트랜잭션과 별개의 트랜잭션(두 번째 커넥션)으로 바로 커밋합니다.
+     */
+    @Override
+    public int saveDiscrepancies(List<PaymentDiscrepancy> discrepancies) {
+        if (discrepancies.isEmpty()) {
+            return 0;
+        }
+        writeTransaction.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_SQL, discrepancies, JDBC_BATCH_SIZE, (ps, discrepancy) -> {
+                ps.setLong(1, discrepancy.orderId());
+                ps.setString(2, discrepancy.orderStatus().name());
+                ps.setString(3, discrepancy.orderTransactionId());
+                ps.setString(4, discrepancy.gatewayTransactionId());
+                ps.setString(5, discrepancy.type().name());
+                ps.setTimestamp(6, Timestamp.from(discrepancy.detectedAt()));
+            }));
+        return discrepancies.size();
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
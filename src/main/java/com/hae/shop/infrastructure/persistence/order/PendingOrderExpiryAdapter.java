@@ -0,0 +1,57 @@
+package com.hae.shop.infrastructure.persistence.order;
+
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.OrderSummary;
+import com.hae.shop.domain.order.port.out.PendingOrderExpiryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * PendingOrderExpiryPort 구현.
+ * 선점(SELECT ... FOR UPDATE SKIP LOCKED)과 취소(UPDATE ... RETURNING)를 CTE 한 문장으로 실행합니다.
+ * 만료 대상은 idx_orders_pending_created 부분 인덱스로 오래된 순서대로 찾습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PendingOrderExpiryAdapter implements PendingOrderExpiryPort {
+
+    private static final String CANCEL_EXPIRED_SQL = """
+        WITH expired AS (
+            SELECT id FROM orders
+            WHERE status = 'PENDING' AND created_at < ?
+            ORDER BY created_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE orders o
+        SET status = 'CANCELLED', version = o.version + 1, updated_at = ?
+        FROM expired
+        WHERE o.id = expired.id
+        RETURNING o.id, o.order_number, o.member_id, o.total_amount, o.discount_amount,
+                  o.payment_amount, o.status, o.created_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public List<OrderSummary> cancelExpired(Instant createdBefore, int limit) {
+        return jdbcTemplate.query(CANCEL_EXPIRED_SQL, (rs, rowNum) -> new OrderSummary(
+                rs.getLong("id"),
+                rs.getString("order_number"),
+                rs.getLong("member_id"),
+                rs.getBigDecimal("total_amount"),
+                rs.getBigDecimal("discount_amount"),
+                rs.getBigDecimal("payment_amount"),
+                Order.OrderStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("created_at").toInstant()
+            ),
+            Timestamp.from(createdBefore), limit, Timestamp.from(Instant.now()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.hae.shop.infrastructure.persistence.outbox;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -20,7 +21,7 @@ public interface OutboxJpaRepository extends JpaRepository<OutboxEventEntity, Lo
      * @param limit Maximum number of events to retrieve
      * @return List of unprocessed outbox events
      */
-    List<OutboxEventEntity> findByProcessedAtIsNullOrderByCreatedAtAsc(int limit);
+    List<OutboxEventEntity> findByProcessedAtIsNullOrderByCreatedAtAsc(Limit limit);
 
     /**
      * Find unprocessed events by aggregate type (e.g., Order, Payment).
@@ -29,7 +30,7 @@ public interface OutboxJpaRepository extends JpaRepository<OutboxEventEntity, Lo
      * @param limit Maximum number of events
      * @return List of unprocessed events for the given aggregate type
      */
-    List<OutboxEventEntity> findByAggregateTypeAndProcessedAtIsNullOrderByCreatedAtAsc(String aggregateType, int limit);
+    List<OutboxEventEntity> findByAggregateTypeAndProcessedAtIsNullOrderByCreatedAtAsc(String aggregateType, Limit limit);
 
     /**
      * Count unprocessed events.
@@ -0,0 +1,131 @@
+package com.hae.shop.infrastructure.persistence.product;
+
+import com.hae.shop.domain.product.model.Product;
+import com.hae.shop.domain.product.port.out.ProductBulkWriterPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ProductBulkWriterPort 구현.
+ * PostgreSQL에서는 COPY FROM STDIN으로 청크 전체를 한 번에 적재하고,
+ * 그 외 드라이버(H2 등)에서는 JDBC 배치 INSERT로 대체합니다.
+ * IDENTITY 키 때문에 Hibernate 배치가 동작하지 않는 JPA 경로를 우회합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkWriterAdapter implements ProductBulkWriterPort {
+
+    private static final String COLUMNS = "name, description, price, stock_quantity, category, status, created_at, updated_at";
+    private static final String COPY_SQL = "COPY products (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_SQL = "INSERT INTO products (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public long insertAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return write(products);
+        } catch (RuntimeException e) {
+            // 호출자(일괄 등록 작업)는 일반 메시지만 노출하므로 원인은 여기서 남깁니다.
+            log.error("Product bulk insert failed: rows={}", products.size(), e);
+            throw e;
+        }
+    }
+
+    private long write(List<Product> products) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return null;
+            }
+            try {
+                return connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(toCsv(products, now)));
+            } catch (IOException e) {
+                throw new SQLException("COPY into products failed", e);
+            }
+        });
+
+        return copied != null ? copied : batchInsert(products, now);
+    }
+
+    private long batchInsert(List<Product> products, Timestamp now) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, products, JDBC_BATCH_SIZE, (ps, product) -> {
+            ps.setString(1, product.getName());
+            ps.setString(2, product.getDescription());
+            ps.setBigDecimal(3, product.getPrice());
+            ps.setInt(4, product.getStockQuantity());
+            ps.setString(5, product.getCategory());
+            ps.setString(6, product.getStatus().name());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+        return products.size() - countFailures(counts);
+    }
+
+    private static int countFailures(int[][] counts) {
+        int failures = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == java.sql.Statement.EXECUTE_FAILED) {
+                    failures++;
+                }
+            }
+        }
+        return failures;
+    }
+
+    private static String toCsv(List<Product> products, Timestamp now) {
+        String timestamp = now.toString();
+        StringBuilder csv = new StringBuilder(products.size() * 96);
+        for (Product product : products) {
+            appendField(csv, product.getName()).append(',');
+            appendField(csv, product.getDescription()).append(',');
+            csv.append(product.getPrice().toPlainString()).append(',');
+            csv.append(product.getStockQuantity()).append(',');
+            appendField(csv, product.getCategory()).append(',');
+            csv.append(product.getStatus().name()).append(',');
+            csv.append(timestamp).append(',');
+            csv.append(timestamp).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * COPY CSV 포맷에서 따옴표 없는 빈 값은 NULL이므로, 값이 있으면 항상 따옴표로 감쌉니다.
+     */
+    private static StringBuilder appendField(StringBuilder csv, String value) {
+        if (value == null) {
+            return csv;
+        }
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+}
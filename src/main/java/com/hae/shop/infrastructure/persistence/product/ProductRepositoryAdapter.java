@@ -5,6 +5,7 @@ import com.hae.shop.domain.product.port.out.ProductRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +34,12 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
     public List<Product> findAll() {
         return productJpaRepository.findAll();
     }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return productJpaRepository.findAllById(ids);
+    }
 }
@@ -0,0 +1,32 @@
+package com.hae.shop.infrastructure.redis;
+
+import com.hae.shop.domain.coupon.port.in.CouponService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 생성되거나 사용된 쿠폰을 알림 즉시 이 노드의 활성 쿠폰 인덱스에 반영합니다.
+ * 알림에는 쿠폰 ID만 있고 내용은 커밋된 DB에서 다시 읽으므로, 같은 알림을 두 번 받아도 결과가 같습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveCouponChangeListener {
+
+    private final CouponChangeTopicAdapter couponChangeTopic;
+    private final CouponService couponService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        couponChangeTopic.subscribe(couponIds -> {
+            try {
+                couponService.refreshActiveCoupons(couponIds);
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh active coupons {}: {}", couponIds, e.getMessage());
+            }
+        });
+    }
+}
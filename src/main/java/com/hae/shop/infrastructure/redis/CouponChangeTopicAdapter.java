@@ -0,0 +1,69 @@
+package com.hae.shop.infrastructure.redis;
+
+import com.hae.shop.domain.coupon.port.out.CouponChangePort;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * CouponChangePort 구현: 바뀐 쿠폰 ID를 Redis pub/sub으로 모든 노드에 알립니다.
+ * 메시지는 "보낸 노드 ID|쿠폰 ID,쿠폰 ID,..." 형식이며, 보낸 노드는 이미 자기 인덱스에 반영했으므로 자기 메시지는 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class CouponChangeTopicAdapter implements CouponChangePort {
+
+    static final String TOPIC = "coupon:changes";
+    private static final char ORIGIN_SEPARATOR = '|';
+
+    private final RTopic topic;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CouponChangeTopicAdapter(RedissonClient redissonClient) {
+        this.topic = redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+    }
+
+    /**
+     * 알림 실패는 쿠폰 생성이나 사용 반영을 실패시키지 않습니다. 다른 노드는 주기적인 재적재로 따라잡습니다.
+     */
+    @Override
+    public void publishChanged(Collection<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return;
+        }
+        String ids = couponIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            topic.publish(nodeId + ORIGIN_SEPARATOR + ids);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish coupon changes: couponIds={}, error={}", ids, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 알린 쿠폰 ID 목록을 listener에 넘깁니다.
+     */
+    public void subscribe(Consumer<List<Long>> listener) {
+        topic.addListener(String.class, (channel, message) -> {
+            int separator = message.indexOf(ORIGIN_SEPARATOR);
+            if (separator < 0 || message.substring(0, separator).equals(nodeId)) {
+                return;
+            }
+            List<Long> couponIds = new ArrayList<>();
+            for (String id : message.substring(separator + 1).split(",")) {
+                if (!id.isEmpty()) {
+                    couponIds.add(Long.valueOf(id));
+                }
+            }
+            listener.accept(couponIds);
+        });
+    }
+}
@@ -0,0 +1,160 @@
+package com.hae.shop.infrastructure.redis;
+
+import com.hae.shop.common.BloomFilter;
+import com.hae.shop.domain.coupon.port.out.CouponCodeFilterPort;
+import com.hae.shop.domain.coupon.port.out.CouponRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CouponCodeFilterPort 구현: 쿠폰 코드의 메모리 Bloom filter.
+ * 기동이 끝나면 DB의 모든 코드로 채우고, 적재가 끝나기 전에는 모든 코드를 통과시킵니다.
+ * shared가 켜져 있으면 새 코드를 Redis pub/sub으로 알려 다른 노드의 필터에도 추가합니다
+ * (조회 자체는 항상 메모리에서 끝남).
+ * pub/sub은 재연결 중의 알림을 잃을 수 있어 그대로 두면 다른 노드에서 만든 코드를 없다고 판정(거짓 음성)하게 되므로,
+ * CouponCodeFilterResyncScheduler가 주기적으로 DB에서 새 필터를 만들어 교체합니다.
+ * 재적재 중이나 직전에 추가된 코드는 DB 조회 시점에 따라 빠질 수 있어 교체한 뒤 새 필터에 다시 넣습니다.
+ * 쿠폰 생성은 커밋 뒤에 add를 호출하며, 알림 발행 실패는 경고만 남깁니다(놓친 코드는 재적재가 메움).
+ * <ul>
+ *   <li>coupon.code.filter.fpp.expected: 설정한 목표 오탐률</li>
+ *   <li>coupon.code.filter.fpp: 채워진 비트 비율로 추정한 현재 오탐률</li>
+ *   <li>coupon.code.filter.size: 추가된 코드 수</li>
+ *   <li>coupon.code.filter.rejected: DB 조회 없이 거절한 코드 조회 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CouponCodeFilterAdapter implements CouponCodeFilterPort {
+
+    private static final String TOPIC = "coupon:codes";
+
+    private final CouponRepositoryPort couponRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final boolean enabled;
+    private final RTopic topic;
+    private final Counter rejected;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile BloomFilter filter;
+    /** 마지막 재적재 시작 이후 추가된 코드. 다음 재적재까지 한 번 더 새 필터에 넣은 뒤 버립니다. */
+    private volatile Set<String> recentCodes = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    public CouponCodeFilterAdapter(CouponRepositoryPort couponRepository,
+                                   RedissonClient redissonClient,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${coupon.code-filter.enabled:true}") boolean enabled,
+                                   @Value("${coupon.code-filter.expected-insertions:1000000}") long expectedInsertions,
+                                   @Value("${coupon.code-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                   @Value("${coupon.code-filter.shared:true}") boolean shared) {
+        this.couponRepository = couponRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.enabled = enabled;
+        this.topic = shared ? redissonClient.getTopic(TOPIC, StringCodec.INSTANCE) : null;
+
+        Gauge.builder("coupon.code.filter.fpp.expected", () -> falsePositiveRate)
+            .description("Configured false-positive rate of the coupon code filter")
+            .register(meterRegistry);
+        Gauge.builder("coupon.code.filter.fpp", this, adapter -> adapter.filter.estimatedFalsePositiveRate())
+            .description("Estimated current false-positive rate of the coupon code filter")
+            .register(meterRegistry);
+        Gauge.builder("coupon.code.filter.size", this, adapter -> adapter.filter.insertions())
+            .description("Coupon codes added to the filter")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("coupon.code.filter.rejected")
+            .description("Coupon code lookups rejected without a database query")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 적재 중에 다른 노드가 만든 코드를 놓치지 않도록 구독을 먼저 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        if (topic != null) {
+            topic.addListener(String.class, (channel, code) -> addLocally(code));
+        }
+        rebuild();
+        loaded = true;
+    }
+
+    /**
+     * DB의 모든 코드로 새 필터를 만들어 교체합니다. 조회는 교체 전까지 이전 필터로 계속 처리됩니다.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            long started = System.nanoTime();
+            Set<String> previousCodes = recentCodes;
+            recentCodes = ConcurrentHashMap.newKeySet();
+
+            BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+            couponRepository.forEachCode(rebuilt::add);
+            filter = rebuilt;
+            // 교체 전 이전 필터에만 들어간 코드도 previousCodes나 recentCodes에는 먼저 기록되어 있음
+            previousCodes.forEach(rebuilt::add);
+            recentCodes.forEach(rebuilt::add);
+
+            log.info("Coupon code filter rebuilt: codes={}, bits={}, estimatedFpp={}, took={}ms",
+                rebuilt.insertions(), rebuilt.bitCount(), rebuilt.estimatedFalsePositiveRate(),
+                (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean mightExist(String code) {
+        if (!loaded || filter.mightContain(code)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    @Override
+    public void add(String code) {
+        if (!enabled) {
+            return;
+        }
+        addLocally(code);
+        if (topic == null) {
+            return;
+        }
+        try {
+            topic.publish(code);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish new coupon code: code={}, error={}", code, e.getMessage());
+        }
+    }
+
+    /**
+     * 재적재가 이 코드를 빠뜨리지 않도록 필터보다 recentCodes에 먼저 기록합니다.
+     */
+    private void addLocally(String code) {
+        recentCodes.add(code);
+        filter.add(code);
+    }
+}
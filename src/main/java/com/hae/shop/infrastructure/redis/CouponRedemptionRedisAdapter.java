@@ -0,0 +1,202 @@
+package com.hae.shop.infrastructure.redis;
+
+import com.hae.shop.domain.coupon.model.CouponRedemption;
+import com.hae.shop.domain.coupon.port.out.CouponRedemptionPort;
+import org.redisson.api.RScript;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CouponRedemptionPort의 Redis 구현.
+ * <ul>
+ *   <li>coupon:{id}:stock: 잔여 수량 (-1이면 무제한). 키가 없으면 아직 초기화되지 않은 쿠폰</li>
+ *   <li>coupon:{id}:used: 쿠폰을 사용한 회원 ID 집합</li>
+ *   <li>coupon:redemptions: DB 반영 대기열 Redis Stream (entry 필드 = "couponId:memberId:epochMillis")</li>
+ * </ul>
+ * 확인, 차감, 사용자 기록, 대기열 적재를 Lua 스크립트 하나로 실행하므로 동시 요청에도 초과 발급이 없습니다.
+ * <p>
+ * 대기열은 consumer group으로 읽습니다. 읽은 항목은 XACK 전까지 보류(pending) 목록에 남으므로,
+ * DB 반영 전에 노드가 죽거나 반영이 실패해도 유실되지 않고, claim-idle-time이 지나면 어느 노드든 XAUTOCLAIM으로 다시 가져갑니다.
+ */
+@Component
+public class CouponRedemptionRedisAdapter implements CouponRedemptionPort {
+
+    private static final String QUEUE_KEY = "coupon:redemptions";
+    private static final String CONSUMER_GROUP = "coupon-redemption-writers";
+    private static final String ENTRY_FIELD = "entry";
+    private static final long UNLIMITED = -1;
+    private static final int SADD_CHUNK = 5_000;
+
+    /**
+     * KEYS: stock, used, queue / ARGV: memberId, queue entry
+     * 반환: 0 사용 완료, 1 소진, 2 이미 사용, 3 미초기화
+     */
+    private static final String REDEEM_SCRIPT = """
+        local stock = redis.call('GET', KEYS[1])
+        if not stock then return 3 end
+        if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return 2 end
+        stock = tonumber(stock)
+        if stock == 0 then return 1 end
+        if stock > 0 then redis.call('DECR', KEYS[1]) end
+        redis.call('SADD', KEYS[2], ARGV[1])
+        redis.call('XADD', KEYS[3], '*', 'entry', ARGV[2])
+        return 0
+        """;
+
+    /**
+     * KEYS: stock, used / ARGV: 잔여 수량, 사용한 회원 ID...
+     */
+    private static final String INITIALIZE_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+        for i = 2, #ARGV, %d do
+            redis.call('SADD', KEYS[2], unpack(ARGV, i, math.min(i + %d - 1, #ARGV)))
+        end
+        redis.call('SET', KEYS[1], ARGV[1])
+        return 1
+        """.formatted(SADD_CHUNK, SADD_CHUNK);
+
+    private final RedissonClient redissonClient;
+    private final long claimIdleMillis;
+    private final String consumerName = "node-" + UUID.randomUUID();
+
+    private volatile boolean groupCreated;
+
+    /**
+     * claimIdleTime은 배치 하나의 DB 반영 시간보다 충분히 길어야 합니다. 짧으면 처리 중인 항목을 다른 노드가 가져가
+     * 같은 건을 중복 반영하게 되며(쓰기는 멱등이라 수량은 맞지만 불필요한 작업), 길면 장애 후 복구가 늦어집니다.
+     */
+    public CouponRedemptionRedisAdapter(RedissonClient redissonClient,
+                                        @Value("${coupon.redemption.claim-idle-time:60000}") long claimIdleMillis) {
+        this.redissonClient = redissonClient;
+        this.claimIdleMillis = claimIdleMillis;
+    }
+
+    @Override
+    public Result redeem(Long couponId, Long memberId) {
+        String entry = couponId + ":" + memberId + ":" + Instant.now().toEpochMilli();
+        Long code = script().eval(RScript.Mode.READ_WRITE, REDEEM_SCRIPT, RScript.ReturnType.INTEGER,
+            List.<Object>of(stockKey(couponId), usedKey(couponId), QUEUE_KEY), String.valueOf(memberId), entry);
+        return switch (code.intValue()) {
+            case 0 -> Result.REDEEMED;
+            case 1 -> Result.SOLD_OUT;
+            case 2 -> Result.ALREADY_USED;
+            case 3 -> Result.NOT_INITIALIZED;
+            default -> throw new IllegalStateException("Unexpected redemption result: " + code);
+        };
+    }
+
+    @Override
+    public void initialize(Long couponId, Integer remainingQuantity, Collection<Long> usedMemberIds) {
+        List<Object> args = new ArrayList<>(usedMemberIds.size() + 1);
+        args.add(String.valueOf(remainingQuantity != null ? Math.max(remainingQuantity, 0) : UNLIMITED));
+        for (Long memberId : usedMemberIds) {
+            args.add(String.valueOf(memberId));
+        }
+        script().eval(RScript.Mode.READ_WRITE, INITIALIZE_SCRIPT, RScript.ReturnType.INTEGER,
+            List.<Object>of(stockKey(couponId), usedKey(couponId)), args.toArray());
+    }
+
+    /**
+     * 보류된 지 오래된 항목(반영 실패, 죽은 노드)을 먼저 회수하고, 남은 자리만큼 새 항목을 읽습니다.
+     */
+    @Override
+    public List<CouponRedemption> pollRedemptions(int limit) {
+        ensureGroup();
+        RStream<String, String> stream = stream();
+        List<CouponRedemption> redemptions = new ArrayList<>();
+
+        Map<StreamMessageId, Map<String, String>> claimed = stream.autoClaim(CONSUMER_GROUP, consumerName,
+            claimIdleMillis, TimeUnit.MILLISECONDS, StreamMessageId.MIN, limit).getMessages();
+        addAll(redemptions, claimed);
+
+        if (redemptions.size() < limit) {
+            Map<StreamMessageId, Map<String, String>> fresh = stream.readGroup(CONSUMER_GROUP, consumerName,
+                StreamReadGroupArgs.neverDelivered().count(limit - redemptions.size()));
+            addAll(redemptions, fresh);
+        }
+        return redemptions;
+    }
+
+    @Override
+    public void acknowledge(List<CouponRedemption> redemptions) {
+        if (redemptions.isEmpty()) {
+            return;
+        }
+        StreamMessageId[] ids = redemptions.stream()
+            .map(redemption -> parseId(redemption.deliveryId()))
+            .toArray(StreamMessageId[]::new);
+        RStream<String, String> stream = stream();
+        stream.ack(CONSUMER_GROUP, ids);
+        stream.remove(ids);
+    }
+
+    /**
+     * 그룹은 스트림의 처음(0)부터 읽도록 만들어, 그룹이 생기기 전에 쌓인 항목도 놓치지 않습니다.
+     */
+    private void ensureGroup() {
+        if (groupCreated) {
+            return;
+        }
+        try {
+            stream().createGroup(StreamCreateGroupArgs.name(CONSUMER_GROUP).id(StreamMessageId.ALL).makeStream());
+        } catch (RedisException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupCreated = true;
+    }
+
+    private void addAll(List<CouponRedemption> redemptions, Map<StreamMessageId, Map<String, String>> messages) {
+        if (messages == null) {
+            return;
+        }
+        messages.forEach((id, fields) -> {
+            // 본문이 없는 항목(이미 삭제됨)은 보류 목록에서만 치워 계속 회수되지 않게 합니다.
+            String entry = fields != null ? fields.get(ENTRY_FIELD) : null;
+            if (entry == null) {
+                stream().ack(CONSUMER_GROUP, id);
+                return;
+            }
+            String[] parts = entry.split(":");
+            redemptions.add(new CouponRedemption(Long.valueOf(parts[0]), Long.valueOf(parts[1]),
+                Instant.ofEpochMilli(Long.parseLong(parts[2])), id.toString()));
+        });
+    }
+
+    private static StreamMessageId parseId(String deliveryId) {
+        String[] parts = deliveryId.split("-");
+        return new StreamMessageId(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private RStream<String, String> stream() {
+        return redissonClient.getStream(QUEUE_KEY, StringCodec.INSTANCE);
+    }
+
+    private static String stockKey(Long couponId) {
+        return "coupon:{" + couponId + "}:stock";
+    }
+
+    private static String usedKey(Long couponId) {
+        return "coupon:{" + couponId + "}:used";
+    }
+}
@@ -0,0 +1,31 @@
+package com.hae.shop.infrastructure.scheduler;
+
+import com.hae.shop.domain.coupon.port.in.CouponService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 활성 쿠폰 인덱스를 주기적으로 DB 기준으로 다시 적재합니다.
+ * 유효 기간 경계와 이 노드의 변경은 인덱스가 즉시 반영하고, 다른 노드의 변경은 Redis pub/sub 알림
+ * (ActiveCouponChangeListener)으로 바로 반영됩니다. 이 작업은 노드가 재연결 중이라 놓친 알림을 메우는 안전망이며
+ * 요청 경로에서는 DB를 조회하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveCouponResyncScheduler {
+
+    private final CouponService couponService;
+
+    @Scheduled(fixedDelayString = "${coupon.active-index.resync-interval:600000}",
+        initialDelayString = "${coupon.active-index.resync-interval:600000}")
+    public void resync() {
+        try {
+            couponService.reloadActiveCoupons();
+        } catch (RuntimeException e) {
+            log.error("Failed to reload active coupons: {}", e.getMessage(), e);
+        }
+    }
+}
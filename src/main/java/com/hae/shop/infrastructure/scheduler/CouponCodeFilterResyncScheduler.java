@@ -0,0 +1,30 @@
+package com.hae.shop.infrastructure.scheduler;
+
+import com.hae.shop.infrastructure.redis.CouponCodeFilterAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 쿠폰 코드 Bloom filter를 주기적으로 DB 기준으로 다시 만듭니다.
+ * 다른 노드의 새 코드는 Redis pub/sub(coupon:codes)으로 바로 추가되지만, 재연결 중 놓친 알림은
+ * 필터가 그 코드를 없다고 판정하게 만들므로 이 작업이 그 구간을 메웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCodeFilterResyncScheduler {
+
+    private final CouponCodeFilterAdapter couponCodeFilterAdapter;
+
+    @Scheduled(fixedDelayString = "${coupon.code-filter.resync-interval:600000}",
+        initialDelayString = "${coupon.code-filter.resync-interval:600000}")
+    public void resync() {
+        try {
+            couponCodeFilterAdapter.rebuild();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild coupon code filter: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.hae.shop.infrastructure.scheduler;
+
+import com.hae.shop.config.DistributedLock;
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob;
+import com.hae.shop.domain.coupon.port.in.CouponIssuanceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등록된 쿠폰 일괄 발급 작업을 청크 단위로 진행합니다.
+ * 분산 락으로 클러스터에서 한 노드만 실행하며, 청크 사이 휴지 시간과 실행당 최대 청크 수로
+ * DB 쓰기 부하를 제한합니다. 노드가 죽어도 다음 주기에 다른 노드가 체크포인트부터 이어갑니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "coupon.issuance", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponIssuanceScheduler {
+
+    private static final String LOCK_KEY = "lock:coupon-issuance";
+
+    private final CouponIssuanceService couponIssuanceService;
+    private final DistributedLock distributedLock;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration chunkPause;
+
+    public CouponIssuanceScheduler(CouponIssuanceService couponIssuanceService,
+                                   DistributedLock distributedLock,
+                                   @Value("${coupon.issuance.chunk-size:5000}") int chunkSize,
+                                   @Value("${coupon.issuance.max-chunks-per-run:100}") int maxChunksPerRun,
+                                   @Value("${coupon.issuance.chunk-pause:200ms}") Duration chunkPause) {
+        this.couponIssuanceService = couponIssuanceService;
+        this.distributedLock = distributedLock;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.chunkPause = chunkPause;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.issuance.interval:5000}")
+    public void issueCoupons() {
+        try {
+            // leaseTime -1: 작업이 끝날 때까지 Redisson watchdog이 락을 연장
+            distributedLock.executeWithLock(LOCK_KEY, 0, -1, TimeUnit.SECONDS, this::issueChunks);
+        } catch (IllegalStateException e) {
+            log.debug("Skipping coupon issuance: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Coupon issuance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void issueChunks() {
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            Optional<CouponIssuanceJob> issued = couponIssuanceService.issueNextChunk(chunkSize);
+            if (issued.isEmpty()) {
+                return;
+            }
+
+            CouponIssuanceJob job = issued.get();
+            switch (job.status()) {
+                case COMPLETED -> log.info("Coupon issuance completed: jobId={}, couponId={}, issued={}",
+                    job.id(), job.couponId(), job.issuedCount());
+                case FAILED -> log.error("Coupon issuance failed: jobId={}, couponId={}, issued={}, reason={}",
+                    job.id(), job.couponId(), job.issuedCount(), job.failureReason());
+                default -> { }
+            }
+            if (!pause()) {
+                return;
+            }
+        }
+    }
+
+    private boolean pause() {
+        if (chunkPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.hae.shop.infrastructure.scheduler;
+
+import com.hae.shop.domain.coupon.port.in.CouponService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis에서 확정된 쿠폰 사용 내역을 주기적으로 DB(coupons, member_coupons)에 반영합니다.
+ * 대기열을 consumer group으로 읽으므로 모든 노드에서 동시에 실행해도 새 내역을 나눠 가지며,
+ * 장애로 반영되지 못한 내역은 claim-idle-time 뒤 다른 노드가 회수합니다.
+ */
+@Slf4j
+@Component
+public class CouponRedemptionFlushScheduler {
+
+    private final CouponService couponService;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public CouponRedemptionFlushScheduler(CouponService couponService,
+                                          @Value("${coupon.redemption.batch-size:500}") int batchSize,
+                                          @Value("${coupon.redemption.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.couponService = couponService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.redemption.flush-interval:1000}")
+    public void flushRedemptions() {
+        int total = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int flushed;
+            try {
+                flushed = couponService.flushRedemptions(batchSize);
+            } catch (RuntimeException e) {
+                log.error("Failed to flush coupon redemptions: error={}", e.getMessage(), e);
+                break;
+            }
+            total += flushed;
+            if (flushed < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.debug("Flushed {} coupon redemptions", total);
+        }
+    }
+}
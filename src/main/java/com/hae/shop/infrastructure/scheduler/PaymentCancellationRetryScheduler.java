@@ -0,0 +1,37 @@
+package com.hae.shop.infrastructure.scheduler;
+
+import com.hae.shop.domain.order.port.in.PaymentCancellationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보상 취소처럼 즉시 처리하지 못한 PG 승인 취소를 주기적으로 다시 시도합니다.
+ * 대상 선점이 SKIP LOCKED이므로 모든 노드에서 동시에 실행해도 같은 건을 두 번 취소하지 않습니다.
+ */
+@Slf4j
+@Component
+public class PaymentCancellationRetryScheduler {
+
+    private final PaymentCancellationService paymentCancellationService;
+    private final int batchSize;
+
+    public PaymentCancellationRetryScheduler(PaymentCancellationService paymentCancellationService,
+                                             @Value("${payment.cancellation-retry.batch-size:50}") int batchSize) {
+        this.paymentCancellationService = paymentCancellationService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.cancellation-retry.interval:30000}")
+    public void retryFailedCancellations() {
+        try {
+            int cancelled = paymentCancellationService.retryFailedCancellations(batchSize);
+            if (cancelled > 0) {
+                log.info("Cancelled {} payments that previously failed to cancel", cancelled);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to retry payment cancellations: {}", e.getMessage(), e);
+        }
+    }
+}
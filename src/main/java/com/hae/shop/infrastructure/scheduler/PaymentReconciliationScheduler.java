@@ -0,0 +1,63 @@
+package com.hae.shop.infrastructure.scheduler;
+
+import com.hae.shop.config.DistributedLock;
+import com.hae.shop.domain.order.model.ReconciliationReport;
+import com.hae.shop.domain.order.port.in.PaymentReconciliationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 직전 window 동안 결제 완료/취소된 주문을 PG 승인 내역과 대사합니다.
+ * 결제 확정 직후의 주문은 아직 진행 중일 수 있으므로 settle-delay만큼 지난 주문만 봅니다.
+ * 분산 락으로 클러스터에서 한 노드만 실행합니다 (락을 못 얻으면 이번 주기는 건너뜀).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "payment.reconciliation", name = "enabled", havingValue = "true")
+public class PaymentReconciliationScheduler {
+
+    private static final String LOCK_KEY = "lock:payment-reconciliation";
+
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final DistributedLock distributedLock;
+    private final Duration window;
+    private final Duration settleDelay;
+
+    public PaymentReconciliationScheduler(PaymentReconciliationService paymentReconciliationService,
+                                          DistributedLock distributedLock,
+                                          @Value("${payment.reconciliation.window:1h}") Duration window,
+                                          @Value("${payment.reconciliation.settle-delay:5m}") Duration settleDelay) {
+        this.paymentReconciliationService = paymentReconciliationService;
+        this.distributedLock = distributedLock;
+        this.window = window;
+        this.settleDelay = settleDelay;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.reconciliation.interval:3600000}")
+    public void reconcile() {
+        Instant to = Instant.now().minus(settleDelay);
+        Instant from = to.minus(window);
+        try {
+            // leaseTime -1: 작업이 끝날 때까지 Redisson watchdog이 락을 연장
+            ReconciliationReport report = distributedLock.executeWithLock(LOCK_KEY, 0, -1, TimeUnit.SECONDS,
+                () -> paymentReconciliationService.reconcile(from, to));
+            if (report.discrepancies() > 0 || report.unverified() > 0) {
+                log.warn("Payment reconciliation {} ~ {}: checked={}, discrepancies={}, unverified={}",
+                    from, to, report.checked(), report.discrepancies(), report.unverified());
+            } else {
+                log.info("Payment reconciliation {} ~ {}: checked={}, no discrepancies", from, to, report.checked());
+            }
+        } catch (IllegalStateException e) {
+            log.info("Skipping payment reconciliation: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Payment reconciliation failed for {} ~ {}: {}", from, to, e.getMessage(), e);
+        }
+    }
+}
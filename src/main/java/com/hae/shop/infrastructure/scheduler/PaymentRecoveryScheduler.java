@@ -0,0 +1,43 @@
+package com.hae.shop.infrastructure.scheduler;
+
+import com.hae.shop.domain.order.port.in.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 결제 호출 도중 프로세스가 죽거나 결과를 확인하지 못해 PAYMENT_IN_PROGRESS에 남은 주문을 정리합니다.
+ * stuck-after는 결제 호출의 최대 소요 시간보다 길어야 진행 중인 결제를 건드리지 않습니다.
+ */
+@Slf4j
+@Component
+public class PaymentRecoveryScheduler {
+
+    private final OrderService orderService;
+    private final Duration stuckAfter;
+    private final int batchSize;
+
+    public PaymentRecoveryScheduler(OrderService orderService,
+                                    @Value("${payment.recovery.stuck-after:2m}") Duration stuckAfter,
+                                    @Value("${payment.recovery.batch-size:50}") int batchSize) {
+        this.orderService = orderService;
+        this.stuckAfter = stuckAfter;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.recovery.interval:30000}")
+    public void recoverStuckPayments() {
+        try {
+            int recovered = orderService.recoverStuckPayments(Instant.now().minus(stuckAfter), batchSize);
+            if (recovered > 0) {
+                log.info("Recovered {} orders stuck in payment", recovered);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to recover stuck payments: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.hae.shop.infrastructure.scheduler;
+
+import com.hae.shop.domain.order.port.in.OrderExpiryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 방치된 PENDING 주문을 주기적으로 만료시킵니다.
+ * 배치마다 별도 트랜잭션이며, 행 잠금을 SKIP LOCKED로 건너뛰므로 모든 노드에서 동시에 실행해도 안전합니다.
+ * 실행당 최대 배치 수와 배치 사이 휴지 시간으로 DB 부하를 제한합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.expiry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PendingOrderExpiryScheduler {
+
+    private final OrderExpiryService orderExpiryService;
+    private final Duration pendingTtl;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration batchPause;
+
+    public PendingOrderExpiryScheduler(OrderExpiryService orderExpiryService,
+                                       @Value("${order.expiry.pending-ttl:30m}") Duration pendingTtl,
+                                       @Value("${order.expiry.batch-size:500}") int batchSize,
+                                       @Value("${order.expiry.max-batches-per-run:20}") int maxBatchesPerRun,
+                                       @Value("${order.expiry.batch-pause:100ms}") Duration batchPause) {
+        this.orderExpiryService = orderExpiryService;
+        this.pendingTtl = pendingTtl;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPause = batchPause;
+    }
+
+    @Scheduled(fixedDelayString = "${order.expiry.interval:60000}")
+    public void expirePendingOrders() {
+        Instant cutoff = Instant.now().minus(pendingTtl);
+        int total = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int expired;
+            try {
+                expired = orderExpiryService.expirePendingOrders(cutoff, batchSize);
+            } catch (RuntimeException e) {
+                log.error("Failed to expire pending orders: cutoff={}, error={}", cutoff, e.getMessage(), e);
+                break;
+            }
+            total += expired;
+            if (expired < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Expired {} pending orders created before {}", total, cutoff);
+        }
+    }
+
+    private boolean pause() {
+        if (batchPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.hae.shop.interfaces.coupon;
 
 import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob;
+import com.hae.shop.domain.coupon.port.in.CouponIssuanceService;
 import com.hae.shop.domain.coupon.port.in.CouponService;
+import com.hae.shop.interfaces.coupon.dto.CouponIssuanceResponse;
 import com.hae.shop.interfaces.coupon.dto.CreateCouponRequest;
 import com.hae.shop.interfaces.coupon.dto.CouponResponse;
+import com.hae.shop.interfaces.coupon.dto.IssueCouponRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,6 +28,7 @@ import java.util.stream.Collectors;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponIssuanceService couponIssuanceService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -53,6 +58,13 @@ public class CouponController {
         return ResponseEntity.ok(CouponResponse.from(coupon));
     }
 
+    @GetMapping("/code/{code}")
+    @Operation(summary = "쿠폰 코드 조회", description = "쿠폰 코드로 상세 정보를 조회합니다")
+    public ResponseEntity<CouponResponse> getCouponByCode(@PathVariable String code) {
+        Coupon coupon = couponService.getCouponByCode(code);
+        return ResponseEntity.ok(CouponResponse.from(coupon));
+    }
+
     @GetMapping("/active")
     @Operation(summary = "활성 쿠폰 목록", description = "현재 사용 가능한 활성 쿠폰 목록을 조회합니다")
     public ResponseEntity<List<CouponResponse>> getActiveCoupons() {
@@ -62,4 +74,38 @@ public class CouponController {
             .collect(Collectors.toList());
         return ResponseEntity.ok(responses);
     }
+
+    @PostMapping("/{id}/issuances")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "쿠폰 일괄 발급", description = "세그먼트에 속한 회원 전체에게 쿠폰을 발급하는 작업을 등록합니다. 발급은 백그라운드에서 청크 단위로 진행됩니다 (관리자 전용)")
+    public ResponseEntity<CouponIssuanceResponse> startIssuance(
+        @Parameter(description = "쿠폰 ID") @PathVariable Long id,
+        @RequestBody(required = false) IssueCouponRequest request
+    ) {
+        IssueCouponRequest segment = request != null ? request : new IssueCouponRequest(null, null, null);
+        CouponIssuanceJob job = couponIssuanceService.startIssuance(
+            id, segment.targetRole(), segment.joinedFrom(), segment.joinedBefore());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(CouponIssuanceResponse.from(job));
+    }
+
+    @GetMapping("/issuances/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "쿠폰 일괄 발급 진행 상황 조회", description = "작업 ID로 발급 건수와 체크포인트를 조회합니다 (관리자 전용)")
+    public ResponseEntity<CouponIssuanceResponse> getIssuance(@PathVariable Long jobId) {
+        return ResponseEntity.ok(CouponIssuanceResponse.from(couponIssuanceService.getIssuance(jobId)));
+    }
+
+    @PostMapping("/issuances/{jobId}/pause")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "쿠폰 일괄 발급 일시 중지", description = "진행 중인 청크까지만 발급하고 멈춥니다 (관리자 전용)")
+    public ResponseEntity<CouponIssuanceResponse> pauseIssuance(@PathVariable Long jobId) {
+        return ResponseEntity.ok(CouponIssuanceResponse.from(couponIssuanceService.pauseIssuance(jobId)));
+    }
+
+    @PostMapping("/issuances/{jobId}/resume")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "쿠폰 일괄 발급 재개", description = "일시 중지되었거나 실패한 작업을 마지막 체크포인트부터 이어서 진행합니다 (관리자 전용)")
+    public ResponseEntity<CouponIssuanceResponse> resumeIssuance(@PathVariable Long jobId) {
+        return ResponseEntity.ok(CouponIssuanceResponse.from(couponIssuanceService.resumeIssuance(jobId)));
+    }
 }
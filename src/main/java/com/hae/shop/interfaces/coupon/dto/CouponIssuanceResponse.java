@@ -0,0 +1,38 @@
+package com.hae.shop.interfaces.coupon.dto;
+
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob;
+
+import java.time.Instant;
+
+/**
+ * 쿠폰 일괄 발급 작업 응답 DTO
+ */
+public record CouponIssuanceResponse(
+    Long jobId,
+    Long couponId,
+    String targetRole,
+    Instant joinedFrom,
+    Instant joinedBefore,
+    String status,
+    long lastMemberId,
+    long issuedCount,
+    String failureReason,
+    Instant createdAt,
+    Instant updatedAt
+) {
+    public static CouponIssuanceResponse from(CouponIssuanceJob job) {
+        return new CouponIssuanceResponse(
+            job.id(),
+            job.couponId(),
+            job.targetRole() != null ? job.targetRole().name() : null,
+            job.joinedFrom(),
+            job.joinedBefore(),
+            job.status().name(),
+            job.lastMemberId(),
+            job.issuedCount(),
+            job.failureReason(),
+            job.createdAt(),
+            job.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.hae.shop.interfaces.coupon.dto;
+
+import com.hae.shop.domain.member.model.Member;
+
+import java.time.Instant;
+
+/**
+ * 쿠폰 일괄 발급 요청 DTO (지정하지 않은 조건은 적용하지 않음)
+ */
+public record IssueCouponRequest(
+    Member.MemberRole targetRole,
+    Instant joinedFrom,
+    Instant joinedBefore
+) {
+}
@@ -1,9 +1,12 @@
 package com.hae.shop.interfaces.member;
 
 import com.hae.shop.domain.member.port.in.MemberService;
+import com.hae.shop.config.security.AuthenticatedMember;
 import com.hae.shop.config.security.JwtTokenProvider;
+import com.hae.shop.config.security.TokenDenyList;
 import com.hae.shop.common.BusinessException;
 import com.hae.shop.common.ErrorCode;
+import com.hae.shop.interfaces.member.dto.ChangeRoleRequest;
 import com.hae.shop.interfaces.member.dto.LoginRequest;
 import com.hae.shop.interfaces.member.dto.LoginResponse;
 import com.hae.shop.interfaces.member.dto.MemberResponse;
@@ -13,6 +16,8 @@ import com.hae.shop.domain.member.model.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,6 +31,7 @@ public class MemberController {
     private final MemberService memberService;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
+    private final TokenDenyList tokenDenyList;
 
     @PostMapping
     public ResponseEntity<MemberResponse> register(@Valid @RequestBody RegisterRequest request) {
@@ -53,6 +59,39 @@ public class MemberController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 기존 토큰에는 이전 역할이 클레임으로 남아 있으므로 모두 폐기해 다시 로그인하게 합니다.
+     */
+    @PatchMapping("/{id}/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MemberResponse> changeRole(@PathVariable Long id,
+                                                     @Valid @RequestBody ChangeRoleRequest request) {
+        Member member = memberService.changeRole(id, request.role());
+        tokenDenyList.revokeAll(id);
+        MemberResponse response = new MemberResponse(
+            member.getId(),
+            member.getEmail(),
+            member.getNickname(),
+            member.getRole().name(),
+            member.getCreatedAt()
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 본인 또는 관리자만 삭제할 수 있고, 삭제된 회원의 토큰은 만료 전이라도 바로 폐기합니다.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@AuthenticationPrincipal AuthenticatedMember principal,
+                                       @PathVariable Long id) {
+        if (!principal.memberId().equals(id) && !"ROLE_ADMIN".equals(principal.role())) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        memberService.delete(id);
+        tokenDenyList.revokeAll(id);
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/auth/login")
     public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
         Member member = memberService.findByEmail(request.email());
@@ -61,8 +100,8 @@ public class MemberController {
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
         
-        String accessToken = jwtTokenProvider.generateAccessToken(member.getEmail());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(member.getEmail());
+        String accessToken = jwtTokenProvider.generateAccessToken(member.getId(), member.getEmail(), member.getRole().name());
+        String refreshToken = jwtTokenProvider.generateRefreshToken(member.getId(), member.getEmail());
         long expiresIn = 3600000L;
         
         MemberResponse memberResponse = new MemberResponse(
@@ -80,14 +119,13 @@ public class MemberController {
     @PostMapping("/auth/refresh")
     public ResponseEntity<LoginResponse> refreshToken(
             @Valid @RequestBody RefreshTokenRequest request) {
-        String refreshToken = request.refreshToken();
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
-        }
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
-        Member member = memberService.findByEmail(email);
-        String newAccessToken = jwtTokenProvider.generateAccessToken(email);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(email);
+        AuthenticatedMember principal = jwtTokenProvider.parseRefreshToken(request.refreshToken())
+            .filter(refresh -> !tokenDenyList.isRevoked(refresh.memberId(), refresh.issuedAt()))
+            .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
+        // 역할이 바뀌었을 수 있으므로 새 액세스 토큰은 현재 회원 정보로 발급
+        Member member = memberService.findByEmail(principal.email());
+        String newAccessToken = jwtTokenProvider.generateAccessToken(member.getId(), member.getEmail(), member.getRole().name());
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(member.getId(), member.getEmail());
         long expiresIn = 3600000L;
         MemberResponse memberResponse = new MemberResponse(
             member.getId(),
@@ -98,4 +136,13 @@ public class MemberController {
         );
         return ResponseEntity.ok(new LoginResponse(newAccessToken, newRefreshToken, expiresIn, "Bearer", memberResponse));
     }
+
+    /**
+     * 회원의 기존 액세스/리프레시 토큰을 모두 폐기합니다.
+     */
+    @PostMapping("/auth/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal AuthenticatedMember principal) {
+        tokenDenyList.revokeAll(principal.memberId());
+        return ResponseEntity.noContent().build();
+    }
 }
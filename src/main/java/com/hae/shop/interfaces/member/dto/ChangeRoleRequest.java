@@ -0,0 +1,12 @@
+package com.hae.shop.interfaces.member.dto;
+
+import com.hae.shop.domain.member.model.Member;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 회원 역할 변경 요청 DTO
+ */
+public record ChangeRoleRequest(
+    @NotNull Member.MemberRole role
+) {
+}
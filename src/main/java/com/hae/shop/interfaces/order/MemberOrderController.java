@@ -0,0 +1,97 @@
+package com.hae.shop.interfaces.order;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.config.security.AuthenticatedMember;
+import com.hae.shop.domain.coupon.model.CouponRecommendation;
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.OrderHistoryPage;
+import com.hae.shop.domain.order.model.OrderSummary;
+import com.hae.shop.domain.order.port.in.OrderService;
+import com.hae.shop.interfaces.order.dto.CouponRecommendationResponse;
+import com.hae.shop.interfaces.order.dto.OrderHistoryResponse;
+import com.hae.shop.interfaces.order.dto.OrderResponse;
+import com.hae.shop.interfaces.order.dto.OrderSummaryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/members/{memberId}/orders")
+@RequiredArgsConstructor
+@Tag(name = "Orders", description = "주문 관리 API")
+public class MemberOrderController {
+
+    private static final String DEFAULT_PAGE_SIZE = "20";
+    private static final String DEFAULT_RECOMMENDATION_LIMIT = "10";
+
+    private final OrderService orderService;
+
+    /**
+     * 본인 또는 관리자만 조회할 수 있습니다. 경로의 memberId만 믿으면 다른 회원의 주문 이력을 볼 수 있습니다.
+     */
+    @GetMapping
+    @Operation(summary = "회원 주문 이력 조회", description = "회원의 주문을 최신순으로 항목과 함께 조회합니다 (커서 기반 페이지)")
+    public ResponseEntity<OrderHistoryResponse<OrderResponse>> getMemberOrders(
+            @AuthenticationPrincipal AuthenticatedMember principal,
+            @PathVariable Long memberId,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        requireOwnerOrAdmin(principal, memberId);
+        OrderHistoryPage<Order> page = orderService.getMemberOrders(
+            memberId, OrderHistoryCursorCodec.decode(cursor), size);
+        return ResponseEntity.ok(new OrderHistoryResponse<>(
+            page.orders().stream().map(OrderResponse::from).toList(),
+            OrderHistoryCursorCodec.encode(page.nextCursor()),
+            page.hasNext()
+        ));
+    }
+
+    @GetMapping("/summary")
+    @Operation(summary = "회원 주문 요약 이력 조회", description = "항목 없이 주문 요약만 최신순으로 조회합니다 (커서 기반 페이지)")
+    public ResponseEntity<OrderHistoryResponse<OrderSummaryResponse>> getMemberOrderSummaries(
+            @AuthenticationPrincipal AuthenticatedMember principal,
+            @PathVariable Long memberId,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        requireOwnerOrAdmin(principal, memberId);
+        OrderHistoryPage<OrderSummary> page = orderService.getMemberOrderSummaries(
+            memberId, OrderHistoryCursorCodec.decode(cursor), size);
+        return ResponseEntity.ok(new OrderHistoryResponse<>(
+            page.orders().stream().map(OrderSummaryResponse::from).toList(),
+            OrderHistoryCursorCodec.encode(page.nextCursor()),
+            page.hasNext()
+        ));
+    }
+
+    /**
+     * 주문 소유권은 경로의 memberId가 아니라 토큰의 회원 ID로 확인합니다.
+     * 경로 값만 믿으면 다른 회원의 ID를 넣어 그 회원의 주문 금액과 추천 쿠폰을 볼 수 있습니다.
+     */
+    @GetMapping("/{orderId}/coupon-recommendations")
+    @Operation(summary = "주문 쿠폰 추천", description = "PENDING 주문에 적용할 수 있는 쿠폰을 할인 금액이 큰 순서로 추천합니다. "
+        + "회원이 이미 사용한 쿠폰은 제외하며, 사용 직후 DB 반영 전(약 1초)에는 포함될 수 있습니다")
+    public ResponseEntity<CouponRecommendationResponse> recommendCoupons(
+            @AuthenticationPrincipal AuthenticatedMember principal,
+            @PathVariable Long memberId,
+            @PathVariable Long orderId,
+            @Parameter(description = "추천 개수 (최대 50)") @RequestParam(defaultValue = DEFAULT_RECOMMENDATION_LIMIT) int limit) {
+        if (!principal.memberId().equals(memberId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        List<CouponRecommendation> recommendations = orderService.recommendCoupons(orderId, principal.memberId(), limit);
+        return ResponseEntity.ok(CouponRecommendationResponse.of(orderId, recommendations));
+    }
+
+    private static void requireOwnerOrAdmin(AuthenticatedMember principal, Long memberId) {
+        if (!principal.memberId().equals(memberId) && !"ROLE_ADMIN".equals(principal.role())) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.hae.shop.interfaces.order;
 
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.port.in.OrderReadModelService;
 import com.hae.shop.domain.order.port.in.OrderService;
 import com.hae.shop.interfaces.order.dto.CreateOrderRequest;
 import com.hae.shop.interfaces.order.dto.OrderResponse;
@@ -7,6 +9,7 @@ import com.hae.shop.interfaces.order.dto.AddOrderItemRequest;
 import com.hae.shop.interfaces.order.dto.ApplyCouponRequest;
 import com.hae.shop.interfaces.order.dto.PayOrderRequest;
 import com.hae.shop.interfaces.order.dto.CancelOrderRequest;
+import com.hae.shop.interfaces.order.dto.CheckoutRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,7 +26,11 @@ import jakarta.validation.Valid;
 @Tag(name = "Orders", description = "주문 관리 API")
 public class OrderController {
 
+    static final String VERSION_HEADER = "X-Order-Version";
+    static final String MIN_VERSION_HEADER = "X-Min-Version";
+
     private final OrderService orderService;
+    private final OrderReadModelService orderReadModelService;
 
     @PostMapping
     @Operation(summary = "주문 생성", description = "새 주문을 생성합니다")
@@ -31,28 +38,40 @@ public class OrderController {
             @Parameter(description = "멱등성 키", required = false) @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody CreateOrderRequest request) {
         var order = orderService.createOrder(request.memberId(), idempotencyKey);
-        return ResponseEntity.status(HttpStatus.CREATED).body(OrderResponse.from(order));
+        return versioned(ResponseEntity.status(HttpStatus.CREATED), order);
+    }
+
+    @PostMapping("/checkout")
+    @Operation(summary = "체크아웃", description = "주문 생성, 상품 추가, 쿠폰 적용을 한 번의 요청으로 처리합니다")
+    public ResponseEntity<OrderResponse> checkout(
+            @Parameter(description = "멱등성 키", required = false) @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody CheckoutRequest request) {
+        var order = orderService.checkout(request.memberId(), request.toCheckoutItems(), request.couponId(), idempotencyKey);
+        return versioned(ResponseEntity.status(HttpStatus.CREATED), order);
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "주문 조회", description = "주문 ID로 상세 정보를 조회합니다")
-    public ResponseEntity<OrderResponse> getOrder(@PathVariable Long id) {
-        var order = orderService.getOrder(id);
-        return ResponseEntity.ok(OrderResponse.from(order));
+    @Operation(summary = "주문 조회", description = "주문 조회 모델에서 기본키 조회 한 번으로 주문을 조회합니다")
+    public ResponseEntity<OrderResponse> getOrder(
+            @PathVariable Long id,
+            @Parameter(description = "쓰기 응답의 X-Order-Version 값. 조회 모델이 이 버전보다 뒤처지면 원본에서 조회합니다")
+            @RequestHeader(value = MIN_VERSION_HEADER, required = false) Long minVersion) {
+        var order = orderReadModelService.getOrder(id, minVersion);
+        return versioned(ResponseEntity.ok(), order);
     }
 
     @PostMapping("/{id}/items")
     @Operation(summary = "주문 상품 추가", description = "주문에 상품을 추가합니다")
     public ResponseEntity<OrderResponse> addItem(@PathVariable Long id, @Valid @RequestBody AddOrderItemRequest request) {
         var order = orderService.addItem(id, request.productId(), request.quantity());
-        return ResponseEntity.ok(OrderResponse.from(order));
+        return versioned(ResponseEntity.ok(), order);
     }
 
     @PostMapping("/{id}/coupons")
     @Operation(summary = "쿠폰 적용", description = "주문에 쿠폰을 적용합니다")
     public ResponseEntity<OrderResponse> applyCoupon(@PathVariable Long id, @Valid @RequestBody ApplyCouponRequest request) {
         var order = orderService.applyCoupon(id, request.couponId());
-        return ResponseEntity.ok(OrderResponse.from(order));
+        return versioned(ResponseEntity.ok(), order);
     }
 
     @PostMapping("/{id}/pay")
@@ -62,13 +81,23 @@ public class OrderController {
             @Parameter(description = "멱등성 키", required = false) @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody PayOrderRequest request) {
         var order = orderService.payOrder(id, request.paymentToken(), idempotencyKey);
-        return ResponseEntity.ok(OrderResponse.from(order));
+        return versioned(ResponseEntity.ok(), order);
     }
 
     @PostMapping("/{id}/cancel")
     @Operation(summary = "주문 취소", description = "주문을 취소합니다")
     public ResponseEntity<OrderResponse> cancelOrder(@PathVariable Long id, @Valid @RequestBody CancelOrderRequest request) {
         var order = orderService.cancelOrder(id, request.reason());
-        return ResponseEntity.ok(OrderResponse.from(order));
+        return versioned(ResponseEntity.ok(), order);
+    }
+
+    /**
+     * 쓰기 결과의 버전을 헤더로 돌려줍니다. 클라이언트는 이 값을 X-Min-Version으로 보내 자신의 쓰기를 반영한 조회를 보장받습니다.
+     */
+    private ResponseEntity<OrderResponse> versioned(ResponseEntity.BodyBuilder builder, Order order) {
+        if (order.getVersion() != null) {
+            builder.header(VERSION_HEADER, String.valueOf(order.getVersion()));
+        }
+        return builder.body(OrderResponse.from(order));
     }
 }
@@ -0,0 +1,43 @@
+package com.hae.shop.interfaces.order;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.domain.order.model.OrderHistoryCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 주문 이력 커서를 클라이언트에 노출할 불투명 문자열(base64url)로 변환합니다.
+ */
+final class OrderHistoryCursorCodec {
+
+    private OrderHistoryCursorCodec() {
+    }
+
+    static String encode(OrderHistoryCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.createdAt().getEpochSecond() + ":" + cursor.createdAt().getNano() + ":" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static OrderHistoryCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("unexpected cursor format");
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new OrderHistoryCursor(createdAt, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.");
+        }
+    }
+}
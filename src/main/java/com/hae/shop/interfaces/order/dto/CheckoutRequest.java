@@ -0,0 +1,23 @@
+package com.hae.shop.interfaces.order.dto;
+
+import com.hae.shop.domain.order.model.CheckoutItem;
+
+import java.util.List;
+
+/**
+ * 체크아웃(주문 생성 + 항목 추가 + 쿠폰 적용) 요청 DTO
+ */
+public record CheckoutRequest(
+    Long memberId,
+    List<AddOrderItemRequest> items,
+    Long couponId
+) {
+    public List<CheckoutItem> toCheckoutItems() {
+        if (items == null) {
+            return List.of();
+        }
+        return items.stream()
+            .map(item -> new CheckoutItem(item.productId(), item.quantity() != null ? item.quantity() : 0))
+            .toList();
+    }
+}
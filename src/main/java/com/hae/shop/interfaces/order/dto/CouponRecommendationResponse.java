@@ -0,0 +1,38 @@
+package com.hae.shop.interfaces.order.dto;
+
+import com.hae.shop.domain.coupon.model.CouponRecommendation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 주문 쿠폰 추천 응답 DTO (ranked는 할인 금액 내림차순, best는 그 첫 번째)
+ */
+public record CouponRecommendationResponse(
+    Long orderId,
+    Recommendation best,
+    List<Recommendation> ranked
+) {
+    public record Recommendation(
+        Long couponId,
+        String code,
+        String name,
+        String type,
+        BigDecimal discountAmount
+    ) {
+        static Recommendation from(CouponRecommendation recommendation) {
+            return new Recommendation(
+                recommendation.couponId(),
+                recommendation.code(),
+                recommendation.name(),
+                recommendation.discountType().name(),
+                recommendation.discountAmount()
+            );
+        }
+    }
+
+    public static CouponRecommendationResponse of(Long orderId, List<CouponRecommendation> recommendations) {
+        List<Recommendation> ranked = recommendations.stream().map(Recommendation::from).toList();
+        return new CouponRecommendationResponse(orderId, ranked.isEmpty() ? null : ranked.get(0), ranked);
+    }
+}
@@ -0,0 +1,13 @@
+package com.hae.shop.interfaces.order.dto;
+
+import java.util.List;
+
+/**
+ * 회원 주문 이력 응답 DTO (keyset 페이지). 다음 페이지는 nextCursor를 cursor 파라미터로 전달해 조회합니다.
+ */
+public record OrderHistoryResponse<T>(
+    List<T> orders,
+    String nextCursor,
+    boolean hasNext
+) {
+}
@@ -0,0 +1,33 @@
+package com.hae.shop.interfaces.order.dto;
+
+import com.hae.shop.domain.order.model.OrderSummary;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 주문 요약 응답 DTO (항목 제외)
+ */
+public record OrderSummaryResponse(
+    Long id,
+    String orderNumber,
+    Long memberId,
+    BigDecimal totalAmount,
+    BigDecimal discountAmount,
+    BigDecimal paymentAmount,
+    String status,
+    Instant createdAt
+) {
+    public static OrderSummaryResponse from(OrderSummary summary) {
+        return new OrderSummaryResponse(
+            summary.id(),
+            summary.orderNumber(),
+            summary.memberId(),
+            summary.totalAmount(),
+            summary.discountAmount(),
+            summary.paymentAmount(),
+            summary.status().name(),
+            summary.createdAt()
+        );
+    }
+}
@@ -1,20 +1,27 @@
 package com.hae.shop.interfaces.product;
 
+import com.hae.shop.domain.product.port.in.ProductImportService;
 import com.hae.shop.domain.product.port.in.ProductService;
 import com.hae.shop.interfaces.product.dto.CreateProductRequest;
+import com.hae.shop.interfaces.product.dto.ProductImportResponse;
 import com.hae.shop.interfaces.product.dto.ProductListResponse;
 import com.hae.shop.interfaces.product.dto.ProductResponse;
 import com.hae.shop.domain.product.model.Product;
+import com.hae.shop.domain.product.model.ProductImportFormat;
+import com.hae.shop.domain.product.model.ProductImportProgress;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/products")
@@ -23,6 +30,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     @PostMapping
     @Operation(summary = "상품 등록", description = "새 상품을 등록합니다")
@@ -35,9 +43,14 @@ public class ProductController {
     }
 
     @GetMapping
-    @Operation(summary = "상품 목록 조회", description = "카테고리별 상품 목록을 조회합니다")
-    public ResponseEntity<ProductListResponse> getProducts(@RequestParam(required = false) String category) {
-        List<Product> products = productService.getProducts(category);
+    @Operation(summary = "상품 목록 조회", description = "카테고리별 상품 목록 또는 ID 목록(최대 100개)에 해당하는 상품을 조회합니다")
+    public ResponseEntity<ProductListResponse> getProducts(
+        @RequestParam(required = false) String category,
+        @Parameter(description = "조회할 상품 ID 목록 (쉼표 구분)") @RequestParam(required = false) List<Long> ids
+    ) {
+        List<Product> products = ids != null && !ids.isEmpty()
+            ? productService.getProductsByIds(ids)
+            : productService.getProducts(category);
         List<ProductResponse> responseList = products.stream()
             .map(ProductResponse::from)
             .toList();
@@ -50,4 +63,27 @@ public class ProductController {
         Product product = productService.getProduct(id);
         return ResponseEntity.ok(ProductResponse.from(product));
     }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", "application/octet-stream"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "상품 일괄 등록", description = "CSV 또는 NDJSON 본문을 스트리밍으로 읽어 상품을 일괄 등록합니다 (관리자 전용)")
+    public ResponseEntity<ProductImportResponse> importProducts(
+        @Parameter(description = "입력 포맷 (CSV, NDJSON)") @RequestParam(defaultValue = "CSV") ProductImportFormat format,
+        @Parameter(description = "진행 상황 조회용 작업 ID (미지정 시 생성)") @RequestHeader(value = "Import-Job-Id", required = false) String jobId,
+        InputStream body
+    ) {
+        String resolvedJobId = jobId != null && !jobId.isBlank() ? jobId : UUID.randomUUID().toString();
+        ProductImportProgress progress = productImportService.importProducts(resolvedJobId, body, format);
+        HttpStatus status = progress.status() == ProductImportProgress.ImportStatus.FAILED
+            ? HttpStatus.INTERNAL_SERVER_ERROR
+            : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(ProductImportResponse.from(progress));
+    }
+
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "상품 일괄 등록 진행 상황 조회", description = "작업 ID로 일괄 등록 진행 상황을 조회합니다 (관리자 전용)")
+    public ResponseEntity<ProductImportResponse> getImportProgress(@PathVariable String jobId) {
+        return ResponseEntity.ok(ProductImportResponse.from(productImportService.getImportProgress(jobId)));
+    }
 }
@@ -0,0 +1,35 @@
+package com.hae.shop.interfaces.product.dto;
+
+import com.hae.shop.domain.product.model.ProductImportProgress;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 작업 응답 DTO
+ */
+public record ProductImportResponse(
+    String jobId,
+    String status,
+    long processedRows,
+    long importedRows,
+    long rejectedRows,
+    List<String> errors,
+    String failureReason,
+    Instant startedAt,
+    Instant finishedAt
+) {
+    public static ProductImportResponse from(ProductImportProgress progress) {
+        return new ProductImportResponse(
+            progress.jobId(),
+            progress.status().name(),
+            progress.processedRows(),
+            progress.importedRows(),
+            progress.rejectedRows(),
+            progress.errors(),
+            progress.failureReason(),
+            progress.startedAt(),
+            progress.finishedAt()
+        );
+    }
+}
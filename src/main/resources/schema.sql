@@ -40,14 +40,24 @@ CREATE TABLE IF NOT EXISTS orders (
     payment_amount DECIMAL(19, 2) NOT NULL,
     status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
     idempotency_key VARCHAR(100) UNIQUE,
+    payment_transaction_id VARCHAR(100),
+    payment_attempt_id VARCHAR(100),
+    payment_cancel_status VARCHAR(20),
+    payment_cancel_transaction_id VARCHAR(100),
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
-CREATE INDEX idx_orders_member_id ON orders(member_id);
+-- Keyset pagination for member order history (also serves member_id-only lookups)
+CREATE INDEX idx_orders_member_created ON orders(member_id, created_at DESC, id DESC);
 CREATE INDEX idx_orders_order_number ON orders(order_number);
 CREATE INDEX idx_orders_idempotency_key ON orders(idempotency_key);
 CREATE INDEX idx_orders_status ON orders(status);
+-- Expiry sweeper: oldest PENDING orders first, without scanning paid/cancelled rows
+CREATE INDEX idx_orders_pending_created ON orders(created_at) WHERE status = 'PENDING';
+-- Payment reconciliation: settled orders by last change
+CREATE INDEX idx_orders_settled_updated ON orders(updated_at) WHERE status IN ('PAID', 'CANCELLED');
 
 -- Order Items table
 CREATE TABLE IF NOT EXISTS order_items (
@@ -97,9 +107,62 @@ CREATE TABLE IF NOT EXISTS member_coupons (
 );
 
 CREATE INDEX idx_member_coupons_member_id ON member_coupons(member_id);
-CREATE INDEX idx_member_coupons_coupon_id ON member_coupons(coupon_id);
+-- 회원당 쿠폰 1장: 일괄 발급과 사용 반영의 중복 방지 (coupon_id 단독 조회도 이 인덱스로 처리)
+CREATE UNIQUE INDEX uk_member_coupons_coupon_member ON member_coupons(coupon_id, member_id);
 CREATE INDEX idx_member_coupons_status ON member_coupons(status);
 
+-- Bulk coupon issuance jobs (checkpointed by member id so they can resume)
+CREATE TABLE IF NOT EXISTS coupon_issuance_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    coupon_id BIGINT NOT NULL REFERENCES coupons(id),
+    target_role VARCHAR(20),
+    joined_from TIMESTAMP,
+    joined_before TIMESTAMP,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    last_member_id BIGINT NOT NULL DEFAULT 0,
+    issued_count BIGINT NOT NULL DEFAULT 0,
+    failure_reason VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_coupon_issuance_jobs_status ON coupon_issuance_jobs(status);
+
+-- Payment discrepancies found by reconciliation (orders vs. payment gateway)
+CREATE TABLE IF NOT EXISTS payment_discrepancies (
+    id BIGSERIAL PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    order_status VARCHAR(20) NOT NULL,
+    order_transaction_id VARCHAR(100),
+    gateway_transaction_id VARCHAR(100),
+    discrepancy_type VARCHAR(30) NOT NULL,
+    detected_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_payment_discrepancies_order_id ON payment_discrepancies(order_id);
+CREATE INDEX idx_payment_discrepancies_detected_at ON payment_discrepancies(detected_at);
+
+-- Payment gateway cancellations that failed (bulkhead full, gateway error) and wait to be retried
+CREATE TABLE IF NOT EXISTS payment_cancellations (
+    transaction_id VARCHAR(100) PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    attempts INT NOT NULL DEFAULT 1,
+    last_error VARCHAR(500),
+    next_attempt_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_payment_cancellations_next_attempt ON payment_cancellations(next_attempt_at);
+
+-- Order read model (CQRS): one denormalized JSON snapshot per order, fed from the outbox
+CREATE TABLE IF NOT EXISTS order_read_models (
+    order_id BIGINT PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    document TEXT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
 -- Outbox table (Transactional Outbox Pattern)
 CREATE TABLE IF NOT EXISTS outbox_events (
     id BIGSERIAL PRIMARY KEY,
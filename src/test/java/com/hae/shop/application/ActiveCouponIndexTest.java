@@ -0,0 +1,173 @@
+package com.hae.shop.application;
+
+import com.hae.shop.domain.coupon.model.Coupon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveCouponIndexTest {
+
+    private final Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    private final ActiveCouponIndex index = new ActiveCouponIndex();
+
+    private static Coupon coupon(long id, Instant validFrom, Instant validUntil, Integer remainingQuantity) {
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        coupon.setCode("C" + id);
+        coupon.setValidFrom(validFrom);
+        coupon.setValidUntil(validUntil);
+        coupon.setRemainingQuantity(remainingQuantity);
+        coupon.setStatus(Coupon.CouponStatus.ACTIVE);
+        return coupon;
+    }
+
+    @Test
+    @DisplayName("validFrom 시각에 활성화되고 validUntil이 지나면 빠짐")
+    void activeAt_shouldFollowValidityBoundaries() {
+        Instant start = now.plus(1, ChronoUnit.HOURS);
+        Instant end = now.plus(2, ChronoUnit.HOURS);
+        index.load(List.of(coupon(1L, start, end, null)), now);
+
+        assertThat(index.activeAt(start.minusNanos(1))).isEmpty();
+        assertThat(index.activeAt(start)).extracting(Coupon::getId).containsExactly(1L);
+        assertThat(index.activeAt(end)).extracting(Coupon::getId).containsExactly(1L);
+        assertThat(index.activeAt(end.plusNanos(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("경계를 지나지 않으면 같은 목록 인스턴스를 반환")
+    void activeAt_shouldReuseListBetweenBoundaries() {
+        index.load(List.of(coupon(1L, now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS), 5)), now);
+
+        List<Coupon> first = index.activeAt(now);
+        List<Coupon> second = index.activeAt(now.plus(30, ChronoUnit.MINUTES));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("마감 임박 순으로 정렬")
+    void activeAt_shouldOrderByExpiry() {
+        index.load(List.of(
+            coupon(1L, now.minus(1, ChronoUnit.HOURS), now.plus(3, ChronoUnit.HOURS), null),
+            coupon(2L, now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS), null)), now);
+
+        assertThat(index.activeAt(now)).extracting(Coupon::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("사용 수량 반영 - 잔여 수량이 0이 되면 목록에서 빠짐")
+    void decrementRemaining_shouldRemoveDepletedCoupons() {
+        index.load(List.of(
+            coupon(1L, now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS), 2),
+            coupon(2L, now.minus(1, ChronoUnit.HOURS), now.plus(2, ChronoUnit.HOURS), 5)), now);
+
+        index.decrementRemaining(Map.of(1L, 2, 2L, 1), now);
+
+        List<Coupon> active = index.activeAt(now);
+        assertThat(active).extracting(Coupon::getId).containsExactly(2L);
+        assertThat(active.get(0).getRemainingQuantity()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("사용 수량 반영은 적재한 쿠폰과 이미 반환한 목록의 쿠폰을 고치지 않음")
+    void decrementRemaining_shouldNotMutateSharedCoupons() {
+        Coupon loaded = coupon(1L, now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS), 5);
+        index.load(List.of(loaded), now);
+        Coupon returned = index.activeAt(now).get(0);
+
+        index.decrementRemaining(Map.of(1L, 2), now);
+
+        assertThat(loaded.getRemainingQuantity()).isEqualTo(5);
+        assertThat(returned.getRemainingQuantity()).isEqualTo(5);
+        assertThat(index.activeAt(now).get(0).getRemainingQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("호출자가 반환받은 쿠폰을 고쳐도 인덱스는 바뀌지 않음")
+    void activeAt_whenCallerMutatesCoupon_shouldKeepIndexIntact() {
+        index.load(List.of(coupon(1L, now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS), 5)), now);
+
+        index.activeAt(now).get(0).setRemainingQuantity(0);
+        index.decrementRemaining(Map.of(1L, 1), now);
+
+        assertThat(index.activeAt(now)).extracting(Coupon::getRemainingQuantity).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("전체 적재 도중 들어온 생성은 적재 결과에 덮어써지지 않고 그 위에 반영됨")
+    void load_whenCouponPutDuringQuery_shouldKeepIt() throws InterruptedException {
+        Coupon existing = coupon(1L, now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS), null);
+        Coupon created = coupon(2L, now.minus(1, ChronoUnit.HOURS), now.plus(2, ChronoUnit.HOURS), null);
+        Thread creator = new Thread(() -> index.put(created, now));
+
+        index.load(() -> {
+            // 조회가 끝나기 전에 다른 스레드가 새 쿠폰을 넣으려 함 (조회 결과에는 아직 없음)
+            creator.start();
+            awaitBlocked(creator);
+            return List.of(existing);
+        }, now);
+        creator.join(5_000);
+
+        assertThat(index.activeAt(now)).extracting(Coupon::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("비활성 상태로 바뀐 쿠폰은 목록에서 빠짐")
+    void put_whenInactive_shouldRemoveCoupon() {
+        Coupon coupon = coupon(1L, now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS), null);
+        index.load(List.of(coupon), now);
+
+        coupon.setStatus(Coupon.CouponStatus.EXPIRED);
+        index.put(coupon, now);
+
+        assertThat(index.activeAt(now)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유효 기간이 그대로인 갱신을 반복해도 경계가 쌓이지 않고, 기간이 바뀌면 새 경계를 따름")
+    void putAndRefresh_withSamePeriod_shouldNotAccumulateBoundaries() {
+        Coupon coupon = coupon(1L, now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS), 100);
+        index.load(List.of(coupon), now);
+        int initial = index.boundaryCount();
+
+        for (int remaining = 99; remaining > 50; remaining--) {
+            coupon.setRemainingQuantity(remaining);
+            index.refresh(List.of(1L), List.of(coupon), now);
+            index.put(coupon, now);
+        }
+
+        assertThat(index.boundaryCount()).isEqualTo(initial);
+        assertThat(index.activeAt(now).get(0).getRemainingQuantity()).isEqualTo(51);
+
+        coupon.setValidUntil(now.plus(1, ChronoUnit.MINUTES));
+        index.refresh(List.of(1L), List.of(coupon), now);
+        assertThat(index.activeAt(now.plus(2, ChronoUnit.MINUTES))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 알림 후 DB에서 사라진 쿠폰은 목록에서 빠짐")
+    void refresh_whenCouponMissing_shouldRemoveIt() {
+        index.load(List.of(
+            coupon(1L, now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS), null),
+            coupon(2L, now.minus(1, ChronoUnit.HOURS), now.plus(2, ChronoUnit.HOURS), null)), now);
+
+        index.refresh(List.of(1L), List.of(), now);
+
+        assertThat(index.activeAt(now)).extracting(Coupon::getId).containsExactly(2L);
+    }
+
+    private static void awaitBlocked(Thread thread) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+}
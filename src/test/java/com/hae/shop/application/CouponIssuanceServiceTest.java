@@ -0,0 +1,166 @@
+package com.hae.shop.application;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob;
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob.IssuanceStatus;
+import com.hae.shop.domain.coupon.port.out.CouponIssuancePort;
+import com.hae.shop.domain.coupon.port.out.CouponRepositoryPort;
+import com.hae.shop.domain.member.model.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssuanceServiceTest {
+
+    @Mock
+    private CouponIssuancePort couponIssuancePort;
+
+    @Mock
+    private CouponRepositoryPort couponRepository;
+
+    @InjectMocks
+    private CouponIssuanceServiceImpl couponIssuanceService;
+
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        coupon = new Coupon();
+        coupon.setId(1L);
+        coupon.setValidUntil(Instant.now().plus(30, ChronoUnit.DAYS));
+        coupon.setStatus(Coupon.CouponStatus.ACTIVE);
+    }
+
+    private static CouponIssuanceJob job(IssuanceStatus status, long lastMemberId, long issuedCount) {
+        return new CouponIssuanceJob(10L, 1L, null, null, null, status, lastMemberId, issuedCount,
+            null, Instant.now(), Instant.now());
+    }
+
+    @Test
+    @DisplayName("일괄 발급 등록 - PENDING 작업 저장")
+    void startIssuance_shouldSavePendingJob() {
+        when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon));
+        when(couponIssuancePort.save(any(CouponIssuanceJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CouponIssuanceJob result = couponIssuanceService.startIssuance(1L, Member.MemberRole.ROLE_USER, null, null);
+
+        assertThat(result.status()).isEqualTo(IssuanceStatus.PENDING);
+        assertThat(result.targetRole()).isEqualTo(Member.MemberRole.ROLE_USER);
+        assertThat(result.lastMemberId()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 발급 등록 실패 - 만료된 쿠폰")
+    void startIssuance_whenCouponExpired_shouldThrowException() {
+        coupon.setValidUntil(Instant.now().minus(1, ChronoUnit.DAYS));
+        when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon));
+
+        assertThatThrownBy(() -> couponIssuanceService.startIssuance(1L, null, null, null))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.COUPON_NOT_AVAILABLE));
+        verify(couponIssuancePort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("청크 발급 - 체크포인트 다음 회원에게 발급")
+    void issueNextChunk_shouldIssueFromCheckpoint() {
+        CouponIssuanceJob running = job(IssuanceStatus.RUNNING, 100L, 3L);
+        CouponIssuanceJob advanced = job(IssuanceStatus.RUNNING, 103L, 6L);
+        when(couponIssuancePort.findNextRunnable()).thenReturn(Optional.of(running));
+        when(couponIssuancePort.findNextMemberIds(running, 3)).thenReturn(List.of(101L, 102L, 103L));
+        when(couponIssuancePort.issue(running, List.of(101L, 102L, 103L), false)).thenReturn(advanced);
+
+        Optional<CouponIssuanceJob> result = couponIssuanceService.issueNextChunk(3);
+
+        assertThat(result).contains(advanced);
+    }
+
+    @Test
+    @DisplayName("청크 발급 - 마지막 청크면 완료로 기록")
+    void issueNextChunk_whenLastChunk_shouldComplete() {
+        CouponIssuanceJob running = job(IssuanceStatus.RUNNING, 100L, 3L);
+        when(couponIssuancePort.findNextRunnable()).thenReturn(Optional.of(running));
+        when(couponIssuancePort.findNextMemberIds(running, 3)).thenReturn(List.of(101L));
+        when(couponIssuancePort.issue(running, List.of(101L), true)).thenReturn(job(IssuanceStatus.COMPLETED, 101L, 4L));
+
+        Optional<CouponIssuanceJob> result = couponIssuanceService.issueNextChunk(3);
+
+        assertThat(result).get().extracting(CouponIssuanceJob::status).isEqualTo(IssuanceStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("청크 발급 실패 - 작업을 FAILED로 기록")
+    void issueNextChunk_whenWriteFails_shouldMarkFailed() {
+        CouponIssuanceJob running = job(IssuanceStatus.RUNNING, 100L, 3L);
+        when(couponIssuancePort.findNextRunnable()).thenReturn(Optional.of(running));
+        when(couponIssuancePort.findNextMemberIds(running, 3)).thenReturn(List.of(101L));
+        when(couponIssuancePort.issue(eq(running), anyList(), anyBoolean())).thenThrow(new RuntimeException("copy failed"));
+        when(couponIssuancePort.updateStatus(eq(10L), any(), eq(IssuanceStatus.FAILED), eq("copy failed")))
+            .thenReturn(Optional.of(job(IssuanceStatus.FAILED, 100L, 3L)));
+
+        Optional<CouponIssuanceJob> result = couponIssuanceService.issueNextChunk(3);
+
+        assertThat(result).get().extracting(CouponIssuanceJob::status).isEqualTo(IssuanceStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("청크 발급 - 진행할 작업 없음")
+    void issueNextChunk_whenNoJob_shouldReturnEmpty() {
+        when(couponIssuancePort.findNextRunnable()).thenReturn(Optional.empty());
+
+        assertThat(couponIssuanceService.issueNextChunk(3)).isEmpty();
+        verify(couponIssuancePort, never()).findNextMemberIds(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("재개 - 일시 중지/실패 작업만 PENDING으로")
+    @SuppressWarnings("unchecked")
+    void resumeIssuance_shouldOnlyResumePausedOrFailed() {
+        when(couponIssuancePort.findById(10L)).thenReturn(Optional.of(job(IssuanceStatus.PAUSED, 100L, 3L)));
+        when(couponIssuancePort.updateStatus(eq(10L), any(), eq(IssuanceStatus.PENDING), isNull()))
+            .thenReturn(Optional.of(job(IssuanceStatus.PENDING, 100L, 3L)));
+
+        CouponIssuanceJob result = couponIssuanceService.resumeIssuance(10L);
+
+        assertThat(result.status()).isEqualTo(IssuanceStatus.PENDING);
+        ArgumentCaptor<Set<IssuanceStatus>> from = ArgumentCaptor.forClass(Set.class);
+        verify(couponIssuancePort).updateStatus(eq(10L), from.capture(), eq(IssuanceStatus.PENDING), isNull());
+        assertThat(from.getValue()).containsExactlyInAnyOrder(IssuanceStatus.PAUSED, IssuanceStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("일시 중지 실패 - 이미 완료된 작업")
+    void pauseIssuance_whenCompleted_shouldThrowException() {
+        when(couponIssuancePort.findById(10L)).thenReturn(Optional.of(job(IssuanceStatus.COMPLETED, 100L, 3L)));
+        when(couponIssuancePort.updateStatus(eq(10L), any(), eq(IssuanceStatus.PAUSED), isNull()))
+            .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> couponIssuanceService.pauseIssuance(10L))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.COUPON_ISSUANCE_INVALID_STATUS));
+    }
+}
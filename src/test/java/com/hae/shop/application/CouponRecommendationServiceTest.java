@@ -0,0 +1,147 @@
+package com.hae.shop.application;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.model.CouponRecommendation;
+import com.hae.shop.domain.coupon.port.in.CouponService;
+import com.hae.shop.domain.coupon.port.out.CouponRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponRecommendationServiceTest {
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private CouponRepositoryPort couponRepository;
+
+    @InjectMocks
+    private CouponRecommendationServiceImpl couponRecommendationService;
+
+    private static Coupon coupon(long id, Coupon.DiscountType type, long value, Long minPurchase, Long maxDiscount) {
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        coupon.setCode("C" + id);
+        coupon.setName("coupon " + id);
+        coupon.setDiscountType(type);
+        coupon.setDiscountValue(BigDecimal.valueOf(value));
+        coupon.setMinPurchaseAmount(minPurchase != null ? BigDecimal.valueOf(minPurchase) : null);
+        coupon.setMaxDiscountAmount(maxDiscount != null ? BigDecimal.valueOf(maxDiscount) : null);
+        coupon.setValidFrom(Instant.now().minus(1, ChronoUnit.DAYS));
+        coupon.setValidUntil(Instant.now().plus(1, ChronoUnit.DAYS));
+        coupon.setRemainingQuantity(10);
+        coupon.setStatus(Coupon.CouponStatus.ACTIVE);
+        return coupon;
+    }
+
+    @Test
+    @DisplayName("쿠폰 추천 - 할인 금액 내림차순, 최소 구매 금액 미달과 사용 불가 쿠폰 제외")
+    void recommend_shouldRankApplicableCouponsByDiscount() {
+        Coupon fixed3000 = coupon(1L, Coupon.DiscountType.FIXED, 3000, 10000L, null);
+        Coupon percent10Cap2000 = coupon(2L, Coupon.DiscountType.PERCENTAGE, 10, null, 2000L);
+        Coupon percent20 = coupon(3L, Coupon.DiscountType.PERCENTAGE, 20, null, null);
+        Coupon fixed9000MinTooHigh = coupon(4L, Coupon.DiscountType.FIXED, 9000, 50000L, null);
+        Coupon fixed8000SoldOut = coupon(5L, Coupon.DiscountType.FIXED, 8000, null, null);
+        fixed8000SoldOut.setRemainingQuantity(0);
+        when(couponService.getActiveCoupons()).thenReturn(
+            List.of(fixed3000, percent10Cap2000, percent20, fixed9000MinTooHigh, fixed8000SoldOut));
+
+        List<CouponRecommendation> result = couponRecommendationService.recommend(1L, BigDecimal.valueOf(30000), 10);
+
+        assertThat(result).extracting(CouponRecommendation::couponId).containsExactly(3L, 1L, 2L);
+        assertThat(result.get(0).discountAmount()).isEqualByComparingTo(BigDecimal.valueOf(6000));
+    }
+
+    @Test
+    @DisplayName("쿠폰 추천 - 회원이 이미 사용한 쿠폰은 할인이 가장 커도 제외")
+    void recommend_shouldExcludeCouponsAlreadyUsedByMember() {
+        Coupon fixed3000 = coupon(1L, Coupon.DiscountType.FIXED, 3000, null, null);
+        Coupon percent20 = coupon(2L, Coupon.DiscountType.PERCENTAGE, 20, null, null);
+        Coupon fixed5000Used = coupon(3L, Coupon.DiscountType.FIXED, 5000, null, 5000L);
+        when(couponService.getActiveCoupons()).thenReturn(List.of(fixed3000, percent20, fixed5000Used));
+        when(couponRepository.findUsedCouponIds(7L)).thenReturn(Set.of(3L, 2L));
+
+        List<CouponRecommendation> result = couponRecommendationService.recommend(7L, BigDecimal.valueOf(30000), 2);
+
+        assertThat(result).extracting(CouponRecommendation::couponId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("쿠폰 추천 - 정액 할인은 주문 금액을 넘지 않음")
+    void recommend_shouldCapDiscountAtOrderAmount() {
+        when(couponService.getActiveCoupons()).thenReturn(List.of(coupon(1L, Coupon.DiscountType.FIXED, 5000, null, null)));
+
+        List<CouponRecommendation> result = couponRecommendationService.recommend(1L, BigDecimal.valueOf(3000), 10);
+
+        assertThat(result.get(0).discountAmount()).isEqualByComparingTo(BigDecimal.valueOf(3000));
+    }
+
+    @Test
+    @DisplayName("쿠폰 추천 - 조기 중단해도 전체 계산과 같은 상위 결과")
+    void recommend_withPruning_shouldMatchExhaustiveRanking() {
+        Random random = new Random(42);
+        List<Coupon> coupons = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            boolean percentage = random.nextBoolean();
+            coupons.add(coupon(id,
+                percentage ? Coupon.DiscountType.PERCENTAGE : Coupon.DiscountType.FIXED,
+                percentage ? 1 + random.nextInt(50) : 500 + random.nextInt(20000),
+                random.nextBoolean() ? (long) random.nextInt(60000) : null,
+                random.nextBoolean() ? (long) (1000 + random.nextInt(15000)) : null));
+        }
+        when(couponService.getActiveCoupons()).thenReturn(coupons);
+        BigDecimal orderAmount = BigDecimal.valueOf(37000);
+
+        List<CouponRecommendation> expected = coupons.stream()
+            .map(c -> CouponRecommendation.of(c, c.calculateDiscount(orderAmount).min(orderAmount)))
+            .filter(r -> r.discountAmount().signum() > 0)
+            .sorted(Comparator.comparing(CouponRecommendation::discountAmount).reversed()
+                .thenComparing(CouponRecommendation::couponId))
+            .limit(5)
+            .toList();
+
+        List<CouponRecommendation> result = couponRecommendationService.recommend(1L, orderAmount, 5);
+
+        assertThat(result).extracting(CouponRecommendation::couponId)
+            .containsExactlyElementsOf(expected.stream().map(CouponRecommendation::couponId).toList());
+    }
+
+    @Test
+    @DisplayName("쿠폰 추천 - 주문 금액이 0이면 빈 목록")
+    void recommend_whenOrderAmountZero_shouldReturnEmpty() {
+        List<CouponRecommendation> result = couponRecommendationService.recommend(1L, BigDecimal.ZERO, 10);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(couponService, couponRepository);
+    }
+
+    @Test
+    @DisplayName("쿠폰 추천 실패 - 추천 개수 범위 초과")
+    void recommend_whenLimitOutOfRange_shouldThrowException() {
+        assertThatThrownBy(() -> couponRecommendationService.recommend(1L, BigDecimal.valueOf(10000), 0))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT));
+        verifyNoInteractions(couponService);
+    }
+}
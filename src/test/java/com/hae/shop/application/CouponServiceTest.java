@@ -3,6 +3,11 @@ package com.hae.shop.application;
 import com.hae.shop.common.BusinessException;
 import com.hae.shop.common.ErrorCode;
 import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.model.CouponRedemption;
+import com.hae.shop.domain.coupon.port.out.CouponChangePort;
+import com.hae.shop.domain.coupon.port.out.CouponCodeFilterPort;
+import com.hae.shop.domain.coupon.port.out.CouponRedemptionPort;
+import com.hae.shop.domain.coupon.port.out.CouponRedemptionWriterPort;
 import com.hae.shop.domain.coupon.port.out.CouponRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,12 +16,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -29,6 +40,21 @@ class CouponServiceTest {
     @Mock
     private CouponRepositoryPort couponRepository;
 
+    @Mock
+    private CouponRedemptionPort couponRedemptionPort;
+
+    @Mock
+    private CouponRedemptionWriterPort couponRedemptionWriter;
+
+    @Mock
+    private CouponCodeFilterPort couponCodeFilter;
+
+    @Mock
+    private CouponChangePort couponChangePort;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private CouponServiceImpl couponService;
 
@@ -66,6 +92,30 @@ class CouponServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getCode()).isEqualTo("SAVE10");
         verify(couponRepository).save(testCoupon);
+        verify(couponCodeFilter).add("SAVE10");
+    }
+
+    @Test
+    @DisplayName("쿠폰 코드 조회 - 필터를 통과하면 DB에서 조회")
+    void getCouponByCode_whenFilterPasses_shouldQueryRepository() {
+        when(couponCodeFilter.mightExist("SAVE10")).thenReturn(true);
+        when(couponRepository.findByCode("SAVE10")).thenReturn(Optional.of(testCoupon));
+
+        Coupon result = couponService.getCouponByCode("SAVE10");
+
+        assertThat(result.getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("쿠폰 코드 조회 실패 - 필터에 없는 코드는 DB 조회 없이 거절")
+    void getCouponByCode_whenFilterRejects_shouldNotQueryRepository() {
+        when(couponCodeFilter.mightExist("GUESS123")).thenReturn(false);
+
+        assertThatThrownBy(() -> couponService.getCouponByCode("GUESS123"))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.COUPON_NOT_FOUND));
+        verify(couponRepository, never()).findByCode(any());
     }
 
     @Test
@@ -94,7 +144,12 @@ class CouponServiceTest {
     @Test
     @DisplayName("활성 쿠폰 목록 조회")
     void getActiveCoupons_shouldReturnActiveCoupons() {
-        when(couponRepository.findActiveCoupons()).thenReturn(List.of(testCoupon));
+        Coupon upcoming = new Coupon();
+        upcoming.setId(2L);
+        upcoming.setCode("LATER");
+        upcoming.setValidFrom(futureDate.minus(1, ChronoUnit.DAYS));
+        upcoming.setValidUntil(futureDate);
+        when(couponRepository.findUnexpiredCoupons()).thenReturn(List.of(testCoupon, upcoming));
 
         List<Coupon> result = couponService.getActiveCoupons();
 
@@ -102,6 +157,94 @@ class CouponServiceTest {
         assertThat(result.get(0).getCode()).isEqualTo("SAVE10");
     }
 
+    @Test
+    @DisplayName("활성 쿠폰 목록 조회 - 최초 1회만 DB 조회, 생성된 쿠폰은 즉시 반영")
+    void getActiveCoupons_shouldLoadOnceAndApplyCreatedCoupons() {
+        when(couponRepository.findUnexpiredCoupons()).thenReturn(List.of());
+        Coupon created = new Coupon();
+        created.setId(2L);
+        created.setCode("NEW");
+        created.setValidFrom(Instant.now().minus(1, ChronoUnit.MINUTES));
+        created.setValidUntil(futureDate);
+        when(couponRepository.save(created)).thenReturn(created);
+
+        assertThat(couponService.getActiveCoupons()).isEmpty();
+        couponService.createCoupon(created);
+        List<Coupon> result = couponService.getActiveCoupons();
+
+        assertThat(result).extracting(Coupon::getCode).containsExactly("NEW");
+        verify(couponRepository, times(1)).findUnexpiredCoupons();
+    }
+
+    @Test
+    @DisplayName("쿠폰 생성 - 트랜잭션이 커밋된 뒤에만 활성 쿠폰 목록에 반영")
+    void createCoupon_inTransaction_shouldApplyToActiveCouponsAfterCommit() {
+        when(couponRepository.findUnexpiredCoupons()).thenReturn(List.of());
+        when(couponRepository.save(testCoupon)).thenReturn(testCoupon);
+        assertThat(couponService.getActiveCoupons()).isEmpty();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            couponService.createCoupon(testCoupon);
+            assertThat(couponService.getActiveCoupons()).isEmpty();
+            verifyNoInteractions(couponChangePort, couponCodeFilter);
+
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(couponService.getActiveCoupons()).extracting(Coupon::getCode).containsExactly("SAVE10");
+        verify(couponChangePort).publishChanged(List.of(1L));
+        verify(couponCodeFilter).add("SAVE10");
+    }
+
+    @Test
+    @DisplayName("쿠폰 생성 - 롤백되면 활성 쿠폰 목록에 나타나지 않음")
+    void createCoupon_whenRolledBack_shouldNotApplyToActiveCoupons() {
+        when(couponRepository.findUnexpiredCoupons()).thenReturn(List.of());
+        when(couponRepository.save(testCoupon)).thenReturn(testCoupon);
+        assertThat(couponService.getActiveCoupons()).isEmpty();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            couponService.createCoupon(testCoupon);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(couponService.getActiveCoupons()).isEmpty();
+        verifyNoInteractions(couponChangePort, couponCodeFilter);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 알림 - 알린 쿠폰만 DB에서 다시 읽어 잔여 수량과 삭제를 반영")
+    void refreshActiveCoupons_shouldReloadNotifiedCouponsOnly() {
+        Coupon other = new Coupon();
+        other.setId(2L);
+        other.setCode("OTHER");
+        other.setValidFrom(Instant.now().minus(1, ChronoUnit.DAYS));
+        other.setValidUntil(futureDate);
+        other.setRemainingQuantity(10);
+        when(couponRepository.findUnexpiredCoupons()).thenReturn(List.of(testCoupon, other));
+        assertThat(couponService.getActiveCoupons()).extracting(Coupon::getId).containsExactlyInAnyOrder(1L, 2L);
+
+        Coupon depletedElsewhere = new Coupon();
+        depletedElsewhere.setId(1L);
+        depletedElsewhere.setCode("SAVE10");
+        depletedElsewhere.setValidFrom(testCoupon.getValidFrom());
+        depletedElsewhere.setValidUntil(testCoupon.getValidUntil());
+        depletedElsewhere.setRemainingQuantity(0);
+        when(couponRepository.findByIds(List.of(1L))).thenReturn(List.of(depletedElsewhere));
+
+        couponService.refreshActiveCoupons(List.of(1L));
+
+        assertThat(couponService.getActiveCoupons()).extracting(Coupon::getId).containsExactly(2L);
+        verify(couponRepository, times(1)).findUnexpiredCoupons();
+    }
+
     @Test
     @DisplayName("정률 할인 계산 - 정상")
     void applyDiscount_percentageType_shouldCalculateCorrectly() {
@@ -172,24 +315,99 @@ class CouponServiceTest {
 
     @Test
     @DisplayName("쿠폰 사용 - 성공")
-    void useCoupon_shouldDecrementRemainingQuantity() {
+    void useCoupon_shouldRedeemWithoutTouchingDatabase() {
+        when(couponRedemptionPort.redeem(1L, 1L)).thenReturn(CouponRedemptionPort.Result.REDEEMED);
+
+        couponService.useCoupon(1L, 1L);
+
+        verify(couponRedemptionPort).redeem(1L, 1L);
+        verifyNoInteractions(couponRepository);
+    }
+
+    @Test
+    @DisplayName("쿠폰 사용 - 최초 사용 시 DB 기준으로 초기화 후 사용")
+    void useCoupon_whenNotInitialized_shouldInitializeFromDatabase() {
+        when(couponRedemptionPort.redeem(1L, 1L))
+            .thenReturn(CouponRedemptionPort.Result.NOT_INITIALIZED)
+            .thenReturn(CouponRedemptionPort.Result.REDEEMED);
         when(couponRepository.findById(1L)).thenReturn(Optional.of(testCoupon));
-        when(couponRepository.save(any(Coupon.class))).thenReturn(testCoupon);
+        when(couponRepository.findUsedMemberIds(1L)).thenReturn(List.of(7L));
 
         couponService.useCoupon(1L, 1L);
 
-        verify(couponRepository).save(any(Coupon.class));
+        verify(couponRedemptionPort).initialize(1L, 50, List.of(7L));
+        verify(couponRedemptionPort, times(2)).redeem(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("쿠폰 사용 실패 - 초기화할 쿠폰이 없음")
+    void useCoupon_whenCouponNotExists_shouldThrowException() {
+        when(couponRedemptionPort.redeem(999L, 1L)).thenReturn(CouponRedemptionPort.Result.NOT_INITIALIZED);
+        when(couponRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> couponService.useCoupon(999L, 1L))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.COUPON_NOT_FOUND));
+        verify(couponRedemptionPort, never()).initialize(any(), any(), any());
     }
 
     @Test
     @DisplayName("쿠폰 사용 실패 - 수량 소진")
     void useCoupon_whenQuotaExceeded_shouldThrowException() {
-        testCoupon.setRemainingQuantity(0);
-        when(couponRepository.findById(1L)).thenReturn(Optional.of(testCoupon));
+        when(couponRedemptionPort.redeem(1L, 1L)).thenReturn(CouponRedemptionPort.Result.SOLD_OUT);
 
         assertThatThrownBy(() -> couponService.useCoupon(1L, 1L))
             .isInstanceOf(BusinessException.class)
             .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
                 .isEqualTo(ErrorCode.COUPON_QUOTA_EXCEEDED));
     }
+
+    @Test
+    @DisplayName("쿠폰 사용 실패 - 이미 사용한 회원")
+    void useCoupon_whenAlreadyUsed_shouldThrowException() {
+        when(couponRedemptionPort.redeem(1L, 1L)).thenReturn(CouponRedemptionPort.Result.ALREADY_USED);
+
+        assertThatThrownBy(() -> couponService.useCoupon(1L, 1L))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.COUPON_ALREADY_USED));
+    }
+
+    @Test
+    @DisplayName("사용 내역 반영 - 바뀐 쿠폰의 캐시 항목만 제거")
+    void flushRedemptions_shouldWriteAndEvictAffectedCoupons() {
+        Instant now = Instant.now();
+        List<CouponRedemption> redemptions = List.of(
+            new CouponRedemption(1L, 1L, now, "1-0"),
+            new CouponRedemption(1L, 2L, now, "1-1"),
+            new CouponRedemption(2L, 1L, now, "1-2"));
+        Cache cache = mock(Cache.class);
+        when(couponRedemptionPort.pollRedemptions(500)).thenReturn(redemptions);
+        when(cacheManager.getCache("coupons")).thenReturn(cache);
+
+        int flushed = couponService.flushRedemptions(500);
+
+        assertThat(flushed).isEqualTo(3);
+        verify(couponRedemptionWriter).writeRedemptions(redemptions);
+        verify(couponRedemptionPort).acknowledge(redemptions);
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+        verify(cache, never()).clear();
+        verify(couponChangePort).publishChanged(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("사용 내역 반영 실패 - acknowledge하지 않아 대기열에 남음")
+    void flushRedemptions_whenWriteFails_shouldNotAcknowledge() {
+        List<CouponRedemption> redemptions = List.of(new CouponRedemption(1L, 1L, Instant.now(), "1-0"));
+        when(couponRedemptionPort.pollRedemptions(500)).thenReturn(redemptions);
+        doThrow(new IllegalStateException("db down")).when(couponRedemptionWriter).writeRedemptions(redemptions);
+
+        assertThatThrownBy(() -> couponService.flushRedemptions(500))
+            .isInstanceOf(IllegalStateException.class);
+        verify(couponRedemptionPort, never()).acknowledge(any());
+        verifyNoInteractions(cacheManager);
+        verifyNoInteractions(couponChangePort);
+    }
 }
@@ -140,6 +140,48 @@ class MemberServiceTest {
                 .isEqualTo(ErrorCode.MEMBER_NOT_FOUND));
     }
 
+    @Test
+    @DisplayName("역할 변경 성공")
+    void changeRole_whenMemberExists_shouldSaveNewRole() {
+        // Arrange
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Member result = memberService.changeRole(1L, Member.MemberRole.ROLE_ADMIN);
+
+        // Assert
+        assertThat(result.getRole()).isEqualTo(Member.MemberRole.ROLE_ADMIN);
+        verify(memberRepository).save(testMember);
+    }
+
+    @Test
+    @DisplayName("회원 삭제 성공")
+    void delete_whenMemberExists_shouldDeleteMember() {
+        // Arrange
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+
+        // Act
+        memberService.delete(1L);
+
+        // Assert
+        verify(memberRepository).delete(testMember);
+    }
+
+    @Test
+    @DisplayName("회원 삭제 실패 - 존재하지 않음")
+    void delete_whenMemberNotExists_shouldThrowException() {
+        // Arrange
+        when(memberRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> memberService.delete(999L))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MEMBER_NOT_FOUND));
+        verify(memberRepository, never()).delete(any(Member.class));
+    }
+
     @Test
     @DisplayName("비밀번호 인코딩 검증")
     void register_shouldEncodePassword() {
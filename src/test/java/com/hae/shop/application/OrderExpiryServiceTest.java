@@ -0,0 +1,70 @@
+package com.hae.shop.application;
+
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.OrderCancelledEvent;
+import com.hae.shop.domain.order.model.OrderSummary;
+import com.hae.shop.domain.order.port.out.PendingOrderExpiryPort;
+import com.hae.shop.domain.port.out.OutboxPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExpiryServiceTest {
+
+    @Mock
+    private PendingOrderExpiryPort pendingOrderExpiryPort;
+
+    @Mock
+    private OutboxPort outboxPort;
+
+    @InjectMocks
+    private OrderExpiryServiceImpl orderExpiryService;
+
+    @Test
+    @DisplayName("만료 배치 - 취소된 주문마다 취소 이벤트를 한 번에 기록")
+    void expirePendingOrders_shouldSaveCancelledEventsInBulk() {
+        Instant cutoff = Instant.now();
+        when(pendingOrderExpiryPort.cancelExpired(cutoff, 100)).thenReturn(List.of(summary(1L), summary(2L)));
+
+        int expired = orderExpiryService.expirePendingOrders(cutoff, 100);
+
+        assertThat(expired).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderCancelledEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxPort).saveOrderCancelledEvents(captor.capture());
+        assertThat(captor.getValue()).extracting(OrderCancelledEvent::orderId).containsExactly(1L, 2L);
+        assertThat(captor.getValue()).extracting(OrderCancelledEvent::reason)
+            .containsOnly(OrderExpiryServiceImpl.EXPIRY_REASON);
+        verify(outboxPort, never()).saveOrderCancelledEvent(any());
+    }
+
+    @Test
+    @DisplayName("만료 배치 - 대상이 없으면 이벤트를 기록하지 않음")
+    void expirePendingOrders_whenNothingExpired_shouldNotTouchOutbox() {
+        Instant cutoff = Instant.now();
+        when(pendingOrderExpiryPort.cancelExpired(cutoff, 100)).thenReturn(List.of());
+
+        int expired = orderExpiryService.expirePendingOrders(cutoff, 100);
+
+        assertThat(expired).isZero();
+        verifyNoInteractions(outboxPort);
+    }
+
+    private OrderSummary summary(Long id) {
+        return new OrderSummary(id, "ORD-" + id, 1L, BigDecimal.valueOf(10000), BigDecimal.ZERO,
+            BigDecimal.valueOf(10000), Order.OrderStatus.CANCELLED, Instant.now().minusSeconds(3600));
+    }
+}
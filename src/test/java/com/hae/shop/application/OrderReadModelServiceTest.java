@@ -0,0 +1,99 @@
+package com.hae.shop.application;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.port.out.OrderReadModelPort;
+import com.hae.shop.domain.order.port.out.OrderRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderReadModelServiceTest {
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    @Mock
+    private OrderReadModelPort orderReadModelPort;
+
+    @InjectMocks
+    private OrderReadModelServiceImpl orderReadModelService;
+
+    @Test
+    @DisplayName("투영 - 쓰기 모델의 현재 상태로 조회 모델 저장")
+    void project_shouldSaveCurrentWriteModelState() {
+        Order order = order(3L);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        orderReadModelService.project(1L);
+
+        verify(orderReadModelPort).save(order);
+    }
+
+    @Test
+    @DisplayName("투영 - 주문이 없으면 아무것도 하지 않음")
+    void project_whenOrderMissing_shouldDoNothing() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+
+        orderReadModelService.project(1L);
+
+        verify(orderReadModelPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("조회 - 조회 모델이 요청 버전 이상이면 조회 모델만 사용")
+    void getOrder_whenSnapshotFresh_shouldNotTouchWriteModel() {
+        Order snapshot = order(3L);
+        when(orderReadModelPort.findById(1L)).thenReturn(Optional.of(snapshot));
+
+        Order result = orderReadModelService.getOrder(1L, 3L);
+
+        assertThat(result).isSameAs(snapshot);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("조회 - 조회 모델이 뒤처지면 쓰기 모델에서 조회 (read-after-write)")
+    void getOrder_whenSnapshotStale_shouldFallBackToWriteModel() {
+        Order latest = order(4L);
+        when(orderReadModelPort.findById(1L)).thenReturn(Optional.of(order(3L)));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(latest));
+
+        Order result = orderReadModelService.getOrder(1L, 4L);
+
+        assertThat(result).isSameAs(latest);
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 어디에도 주문이 없음")
+    void getOrder_whenMissingEverywhere_shouldThrow() {
+        when(orderReadModelPort.findById(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderReadModelService.getOrder(1L, null))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ORDER_NOT_FOUND));
+    }
+
+    private Order order(Long version) {
+        Order order = new Order();
+        order.setId(1L);
+        order.setMemberId(1L);
+        order.setStatus(Order.OrderStatus.PENDING);
+        order.setVersion(version);
+        return order;
+    }
+}
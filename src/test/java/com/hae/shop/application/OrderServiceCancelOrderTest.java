@@ -2,7 +2,9 @@ package com.hae.shop.application;
 
 import com.hae.shop.common.BusinessException;
 import com.hae.shop.common.ErrorCode;
+import com.hae.shop.common.SnowflakeIdGenerator;
 import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.port.in.PaymentCancellationService;
 import com.hae.shop.domain.order.port.out.OrderRepositoryPort;
 import com.hae.shop.domain.port.out.OutboxPort;
 import com.hae.shop.domain.order.port.out.PaymentGatewayPort;
@@ -14,7 +16,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.Optional;
 
@@ -38,9 +42,18 @@ class OrderServiceCancelOrderTest {
     @Mock
     private PaymentGatewayPort paymentGatewayPort;
 
+    @Mock
+    private PaymentCancellationService paymentCancellationService;
+
     @Mock
     private OutboxPort outboxPort;
 
+    @Spy
+    private SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(1);
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -59,28 +72,83 @@ class OrderServiceCancelOrderTest {
     @DisplayName("주문 취소 성공 - PENDING 상태")
     void cancelOrder_whenPending_shouldCancel() {
         when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        when(orderRepository.transitionStatus(testOrder, Order.OrderStatus.PENDING)).thenReturn(true);
 
         Order result = orderService.cancelOrder(1L, "테스트 취소 사유");
 
         assertThat(result.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
-        verify(orderRepository).save(any(Order.class));
+        verify(orderRepository).transitionStatus(testOrder, Order.OrderStatus.PENDING);
         verify(outboxPort).saveOrderCancelledEvent(any());
+        verifyNoInteractions(paymentCancellationService);
+        assertThat(result.getPaymentCancelStatus()).isNull();
     }
 
     @Test
-    @DisplayName("주문 취소 성공 - PAID 상태")
-    void cancelOrder_whenPaid_shouldCancel() {
+    @DisplayName("주문 취소 성공 - PAID 상태면 PG 승인을 취소하고 취소 번호를 주문에 기록")
+    void cancelOrder_whenPaid_shouldCancelPaymentAndRecordCancelTransaction() {
         testOrder.setStatus(Order.OrderStatus.PAID);
+        testOrder.setPaymentTransactionId("tx-1");
         when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        when(orderRepository.transitionStatus(testOrder, Order.OrderStatus.PAID)).thenAnswer(invocation -> {
+            // 전이와 함께 취소 요청 표시가 저장되어야 함
+            assertThat(testOrder.getPaymentCancelStatus()).isEqualTo(Order.PaymentCancelStatus.REQUESTED);
+            return true;
+        });
+        when(paymentCancellationService.cancelOrRetryLater(1L, "tx-1")).thenReturn(Optional.of("CANCEL-tx-1"));
 
         Order result = orderService.cancelOrder(1L, "결제 후 취소");
 
         assertThat(result.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(result.getPaymentCancelStatus()).isEqualTo(Order.PaymentCancelStatus.CANCELLED);
+        assertThat(result.getPaymentCancelTransactionId()).isEqualTo("CANCEL-tx-1");
+        verify(paymentCancellationService).cancelOrRetryLater(1L, "tx-1");
         verify(outboxPort).saveOrderCancelledEvent(any());
     }
 
+    @Test
+    @DisplayName("주문 취소 성공 - PAID 상태에서 PG 취소가 실패하면 주문은 취소되고 취소 요청 상태로 남음")
+    void cancelOrder_whenPaidAndGatewayCancelFails_shouldLeaveCancellationRequested() {
+        testOrder.setStatus(Order.OrderStatus.PAID);
+        testOrder.setPaymentTransactionId("tx-1");
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.transitionStatus(testOrder, Order.OrderStatus.PAID)).thenReturn(true);
+        when(paymentCancellationService.cancelOrRetryLater(1L, "tx-1")).thenReturn(Optional.empty());
+
+        Order result = orderService.cancelOrder(1L, "결제 후 취소");
+
+        assertThat(result.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(result.getPaymentCancelStatus()).isEqualTo(Order.PaymentCancelStatus.REQUESTED);
+        assertThat(result.getPaymentCancelTransactionId()).isNull();
+    }
+
+    @Test
+    @DisplayName("주문 취소 실패 - 상태 전이에 실패하면 PG 취소를 요청하지 않음")
+    void cancelOrder_whenPaidButConcurrentlyModified_shouldNotCancelPayment() {
+        testOrder.setStatus(Order.OrderStatus.PAID);
+        testOrder.setPaymentTransactionId("tx-1");
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.transitionStatus(testOrder, Order.OrderStatus.PAID)).thenReturn(false);
+
+        assertThatThrownBy(() -> orderService.cancelOrder(1L, "결제 후 취소"))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ORDER_CONCURRENT_MODIFICATION));
+        verifyNoInteractions(paymentCancellationService);
+    }
+
+    @Test
+    @DisplayName("주문 취소 실패 - 동시에 결제가 완료되어 버전이 바뀜")
+    void cancelOrder_whenConcurrentlyModified_shouldThrowConflict() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.transitionStatus(testOrder, Order.OrderStatus.PENDING)).thenReturn(false);
+
+        assertThatThrownBy(() -> orderService.cancelOrder(1L, "취소 사유"))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ORDER_CONCURRENT_MODIFICATION));
+        verify(outboxPort, never()).saveOrderCancelledEvent(any());
+    }
+
     @Test
     @DisplayName("주문 취소 실패 - SHIPPED 상태")
     void cancelOrder_whenShipped_shouldThrowInvalidStatus() {
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,12 +15,15 @@ import org.mockito.*;
 
 import com.hae.shop.common.BusinessException;
 import com.hae.shop.common.ErrorCode;
+import com.hae.shop.common.SnowflakeIdGenerator;
 import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.port.in.PaymentCancellationService;
 import com.hae.shop.domain.order.port.out.OrderRepositoryPort;
 import com.hae.shop.domain.port.out.OutboxPort;
 import com.hae.shop.domain.order.port.out.PaymentGatewayPort;
 import com.hae.shop.domain.product.port.in.ProductService;
 import com.hae.shop.domain.coupon.port.in.CouponService;
+import org.springframework.transaction.support.TransactionOperations;
 
 class OrderServiceIdempotencyTest {
 
@@ -35,9 +39,18 @@ class OrderServiceIdempotencyTest {
     @Mock
     private PaymentGatewayPort paymentGatewayPort;
 
+    @Mock
+    private PaymentCancellationService paymentCancellationService;
+
     @Mock
     private OutboxPort outboxPort;
 
+    @Spy
+    private SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(1);
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -71,7 +84,7 @@ class OrderServiceIdempotencyTest {
 
         // Then
         assertThat(result.getStatus()).isEqualTo(Order.OrderStatus.PAID);
-        verify(paymentGatewayPort, never()).processPayment(any(), any());
+        verify(paymentGatewayPort, never()).processPayment(any(), any(), any());
         verify(outboxPort, never()).savePaymentCompletedEvent(any());
     }
 
@@ -95,9 +108,10 @@ class OrderServiceIdempotencyTest {
 
         when(orderRepository.findByIdempotencyKey(idempotencyKey)).thenReturn(Optional.empty());
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(paymentGatewayPort.processPayment(orderId, BigDecimal.valueOf(100)))
-            .thenReturn(new PaymentGatewayPort.PaymentResult(true, "tx123", null));
-        when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
+        when(paymentGatewayPort.processPayment(eq(orderId), anyString(), eq(BigDecimal.valueOf(100))))
+            .thenReturn(CompletableFuture.completedFuture(new PaymentGatewayPort.PaymentResult(true, "tx123", null)));
+        when(orderRepository.transitionStatus(order, Order.OrderStatus.PENDING)).thenReturn(true);
+        when(orderRepository.transitionStatus(order, Order.OrderStatus.PAYMENT_IN_PROGRESS)).thenReturn(true);
 
         // When
         Order result = orderService.payOrder(orderId, paymentToken, idempotencyKey);
@@ -105,10 +119,35 @@ class OrderServiceIdempotencyTest {
         // Then
         assertThat(result.getStatus()).isEqualTo(Order.OrderStatus.PAID);
         assertThat(result.getIdempotencyKey()).isEqualTo(idempotencyKey);
-        verify(paymentGatewayPort).processPayment(orderId, BigDecimal.valueOf(100));
+        verify(paymentGatewayPort).processPayment(eq(orderId), anyString(), eq(BigDecimal.valueOf(100)));
         verify(outboxPort).savePaymentCompletedEvent(any());
     }
 
+    @Test
+    void payOrder_whenOrderChangedDuringPayment_shouldCancelPaymentAndThrowConflict() {
+        // Given
+        Long orderId = 1L;
+        Order order = new Order();
+        order.setId(orderId);
+        order.setStatus(Order.OrderStatus.PENDING);
+        order.setVersion(3L);
+        order.setPaymentAmount(BigDecimal.valueOf(100));
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(paymentGatewayPort.processPayment(eq(orderId), anyString(), eq(BigDecimal.valueOf(100))))
+            .thenReturn(CompletableFuture.completedFuture(new PaymentGatewayPort.PaymentResult(true, "tx123", null)));
+        when(orderRepository.transitionStatus(order, Order.OrderStatus.PENDING)).thenReturn(true);
+        when(orderRepository.transitionStatus(order, Order.OrderStatus.PAYMENT_IN_PROGRESS)).thenReturn(false);
+
+        // When/Then
+        assertThatThrownBy(() -> orderService.payOrder(orderId, "token123", null))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.ORDER_CONCURRENT_MODIFICATION);
+        verify(paymentCancellationService).cancelOrRetryLater(orderId, "tx123");
+        verify(outboxPort, never()).savePaymentCompletedEvent(any());
+    }
+
     @Test
     void payOrder_withDuplicateIdempotencyKeyOnDifferentOrder_shouldThrowConflict() {
         // Given
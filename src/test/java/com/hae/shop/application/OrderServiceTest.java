@@ -2,25 +2,46 @@ package com.hae.shop.application;
 
 import com.hae.shop.common.BusinessException;
 import com.hae.shop.common.ErrorCode;
+import com.hae.shop.common.SnowflakeIdGenerator;
+import com.hae.shop.domain.order.model.CheckoutItem;
 import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.OrderCreatedEvent;
+import com.hae.shop.domain.order.model.OrderHistoryCursor;
+import com.hae.shop.domain.order.model.OrderHistoryPage;
+import com.hae.shop.domain.order.model.OrderItem;
 import com.hae.shop.domain.order.port.out.OrderRepositoryPort;
 import com.hae.shop.domain.port.out.OutboxPort;
 import com.hae.shop.domain.order.port.out.PaymentGatewayPort;
+import com.hae.shop.domain.product.model.Product;
 import com.hae.shop.domain.product.port.in.ProductService;
+import com.hae.shop.domain.coupon.port.in.CouponRecommendationService;
 import com.hae.shop.domain.coupon.port.in.CouponService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +55,9 @@ class OrderServiceTest {
     
     @Mock
     private CouponService couponService;
+
+    @Mock
+    private CouponRecommendationService couponRecommendationService;
     
     @Mock
     private PaymentGatewayPort paymentGatewayPort;
@@ -41,6 +65,12 @@ class OrderServiceTest {
     @Mock
     private OutboxPort outboxPort;
 
+    @Spy
+    private SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(1);
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -130,12 +160,28 @@ class OrderServiceTest {
     @DisplayName("결제 완료 성공")
     void completePayment_shouldSucceed() {
         when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        when(orderRepository.transitionStatus(testOrder, Order.OrderStatus.PENDING)).thenReturn(true);
 
         orderService.completePayment(1L);
 
         assertThat(testOrder.getStatus()).isEqualTo(Order.OrderStatus.PAID);
-        verify(orderRepository).save(any(Order.class));
+        verify(orderRepository).transitionStatus(testOrder, Order.OrderStatus.PENDING);
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(outboxPort).saveOrderUpdatedEvent(any());
+    }
+
+    @Test
+    @DisplayName("결제 완료 실패 - 다른 요청이 먼저 주문을 변경")
+    void completePayment_shouldThrowWhenConcurrentlyModified() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.transitionStatus(testOrder, Order.OrderStatus.PENDING)).thenReturn(false);
+
+        assertThatThrownBy(() -> orderService.completePayment(1L))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ORDER_CONCURRENT_MODIFICATION));
+        assertThat(testOrder.getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+        verify(outboxPort, never()).saveOrderUpdatedEvent(any());
     }
 
     @Test
@@ -150,4 +196,298 @@ class OrderServiceTest {
             .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
                 .isEqualTo(ErrorCode.INVALID_ORDER_STATUS));
     }
+
+    @Test
+    @DisplayName("결제 - 진행 중 표시, 트랜잭션 밖에서 결제 호출, PAID 확정 순서로 처리")
+    void payOrder_shouldMarkInProgressCallGatewayThenCommitPaid() {
+        testOrder.setPaymentAmount(BigDecimal.valueOf(10000));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.transitionStatus(eq(testOrder), any())).thenReturn(true);
+        when(paymentGatewayPort.processPayment(eq(1L), anyString(), eq(BigDecimal.valueOf(10000))))
+            .thenReturn(CompletableFuture.completedFuture(new PaymentGatewayPort.PaymentResult(true, "tx-1", null)));
+
+        Order result = orderService.payOrder(1L, "token", null);
+
+        assertThat(result.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(result.getPaymentTransactionId()).isEqualTo("tx-1");
+        InOrder inOrder = inOrder(orderRepository, paymentGatewayPort, transactionOperations, outboxPort);
+        inOrder.verify(orderRepository).transitionStatus(testOrder, Order.OrderStatus.PENDING);
+        inOrder.verify(paymentGatewayPort).processPayment(eq(1L), anyString(), eq(BigDecimal.valueOf(10000)));
+        inOrder.verify(transactionOperations).execute(any());
+        inOrder.verify(orderRepository).transitionStatus(testOrder, Order.OrderStatus.PAYMENT_IN_PROGRESS);
+        inOrder.verify(outboxPort).savePaymentCompletedEvent(any());
+    }
+
+    @Test
+    @DisplayName("결제 실패 - 승인 거절이 조회로도 확인되면 PENDING으로 복귀")
+    void payOrder_whenDeclined_shouldRevertToPending() {
+        testOrder.setPaymentAmount(BigDecimal.valueOf(10000));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.transitionStatus(eq(testOrder), any())).thenReturn(true);
+        when(paymentGatewayPort.processPayment(eq(1L), anyString(), eq(BigDecimal.valueOf(10000))))
+            .thenReturn(CompletableFuture.completedFuture(new PaymentGatewayPort.PaymentResult(false, null, "declined")));
+        when(paymentGatewayPort.inquirePayment(eq(1L), anyString()))
+            .thenReturn(new PaymentGatewayPort.PaymentResult(false, null, "not found"));
+
+        assertThatThrownBy(() -> orderService.payOrder(1L, "token", null))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PAYMENT_FAILED));
+        assertThat(testOrder.getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+        verify(orderRepository).transitionStatus(testOrder, Order.OrderStatus.PAYMENT_IN_PROGRESS);
+        verify(outboxPort, never()).savePaymentCompletedEvent(any());
+    }
+
+    @Test
+    @DisplayName("거절 후 재결제 - 새 결제 시도 ID로 요청해 이전 거절이 재전송되지 않고 승인됨")
+    void payOrder_afterDecline_shouldRetryWithNewAttemptId() {
+        testOrder.setPaymentAmount(BigDecimal.valueOf(10000));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.transitionStatus(eq(testOrder), any())).thenReturn(true);
+        when(paymentGatewayPort.processPayment(eq(1L), anyString(), eq(BigDecimal.valueOf(10000))))
+            .thenReturn(CompletableFuture.completedFuture(new PaymentGatewayPort.PaymentResult(false, null, "declined")))
+            .thenReturn(CompletableFuture.completedFuture(new PaymentGatewayPort.PaymentResult(true, "tx-2", null)));
+        when(paymentGatewayPort.inquirePayment(eq(1L), anyString()))
+            .thenReturn(new PaymentGatewayPort.PaymentResult(false, null, "not found"));
+
+        assertThatThrownBy(() -> orderService.payOrder(1L, "token", null))
+            .isInstanceOf(BusinessException.class);
+        String declinedAttempt = testOrder.getPaymentAttemptId();
+        Order result = orderService.payOrder(1L, "token", null);
+
+        assertThat(result.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(result.getPaymentTransactionId()).isEqualTo("tx-2");
+        ArgumentCaptor<String> attempts = ArgumentCaptor.forClass(String.class);
+        verify(paymentGatewayPort, times(2)).processPayment(eq(1L), attempts.capture(), any());
+        assertThat(attempts.getAllValues()).containsExactly(declinedAttempt, result.getPaymentAttemptId());
+        assertThat(result.getPaymentAttemptId()).isNotEqualTo(declinedAttempt);
+        verify(paymentGatewayPort).inquirePayment(1L, declinedAttempt);
+    }
+
+    @Test
+    @DisplayName("결제 실패 - 결과를 확정할 수 없으면 PAYMENT_IN_PROGRESS로 남겨 복구 작업에 맡김")
+    void payOrder_whenOutcomeUnknown_shouldLeaveInProgress() {
+        testOrder.setPaymentAmount(BigDecimal.valueOf(10000));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.transitionStatus(testOrder, Order.OrderStatus.PENDING)).thenReturn(true);
+        when(paymentGatewayPort.processPayment(any(), any(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new TimeoutException("gateway timed out")));
+        when(paymentGatewayPort.inquirePayment(eq(1L), anyString())).thenThrow(new IllegalStateException("timeout"));
+
+        assertThatThrownBy(() -> orderService.payOrder(1L, "token", null))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PAYMENT_GATEWAY_ERROR));
+        assertThat(testOrder.getStatus()).isEqualTo(Order.OrderStatus.PAYMENT_IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("결제 거절 - PG 동시 호출 상한에 걸리면 조회 없이 PENDING으로 복귀하고 BUSY 반환")
+    void payOrder_whenGatewayBusy_shouldRevertWithoutInquiry() {
+        testOrder.setPaymentAmount(BigDecimal.valueOf(10000));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.transitionStatus(eq(testOrder), any())).thenReturn(true);
+        when(paymentGatewayPort.processPayment(any(), any(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new BusinessException(ErrorCode.PAYMENT_GATEWAY_BUSY)));
+
+        assertThatThrownBy(() -> orderService.payOrder(1L, "token", null))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PAYMENT_GATEWAY_BUSY));
+        assertThat(testOrder.getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+        verify(paymentGatewayPort, never()).inquirePayment(any(), any());
+    }
+
+    @Test
+    @DisplayName("결제 복구 - 승인된 결제는 PAID로, 승인 내역이 없으면 PENDING으로 확정")
+    void recoverStuckPayments_shouldSettleByInquiry() {
+        Order approved = inProgressOrder(1L);
+        Order missing = inProgressOrder(2L);
+        Instant startedBefore = Instant.now();
+        when(orderRepository.findByStatusUpdatedBefore(Order.OrderStatus.PAYMENT_IN_PROGRESS, startedBefore, 10))
+            .thenReturn(List.of(approved, missing));
+        when(paymentGatewayPort.inquirePayment(1L, "payment-1-1")).thenReturn(new PaymentGatewayPort.PaymentResult(true, "tx-1", null));
+        when(paymentGatewayPort.inquirePayment(2L, "payment-2-1")).thenReturn(new PaymentGatewayPort.PaymentResult(false, null, null));
+        when(orderRepository.transitionStatus(any(Order.class), eq(Order.OrderStatus.PAYMENT_IN_PROGRESS))).thenReturn(true);
+
+        int recovered = orderService.recoverStuckPayments(startedBefore, 10);
+
+        assertThat(recovered).isEqualTo(2);
+        assertThat(approved.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(missing.getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+        verify(outboxPort, times(1)).savePaymentCompletedEvent(any());
+        verify(paymentGatewayPort, never()).processPayment(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("체크아웃 성공 - 상품 일괄 조회, 합계 1회 계산, 저장 1회, 이벤트 1회")
+    void checkout_shouldSaveOnceAndPublishSingleEventWithItems() {
+        Product keyboard = product(10L, "Keyboard", 50000);
+        Product mouse = product(20L, "Mouse", 20000);
+        when(productService.getProductsByIds(List.of(10L, 20L))).thenReturn(List.of(mouse, keyboard));
+        when(couponService.applyDiscount(7L, BigDecimal.valueOf(140000))).thenReturn(BigDecimal.valueOf(10000));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(1L);
+            return order;
+        });
+
+        Order result = orderService.checkout(1L, List.of(
+            new CheckoutItem(20L, 1),
+            new CheckoutItem(10L, 2),
+            new CheckoutItem(20L, 1)
+        ), 7L, null);
+
+        assertThat(result.getItems()).extracting(OrderItem::getProductId).containsExactly(10L, 20L);
+        assertThat(result.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(140000));
+        assertThat(result.getDiscountAmount()).isEqualByComparingTo(BigDecimal.valueOf(10000));
+        assertThat(result.getPaymentAmount()).isEqualByComparingTo(BigDecimal.valueOf(130000));
+        verify(productService).decrementStock(10L, 2);
+        verify(productService).decrementStock(20L, 2);
+        verify(productService, never()).getProduct(anyLong());
+        verify(orderRepository, times(1)).save(any(Order.class));
+
+        ArgumentCaptor<OrderCreatedEvent> event = ArgumentCaptor.forClass(OrderCreatedEvent.class);
+        verify(outboxPort, times(1)).saveOrderCreatedEvent(event.capture());
+        assertThat(event.getValue().items()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("체크아웃 실패 - 존재하지 않는 상품")
+    void checkout_shouldThrowWhenProductNotFound() {
+        when(productService.getProductsByIds(List.of(10L, 99L))).thenReturn(List.of(product(10L, "Keyboard", 50000)));
+
+        assertThatThrownBy(() -> orderService.checkout(1L, List.of(
+            new CheckoutItem(10L, 1),
+            new CheckoutItem(99L, 1)
+        ), null, null))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PRODUCT_NOT_FOUND));
+
+        verify(productService, never()).decrementStock(anyLong(), anyInt());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("체크아웃 실패 - 항목 없음")
+    void checkout_shouldThrowWhenItemsEmpty() {
+        assertThatThrownBy(() -> orderService.checkout(1L, List.of(), null, null))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT));
+    }
+
+    @Test
+    @DisplayName("체크아웃 재시도 - 같은 멱등성 키면 기존 주문 반환")
+    void checkout_withSameIdempotencyKey_shouldReturnExistingOrder() {
+        when(orderRepository.findByIdempotencyKey("checkout-key")).thenReturn(Optional.of(testOrder));
+
+        Order result = orderService.checkout(1L, List.of(new CheckoutItem(10L, 1)), null, "checkout-key");
+
+        assertThat(result).isSameAs(testOrder);
+        verifyNoInteractions(productService, outboxPort);
+    }
+
+    @Test
+    @DisplayName("회원 주문 이력 - size + 1건을 조회해 다음 커서를 계산")
+    void getMemberOrders_shouldReturnNextCursorWhenMoreOrdersExist() {
+        Order newest = order(3L, Instant.parse("2026-01-03T00:00:00Z"));
+        Order middle = order(2L, Instant.parse("2026-01-02T00:00:00Z"));
+        Order oldest = order(1L, Instant.parse("2026-01-01T00:00:00Z"));
+        when(orderRepository.findByMemberId(eq(1L), isNull(), eq(3))).thenReturn(List.of(newest, middle, oldest));
+
+        OrderHistoryPage<Order> page = orderService.getMemberOrders(1L, null, 2);
+
+        assertThat(page.orders()).containsExactly(newest, middle);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(new OrderHistoryCursor(middle.getCreatedAt(), 2L));
+    }
+
+    @Test
+    @DisplayName("회원 주문 이력 - 마지막 페이지는 커서 없음")
+    void getMemberOrders_shouldReturnNoCursorOnLastPage() {
+        OrderHistoryCursor cursor = new OrderHistoryCursor(Instant.parse("2026-01-02T00:00:00Z"), 2L);
+        Order oldest = order(1L, Instant.parse("2026-01-01T00:00:00Z"));
+        when(orderRepository.findByMemberId(1L, cursor, 3)).thenReturn(List.of(oldest));
+
+        OrderHistoryPage<Order> page = orderService.getMemberOrders(1L, cursor, 2);
+
+        assertThat(page.orders()).containsExactly(oldest);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("회원 주문 이력 실패 - 페이지 크기 초과")
+    void getMemberOrders_shouldThrowWhenPageSizeTooLarge() {
+        assertThatThrownBy(() -> orderService.getMemberOrders(1L, null, OrderServiceImpl.MAX_HISTORY_PAGE_SIZE + 1))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT));
+    }
+
+    private Order order(Long id, Instant createdAt) {
+        Order order = new Order();
+        order.setId(id);
+        order.setMemberId(1L);
+        order.setCreatedAt(createdAt);
+        return order;
+    }
+
+    private Product product(Long id, String name, long price) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setPrice(BigDecimal.valueOf(price));
+        product.setStockQuantity(100);
+        product.setStatus(Product.ProductStatus.ACTIVE);
+        return product;
+    }
+
+    private Order inProgressOrder(Long id) {
+        Order order = new Order();
+        order.setId(id);
+        order.setMemberId(1L);
+        order.setOrderNumber("ORD-" + id);
+        order.setStatus(Order.OrderStatus.PAYMENT_IN_PROGRESS);
+        order.setPaymentAttemptId("payment-" + id + "-1");
+        order.setPaymentAmount(BigDecimal.valueOf(10000));
+        return order;
+    }
+
+    @Test
+    @DisplayName("쿠폰 추천 - PENDING 주문의 총액으로 추천")
+    void recommendCoupons_shouldUseOrderTotal() {
+        testOrder.setTotalAmount(BigDecimal.valueOf(30000));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(couponRecommendationService.recommend(1L, BigDecimal.valueOf(30000), 10)).thenReturn(List.of());
+
+        orderService.recommendCoupons(1L, 1L, 10);
+
+        verify(couponRecommendationService).recommend(1L, BigDecimal.valueOf(30000), 10);
+    }
+
+    @Test
+    @DisplayName("쿠폰 추천 실패 - 다른 회원의 주문")
+    void recommendCoupons_whenOtherMembersOrder_shouldThrowException() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        assertThatThrownBy(() -> orderService.recommendCoupons(1L, 2L, 10))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ORDER_NOT_FOUND));
+        verifyNoInteractions(couponRecommendationService);
+    }
+
+    @Test
+    @DisplayName("쿠폰 추천 실패 - PENDING이 아닌 주문")
+    void recommendCoupons_whenNotPending_shouldThrowException() {
+        testOrder.setStatus(Order.OrderStatus.PAID);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        assertThatThrownBy(() -> orderService.recommendCoupons(1L, 1L, 10))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_ORDER_STATUS));
+    }
 }
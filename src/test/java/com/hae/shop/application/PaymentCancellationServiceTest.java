@@ -0,0 +1,128 @@
+package com.hae.shop.application;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.domain.order.model.PendingPaymentCancellation;
+import com.hae.shop.domain.order.port.out.OrderRepositoryPort;
+import com.hae.shop.domain.order.port.out.PaymentCancellationPort;
+import com.hae.shop.domain.order.port.out.PaymentGatewayPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentCancellationServiceTest {
+
+    @Mock
+    private PaymentGatewayPort paymentGatewayPort;
+
+    @Mock
+    private PaymentCancellationPort paymentCancellationPort;
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    @InjectMocks
+    private PaymentCancellationServiceImpl paymentCancellationService;
+
+    @Test
+    @DisplayName("취소 성공 - 취소 번호를 주문에 기록하고 대기열에는 기록하지 않음")
+    void cancelOrRetryLater_whenCancelled_shouldRecordOnOrderAndNotEnqueue() {
+        // given
+        when(paymentGatewayPort.cancelPayment("tx-1"))
+            .thenReturn(new PaymentGatewayPort.PaymentResult(true, "CANCEL-tx-1", null));
+
+        // when
+        Optional<String> cancelled = paymentCancellationService.cancelOrRetryLater(1L, "tx-1");
+
+        // then
+        assertThat(cancelled).contains("CANCEL-tx-1");
+        verify(orderRepository).recordPaymentCancellation(1L, "tx-1", "CANCEL-tx-1");
+        verifyNoInteractions(paymentCancellationPort);
+    }
+
+    @Test
+    @DisplayName("취소 벌크헤드 포화(BUSY) - 예외를 던지지 않고 재시도 대기열에 기록")
+    void cancelOrRetryLater_whenBulkheadFull_shouldEnqueue() {
+        // given
+        when(paymentGatewayPort.cancelPayment("tx-1"))
+            .thenThrow(new BusinessException(ErrorCode.PAYMENT_GATEWAY_BUSY));
+        Instant before = Instant.now();
+
+        // when
+        Optional<String> cancelled = paymentCancellationService.cancelOrRetryLater(1L, "tx-1");
+
+        // then
+        assertThat(cancelled).isEmpty();
+        verifyNoInteractions(orderRepository);
+        ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+        verify(paymentCancellationPort).enqueue(eq(1L), eq("tx-1"), anyString(), nextAttemptAt.capture());
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plus(PaymentCancellationServiceImpl.INITIAL_BACKOFF));
+    }
+
+    @Test
+    @DisplayName("PG 취소 실패(success=false) - 실패 사유와 함께 재시도 대기열에 기록")
+    void cancelOrRetryLater_whenGatewayFails_shouldEnqueueWithReason() {
+        // given
+        when(paymentGatewayPort.cancelPayment("tx-1"))
+            .thenReturn(new PaymentGatewayPort.PaymentResult(false, null, "Payment cancellation failed: timeout"));
+
+        // when
+        Optional<String> cancelled = paymentCancellationService.cancelOrRetryLater(1L, "tx-1");
+
+        // then
+        assertThat(cancelled).isEmpty();
+        verify(paymentCancellationPort).enqueue(eq(1L), eq("tx-1"), eq("Payment cancellation failed: timeout"), any());
+    }
+
+    @Test
+    @DisplayName("재시도 - 성공한 건은 지우고 다시 실패한 건은 시도 횟수에 맞춰 미룸")
+    void retryFailedCancellations_shouldRemoveCancelledAndRescheduleFailed() {
+        // given
+        when(paymentCancellationPort.claimDue(any(), any(), eq(10))).thenReturn(List.of(
+            new PendingPaymentCancellation(1L, "tx-1", 1),
+            new PendingPaymentCancellation(2L, "tx-2", 3)
+        ));
+        when(paymentGatewayPort.cancelPayment("tx-1"))
+            .thenReturn(new PaymentGatewayPort.PaymentResult(true, "CANCEL-tx-1", null));
+        when(paymentGatewayPort.cancelPayment("tx-2"))
+            .thenReturn(new PaymentGatewayPort.PaymentResult(false, null, "still failing"));
+        Instant before = Instant.now();
+
+        // when
+        int cancelled = paymentCancellationService.retryFailedCancellations(10);
+
+        // then
+        assertThat(cancelled).isEqualTo(1);
+        verify(paymentCancellationPort).remove("tx-1");
+        verify(orderRepository).recordPaymentCancellation(1L, "tx-1", "CANCEL-tx-1");
+        ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+        verify(paymentCancellationPort).reschedule(eq("tx-2"), eq("still failing"), nextAttemptAt.capture());
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plus(Duration.ofMinutes(8)));
+        verify(paymentCancellationPort, never()).remove("tx-2");
+    }
+
+    @Test
+    @DisplayName("재시도 간격 - 1분부터 두 배씩 늘어나고 1시간을 넘지 않음")
+    void backoff_shouldDoubleUpToMax() {
+        assertThat(PaymentCancellationServiceImpl.backoff(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(PaymentCancellationServiceImpl.backoff(2)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(PaymentCancellationServiceImpl.backoff(4)).isEqualTo(Duration.ofMinutes(8));
+        assertThat(PaymentCancellationServiceImpl.backoff(30)).isEqualTo(PaymentCancellationServiceImpl.MAX_BACKOFF);
+    }
+}
@@ -0,0 +1,135 @@
+package com.hae.shop.application;
+
+import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.PaymentDiscrepancy;
+import com.hae.shop.domain.order.model.ReconciliationReport;
+import com.hae.shop.domain.order.model.SettledPayment;
+import com.hae.shop.domain.order.port.out.PaymentGatewayPort;
+import com.hae.shop.domain.order.port.out.PaymentGatewayPort.PaymentResult;
+import com.hae.shop.domain.order.port.out.PaymentReconciliationPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationServiceTest {
+
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-01-01T01:00:00Z");
+
+    @Mock
+    private PaymentReconciliationPort paymentReconciliationPort;
+
+    @Mock
+    private PaymentGatewayPort paymentGatewayPort;
+
+    @InjectMocks
+    private PaymentReconciliationServiceImpl paymentReconciliationService;
+
+    private void givenSettledPayments(List<SettledPayment> payments) {
+        when(paymentReconciliationPort.streamSettledPayments(eq(FROM), eq(TO), anyInt(), any()))
+            .thenAnswer(invocation -> {
+                Consumer<List<SettledPayment>> consumer = invocation.getArgument(3);
+                consumer.accept(payments);
+                return (long) payments.size();
+            });
+    }
+
+    @Test
+    @DisplayName("대사 - 승인 누락, 승인 번호 불일치, 취소 누락을 한 번에 기록")
+    void reconcile_shouldRecordDiscrepanciesInBulk() {
+        givenSettledPayments(List.of(
+            new SettledPayment(1L, Order.OrderStatus.PAID, "tx-1", null),
+            new SettledPayment(2L, Order.OrderStatus.PAID, "tx-2", null),
+            new SettledPayment(3L, Order.OrderStatus.PAID, "tx-3", null),
+            new SettledPayment(4L, Order.OrderStatus.CANCELLED, null, null),
+            new SettledPayment(5L, Order.OrderStatus.CANCELLED, "tx-5", Order.PaymentCancelStatus.CANCELLED)
+        ));
+        when(paymentGatewayPort.inquirePayments(List.of(1L, 2L, 3L, 4L, 5L))).thenReturn(Map.of(
+            1L, new PaymentResult(true, "tx-1", null),
+            2L, new PaymentResult(false, null, null),
+            3L, new PaymentResult(true, "tx-other", null),
+            4L, new PaymentResult(false, null, null),
+            5L, new PaymentResult(true, "tx-5", null)
+        ));
+        when(paymentReconciliationPort.saveDiscrepancies(any())).thenAnswer(invocation ->
+            invocation.<List<PaymentDiscrepancy>>getArgument(0).size());
+
+        ReconciliationReport report = paymentReconciliationService.reconcile(FROM, TO);
+
+        assertThat(report.checked()).isEqualTo(5);
+        assertThat(report.discrepancies()).isEqualTo(3);
+        assertThat(report.unverified()).isZero();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PaymentDiscrepancy>> captor = ArgumentCaptor.forClass(List.class);
+        verify(paymentReconciliationPort, times(1)).saveDiscrepancies(captor.capture());
+        assertThat(captor.getValue())
+            .extracting(PaymentDiscrepancy::orderId, PaymentDiscrepancy::type)
+            .containsExactly(
+                tuple(2L, PaymentDiscrepancy.Type.MISSING_APPROVAL),
+                tuple(3L, PaymentDiscrepancy.Type.TRANSACTION_MISMATCH),
+                tuple(5L, PaymentDiscrepancy.Type.UNCANCELLED_APPROVAL));
+    }
+
+    @Test
+    @DisplayName("대사 - 주문에 기록된 취소 상태로 재시도 중인 취소와 환불 누락을 구분")
+    void reconcile_cancelledOrders_shouldUseStoredCancelStatus() {
+        givenSettledPayments(List.of(
+            new SettledPayment(1L, Order.OrderStatus.CANCELLED, "tx-1", Order.PaymentCancelStatus.REQUESTED),
+            new SettledPayment(2L, Order.OrderStatus.CANCELLED, "tx-2", Order.PaymentCancelStatus.CANCELLED),
+            new SettledPayment(3L, Order.OrderStatus.CANCELLED, "tx-3", Order.PaymentCancelStatus.CANCELLED)
+        ));
+        when(paymentGatewayPort.inquirePayments(List.of(1L, 2L, 3L))).thenReturn(Map.of(
+            1L, new PaymentResult(true, "tx-1", null),
+            2L, new PaymentResult(false, null, "no approved payment"),
+            3L, new PaymentResult(true, "tx-3", null)
+        ));
+        when(paymentReconciliationPort.saveDiscrepancies(any())).thenAnswer(invocation ->
+            invocation.<List<PaymentDiscrepancy>>getArgument(0).size());
+
+        ReconciliationReport report = paymentReconciliationService.reconcile(FROM, TO);
+
+        assertThat(report.discrepancies()).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PaymentDiscrepancy>> captor = ArgumentCaptor.forClass(List.class);
+        verify(paymentReconciliationPort).saveDiscrepancies(captor.capture());
+        assertThat(captor.getValue())
+            .extracting(PaymentDiscrepancy::orderId, PaymentDiscrepancy::type)
+            .containsExactly(
+                tuple(1L, PaymentDiscrepancy.Type.CANCELLATION_PENDING),
+                tuple(3L, PaymentDiscrepancy.Type.UNCANCELLED_APPROVAL));
+    }
+
+    @Test
+    @DisplayName("대사 - 조회에 실패한 주문은 불일치가 아니라 미확인으로 집계")
+    void reconcile_whenInquiryFails_shouldCountUnverified() {
+        givenSettledPayments(List.of(
+            new SettledPayment(1L, Order.OrderStatus.PAID, "tx-1", null),
+            new SettledPayment(2L, Order.OrderStatus.PAID, null, null)
+        ));
+        when(paymentGatewayPort.inquirePayments(List.of(1L, 2L)))
+            .thenReturn(Map.of(2L, new PaymentResult(true, "tx-2", null)));
+
+        ReconciliationReport report = paymentReconciliationService.reconcile(FROM, TO);
+
+        assertThat(report.checked()).isEqualTo(2);
+        assertThat(report.unverified()).isEqualTo(1);
+        assertThat(report.discrepancies()).isZero();
+        verify(paymentReconciliationPort, never()).saveDiscrepancies(any());
+    }
+}
@@ -10,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,10 +29,10 @@ class PaymentServiceTest {
     @Test
     @DisplayName("결제 성공")
     void processPayment_whenSuccess_shouldReturnTrue() {
-        when(paymentGatewayPort.processPayment(any(), any()))
-            .thenReturn(new PaymentGatewayPort.PaymentResult(true, "txn-123", null));
+        when(paymentGatewayPort.processPayment(any(), any(), any()))
+            .thenReturn(CompletableFuture.completedFuture(new PaymentGatewayPort.PaymentResult(true, "txn-123", null)));
 
-        boolean result = paymentService.processPayment(1L, BigDecimal.valueOf(30000));
+        boolean result = paymentService.processPayment(1L, "payment-1-1", BigDecimal.valueOf(30000));
 
         assertThat(result).isTrue();
     }
@@ -39,10 +40,10 @@ class PaymentServiceTest {
     @Test
     @DisplayName("결제 실패")
     void processPayment_whenFailure_shouldReturnFalse() {
-        when(paymentGatewayPort.processPayment(any(), any()))
-            .thenReturn(new PaymentGatewayPort.PaymentResult(false, null, "결제 실패"));
+        when(paymentGatewayPort.processPayment(any(), any(), any()))
+            .thenReturn(CompletableFuture.completedFuture(new PaymentGatewayPort.PaymentResult(false, null, "결제 실패")));
 
-        boolean result = paymentService.processPayment(1L, BigDecimal.valueOf(30000));
+        boolean result = paymentService.processPayment(1L, "payment-1-1", BigDecimal.valueOf(30000));
 
         assertThat(result).isFalse();
     }
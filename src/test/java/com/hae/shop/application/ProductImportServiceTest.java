@@ -0,0 +1,132 @@
+package com.hae.shop.application;
+
+import com.hae.shop.common.BusinessException;
+import com.hae.shop.common.ErrorCode;
+import com.hae.shop.domain.product.model.Product;
+import com.hae.shop.domain.product.model.ProductImportFormat;
+import com.hae.shop.domain.product.model.ProductImportProgress;
+import com.hae.shop.domain.product.model.ProductImportProgress.ImportStatus;
+import com.hae.shop.domain.product.model.ProductImportRow;
+import com.hae.shop.domain.product.port.out.ProductBulkWriterPort;
+import com.hae.shop.domain.product.port.out.ProductImportReaderPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+    @Mock
+    private ProductImportReaderPort productImportReader;
+
+    @Mock
+    private ProductBulkWriterPort productBulkWriter;
+
+    private CacheManager cacheManager;
+
+    private ProductImportServiceImpl productImportService;
+
+    private final InputStream input = new ByteArrayInputStream(new byte[0]);
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("products", "categories", "productImports");
+        productImportService = new ProductImportServiceImpl(productImportReader, productBulkWriter, cacheManager);
+    }
+
+    @Test
+    @DisplayName("유효한 행은 등록하고 잘못된 행은 사유와 함께 거부한다")
+    void importProducts_shouldImportValidRowsAndRejectInvalidRows() {
+        when(productImportReader.read(input, ProductImportFormat.CSV)).thenReturn(Stream.of(
+            new ProductImportRow(2, "Keyboard", "Mechanical", "89000", "10", "ELECTRONICS", null),
+            new ProductImportRow(3, "", null, "1000", "1", null, null),
+            new ProductImportRow(4, "Mouse", null, "-1", "1", null, null),
+            new ProductImportRow(5, "Cable", null, "1000", "abc", null, null),
+            ProductImportRow.malformed(6, "unterminated quoted field")
+        ));
+        when(productBulkWriter.insertAll(anyList())).thenAnswer(inv -> (long) inv.<List<Product>>getArgument(0).size());
+
+        ProductImportProgress result = productImportService.importProducts("job-1", input, ProductImportFormat.CSV);
+
+        assertThat(result.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.processedRows()).isEqualTo(5);
+        assertThat(result.importedRows()).isEqualTo(1);
+        assertThat(result.rejectedRows()).isEqualTo(4);
+        assertThat(result.errors()).hasSize(4);
+        assertThat(result.errors().get(0)).startsWith("line 3:");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Product>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productBulkWriter).insertAll(captor.capture());
+        Product imported = captor.getValue().get(0);
+        assertThat(imported.getName()).isEqualTo("Keyboard");
+        assertThat(imported.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(89000));
+        assertThat(imported.getStatus()).isEqualTo(Product.ProductStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("대량 입력은 청크 단위로 나누어 적재하고 입력 스트림을 닫는다")
+    void importProducts_shouldWriteInChunksAndCloseStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<ProductImportRow> rows = LongStream.rangeClosed(1, 12_000)
+            .mapToObj(i -> new ProductImportRow(i, "Product " + i, null, "1000", "5", "BOOKS", null))
+            .onClose(() -> closed.set(true));
+        when(productImportReader.read(input, ProductImportFormat.NDJSON)).thenReturn(rows);
+        when(productBulkWriter.insertAll(anyList())).thenAnswer(inv -> (long) inv.<List<Product>>getArgument(0).size());
+
+        ProductImportProgress result = productImportService.importProducts("job-2", input, ProductImportFormat.NDJSON);
+
+        assertThat(result.importedRows()).isEqualTo(12_000);
+        verify(productBulkWriter, times(3)).insertAll(anyList());
+        assertThat(closed).isTrue();
+        assertThat(productImportService.getImportProgress("job-2").status()).isEqualTo(ImportStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("적재 중 오류가 나면 FAILED 상태로 진행 상황을 보고하고 상품 캐시를 비운다")
+    void importProducts_shouldReportFailureAndEvictProductCaches() {
+        cacheManager.getCache("products").put(1L, new Product());
+        when(productImportReader.read(any(InputStream.class), eq(ProductImportFormat.CSV))).thenReturn(Stream.of(
+            new ProductImportRow(2, "Keyboard", null, "89000", "10", null, null)
+        ));
+        when(productBulkWriter.insertAll(anyList()))
+            .thenThrow(new IllegalStateException("ERROR: value too long for type character varying(255)"));
+
+        ProductImportProgress result = productImportService.importProducts("job-3", input, ProductImportFormat.CSV);
+
+        assertThat(result.status()).isEqualTo(ImportStatus.FAILED);
+        assertThat(result.failureReason()).isEqualTo(ErrorCode.PRODUCT_IMPORT_FAILED.getMessage());
+        assertThat(result.failureReason()).doesNotContain("character varying");
+        assertThat(cacheManager.getCache("products").get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 작업 ID 조회 시 예외 발생")
+    void getImportProgress_shouldThrowWhenJobNotFound() {
+        assertThatThrownBy(() -> productImportService.getImportProgress("unknown"))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PRODUCT_IMPORT_NOT_FOUND));
+    }
+}
@@ -12,9 +12,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +36,12 @@ class ProductServiceTest {
     @Mock
     private DistributedLock distributedLock;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache productCache;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -84,6 +94,50 @@ class ProductServiceTest {
                 .isEqualTo(ErrorCode.PRODUCT_NOT_FOUND));
     }
 
+    @Test
+    @DisplayName("상품 다건 조회 - 캐시에 없는 ID만 한 번에 조회하고 요청 순서를 유지")
+    void getProductsByIds_shouldLoadOnlyMissingIdsInOneQuery() {
+        Product product2 = new Product();
+        product2.setId(2L);
+        Product product3 = new Product();
+        product3.setId(3L);
+
+        when(cacheManager.getCache("products")).thenReturn(productCache);
+        when(productCache.get(3L, Product.class)).thenReturn(product3);
+        when(productRepository.findAllById(List.of(1L, 2L, 999L))).thenReturn(List.of(product2, testProduct));
+
+        List<Product> result = productService.getProductsByIds(List.of(3L, 1L, 2L, 999L, 1L));
+
+        assertThat(result).extracting(Product::getId).containsExactly(3L, 1L, 2L);
+        verify(productRepository).findAllById(List.of(1L, 2L, 999L));
+        verify(productCache).put(1L, testProduct);
+        verify(productCache).put(2L, product2);
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("상품 다건 조회 - 모두 캐시에 있으면 DB를 조회하지 않음")
+    void getProductsByIds_whenAllCached_shouldNotQueryRepository() {
+        when(cacheManager.getCache("products")).thenReturn(productCache);
+        when(productCache.get(1L, Product.class)).thenReturn(testProduct);
+
+        List<Product> result = productService.getProductsByIds(List.of(1L));
+
+        assertThat(result).containsExactly(testProduct);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("상품 다건 조회 실패 - ID 개수 초과")
+    void getProductsByIds_shouldThrowWhenTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, ProductServiceImpl.MAX_BATCH_IDS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> productService.getProductsByIds(ids))
+            .isInstanceOf(BusinessException.class)
+            .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT));
+    }
+
     @Test
     @DisplayName("재고 차감 성공")
     void decrementStock_shouldSucceed() {
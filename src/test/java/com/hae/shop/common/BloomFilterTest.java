@@ -0,0 +1,43 @@
+package com.hae.shop.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 코드는 항상 포함으로 판정 (거짓 음성 없음)")
+    void mightContain_shouldNeverMissAddedValues() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("CODE-" + i));
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("CODE-" + i))).isTrue();
+        assertThat(filter.insertions()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("예상 원소 수까지 채웠을 때 오탐률이 목표 근처")
+    void mightContain_shouldStayNearConfiguredFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("CODE-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+            .filter(i -> filter.mightContain("MISSING-" + i))
+            .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.estimatedFalsePositiveRate()).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("잘못된 오탐률 설정은 거부")
+    void constructor_whenRateOutOfRange_shouldThrowException() {
+        assertThatThrownBy(() -> new BloomFilter(1_000, 1.0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,106 @@
+package com.hae.shop.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("ID에 타임스탬프와 노드 ID가 담기고 단조 증가한다")
+    void nextId_shouldEncodeTimestampAndNodeAndIncrease() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(42, () -> NOW);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(SnowflakeIdGenerator.timestampOf(first)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(first)).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 시퀀스가 넘치면 다음 밀리초를 사용한다")
+    void nextId_whenSequenceOverflows_shouldBorrowNextMillisecond() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        long last = 0;
+        for (int i = 0; i < (1 << SnowflakeIdGenerator.SEQUENCE_BITS) + 1; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+
+        assertThat(SnowflakeIdGenerator.timestampOf(last)).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 감소하지 않는다")
+    void nextId_whenClockMovesBackwards_shouldStayMonotonic() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long before = generator.nextId();
+        clock.set(NOW - 5_000);
+        long after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 ID가 중복되지 않는다")
+    void nextId_underConcurrency_shouldBeUnique() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 20_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("주문 번호는 고정 길이이며 생성 순서대로 정렬된다")
+    void nextOrderNumber_shouldBeFixedLengthAndSortable() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+
+        String first = generator.nextOrderNumber();
+        String second = generator.nextOrderNumber();
+
+        assertThat(first).startsWith("ORD-").hasSize(17);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 예외 발생")
+    void constructor_shouldRejectInvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
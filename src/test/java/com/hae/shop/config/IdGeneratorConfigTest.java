@@ -0,0 +1,29 @@
+package com.hae.shop.config;
+
+import com.hae.shop.common.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdGeneratorConfigTest {
+
+    private final IdGeneratorConfig idGeneratorConfig = new IdGeneratorConfig();
+
+    @Test
+    @DisplayName("node-id가 설정되지 않으면 기본값으로 기동하지 않고 실패")
+    void snowflakeIdGenerator_withoutNodeId_shouldFailStartup() {
+        assertThatThrownBy(() -> idGeneratorConfig.snowflakeIdGenerator(null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("id-generator.node-id");
+    }
+
+    @Test
+    @DisplayName("설정된 node-id로 ID를 생성")
+    void snowflakeIdGenerator_withNodeId_shouldUseIt() {
+        SnowflakeIdGenerator generator = idGeneratorConfig.snowflakeIdGenerator(12L);
+
+        assertThat(SnowflakeIdGenerator.nodeIdOf(generator.nextId())).isEqualTo(12);
+    }
+}
@@ -0,0 +1,360 @@
+package com.hae.shop.config.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final String BODY = "{\"memberId\":1,\"items\":[{\"productId\":10,\"quantity\":2}]}";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private IdempotencyFilter idempotencyFilter;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        idempotencyFilter = new IdempotencyFilter(idempotencyStore, objectMapper, TTL, 1024,
+            Duration.ofSeconds(30), Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("처음 보는 키 - 요청 처리 후 응답 저장")
+    void firstRequest_ExecutesAndStoresResponse() throws Exception {
+        // given
+        MockHttpServletRequest request = checkoutRequest("key-1", BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        given(idempotencyStore.find("anonymous:key-1")).willReturn(Optional.empty());
+        given(idempotencyStore.markInFlight(eq("anonymous:key-1"), anyString(), any())).willReturn(true);
+
+        // when
+        idempotencyFilter.doFilter(request, response, respondingChain(201, "{\"id\":100}"));
+
+        // then
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyStore).save(eq("anonymous:key-1"), captor.capture(), eq(TTL));
+        assertThat(captor.getValue().status()).isEqualTo(201);
+        assertThat(new String(captor.getValue().body(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":100}");
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":100}");
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키와 같은 요청 - 체인을 거치지 않고 저장된 응답 재전송")
+    void sameKeySameRequest_ReplaysStoredResponse() throws Exception {
+        // given
+        MockHttpServletRequest request = checkoutRequest("key-1", BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String fingerprint = IdempotencyFilter.fingerprint(request, BODY.getBytes(StandardCharsets.UTF_8));
+        IdempotencyRecord record = new IdempotencyRecord(fingerprint, 201, "application/json",
+            Map.of("X-Order-Version", "0"), "{\"id\":100}".getBytes(StandardCharsets.UTF_8), Instant.now());
+        given(idempotencyStore.find("anonymous:key-1")).willReturn(Optional.of(record));
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        idempotencyFilter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":100}");
+        assertThat(response.getHeader("X-Order-Version")).isEqualTo("0");
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        verify(idempotencyStore, never()).save(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 - 422 반환")
+    void sameKeyDifferentRequest_Returns422() throws Exception {
+        // given
+        MockHttpServletRequest request = checkoutRequest("key-1", BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        IdempotencyRecord record = new IdempotencyRecord("other-fingerprint", 201, "application/json",
+            Map.of(), new byte[0], Instant.now());
+        given(idempotencyStore.find("anonymous:key-1")).willReturn(Optional.of(record));
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        idempotencyFilter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("O007");
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 저장하지 않아 재시도 가능")
+    void serverError_IsNotStored() throws Exception {
+        // given
+        MockHttpServletRequest request = checkoutRequest("key-1", BODY);
+        given(idempotencyStore.find("anonymous:key-1")).willReturn(Optional.empty());
+        given(idempotencyStore.markInFlight(eq("anonymous:key-1"), anyString(), any())).willReturn(true);
+
+        // when
+        idempotencyFilter.doFilter(request, new MockHttpServletResponse(), respondingChain(503, "{}"));
+
+        // then
+        verify(idempotencyStore, never()).save(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("결제 진행 중(409) 응답은 저장하지 않아 같은 키로 재시도하면 다시 처리")
+    void paymentInProgress_IsNotStored_RetryReachesController() throws Exception {
+        // given
+        given(idempotencyStore.find("anonymous:key-1")).willReturn(Optional.empty());
+        given(idempotencyStore.markInFlight(eq("anonymous:key-1"), anyString(), any())).willReturn(true);
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(checkoutRequest("key-1", BODY), firstResponse,
+            respondingChain(409, "{\"errorCode\":\"O010\",\"message\":\"결제가 진행 중인 주문입니다.\"}"));
+        MockFilterChain retryChain = respondingChain(200, "{\"id\":100,\"status\":\"PAID\"}");
+        MockHttpServletResponse retryResponse = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(checkoutRequest("key-1", BODY), retryResponse, retryChain);
+
+        // then
+        assertThat(firstResponse.getStatus()).isEqualTo(409);
+        assertThat(retryChain.getRequest()).isNotNull();
+        assertThat(retryResponse.getStatus()).isEqualTo(200);
+        assertThat(retryResponse.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyStore, times(1)).save(eq("anonymous:key-1"), captor.capture(), eq(TTL));
+        assertThat(captor.getValue().status()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 오류 코드의 4xx는 저장하지 않고, 결정적인 4xx는 저장")
+    void retryableClientError_IsNotStored_DeterministicClientErrorIs() throws Exception {
+        // given
+        given(idempotencyStore.find(anyString())).willReturn(Optional.empty());
+        given(idempotencyStore.markInFlight(anyString(), anyString(), any())).willReturn(true);
+
+        // when
+        idempotencyFilter.doFilter(checkoutRequest("key-1", BODY), new MockHttpServletResponse(),
+            respondingChain(400, "{\"errorCode\":\"PG002\"}"));
+        idempotencyFilter.doFilter(checkoutRequest("key-2", BODY), new MockHttpServletResponse(),
+            respondingChain(429, "{}"));
+        idempotencyFilter.doFilter(checkoutRequest("key-3", BODY), new MockHttpServletResponse(),
+            respondingChain(404, "{\"errorCode\":\"P001\"}"));
+
+        // then
+        verify(idempotencyStore, never()).save(eq("anonymous:key-1"), any(), any());
+        verify(idempotencyStore, never()).save(eq("anonymous:key-2"), any(), any());
+        verify(idempotencyStore).save(eq("anonymous:key-3"), any(), eq(TTL));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 멱등성 처리 없이 요청 통과")
+    void storeFailure_FailsOpen() throws Exception {
+        // given
+        MockHttpServletRequest request = checkoutRequest("key-1", BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        given(idempotencyStore.find(anyString())).willThrow(new IllegalStateException("redis down"));
+        given(idempotencyStore.markInFlight(anyString(), anyString(), any())).willThrow(new IllegalStateException("redis down"));
+
+        // when
+        idempotencyFilter.doFilter(request, response, respondingChain(201, "{\"id\":100}"));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":100}");
+    }
+
+    @Test
+    @DisplayName("같은 노드의 동시 중복 요청 - 첫 요청만 실행하고 나머지는 결과를 공유")
+    void concurrentDuplicatesOnSameNode_ExecuteOnce() throws Exception {
+        // given
+        given(idempotencyStore.find("anonymous:key-1")).willReturn(Optional.empty());
+        given(idempotencyStore.markInFlight(eq("anonymous:key-1"), anyString(), any())).willReturn(true);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        MockFilterChain blockingChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                executions.incrementAndGet();
+                leaderEntered.countDown();
+                try {
+                    releaseLeader.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                resp.setStatus(200);
+                resp.setContentType("application/json");
+                resp.getWriter().write("{\"status\":\"PAID\"}");
+            }
+        });
+        MockHttpServletResponse leaderResponse = new MockHttpServletResponse();
+        MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+        MockFilterChain followerChain = new MockFilterChain();
+
+        // when
+        Thread leader = new Thread(() -> doFilterQuietly(checkoutRequest("key-1", BODY), leaderResponse, blockingChain));
+        leader.start();
+        assertThat(leaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread follower = new Thread(() -> doFilterQuietly(checkoutRequest("key-1", BODY), followerResponse, followerChain));
+        follower.start();
+        awaitWaiting(follower);
+        releaseLeader.countDown();
+        leader.join(5_000);
+        follower.join(5_000);
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(followerChain.getRequest()).isNull();
+        assertThat(leaderResponse.getContentAsString()).isEqualTo("{\"status\":\"PAID\"}");
+        assertThat(followerResponse.getStatus()).isEqualTo(200);
+        assertThat(followerResponse.getContentAsString()).isEqualTo("{\"status\":\"PAID\"}");
+        assertThat(followerResponse.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 처리 중 - 저장된 결과를 기다렸다가 재전송")
+    void inFlightOnOtherNode_WaitsForStoredResult() throws Exception {
+        // given
+        MockHttpServletRequest request = checkoutRequest("key-1", BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String fingerprint = IdempotencyFilter.fingerprint(request, BODY.getBytes(StandardCharsets.UTF_8));
+        IdempotencyRecord record = new IdempotencyRecord(fingerprint, 201, "application/json",
+            Map.of(), "{\"id\":100}".getBytes(StandardCharsets.UTF_8), Instant.now());
+        given(idempotencyStore.find("anonymous:key-1"))
+            .willReturn(Optional.empty(), Optional.empty(), Optional.of(record));
+        given(idempotencyStore.markInFlight(eq("anonymous:key-1"), anyString(), any())).willReturn(false);
+        given(idempotencyStore.isInFlight("anonymous:key-1")).willReturn(true);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        idempotencyFilter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":100}");
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("처리가 처리 중 마커 TTL보다 길어지면 워치독이 자신의 마커를 연장하고, 끝나면 연장을 멈춤")
+    void longRunningRequest_RenewsInFlightMarkerUntilDone() throws Exception {
+        // given
+        MockHttpServletRequest request = checkoutRequest("key-1", BODY);
+        given(idempotencyStore.find("anonymous:key-1")).willReturn(Optional.empty());
+        given(idempotencyStore.markInFlight(eq("anonymous:key-1"), anyString(), any())).willReturn(true);
+        given(idempotencyStore.renewInFlight(eq("anonymous:key-1"), anyString(), any())).willReturn(true);
+        MockFilterChain slowChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                // 결제 대기 등으로 in-flight-ttl(30초)을 넘기는 동안 워치독이 두 번 실행된 상황
+                idempotencyFilter.renewInFlightMarkers();
+                idempotencyFilter.renewInFlightMarkers();
+                resp.setStatus(201);
+                resp.getWriter().write("{\"id\":100}");
+            }
+        });
+
+        // when
+        idempotencyFilter.doFilter(request, new MockHttpServletResponse(), slowChain);
+        idempotencyFilter.renewInFlightMarkers();
+
+        // then
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyStore).markInFlight(eq("anonymous:key-1"), token.capture(), eq(Duration.ofSeconds(30)));
+        verify(idempotencyStore, times(2)).renewInFlight("anonymous:key-1", token.getValue(), Duration.ofSeconds(30));
+        verify(idempotencyStore).clearInFlight("anonymous:key-1", token.getValue());
+    }
+
+    @Test
+    @DisplayName("조회 요청과 키가 없는 요청은 필터를 거치지 않음")
+    void nonMutatingOrKeylessRequest_Bypasses() throws Exception {
+        // given
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/v1/orders/1");
+        get.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+        MockHttpServletRequest keyless = new MockHttpServletRequest("POST", "/api/v1/orders/checkout");
+        keyless.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        MockFilterChain getChain = new MockFilterChain();
+        MockFilterChain keylessChain = new MockFilterChain();
+        idempotencyFilter.doFilter(get, new MockHttpServletResponse(), getChain);
+        idempotencyFilter.doFilter(keyless, new MockHttpServletResponse(), keylessChain);
+
+        // then
+        assertThat(getChain.getRequest()).isSameAs(get);
+        assertThat(keylessChain.getRequest()).isSameAs(keyless);
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    private MockHttpServletRequest checkoutRequest(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders/checkout");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private void doFilterQuietly(MockHttpServletRequest request, MockHttpServletResponse response, MockFilterChain chain) {
+        try {
+            idempotencyFilter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private MockFilterChain respondingChain(int status, String body) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp)
+                    throws IOException {
+                req.getInputStream().readAllBytes();
+                resp.setStatus(status);
+                resp.setContentType("application/json");
+                resp.getWriter().write(body);
+            }
+        });
+    }
+}
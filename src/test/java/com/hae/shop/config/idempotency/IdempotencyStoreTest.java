@@ -0,0 +1,103 @@
+package com.hae.shop.config.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Redis에서 처리 중 마커의 선점, 연장(워치독), 해제를 검증합니다.
+ */
+@Testcontainers
+class IdempotencyStoreTest {
+
+    private static final Duration IN_FLIGHT_TTL = Duration.ofMillis(500);
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+        idempotencyStore = new IdempotencyStore(redissonClient, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("TTL보다 오래 처리해도 연장하는 동안 마커가 유지되어 다른 노드가 선점하지 못함")
+    void renewInFlight_KeepsMarkerBeyondTtl() throws InterruptedException {
+        // given
+        assertThat(idempotencyStore.markInFlight("member:key-1", "leader", IN_FLIGHT_TTL)).isTrue();
+
+        // when - TTL의 세 배 동안 TTL의 1/3 간격으로 연장
+        for (int i = 0; i < 9; i++) {
+            Thread.sleep(IN_FLIGHT_TTL.toMillis() / 3);
+            assertThat(idempotencyStore.renewInFlight("member:key-1", "leader", IN_FLIGHT_TTL)).isTrue();
+        }
+
+        // then
+        assertThat(idempotencyStore.isInFlight("member:key-1")).isTrue();
+        assertThat(idempotencyStore.markInFlight("member:key-1", "other-node", IN_FLIGHT_TTL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("연장하지 않으면 TTL 후 마커가 풀려 장애 노드의 키를 다시 선점할 수 있음")
+    void markInFlight_WithoutRenewal_ExpiresAfterTtl() throws InterruptedException {
+        // given
+        idempotencyStore.markInFlight("member:key-1", "crashed-node", IN_FLIGHT_TTL);
+
+        // when
+        Thread.sleep(IN_FLIGHT_TTL.toMillis() * 2);
+
+        // then
+        assertThat(idempotencyStore.isInFlight("member:key-1")).isFalse();
+        assertThat(idempotencyStore.markInFlight("member:key-1", "other-node", IN_FLIGHT_TTL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 요청이 선점한 마커는 연장하거나 지우지 않음")
+    void renewAndClear_IgnoreMarkersOwnedByOthers() {
+        // given
+        idempotencyStore.markInFlight("member:key-1", "owner", IN_FLIGHT_TTL);
+
+        // when
+        boolean renewed = idempotencyStore.renewInFlight("member:key-1", "stale-leader", Duration.ofMinutes(5));
+        idempotencyStore.clearInFlight("member:key-1", "stale-leader");
+
+        // then
+        assertThat(renewed).isFalse();
+        assertThat(idempotencyStore.isInFlight("member:key-1")).isTrue();
+        assertThat(redissonClient.getBucket("idempotency:in-flight:member:key-1").remainTimeToLive())
+            .isLessThanOrEqualTo(IN_FLIGHT_TTL.toMillis());
+    }
+}
@@ -0,0 +1,119 @@
+package com.hae.shop.config.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private TokenDenyList tokenDenyList;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+            "test-jwt-secret-key-must-be-at-least-256-bits-long-for-hs256");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpiration", 1_800_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedTokenCacheSize", 100L);
+        jwtTokenProvider.init();
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, tokenDenyList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 액세스 토큰 - 클레임만으로 인증 주체와 권한 설정")
+    void validAccessToken_AuthenticatesFromClaims() throws Exception {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_ADMIN");
+        given(tokenDenyList.isRevoked(eq(1L), any(Instant.class))).willReturn(false);
+
+        // when
+        jwtAuthenticationFilter.doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("test@example.com");
+        assertThat(((AuthenticatedMember) authentication.getPrincipal()).memberId()).isEqualTo(1L);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰 - 인증하지 않음")
+    void revokedToken_NotAuthenticated() throws Exception {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+        given(tokenDenyList.isRevoked(eq(1L), any(Instant.class))).willReturn(true);
+
+        // when
+        jwtAuthenticationFilter.doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 액세스 토큰으로 쓸 수 없음")
+    void refreshToken_NotAcceptedAsAccessToken() throws Exception {
+        // given
+        String token = jwtTokenProvider.generateRefreshToken(1L, "test@example.com");
+
+        // when
+        jwtAuthenticationFilter.doFilter(bearer(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(tokenDenyList);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰 - 인증하지 않고 요청은 계속 진행")
+    void tamperedToken_NotAuthenticated() throws Exception {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtAuthenticationFilter.doFilter(bearer(token + "x"), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,111 @@
+package com.hae.shop.config.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = provider(1_800_000L);
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 - 클레임으로 회원 ID, 이메일, 역할 복원")
+    void parseAccessToken_ExtractsClaims() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+
+        // when
+        AuthenticatedMember member = jwtTokenProvider.parseAccessToken(token).orElseThrow();
+
+        // then
+        assertThat(member.memberId()).isEqualTo(1L);
+        assertThat(member.email()).isEqualTo("test@example.com");
+        assertThat(member.role()).isEqualTo("ROLE_USER");
+        assertThat(member.issuedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("발급 시각 - 초 단위로 잘리지 않고 밀리초까지 복원")
+    void parseAccessToken_IssuedAtHasMillisecondPrecision() {
+        // given
+        long before = System.currentTimeMillis();
+        String token = jwtTokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+        long after = System.currentTimeMillis();
+
+        // when
+        AuthenticatedMember member = jwtTokenProvider.parseAccessToken(token).orElseThrow();
+
+        // then
+        assertThat(member.issuedAt().toEpochMilli()).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("같은 토큰 반복 - 캐시된 검증 결과 재사용")
+    void parseAccessToken_RepeatedToken_ReusesVerifiedClaims() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+        AuthenticatedMember first = jwtTokenProvider.parseAccessToken(token).orElseThrow();
+
+        // when
+        AuthenticatedMember second = jwtTokenProvider.parseAccessToken(token).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("토큰 종류 불일치 - 캐시된 토큰이어도 거부")
+    void parse_WrongTokenType_Rejected() {
+        // given
+        String accessToken = jwtTokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+        String refreshToken = jwtTokenProvider.generateRefreshToken(1L, "test@example.com");
+        jwtTokenProvider.parseAccessToken(accessToken);
+        jwtTokenProvider.parseRefreshToken(refreshToken);
+
+        // when & then
+        assertThat(jwtTokenProvider.parseRefreshToken(accessToken)).isEmpty();
+        assertThat(jwtTokenProvider.parseAccessToken(refreshToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - 거부되고 캐시되지 않음")
+    void parseAccessToken_ExpiredToken_Rejected() {
+        // given
+        JwtTokenProvider expiredIssuer = provider(-1_000L);
+        String token = expiredIssuer.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+
+        // when & then
+        assertThat(jwtTokenProvider.parseAccessToken(token)).isEmpty();
+        assertThat(jwtTokenProvider.parseAccessToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("위조된 토큰 - 거부")
+    void parseAccessToken_TamperedToken_Rejected() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+        String tampered = token.substring(0, token.lastIndexOf('.') + 1) + "invalid-signature";
+
+        // when & then
+        assertThat(jwtTokenProvider.parseAccessToken(tampered)).isEmpty();
+    }
+
+    private static JwtTokenProvider provider(long accessTokenExpiration) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret",
+            "test-jwt-secret-key-must-be-at-least-256-bits-long-for-hs256");
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", accessTokenExpiration);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(provider, "verifiedTokenCacheSize", 100L);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,144 @@
+package com.hae.shop.config.security;
+
+import com.hae.shop.domain.product.model.Product;
+import com.hae.shop.domain.product.port.in.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * GET /api/v1/products/{id} 처리량 측정 (./gradlew benchmark, 기본 test에서는 제외).
+ * 한 번의 실행에서 분리 후(공개 체인이 먼저 매칭)와 분리 전(인증 체인 하나만 거침) 경로를 함께 측정합니다.
+ * 분리 전에는 만료된 토큰을 보내는 클라이언트가 요청마다 JWT 파싱 비용을 치렀으므로 "만료 토큰" 수치의 차이가 분리 효과입니다.
+ * 상품 조회 자체는 목으로 대체해 보안 필터 체인 비용만 드러나게 하며, 처리량은 환경마다 흔들리므로
+ * 단정은 체인 구성(공개 체인에 JWT 필터가 없음)과 응답 상태로 하고 수치는 로그로 남깁니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PublicEndpointBenchmarkTest {
+
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int MEASURED_REQUESTS = 20_000;
+
+    private static final Logger log = LoggerFactory.getLogger(PublicEndpointBenchmarkTest.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    @Qualifier("publicFilterChain")
+    private SecurityFilterChain publicFilterChain;
+
+    @Autowired
+    @Qualifier("filterChain")
+    private SecurityFilterChain authenticatedFilterChain;
+
+    @MockitoBean
+    private ProductService productService;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    private String staleToken;
+    private MockMvc authenticatedChainOnly;
+
+    @BeforeEach
+    void setUp() {
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("benchmark product");
+        product.setPrice(new BigDecimal("10000"));
+        product.setStockQuantity(100);
+        product.setStatus(Product.ProductStatus.ACTIVE);
+        given(productService.getProduct(1L)).willReturn(product);
+
+        JwtTokenProvider expiredIssuer = new JwtTokenProvider();
+        ReflectionTestUtils.setField(expiredIssuer, "jwtSecret", jwtSecret);
+        ReflectionTestUtils.setField(expiredIssuer, "accessTokenExpiration", -1_000L);
+        ReflectionTestUtils.setField(expiredIssuer, "refreshTokenExpiration", -1_000L);
+        ReflectionTestUtils.setField(expiredIssuer, "verifiedTokenCacheSize", 1L);
+        expiredIssuer.init();
+        staleToken = expiredIssuer.generateAccessToken(1L, "test@example.com", "ROLE_USER");
+
+        // 분리 전 구성: 모든 요청이 JWT 필터가 있는 인증 체인 하나를 거침
+        authenticatedChainOnly = MockMvcBuilders.webAppContextSetup(context)
+            .addFilters(new FilterChainProxy(authenticatedFilterChain))
+            .build();
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 처리량 - 공개 체인 분리 전/후, 토큰 없음/만료 토큰")
+    void getProduct_Throughput() throws Exception {
+        // given
+        RequestBuilder anonymous = get("/api/v1/products/1");
+        RequestBuilder withStaleToken = get("/api/v1/products/1").header("Authorization", "Bearer " + staleToken);
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            perform(mockMvc, anonymous);
+            perform(mockMvc, withStaleToken);
+            perform(authenticatedChainOnly, anonymous);
+            perform(authenticatedChainOnly, withStaleToken);
+        }
+
+        // when
+        double splitAnonymous = measure(mockMvc, anonymous);
+        double splitStale = measure(mockMvc, withStaleToken);
+        double singleAnonymous = measure(authenticatedChainOnly, anonymous);
+        double singleStale = measure(authenticatedChainOnly, withStaleToken);
+
+        log.info("GET /api/v1/products/{id} single chain  anonymous: {} req/s, stale token: {} req/s",
+            Math.round(singleAnonymous), Math.round(singleStale));
+        log.info("GET /api/v1/products/{id} public chain  anonymous: {} req/s, stale token: {} req/s",
+            Math.round(splitAnonymous), Math.round(splitStale));
+        log.info("GET /api/v1/products/{id} stale token speedup: {}x",
+            String.format("%.2f", splitStale / singleStale));
+
+        // then
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        request.setServletPath("/api/v1/products/1");
+        assertThat(publicFilterChain.matches(request)).isTrue();
+        assertThat(publicFilterChain.getFilters()).noneMatch(JwtAuthenticationFilter.class::isInstance);
+        assertThat(authenticatedFilterChain.getFilters()).anyMatch(JwtAuthenticationFilter.class::isInstance);
+    }
+
+    private double measure(MockMvc mvc, RequestBuilder request) throws Exception {
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            perform(mvc, request);
+        }
+        return MEASURED_REQUESTS / ((System.nanoTime() - started) / 1_000_000_000.0);
+    }
+
+    private static void perform(MockMvc mvc, RequestBuilder request) throws Exception {
+        int status = mvc.perform(request).andReturn().getResponse().getStatus();
+        assertThat(status).isEqualTo(200);
+    }
+}
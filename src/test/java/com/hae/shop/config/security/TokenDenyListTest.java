@@ -0,0 +1,128 @@
+package com.hae.shop.config.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.Codec;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenDenyListTest {
+
+    private static final long RETENTION_MILLIS = 86_400_000L;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RMapCache<String, String> revocations;
+
+    @Mock
+    private RTopic topic;
+
+    private TokenDenyList tokenDenyList;
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.<String, String>getMapCache(anyString(), any(Codec.class))).willReturn(revocations);
+        given(redissonClient.getTopic(anyString(), any(Codec.class))).willReturn(topic);
+        tokenDenyList = new TokenDenyList(redissonClient, RETENTION_MILLIS);
+    }
+
+    @Test
+    @DisplayName("폐기 - 이전에 발급된 토큰만 무효, Redis 저장 후 다른 노드에 전파")
+    void revokeAll_RevokesEarlierTokensAndPublishes() {
+        // given
+        Instant issuedBefore = Instant.now().minusSeconds(60);
+
+        // when
+        tokenDenyList.revokeAll(1L);
+
+        // then
+        assertThat(tokenDenyList.isRevoked(1L, issuedBefore)).isTrue();
+        assertThat(tokenDenyList.isRevoked(1L, Instant.now().plusSeconds(5))).isFalse();
+        assertThat(tokenDenyList.isRevoked(2L, issuedBefore)).isFalse();
+        verify(revocations).put(eq("1"), anyString(), eq(RETENTION_MILLIS), eq(TimeUnit.MILLISECONDS));
+        verify(topic).publish(any(String.class));
+    }
+
+    @Test
+    @DisplayName("로그아웃 직후 같은 초에 재로그인 - 폐기 이후 발급된 토큰은 유효")
+    void revokeAll_TokenIssuedLaterInSameSecond_NotRevoked() {
+        // given
+        long beforeRevocation = System.currentTimeMillis();
+
+        // when
+        tokenDenyList.revokeAll(1L);
+        Instant reissuedAt = Instant.ofEpochMilli(System.currentTimeMillis() + 1);
+
+        // then
+        assertThat(tokenDenyList.isRevoked(1L, Instant.ofEpochMilli(beforeRevocation - 1))).isTrue();
+        assertThat(tokenDenyList.isRevoked(1L, reissuedAt)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 메시지 - 로컬 목록에 반영")
+    @SuppressWarnings("unchecked")
+    void remoteRevocation_AppliedLocally() {
+        // given
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), listener.capture());
+        long cutoff = System.currentTimeMillis();
+
+        // when
+        listener.getValue().onMessage("auth:revoked-members:ms", "7:" + cutoff);
+
+        // then
+        assertThat(tokenDenyList.isRevoked(7L, Instant.ofEpochMilli(cutoff - 1))).isTrue();
+        assertThat(tokenDenyList.isRevoked(7L, Instant.ofEpochMilli(cutoff))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재동기화 - Redis 목록을 적재하고 보존 기간이 지난 항목은 제거")
+    void resync_LoadsEntriesAndPrunesExpired() {
+        // given
+        long now = System.currentTimeMillis();
+        long expired = now - RETENTION_MILLIS - 60_000;
+        given(revocations.readAllMap()).willReturn(Map.of("3", Long.toString(now), "4", Long.toString(expired)));
+
+        // when
+        tokenDenyList.resync();
+
+        // then
+        assertThat(tokenDenyList.isRevoked(3L, Instant.ofEpochMilli(now - 1))).isTrue();
+        assertThat(tokenDenyList.isRevoked(4L, Instant.ofEpochMilli(expired - 1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재동기화 중 Redis 장애 - 기존 로컬 목록 유지")
+    void resync_WhenRedisFails_KeepsLocalEntries() {
+        // given
+        tokenDenyList.revokeAll(1L);
+        given(revocations.readAllMap()).willThrow(new IllegalStateException("redis down"));
+
+        // when
+        tokenDenyList.resync();
+
+        // then
+        assertThat(tokenDenyList.isRevoked(1L, Instant.now().minusSeconds(60))).isTrue();
+    }
+}
@@ -0,0 +1,151 @@
+package com.hae.shop.infrastructure.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hae.shop.domain.order.port.out.PaymentGatewayPort.PaymentResult;
+import com.hae.shop.infrastructure.external.stub.StubPaymentGatewayServer;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인프로세스 스텁 PG를 상대로 실제 HTTP 왕복을 검증합니다 (Resilience4j 프록시 없이 직접 호출).
+ */
+class PaymentGatewayImplTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private StubPaymentGatewayServer stubServer;
+
+    @AfterEach
+    void tearDown() {
+        if (stubServer != null) {
+            stubServer.stop();
+        }
+        executor.close();
+    }
+
+    private PaymentGatewayImpl gatewayAgainstStub(double failureRate, double declineRate) {
+        return gatewayAgainstStub(Duration.ZERO, failureRate, declineRate);
+    }
+
+    private PaymentGatewayImpl gatewayAgainstStub(Duration latencyJitter, double failureRate, double declineRate) {
+        stubServer = new StubPaymentGatewayServer(objectMapper, 0, Duration.ZERO, latencyJitter,
+            failureRate, declineRate, 0.0);
+        stubServer.start();
+        return new PaymentGatewayImpl(objectMapper, executor,
+            URI.create("http://localhost:" + stubServer.getPort()),
+            Duration.ofSeconds(1), Duration.ofSeconds(2),
+            RateLimiterRegistry.ofDefaults(), 4, Duration.ofMillis(20));
+    }
+
+    @Test
+    @DisplayName("결제 승인 - 같은 결제 시도의 재요청은 같은 승인 번호를 받고 조회로도 확인된다")
+    void processPayment_shouldApproveIdempotentlyAndBeInquirable() {
+        PaymentGatewayImpl gateway = gatewayAgainstStub(0.0, 0.0);
+
+        PaymentResult first = gateway.processPayment(1L, "payment-1-a", new BigDecimal("30000")).join();
+        PaymentResult retried = gateway.processPayment(1L, "payment-1-a", new BigDecimal("30000")).join();
+        PaymentResult inquired = gateway.inquirePayment(1L, "payment-1-a");
+
+        assertThat(first.success()).isTrue();
+        assertThat(first.transactionId()).startsWith("STUB-");
+        assertThat(retried.transactionId()).isEqualTo(first.transactionId());
+        assertThat(inquired.success()).isTrue();
+        assertThat(inquired.transactionId()).isEqualTo(first.transactionId());
+    }
+
+    @Test
+    @DisplayName("결제 취소 후 조회하면 승인 내역이 없다")
+    void cancelPayment_shouldRemoveApproval() {
+        PaymentGatewayImpl gateway = gatewayAgainstStub(0.0, 0.0);
+        PaymentResult approved = gateway.processPayment(2L, "payment-2-a", new BigDecimal("10000")).join();
+
+        PaymentResult cancelled = gateway.cancelPayment(approved.transactionId());
+
+        assertThat(cancelled.success()).isTrue();
+        assertThat(gateway.inquirePayment(2L, "payment-2-a").success()).isFalse();
+        assertThat(gateway.cancelPayment(approved.transactionId()).success()).isFalse();
+    }
+
+    @Test
+    @DisplayName("PG 거절(402)은 예외 없이 실패 결과로 반환된다")
+    void processPayment_declined_shouldReturnFailedResult() {
+        PaymentGatewayImpl gateway = gatewayAgainstStub(0.0, 1.0);
+
+        PaymentResult result = gateway.processPayment(3L, "payment-3-a", new BigDecimal("10000")).join();
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.transactionId()).isNull();
+        assertThat(result.errorMessage()).isEqualTo("declined by stub");
+    }
+
+    @Test
+    @DisplayName("거절 후 재결제 - 같은 시도는 거절이 재전송되고, 새 시도는 새로 심사되어 승인된다")
+    void processPayment_afterDecline_shouldReplayDeclineButApproveNewAttempt() {
+        PaymentGatewayImpl gateway = gatewayAgainstStub(0.0, 1.0);
+        PaymentResult declined = gateway.processPayment(5L, "payment-5-a", new BigDecimal("10000")).join();
+        stubServer.setDeclineRate(0.0);
+
+        PaymentResult replayed = gateway.processPayment(5L, "payment-5-a", new BigDecimal("10000")).join();
+        PaymentResult retried = gateway.processPayment(5L, "payment-5-b", new BigDecimal("10000")).join();
+
+        assertThat(declined.success()).isFalse();
+        assertThat(replayed.success()).isFalse();
+        assertThat(retried.success()).isTrue();
+        assertThat(gateway.inquirePayment(5L, "payment-5-a").success()).isFalse();
+        assertThat(gateway.inquirePayment(5L, "payment-5-b").transactionId()).isEqualTo(retried.transactionId());
+    }
+
+    @Test
+    @DisplayName("PG 5xx 응답은 결과 미확정으로 보고 예외로 전달된다")
+    void processPayment_serverError_shouldFail() {
+        PaymentGatewayImpl gateway = gatewayAgainstStub(1.0, 0.0);
+
+        assertThatThrownBy(() -> gateway.processPayment(4L, "payment-4-a", new BigDecimal("10000")).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(PaymentGatewayException.class);
+        assertThatThrownBy(() -> gateway.inquirePayment(4L, "payment-4-a"))
+            .isInstanceOf(PaymentGatewayException.class);
+    }
+
+    @Test
+    @DisplayName("동시 요청이 공유 클라이언트로 모두 처리된다")
+    void processPayment_concurrentCalls_shouldAllSucceed() {
+        PaymentGatewayImpl gateway = gatewayAgainstStub(0.0, 0.0);
+
+        List<CompletableFuture<PaymentResult>> futures = LongStream.rangeClosed(100, 199)
+            .mapToObj(orderId -> gateway.processPayment(orderId, "payment-" + orderId, new BigDecimal("1000")))
+            .toList();
+
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().success()).isTrue());
+    }
+
+    @Test
+    @DisplayName("대사용 일괄 조회 - 느린 응답은 재요청으로 보완하며 승인 여부를 주문별로 돌려준다")
+    void inquirePayments_shouldReturnResultPerOrder() {
+        PaymentGatewayImpl gateway = gatewayAgainstStub(Duration.ofMillis(100), 0.0, 0.0);
+        LongStream.rangeClosed(1, 10)
+            .forEach(orderId -> gateway.processPayment(orderId, "payment-" + orderId, new BigDecimal("1000")).join());
+
+        Map<Long, PaymentResult> results = gateway.inquirePayments(LongStream.rangeClosed(1, 15).boxed().toList());
+
+        assertThat(results).hasSize(15);
+        assertThat(results).allSatisfy((orderId, result) ->
+            assertThat(result.success()).isEqualTo(orderId <= 10));
+    }
+}
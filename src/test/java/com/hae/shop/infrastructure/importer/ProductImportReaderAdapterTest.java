@@ -0,0 +1,153 @@
+package com.hae.shop.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hae.shop.domain.product.model.ProductImportFormat;
+import com.hae.shop.domain.product.model.ProductImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductImportReaderAdapterTest {
+
+    private final ProductImportReaderAdapter productImportReaderAdapter =
+        new ProductImportReaderAdapter(new ObjectMapper());
+
+    @Test
+    @DisplayName("CSV - 헤더 순서와 표기(snake_case)에 상관없이 컬럼을 매핑")
+    void readCsv_shouldMapColumnsByHeader() {
+        // given
+        String csv = """
+            category,price,stock_quantity,name,description
+            ELECTRONICS,89000,10,Keyboard,Mechanical
+            """;
+
+        // when
+        List<ProductImportRow> rows = read(csv, ProductImportFormat.CSV);
+
+        // then
+        assertThat(rows).containsExactly(
+            new ProductImportRow(2, "Keyboard", "Mechanical", "89000", "10", "ELECTRONICS", null)
+        );
+    }
+
+    @Test
+    @DisplayName("CSV - 따옴표 안의 쉼표와 이스케이프된 따옴표를 값으로 유지하고 빈 값은 null")
+    void readCsv_shouldHonorQuotedFields() {
+        // given
+        String csv = """
+            name,description,price,stockQuantity,category
+            "Desk, oak","The ""big"" one",150000,3,
+            """;
+
+        // when
+        List<ProductImportRow> rows = read(csv, ProductImportFormat.CSV);
+
+        // then
+        assertThat(rows).hasSize(1);
+        ProductImportRow row = rows.get(0);
+        assertThat(row.name()).isEqualTo("Desk, oak");
+        assertThat(row.description()).isEqualTo("The \"big\" one");
+        assertThat(row.category()).isNull();
+        assertThat(row.isMalformed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("CSV - 닫히지 않은 따옴표 행은 malformed로, 빈 줄은 건너뛰되 줄 번호는 원문 기준")
+    void readCsv_shouldReportMalformedRowsWithLineNumbers() {
+        // given
+        String csv = """
+            name,price,stockQuantity
+            "Mouse,25000,5
+
+            Monitor,300000,2
+            """;
+
+        // when
+        List<ProductImportRow> rows = read(csv, ProductImportFormat.CSV);
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).lineNumber()).isEqualTo(2);
+        assertThat(rows.get(0).isMalformed()).isTrue();
+        assertThat(rows.get(0).parseError()).contains("unterminated");
+        assertThat(rows.get(1).lineNumber()).isEqualTo(4);
+        assertThat(rows.get(1).name()).isEqualTo("Monitor");
+    }
+
+    @Test
+    @DisplayName("NDJSON - 숫자는 원문 그대로, 문자열은 텍스트로 읽음")
+    void readNdjson_shouldReadNumbersAndText() {
+        // given
+        String ndjson = """
+            {"name":"Keyboard","price":89000,"stockQuantity":10,"category":"ELECTRONICS"}
+
+            {"name":"Mouse","price":"25000","stockQuantity":"5","description":null}
+            """;
+
+        // when
+        List<ProductImportRow> rows = read(ndjson, ProductImportFormat.NDJSON);
+
+        // then
+        assertThat(rows).containsExactly(
+            new ProductImportRow(1, "Keyboard", null, "89000", "10", "ELECTRONICS", null),
+            new ProductImportRow(3, "Mouse", null, "25000", "5", null, null)
+        );
+    }
+
+    @Test
+    @DisplayName("NDJSON - 잘못된 JSON과 객체가 아닌 행은 malformed로 보고하고 이후 행은 계속 읽음")
+    void readNdjson_shouldReportMalformedRows() {
+        // given
+        String ndjson = """
+            {"name":"Keyboard",
+            [1,2,3]
+            {"name":"Mouse","price":25000,"stockQuantity":5}
+            """;
+
+        // when
+        List<ProductImportRow> rows = read(ndjson, ProductImportFormat.NDJSON);
+
+        // then
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).parseError()).startsWith("invalid JSON");
+        assertThat(rows.get(1).parseError()).isEqualTo("expected a JSON object");
+        assertThat(rows.get(2).isMalformed()).isFalse();
+        assertThat(rows.get(2).lineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("입력 스트림 오류는 UncheckedIOException으로 전파")
+    void read_whenInputFails_shouldThrowUncheckedIOException() {
+        // given
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        // when & then
+        try (Stream<ProductImportRow> rows = productImportReaderAdapter.read(failing, ProductImportFormat.CSV)) {
+            assertThatThrownBy(rows::toList)
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseMessage("connection reset");
+        }
+    }
+
+    private List<ProductImportRow> read(String content, ProductImportFormat format) {
+        InputStream input = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        try (Stream<ProductImportRow> rows = productImportReaderAdapter.read(input, format)) {
+            return rows.toList();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob;
+import com.hae.shop.domain.coupon.model.CouponIssuanceJob.IssuanceStatus;
+import com.hae.shop.domain.member.model.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponIssuanceAdapter.class, CouponRepositoryAdapter.class})
+class CouponIssuanceAdapterTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+        .withDatabaseName("testdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private CouponIssuanceAdapter couponIssuanceAdapter;
+
+    @Autowired
+    private CouponRepositoryAdapter couponRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long couponId;
+    private List<Long> memberIds;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM member_coupons");
+        jdbcTemplate.update("DELETE FROM coupon_issuance_jobs");
+        jdbcTemplate.update("DELETE FROM members");
+
+        Coupon coupon = new Coupon();
+        coupon.setCode("WELCOME");
+        coupon.setName("웰컴 쿠폰");
+        coupon.setDiscountType(Coupon.DiscountType.FIXED);
+        coupon.setDiscountValue(BigDecimal.valueOf(3000));
+        coupon.setValidFrom(Instant.now().minus(1, ChronoUnit.DAYS));
+        coupon.setValidUntil(Instant.now().plus(1, ChronoUnit.DAYS));
+        coupon.setStatus(Coupon.CouponStatus.ACTIVE);
+        couponId = couponRepositoryAdapter.save(coupon).getId();
+
+        memberIds = List.of(
+            member("a@example.com", Member.MemberRole.ROLE_USER),
+            member("b@example.com", Member.MemberRole.ROLE_ADMIN),
+            member("c@example.com", Member.MemberRole.ROLE_USER),
+            member("d@example.com", Member.MemberRole.ROLE_USER),
+            member("e@example.com", Member.MemberRole.ROLE_USER)
+        );
+    }
+
+    @Test
+    @DisplayName("대상 회원 조회 - 체크포인트 다음부터 키셋 페이징, 세그먼트 조건과 기존 보유자 제외")
+    void findNextMemberIds_KeysetPagingWithSegmentFilter() {
+        // given
+        CouponIssuanceJob job = couponIssuanceAdapter.save(
+            CouponIssuanceJob.pending(couponId, Member.MemberRole.ROLE_USER, null, null));
+        issueDirectly(memberIds.get(2));
+
+        // when
+        List<Long> firstPage = couponIssuanceAdapter.findNextMemberIds(job, 2);
+        CouponIssuanceJob afterFirstPage = couponIssuanceAdapter.issue(job, firstPage, false);
+        List<Long> secondPage = couponIssuanceAdapter.findNextMemberIds(afterFirstPage, 2);
+
+        // then
+        assertThat(firstPage).containsExactly(memberIds.get(0), memberIds.get(3));
+        assertThat(secondPage).containsExactly(memberIds.get(4));
+    }
+
+    @Test
+    @DisplayName("청크 발급 - COPY로 적재하고 체크포인트와 발급 수를 함께 갱신")
+    void issue_CopiesMemberCouponsAndMovesCheckpoint() {
+        // given
+        CouponIssuanceJob job = couponIssuanceAdapter.save(CouponIssuanceJob.pending(couponId, null, null, null));
+        List<Long> chunk = couponIssuanceAdapter.findNextMemberIds(job, 10);
+
+        // when
+        CouponIssuanceJob updated = couponIssuanceAdapter.issue(job, chunk, true);
+
+        // then
+        assertThat(updated.status()).isEqualTo(IssuanceStatus.COMPLETED);
+        assertThat(updated.lastMemberId()).isEqualTo(memberIds.get(4));
+        assertThat(updated.issuedCount()).isEqualTo(5);
+        assertThat(countMemberCoupons()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("이미 쿠폰을 가진 회원이 청크에 있으면 - 중복 없이 건너뛰고 실제 추가 수만 집계")
+    void issue_SkipsMembersAlreadyHoldingCoupon() {
+        // given
+        CouponIssuanceJob job = couponIssuanceAdapter.save(CouponIssuanceJob.pending(couponId, null, null, null));
+        issueDirectly(memberIds.get(0));
+
+        // when
+        CouponIssuanceJob updated = couponIssuanceAdapter.issue(job, memberIds.subList(0, 2), false);
+
+        // then
+        assertThat(updated.issuedCount()).isEqualTo(1);
+        assertThat(countMemberCoupons()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 실행이 체크포인트를 옮겼으면 - CAS 실패로 예외")
+    void issue_WhenCheckpointMoved_Throws() {
+        // given
+        CouponIssuanceJob job = couponIssuanceAdapter.save(CouponIssuanceJob.pending(couponId, null, null, null));
+        couponIssuanceAdapter.issue(job, memberIds.subList(0, 2), false);
+
+        // when & then
+        assertThatThrownBy(() -> couponIssuanceAdapter.issue(job, memberIds.subList(2, 4), false))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("청크 발급 중 일시 중지되었으면 - 체크포인트는 옮기고 PAUSED 유지")
+    void issue_WhenPaused_KeepsPausedStatus() {
+        // given
+        CouponIssuanceJob job = couponIssuanceAdapter.save(CouponIssuanceJob.pending(couponId, null, null, null));
+        couponIssuanceAdapter.updateStatus(job.id(), EnumSet.of(IssuanceStatus.PENDING), IssuanceStatus.PAUSED, null);
+
+        // when
+        CouponIssuanceJob updated = couponIssuanceAdapter.issue(job, memberIds.subList(0, 2), false);
+
+        // then
+        assertThat(updated.status()).isEqualTo(IssuanceStatus.PAUSED);
+        assertThat(updated.lastMemberId()).isEqualTo(memberIds.get(1));
+    }
+
+    private Long member(String email, Member.MemberRole role) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO members (email, password, nickname, role) VALUES (?, 'pw', ?, ?) RETURNING id",
+            Long.class, email, email, role.name());
+    }
+
+    private void issueDirectly(Long memberId) {
+        jdbcTemplate.update(
+            "INSERT INTO member_coupons (member_id, coupon_id, status, created_at) VALUES (?, ?, 'AVAILABLE', now())",
+            memberId, couponId);
+    }
+
+    private long countMemberCoupons() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM member_coupons WHERE coupon_id = ?", Long.class, couponId);
+    }
+}
@@ -0,0 +1,157 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import com.hae.shop.domain.coupon.model.Coupon;
+import com.hae.shop.domain.coupon.model.CouponRedemption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponRedemptionWriterAdapter.class, CouponRepositoryAdapter.class})
+class CouponRedemptionWriterAdapterTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+        .withDatabaseName("testdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private CouponRedemptionWriterAdapter writer;
+
+    @Autowired
+    private CouponRepositoryAdapter couponRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM member_coupons");
+        jdbcTemplate.update("DELETE FROM coupons");
+    }
+
+    @Test
+    @DisplayName("반영 - 발급된 행은 USED로, 없으면 USED 행 추가, 사용 건수만큼 차감")
+    void writeRedemptions_MarksUsedAndDecrements() {
+        // given
+        Long couponId = coupon("LIMITED", 10);
+        jdbcTemplate.update("INSERT INTO member_coupons (member_id, coupon_id, status, created_at) "
+            + "VALUES (1, ?, 'AVAILABLE', now())", couponId);
+
+        // when
+        writer.writeRedemptions(List.of(redemption(couponId, 1L, "1-0"), redemption(couponId, 2L, "1-1")));
+
+        // then
+        assertThat(remaining(couponId)).isEqualTo(8);
+        assertThat(usedCount(couponId)).isEqualTo(2);
+        assertThat(rowCount(couponId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 내역 재전달 - 두 번 차감하지 않음")
+    void writeRedemptions_Replay_IsIdempotent() {
+        // given
+        Long couponId = coupon("LIMITED", 10);
+        List<CouponRedemption> batch = List.of(redemption(couponId, 1L, "1-0"), redemption(couponId, 2L, "1-1"));
+        writer.writeRedemptions(batch);
+
+        // when
+        writer.writeRedemptions(batch);
+        writer.writeRedemptions(List.of(redemption(couponId, 2L, "1-1"), redemption(couponId, 3L, "1-2")));
+
+        // then
+        assertThat(remaining(couponId)).isEqualTo(7);
+        assertThat(usedCount(couponId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한 배치 안의 중복 - 한 번만 반영")
+    void writeRedemptions_DuplicateInBatch_CountedOnce() {
+        // given
+        Long couponId = coupon("LIMITED", 10);
+
+        // when
+        writer.writeRedemptions(List.of(redemption(couponId, 1L, "1-0"), redemption(couponId, 1L, "2-0")));
+
+        // then
+        assertThat(remaining(couponId)).isEqualTo(9);
+        assertThat(rowCount(couponId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무제한 쿠폰 - 잔여 수량은 null 유지")
+    void writeRedemptions_Unlimited_KeepsNullQuantity() {
+        // given
+        Long couponId = coupon("UNLIMITED", null);
+
+        // when
+        writer.writeRedemptions(List.of(redemption(couponId, 1L, "1-0")));
+
+        // then
+        assertThat(remaining(couponId)).isNull();
+        assertThat(usedCount(couponId)).isEqualTo(1);
+    }
+
+    private Long coupon(String code, Integer quantity) {
+        Coupon coupon = new Coupon();
+        coupon.setCode(code);
+        coupon.setName(code + " 쿠폰");
+        coupon.setDiscountType(Coupon.DiscountType.FIXED);
+        coupon.setDiscountValue(BigDecimal.valueOf(3000));
+        coupon.setValidFrom(now.minus(1, ChronoUnit.DAYS));
+        coupon.setValidUntil(now.plus(1, ChronoUnit.DAYS));
+        coupon.setTotalQuantity(quantity);
+        coupon.setRemainingQuantity(quantity);
+        coupon.setStatus(Coupon.CouponStatus.ACTIVE);
+        return couponRepositoryAdapter.save(coupon).getId();
+    }
+
+    private CouponRedemption redemption(Long couponId, Long memberId, String deliveryId) {
+        return new CouponRedemption(couponId, memberId, now, deliveryId);
+    }
+
+    private Integer remaining(Long couponId) {
+        return jdbcTemplate.queryForObject("SELECT remaining_quantity FROM coupons WHERE id = ?", Integer.class, couponId);
+    }
+
+    private long usedCount(Long couponId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM member_coupons WHERE coupon_id = ? AND status = 'USED'", Long.class, couponId);
+    }
+
+    private long rowCount(Long couponId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM member_coupons WHERE coupon_id = ?", Long.class, couponId);
+    }
+}
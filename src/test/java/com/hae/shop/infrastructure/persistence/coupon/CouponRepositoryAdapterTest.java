@@ -0,0 +1,164 @@
+package com.hae.shop.infrastructure.persistence.coupon;
+
+import com.hae.shop.domain.coupon.model.Coupon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+class CouponRepositoryAdapterTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+        .withDatabaseName("testdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private CouponRepositoryAdapter couponRepositoryAdapter;
+
+    @Autowired
+    private CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    private MemberCouponJpaRepository memberCouponJpaRepository;
+
+    private final Instant now = Instant.now();
+
+    @BeforeEach
+    void setUp() {
+        memberCouponJpaRepository.deleteAll();
+        couponJpaRepository.deleteAll();
+    }
+
+    private Coupon coupon(String code, Instant validFrom, Instant validUntil, Integer remainingQuantity) {
+        Coupon coupon = new Coupon();
+        coupon.setCode(code);
+        coupon.setName(code + " 쿠폰");
+        coupon.setDiscountType(Coupon.DiscountType.FIXED);
+        coupon.setDiscountValue(BigDecimal.valueOf(3000));
+        coupon.setMinPurchaseAmount(BigDecimal.valueOf(10000));
+        coupon.setValidFrom(validFrom);
+        coupon.setValidUntil(validUntil);
+        coupon.setTotalQuantity(remainingQuantity);
+        coupon.setRemainingQuantity(remainingQuantity);
+        coupon.setStatus(Coupon.CouponStatus.ACTIVE);
+        return coupon;
+    }
+
+    private void issue(Long memberId, Long couponId) {
+        MemberCouponEntity memberCoupon = new MemberCouponEntity();
+        memberCoupon.setMemberId(memberId);
+        memberCoupon.setCouponId(couponId);
+        memberCouponJpaRepository.save(memberCoupon);
+    }
+
+    @Test
+    @DisplayName("쿠폰 저장 후 ID와 코드로 조회 성공")
+    void save_shouldPersistCouponAndFindByIdAndCode() {
+        Coupon saved = couponRepositoryAdapter.save(
+            coupon("WELCOME", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS), 100));
+
+        Optional<Coupon> byId = couponRepositoryAdapter.findById(saved.getId());
+        Optional<Coupon> byCode = couponRepositoryAdapter.findByCode("WELCOME");
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(byId).isPresent();
+        assertThat(byId.get().getDiscountType()).isEqualTo(Coupon.DiscountType.FIXED);
+        assertThat(byId.get().getRemainingQuantity()).isEqualTo(100);
+        assertThat(byCode).isPresent();
+        assertThat(byCode.get().getId()).isEqualTo(saved.getId());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 코드 조회 시 빈 Optional 반환")
+    void findByCode_whenNotExists_shouldReturnEmpty() {
+        assertThat(couponRepositoryAdapter.findByCode("NOPE")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료 전 쿠폰 조회 - 시작 전 쿠폰은 포함, 만료, 소진, 비활성 쿠폰은 제외하고 마감 임박 순으로 반환")
+    void findUnexpiredCoupons_shouldReturnUsableAndUpcomingCouponsOrderedByExpiry() {
+        couponRepositoryAdapter.save(coupon("LATER", now.minus(1, ChronoUnit.DAYS), now.plus(7, ChronoUnit.DAYS), null));
+        couponRepositoryAdapter.save(coupon("SOON", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.HOURS), 5));
+        couponRepositoryAdapter.save(coupon("FUTURE", now.plus(1, ChronoUnit.DAYS), now.plus(2, ChronoUnit.DAYS), 5));
+        couponRepositoryAdapter.save(coupon("EXPIRED", now.minus(2, ChronoUnit.DAYS), now.minus(1, ChronoUnit.DAYS), 5));
+        couponRepositoryAdapter.save(coupon("DEPLETED", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS), 0));
+        Coupon inactive = coupon("INACTIVE", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS), 5);
+        inactive.setStatus(Coupon.CouponStatus.EXPIRED);
+        couponRepositoryAdapter.save(inactive);
+
+        List<Coupon> unexpired = couponRepositoryAdapter.findUnexpiredCoupons();
+
+        assertThat(unexpired).extracting(Coupon::getCode).containsExactly("SOON", "FUTURE", "LATER");
+    }
+
+    @Test
+    @DisplayName("회원 쿠폰 조회 - member_coupons 조인으로 발급된 쿠폰만 반환")
+    void findByMemberId_shouldReturnIssuedCoupons() {
+        Coupon first = couponRepositoryAdapter.save(
+            coupon("FIRST", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS), 10));
+        Coupon second = couponRepositoryAdapter.save(
+            coupon("SECOND", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS), 10));
+        couponRepositoryAdapter.save(coupon("OTHER", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS), 10));
+        issue(1L, first.getId());
+        issue(1L, second.getId());
+        issue(2L, first.getId());
+
+        List<Coupon> coupons = couponRepositoryAdapter.findByMemberId(1L);
+
+        assertThat(coupons).extracting(Coupon::getCode).containsExactlyInAnyOrder("FIRST", "SECOND");
+    }
+
+    @Test
+    @DisplayName("회원이 사용한 쿠폰 ID 조회 - USED 행만, 해당 회원 것만 반환")
+    void findUsedCouponIds_shouldReturnOnlyUsedCouponsOfMember() {
+        Coupon used = couponRepositoryAdapter.save(
+            coupon("USED", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS), 10));
+        Coupon available = couponRepositoryAdapter.save(
+            coupon("AVAILABLE", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS), 10));
+        Coupon usedByOther = couponRepositoryAdapter.save(
+            coupon("OTHER", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS), 10));
+        use(1L, used.getId());
+        issue(1L, available.getId());
+        use(2L, usedByOther.getId());
+
+        assertThat(couponRepositoryAdapter.findUsedCouponIds(1L)).containsExactly(used.getId());
+        assertThat(couponRepositoryAdapter.findUsedCouponIds(3L)).isEmpty();
+    }
+
+    private void use(Long memberId, Long couponId) {
+        MemberCouponEntity memberCoupon = new MemberCouponEntity();
+        memberCoupon.setMemberId(memberId);
+        memberCoupon.setCouponId(couponId);
+        memberCoupon.setStatus(MemberCouponEntity.MemberCouponStatus.USED);
+        memberCoupon.setUsedAt(now);
+        memberCouponJpaRepository.save(memberCoupon);
+    }
+}
@@ -1,12 +1,19 @@
 package com.hae.shop.infrastructure.persistence.order;
 
+import com.hae.shop.common.SnowflakeIdGenerator;
 import com.hae.shop.domain.order.model.Order;
+import com.hae.shop.domain.order.model.OrderHistoryCursor;
+import com.hae.shop.domain.order.model.OrderItem;
+import com.hae.shop.domain.order.model.OrderSummary;
 import com.hae.shop.domain.product.model.Product;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -15,6 +22,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +32,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ActiveProfiles("test")
 class OrderRepositoryAdapterTest {
 
+    private static final long NODE_ID = 5;
+
     @Container
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
         .withDatabaseName("testdb")
@@ -36,6 +46,8 @@ class OrderRepositoryAdapterTest {
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("id-generator.node-id", () -> String.valueOf(NODE_ID));
     }
 
     @Autowired
@@ -44,6 +56,9 @@ class OrderRepositoryAdapterTest {
     @Autowired
     private OrderJpaRepository orderJpaRepository;
 
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     private Order testOrder;
 
     @BeforeEach
@@ -114,4 +129,231 @@ class OrderRepositoryAdapterTest {
 
         assertThat(updated.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
     }
+
+    @Test
+    @DisplayName("상태 전이 - 읽은 버전이 그대로면 UPDATE 한 문장으로 전이하고 버전 증가")
+    void transitionStatus_whenVersionMatches_shouldUpdateInSingleStatement() {
+        Order saved = orderRepositoryAdapter.save(testOrder);
+        testEntityManager.clear();
+        Long version = saved.getVersion();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        saved.setStatus(Order.OrderStatus.PAID);
+        saved.setPaymentAttemptId("payment-" + saved.getId() + "-1");
+        boolean transitioned = orderRepositoryAdapter.transitionStatus(saved, Order.OrderStatus.PENDING);
+
+        assertThat(transitioned).isTrue();
+        assertThat(saved.getVersion()).isEqualTo(version + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Order found = orderRepositoryAdapter.findById(saved.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(found.getVersion()).isEqualTo(version + 1);
+        assertThat(found.getPaymentAttemptId()).isEqualTo("payment-" + saved.getId() + "-1");
+    }
+
+    @Test
+    @DisplayName("상태 전이 - 그사이 다른 전이가 커밋되었으면 덮어쓰지 않음")
+    void transitionStatus_whenStale_shouldNotOverwrite() {
+        Order saved = orderRepositoryAdapter.save(testOrder);
+        testEntityManager.clear();
+        Order first = orderRepositoryAdapter.findById(saved.getId()).orElseThrow();
+        Order second = orderRepositoryAdapter.findById(saved.getId()).orElseThrow();
+
+        first.setStatus(Order.OrderStatus.PAID);
+        second.setStatus(Order.OrderStatus.CANCELLED);
+        boolean firstResult = orderRepositoryAdapter.transitionStatus(first, Order.OrderStatus.PENDING);
+        boolean secondResult = orderRepositoryAdapter.transitionStatus(second, Order.OrderStatus.PENDING);
+
+        assertThat(firstResult).isTrue();
+        assertThat(secondResult).isFalse();
+        assertThat(orderRepositoryAdapter.findById(saved.getId()).orElseThrow().getStatus())
+            .isEqualTo(Order.OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("PG 취소 기록 - 주문에 기록된 승인 번호와 같을 때만 취소 상태와 취소 번호를 기록")
+    void recordPaymentCancellation_shouldOnlyMatchRecordedTransaction() {
+        testOrder.setStatus(Order.OrderStatus.PAID);
+        testOrder.setPaymentTransactionId("tx-1");
+        Order saved = orderRepositoryAdapter.save(testOrder);
+        testEntityManager.clear();
+        saved.setStatus(Order.OrderStatus.CANCELLED);
+        saved.setPaymentCancelStatus(Order.PaymentCancelStatus.REQUESTED);
+        orderRepositoryAdapter.transitionStatus(saved, Order.OrderStatus.PAID);
+        assertThat(orderRepositoryAdapter.findById(saved.getId()).orElseThrow().getPaymentCancelStatus())
+            .isEqualTo(Order.PaymentCancelStatus.REQUESTED);
+
+        boolean otherApproval = orderRepositoryAdapter.recordPaymentCancellation(saved.getId(), "tx-compensated", "CANCEL-x");
+        boolean recorded = orderRepositoryAdapter.recordPaymentCancellation(saved.getId(), "tx-1", "CANCEL-tx-1");
+
+        assertThat(otherApproval).isFalse();
+        assertThat(recorded).isTrue();
+        Order found = orderRepositoryAdapter.findById(saved.getId()).orElseThrow();
+        assertThat(found.getPaymentCancelStatus()).isEqualTo(Order.PaymentCancelStatus.CANCELLED);
+        assertThat(found.getPaymentCancelTransactionId()).isEqualTo("CANCEL-tx-1");
+        assertThat(found.getVersion()).isEqualTo(saved.getVersion());
+    }
+
+    @Test
+    @DisplayName("항목 추가 시 기존 항목 수와 무관하게 INSERT 1회, UPDATE 1회만 실행")
+    void save_withNewItem_shouldIssueConstantStatementCount() {
+        long statementsForSmallOrder = statementsToAddItem(1);
+        long statementsForLargeOrder = statementsToAddItem(30);
+
+        assertThat(statementsForLargeOrder).isEqualTo(statementsForSmallOrder);
+    }
+
+    @Test
+    @DisplayName("도메인에서 제거된 항목은 삭제되고 나머지 항목은 유지")
+    void save_withRemovedItem_shouldDeleteOnlyThatItem() {
+        Order saved = orderRepositoryAdapter.save(orderWithItems(3));
+        testEntityManager.clear();
+
+        Order loaded = orderRepositoryAdapter.findById(saved.getId()).orElseThrow();
+        Long removedId = loaded.getItems().remove(1).getId();
+        orderRepositoryAdapter.save(loaded);
+        testEntityManager.clear();
+
+        Order found = orderRepositoryAdapter.findById(saved.getId()).orElseThrow();
+        assertThat(found.getItems()).hasSize(2)
+            .extracting(OrderItem::getId)
+            .doesNotContain(removedId);
+    }
+
+    @Test
+    @DisplayName("엔티티 ID는 설정된 node-id의 SnowflakeIdGenerator 빈으로 생성")
+    void save_shouldAssignIdsFromConfiguredGenerator() {
+        Order saved = orderRepositoryAdapter.save(orderWithItems(2));
+
+        assertThat(SnowflakeIdGenerator.nodeIdOf(saved.getId())).isEqualTo(NODE_ID);
+        assertThat(saved.getItems()).extracting(OrderItem::getId)
+            .allSatisfy(id -> assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(NODE_ID));
+    }
+
+    @Test
+    @DisplayName("앞쪽 항목을 제거한 뒤 추가한 항목은 남은 항목과 순번이 겹치지 않고 마지막에 정렬")
+    void save_withRemovedThenAddedItem_shouldAssignNextItemOrder() {
+        Order saved = orderRepositoryAdapter.save(orderWithItems(3));
+        testEntityManager.clear();
+
+        Order loaded = orderRepositoryAdapter.findById(saved.getId()).orElseThrow();
+        loaded.getItems().remove(0);
+        loaded.getItems().add(item(99));
+        orderRepositoryAdapter.save(loaded);
+        testEntityManager.clear();
+
+        List<OrderItemEntity> items = orderJpaRepository.findItemsByOrderIds(List.of(saved.getId()));
+        assertThat(items).extracting(OrderItemEntity::getItemOrder).doesNotHaveDuplicates();
+        assertThat(items).extracting(OrderItemEntity::getProductId).containsExactly(2L, 3L, 99L);
+    }
+
+    @Test
+    @DisplayName("회원 주문 이력 - keyset 페이지가 겹치지 않고 최신순으로 이어진다")
+    void findByMemberId_shouldPageByCreatedAtAndIdDescending() {
+        for (int i = 0; i < 5; i++) {
+            orderRepositoryAdapter.save(orderWithItems(2));
+        }
+        Order otherMember = orderWithItems(1);
+        otherMember.setMemberId(2L);
+        orderRepositoryAdapter.save(otherMember);
+        testEntityManager.clear();
+
+        List<Order> firstPage = orderRepositoryAdapter.findByMemberId(1L, null, 3);
+        Order last = firstPage.get(firstPage.size() - 1);
+        List<Order> secondPage = orderRepositoryAdapter.findByMemberId(
+            1L, new OrderHistoryCursor(last.getCreatedAt(), last.getId()), 3);
+
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(2);
+        assertThat(firstPage).extracting(Order::getMemberId).containsOnly(1L);
+        assertThat(firstPage).allSatisfy(order -> assertThat(order.getItems()).hasSize(2));
+        assertThat(secondPage).extracting(Order::getId)
+            .doesNotContainAnyElementsOf(firstPage.stream().map(Order::getId).toList());
+        assertThat(firstPage.get(0).getCreatedAt()).isAfterOrEqualTo(secondPage.get(0).getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("회원 주문 이력 - 주문 수와 무관하게 주문 1회, 항목 1회 쿼리")
+    void findByMemberId_shouldFetchItemsForWholePageInOneQuery() {
+        for (int i = 0; i < 10; i++) {
+            orderRepositoryAdapter.save(orderWithItems(3));
+        }
+        testEntityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<Order> page = orderRepositoryAdapter.findByMemberId(1L, null, 10);
+
+        assertThat(page).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("회원 주문 요약 이력 - 항목 없이 한 번의 쿼리로 조회")
+    void findSummariesByMemberId_shouldUseSingleQuery() {
+        for (int i = 0; i < 4; i++) {
+            orderRepositoryAdapter.save(orderWithItems(2));
+        }
+        testEntityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<OrderSummary> summaries = orderRepositoryAdapter.findSummariesByMemberId(1L, null, 10);
+
+        assertThat(summaries).hasSize(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Statistics statistics() {
+        return testEntityManager.getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    /**
+     * 기존 항목 수가 existingItems인 주문에 항목 하나를 추가할 때 실행되는 SQL 문 수를 반환합니다.
+     */
+    private long statementsToAddItem(int existingItems) {
+        Order saved = orderRepositoryAdapter.save(orderWithItems(existingItems));
+        testEntityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        Order order = orderRepositoryAdapter.findById(saved.getId()).orElseThrow();
+        order.getItems().add(item(existingItems + 1));
+        order.setTotalAmount(order.getTotalAmount().add(BigDecimal.valueOf(1000)));
+        Order updated = orderRepositoryAdapter.save(order);
+
+        assertThat(updated.getItems()).hasSize(existingItems + 1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Order orderWithItems(int itemCount) {
+        Order order = new Order();
+        order.setMemberId(1L);
+        order.setOrderNumber("ORD-" + System.nanoTime());
+        order.setStatus(Order.OrderStatus.PENDING);
+        order.setTotalAmount(BigDecimal.valueOf(1000L * itemCount));
+        order.setPaymentAmount(BigDecimal.valueOf(1000L * itemCount));
+        for (int i = 1; i <= itemCount; i++) {
+            order.addItem(item(i));
+        }
+        return order;
+    }
+
+    private OrderItem item(long productId) {
+        OrderItem item = new OrderItem();
+        item.setProductId(productId);
+        item.setProductName("Product " + productId);
+        item.setProductPrice(BigDecimal.valueOf(1000));
+        item.setQuantity(1);
+        item.setSubtotal(BigDecimal.valueOf(1000));
+        return item;
+    }
 }
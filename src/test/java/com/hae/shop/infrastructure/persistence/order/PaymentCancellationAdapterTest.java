@@ -0,0 +1,111 @@
+package com.hae.shop.infrastructure.persistence.order;
+
+import com.hae.shop.domain.order.model.PendingPaymentCancellation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PaymentCancellationAdapter.class)
+class PaymentCancellationAdapterTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+        .withDatabaseName("testdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private PaymentCancellationAdapter paymentCancellationAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM payment_cancellations");
+    }
+
+    @Test
+    @DisplayName("같은 승인 번호를 다시 기록해도 한 건만 유지")
+    void enqueue_sameTransactionTwice_shouldKeepOneRow() {
+        // given
+        Instant now = Instant.now();
+
+        // when
+        paymentCancellationAdapter.enqueue(1L, "tx-1", "busy", now);
+        paymentCancellationAdapter.enqueue(1L, "tx-1", "busy again", now);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM payment_cancellations WHERE transaction_id = 'tx-1'", Integer.class))
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 시각이 된 건만 선점하고, 임대 시간 동안 다시 반환하지 않음")
+    void claimDue_shouldReturnOnlyDueRowsAndLeaseThem() {
+        // given
+        Instant now = Instant.now();
+        paymentCancellationAdapter.enqueue(1L, "tx-due", "busy", now.minusSeconds(60));
+        paymentCancellationAdapter.enqueue(2L, "tx-later", "busy", now.plusSeconds(600));
+
+        // when
+        List<PendingPaymentCancellation> claimed =
+            paymentCancellationAdapter.claimDue(now, now.plus(Duration.ofMinutes(5)), 10);
+        List<PendingPaymentCancellation> claimedAgain =
+            paymentCancellationAdapter.claimDue(now, now.plus(Duration.ofMinutes(5)), 10);
+
+        // then
+        assertThat(claimed).containsExactly(new PendingPaymentCancellation(1L, "tx-due", 1));
+        assertThat(claimedAgain).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 실패하면 시도 횟수와 사유를 갱신하고, 성공하면 대기열에서 삭제")
+    void rescheduleAndRemove_shouldUpdateAndDeleteRows() {
+        // given
+        Instant now = Instant.now();
+        paymentCancellationAdapter.enqueue(1L, "tx-1", "busy", now.minusSeconds(1));
+        paymentCancellationAdapter.enqueue(2L, "tx-2", "busy", now.minusSeconds(1));
+
+        // when
+        paymentCancellationAdapter.reschedule("tx-1", "gateway down", now.minusSeconds(1));
+        paymentCancellationAdapter.remove("tx-2");
+
+        // then
+        List<PendingPaymentCancellation> claimed = paymentCancellationAdapter.claimDue(now, now.plusSeconds(60), 10);
+        assertThat(claimed).containsExactly(new PendingPaymentCancellation(1L, "tx-1", 2));
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT last_error FROM payment_cancellations WHERE transaction_id = 'tx-1'", String.class))
+            .isEqualTo("gateway down");
+    }
+}
@@ -0,0 +1,161 @@
+package com.hae.shop.infrastructure.persistence.product;
+
+import com.hae.shop.domain.product.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProductBulkWriterAdapter.class)
+class ProductBulkWriterAdapterTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+        .withDatabaseName("testdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private ProductBulkWriterAdapter productBulkWriterAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @Test
+    @DisplayName("COPY 경로 - 따옴표, 쉼표, 줄바꿈이 포함된 값과 null 설명을 그대로 적재")
+    void insertAll_withCopy_shouldPreserveSpecialCharacters() {
+        // given
+        List<Product> products = List.of(
+            product("Desk, oak", "The \"big\" one\nwith drawers", "150000", 3),
+            product("Mouse", null, "25000.50", 5)
+        );
+
+        // when
+        long inserted = productBulkWriterAdapter.insertAll(products);
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT name, description, price, stock_quantity, status, created_at FROM products ORDER BY name");
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).get("name")).isEqualTo("Desk, oak");
+        assertThat(rows.get(0).get("description")).isEqualTo("The \"big\" one\nwith drawers");
+        assertThat(rows.get(0).get("status")).isEqualTo("ACTIVE");
+        assertThat(rows.get(0).get("created_at")).isNotNull();
+        assertThat(rows.get(1).get("description")).isNull();
+        assertThat((BigDecimal) rows.get(1).get("price")).isEqualByComparingTo("25000.50");
+    }
+
+    @Test
+    @DisplayName("배치 INSERT 경로 - PGConnection이 아닌 커넥션에서도 같은 결과로 적재")
+    void insertAll_withoutPgConnection_shouldFallBackToBatchInsert() {
+        // given
+        ProductBulkWriterAdapter fallbackWriter =
+            new ProductBulkWriterAdapter(new JdbcTemplate(new NonPgDataSource(dataSource)));
+        List<Product> products = List.of(
+            product("Desk, oak", "The \"big\" one", "150000", 3),
+            product("Mouse", null, "25000", 5)
+        );
+
+        // when
+        long inserted = fallbackWriter.insertAll(products);
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT description FROM products WHERE name = 'Desk, oak'", String.class))
+            .isEqualTo("The \"big\" one");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM products WHERE description IS NULL", Integer.class))
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 목록은 DB에 접근하지 않고 0 반환")
+    void insertAll_withEmptyList_shouldReturnZero() {
+        assertThat(productBulkWriterAdapter.insertAll(List.of())).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class)).isZero();
+    }
+
+    private static Product product(String name, String description, String price, int stockQuantity) {
+        Product product = new Product();
+        product.setName(name);
+        product.setDescription(description);
+        product.setPrice(new BigDecimal(price));
+        product.setStockQuantity(stockQuantity);
+        product.setCategory("FURNITURE");
+        product.setStatus(Product.ProductStatus.ACTIVE);
+        return product;
+    }
+
+    /**
+     * H2 같은 비 PostgreSQL 드라이버를 흉내 내기 위해 PGConnection으로의 unwrap을 숨기는 DataSource.
+     */
+    private static final class NonPgDataSource extends DelegatingDataSource {
+
+        NonPgDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection target = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("isWrapperFor") && args[0] == PGConnection.class) {
+                        return false;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+        }
+    }
+}
@@ -118,4 +118,23 @@ class ProductRepositoryAdapterTest {
         Optional<Product> found = productRepositoryAdapter.findById(saved.getId());
         assertThat(found.get().getStockQuantity()).isEqualTo(45);
     }
+
+    @Test
+    @DisplayName("ID 목록으로 상품 일괄 조회 - 존재하지 않는 ID는 제외")
+    void findAllById_shouldReturnExistingProducts() {
+        Product saved1 = productRepositoryAdapter.save(testProduct);
+
+        Product product2 = new Product();
+        product2.setName("Product 2");
+        product2.setPrice(BigDecimal.valueOf(20000));
+        product2.setStockQuantity(30);
+        product2.setCategory("BOOKS");
+        product2.setStatus(Product.ProductStatus.ACTIVE);
+        Product saved2 = productRepositoryAdapter.save(product2);
+
+        List<Product> found = productRepositoryAdapter.findAllById(List.of(saved1.getId(), saved2.getId(), 999L));
+
+        assertThat(found).extracting(Product::getId)
+            .containsExactlyInAnyOrder(saved1.getId(), saved2.getId());
+    }
 }
@@ -0,0 +1,64 @@
+package com.hae.shop.infrastructure.redis;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Redis pub/sub으로 노드 사이의 쿠폰 변경 알림을 검증합니다.
+ */
+@Testcontainers
+class CouponChangeTopicAdapterTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 노드는 바뀐 쿠폰 ID를 받고, 보낸 노드는 자기 알림을 건너뜀")
+    void publishChanged_shouldReachOtherNodesOnly() throws InterruptedException {
+        // given - 같은 Redis를 쓰는 두 노드
+        CouponChangeTopicAdapter sender = new CouponChangeTopicAdapter(redissonClient);
+        CouponChangeTopicAdapter receiver = new CouponChangeTopicAdapter(redissonClient);
+        BlockingQueue<List<Long>> sentBack = new LinkedBlockingQueue<>();
+        BlockingQueue<List<Long>> received = new LinkedBlockingQueue<>();
+        sender.subscribe(sentBack::add);
+        receiver.subscribe(received::add);
+
+        // when
+        sender.publishChanged(List.of(1L, 2L));
+
+        // then
+        assertThat(received.poll(5, TimeUnit.SECONDS)).containsExactly(1L, 2L);
+        assertThat(sentBack.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+}
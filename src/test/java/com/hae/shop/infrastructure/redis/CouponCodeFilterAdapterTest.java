@@ -0,0 +1,144 @@
+package com.hae.shop.infrastructure.redis;
+
+import com.hae.shop.domain.coupon.port.out.CouponRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponCodeFilterAdapterTest {
+
+    @Mock
+    private CouponRepositoryPort couponRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic topic;
+
+    private final List<String> storedCodes = new ArrayList<>();
+
+    private CouponCodeFilterAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CouponCodeFilterAdapter(couponRepository, redissonClient, new SimpleMeterRegistry(),
+            true, 10_000, 0.01, false);
+        storedCodes.clear();
+        storedCodes.add("WELCOME");
+    }
+
+    @Test
+    @DisplayName("적재 전에는 모든 코드를 통과시키고, 적재 후에는 DB에 없는 코드를 거절")
+    void mightExist_beforeAndAfterLoad() {
+        // given
+        stubForEachCode(null);
+        assertThat(adapter.mightExist("UNKNOWN")).isTrue();
+
+        // when
+        adapter.load();
+
+        // then
+        assertThat(adapter.mightExist("WELCOME")).isTrue();
+        assertThat(adapter.mightExist("UNKNOWN")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 만든 코드의 알림을 놓쳐도 재적재하면 DB 기준으로 포함")
+    void rebuild_shouldRecoverCodesMissedOverPubSub() {
+        // given
+        stubForEachCode(null);
+        adapter.load();
+        storedCodes.add("OTHER-NODE");
+        assertThat(adapter.mightExist("OTHER-NODE")).isFalse();
+
+        // when
+        adapter.rebuild();
+
+        // then
+        assertThat(adapter.mightExist("OTHER-NODE")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재적재 직전에 추가되어 아직 DB 조회에 보이지 않는 코드도 교체 후 유지")
+    void rebuild_shouldKeepCodesNotYetVisibleToScan() {
+        // given - DB 조회에는 아직 보이지 않는 코드
+        stubForEachCode(null);
+        adapter.load();
+        adapter.add("NOT-YET-VISIBLE");
+
+        // when
+        adapter.rebuild();
+
+        // then
+        assertThat(adapter.mightExist("NOT-YET-VISIBLE")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재적재 도중에 추가된 코드는 이전 필터에만 들어가도 교체 후 유지")
+    void rebuild_shouldKeepCodesAddedWhileRebuilding() {
+        // given
+        stubForEachCode(null);
+        adapter.load();
+        stubForEachCode(() -> adapter.add("DURING-REBUILD"));
+
+        // when
+        adapter.rebuild();
+
+        // then
+        assertThat(adapter.mightExist("DURING-REBUILD")).isTrue();
+        assertThat(adapter.mightExist("UNKNOWN")).isFalse();
+    }
+
+    @Test
+    @DisplayName("공유 알림 발행 실패 - 예외를 던지지 않고 이 노드의 필터에는 추가")
+    void add_whenPublishFails_shouldKeepLocalCodeAndNotThrow() {
+        // given
+        given(redissonClient.getTopic(anyString(), any(Codec.class))).willReturn(topic);
+        given(topic.publish(any())).willThrow(new IllegalStateException("redis down"));
+        CouponCodeFilterAdapter shared = new CouponCodeFilterAdapter(couponRepository, redissonClient,
+            new SimpleMeterRegistry(), true, 10_000, 0.01, true);
+        stubForEachCode(null);
+        shared.load();
+
+        // when
+        shared.add("NEW-CODE");
+
+        // then
+        assertThat(shared.mightExist("NEW-CODE")).isTrue();
+        verify(topic).publish("NEW-CODE");
+    }
+
+    /**
+     * storedCodes를 DB 내용으로 돌려주고, 그 사이에 onScan이 있으면 실행합니다.
+     */
+    private void stubForEachCode(Runnable onScan) {
+        doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(0);
+            List.copyOf(storedCodes).forEach(consumer);
+            if (onScan != null) {
+                onScan.run();
+            }
+            return null;
+        }).when(couponRepository).forEachCode(any());
+    }
+}
@@ -0,0 +1,180 @@
+package com.hae.shop.infrastructure.redis;
+
+import com.hae.shop.domain.coupon.model.CouponRedemption;
+import com.hae.shop.domain.coupon.port.out.CouponRedemptionPort.Result;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Redis에서 Lua 스크립트와 consumer group 대기열을 검증합니다.
+ */
+@Testcontainers
+class CouponRedemptionRedisAdapterTest {
+
+    private static final long CLAIM_IDLE_MILLIS = 200;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+        .withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    private CouponRedemptionRedisAdapter adapter;
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+        adapter = new CouponRedemptionRedisAdapter(redissonClient, CLAIM_IDLE_MILLIS);
+    }
+
+    @Test
+    @DisplayName("초기화 전 - NOT_INITIALIZED")
+    void redeem_BeforeInitialize_NotInitialized() {
+        assertThat(adapter.redeem(1L, 1L)).isEqualTo(Result.NOT_INITIALIZED);
+    }
+
+    @Test
+    @DisplayName("수량 차감 - 소진, 중복 사용 판정과 재초기화 무시")
+    void redeem_DecrementsStockAndRejectsDuplicates() {
+        // given
+        adapter.initialize(1L, 2, List.of(5L));
+
+        // when & then
+        assertThat(adapter.redeem(1L, 5L)).isEqualTo(Result.ALREADY_USED);
+        assertThat(adapter.redeem(1L, 1L)).isEqualTo(Result.REDEEMED);
+        assertThat(adapter.redeem(1L, 1L)).isEqualTo(Result.ALREADY_USED);
+        assertThat(adapter.redeem(1L, 2L)).isEqualTo(Result.REDEEMED);
+        assertThat(adapter.redeem(1L, 3L)).isEqualTo(Result.SOLD_OUT);
+
+        adapter.initialize(1L, 100, List.of());
+        assertThat(adapter.redeem(1L, 4L)).isEqualTo(Result.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("무제한 쿠폰 - 수량 제한 없이 회원당 한 번")
+    void redeem_Unlimited() {
+        adapter.initialize(1L, null, List.of());
+
+        for (long memberId = 1; memberId <= 20; memberId++) {
+            assertThat(adapter.redeem(1L, memberId)).isEqualTo(Result.REDEEMED);
+        }
+        assertThat(adapter.redeem(1L, 1L)).isEqualTo(Result.ALREADY_USED);
+    }
+
+    @Test
+    @DisplayName("동시 사용 - 수량만큼만 성공하고 성공 건만 대기열에 적재")
+    void redeem_Concurrent_NeverOversells() throws Exception {
+        // given
+        adapter.initialize(1L, 10, List.of());
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        List<Future<Result>> results = new ArrayList<>();
+        for (long memberId = 1; memberId <= 100; memberId++) {
+            long id = memberId;
+            results.add(executor.submit(() -> adapter.redeem(1L, id)));
+        }
+        int redeemed = 0;
+        for (Future<Result> result : results) {
+            if (result.get() == Result.REDEEMED) {
+                redeemed++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(redeemed).isEqualTo(10);
+        assertThat(adapter.pollRedemptions(100)).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("acknowledge한 내역 - 다시 반환되지 않음")
+    void poll_AcknowledgedEntriesAreRemoved() throws Exception {
+        // given
+        adapter.initialize(1L, 10, List.of());
+        adapter.redeem(1L, 1L);
+        adapter.redeem(1L, 2L);
+
+        // when
+        List<CouponRedemption> polled = adapter.pollRedemptions(10);
+        adapter.acknowledge(polled);
+        Thread.sleep(CLAIM_IDLE_MILLIS * 2);
+
+        // then
+        assertThat(polled).extracting(CouponRedemption::memberId).containsExactly(1L, 2L);
+        assertThat(polled).allSatisfy(redemption -> assertThat(redemption.couponId()).isEqualTo(1L));
+        assertThat(adapter.pollRedemptions(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("acknowledge되지 않은 내역(노드 장애) - claim-idle-time 뒤 다른 노드가 회수")
+    void poll_UnacknowledgedEntriesAreReclaimed() throws Exception {
+        // given
+        adapter.initialize(1L, 10, List.of());
+        adapter.redeem(1L, 1L);
+        adapter.redeem(1L, 2L);
+        List<CouponRedemption> lost = adapter.pollRedemptions(10);
+        CouponRedemptionRedisAdapter otherNode = new CouponRedemptionRedisAdapter(redissonClient, CLAIM_IDLE_MILLIS);
+
+        // when
+        List<CouponRedemption> beforeIdle = otherNode.pollRedemptions(10);
+        Thread.sleep(CLAIM_IDLE_MILLIS * 2);
+        List<CouponRedemption> afterIdle = otherNode.pollRedemptions(10);
+        otherNode.acknowledge(afterIdle);
+
+        // then
+        assertThat(beforeIdle).isEmpty();
+        assertThat(afterIdle).containsExactlyInAnyOrderElementsOf(lost);
+        Thread.sleep(CLAIM_IDLE_MILLIS * 2);
+        assertThat(otherNode.pollRedemptions(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("그룹 생성 전에 쌓인 내역도 읽음")
+    void poll_ReadsEntriesQueuedBeforeGroupCreation() {
+        // given
+        adapter.initialize(1L, 10, List.of());
+        adapter.redeem(1L, 1L);
+        adapter.redeem(1L, 2L);
+
+        // when
+        List<CouponRedemption> polled = adapter.pollRedemptions(1);
+        List<CouponRedemption> rest = adapter.pollRedemptions(10);
+
+        // then
+        assertThat(polled).hasSize(1);
+        assertThat(rest).hasSize(1);
+        assertThat(Set.of(polled.get(0).memberId(), rest.get(0).memberId())).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
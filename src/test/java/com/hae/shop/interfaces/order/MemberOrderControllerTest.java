@@ -0,0 +1,103 @@
+package com.hae.shop.interfaces.order;
+
+import com.hae.shop.common.GlobalExceptionHandler;
+import com.hae.shop.config.security.AuthenticatedMember;
+import com.hae.shop.domain.order.model.OrderHistoryPage;
+import com.hae.shop.domain.order.port.in.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 경로의 memberId가 아니라 인증된 회원 기준으로 주문 이력 접근을 막는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberOrderControllerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new MemberOrderController(orderService))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+            .build();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("다른 회원의 주문 이력과 요약 조회 - 403")
+    void getMemberOrders_OtherMember_Forbidden() throws Exception {
+        // given
+        authenticate(1L, "ROLE_USER");
+
+        // when & then
+        mockMvc.perform(get("/api/v1/members/2/orders"))
+            .andExpect(status().isForbidden())
+            .andExpect(jsonPath("$.errorCode").value("C004"));
+        mockMvc.perform(get("/api/v1/members/2/orders/summary"))
+            .andExpect(status().isForbidden());
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("본인의 주문 이력 조회 - 200")
+    void getMemberOrders_Owner_Ok() throws Exception {
+        // given
+        authenticate(1L, "ROLE_USER");
+        given(orderService.getMemberOrders(anyLong(), any(), anyInt())).willReturn(new OrderHistoryPage<>(List.of(), null));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/members/1/orders"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("관리자는 다른 회원의 주문 요약 조회 가능")
+    void getMemberOrderSummaries_Admin_Ok() throws Exception {
+        // given
+        authenticate(99L, "ROLE_ADMIN");
+        given(orderService.getMemberOrderSummaries(anyLong(), any(), anyInt()))
+            .willReturn(new OrderHistoryPage<>(List.of(), null));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/members/2/orders/summary"))
+            .andExpect(status().isOk());
+    }
+
+    private static void authenticate(Long memberId, String role) {
+        AuthenticatedMember member = new AuthenticatedMember(memberId, "member@example.com", role, Instant.now());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(member, null, List.of(new SimpleGrantedAuthority(role))));
+    }
+}